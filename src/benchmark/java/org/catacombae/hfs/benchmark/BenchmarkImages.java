@@ -0,0 +1,94 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import org.catacombae.hfs.generator.SyntheticVolumeGenerator;
+
+/**
+ * Helpers for generating the synthetic HFS+ images that the benchmarks run
+ * against. Images are generated into the directory given by the system
+ * property <code>hfsexplorer.benchmark.tmpdir</code>, or the default
+ * temporary directory if it isn't set.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+final class BenchmarkImages {
+    /** 2026-01-01 00:00:00 GMT in HFS+ time, so images are reproducible. */
+    private static final long IMAGE_DATE = 3850070400L;
+
+    private BenchmarkImages() {
+    }
+
+    /** Returns a generator with a fixed seed and date. */
+    static SyntheticVolumeGenerator createGenerator() {
+        final SyntheticVolumeGenerator generator =
+                new SyntheticVolumeGenerator();
+        generator.setSeed(0);
+        generator.setDate(IMAGE_DATE);
+        generator.setTempDir(getTempDir());
+        return generator;
+    }
+
+    /**
+     * Generates an image with <code>generator</code> into a new temporary
+     * file, which is deleted on exit if not deleted before that.
+     */
+    static File generate(SyntheticVolumeGenerator generator, String name)
+            throws IOException
+    {
+        final File imageFile =
+                File.createTempFile("hfsbench-" + name + "-", ".img",
+                getTempDir());
+        imageFile.deleteOnExit();
+        generator.generate(imageFile);
+        return imageFile;
+    }
+
+    static void delete(File imageFile) {
+        if(imageFile != null && !imageFile.delete()) {
+            System.err.println("Unable to delete image file " + imageFile);
+        }
+    }
+
+    /**
+     * Returns <code>count</code> random offsets aligned to
+     * <code>alignment</code>, for reads of <code>readSize</code> bytes
+     * within the first <code>length</code> bytes.
+     */
+    static long[] randomOffsets(int count, long length, int readSize,
+            int alignment)
+    {
+        final Random random = new Random(count ^ length);
+        final long slots = (length - readSize) / alignment + 1;
+        final long[] offsets = new long[count];
+        for(int i = 0; i < count; ++i) {
+            offsets[i] = (long) (random.nextDouble() * slots) * alignment;
+        }
+
+        return offsets;
+    }
+
+    private static File getTempDir() {
+        final String tempDir =
+                System.getProperty("hfsexplorer.benchmark.tmpdir");
+        return tempDir != null ? new File(tempDir) : null;
+    }
+}
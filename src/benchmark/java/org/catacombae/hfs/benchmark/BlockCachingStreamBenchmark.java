@@ -0,0 +1,121 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.catacombae.hfs.generator.SyntheticVolumeGenerator;
+import org.catacombae.hfs.io.ReadableBlockCachingStream;
+import org.catacombae.io.ReadableFileStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the hit and miss paths of {@link ReadableBlockCachingStream}.
+ * Hits read from a region half the size of the cache, which is loaded
+ * before measuring. Misses read from random offsets in an image much larger
+ * than the cache, so nearly every read has to load and evict a block.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockCachingStreamBenchmark {
+    private static final long IMAGE_DATA_SIZE = 64L * 1024 * 1024;
+    private static final int CACHE_BLOCK_SIZE = 4096;
+    private static final int CACHE_BLOCK_COUNT = 256;
+
+    /** Number of random offsets, must be a power of two. */
+    private static final int OFFSET_COUNT = 4096;
+
+    @Param({"512", "4096"})
+    public int readSize;
+
+    private File imageFile;
+    private ReadableBlockCachingStream cachingStream;
+    private byte[] buffer;
+    private long[] hitOffsets;
+    private long[] missOffsets;
+    private int index = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final SyntheticVolumeGenerator generator =
+                BenchmarkImages.createGenerator();
+        generator.setFileCount(1);
+        generator.setFileSize(IMAGE_DATA_SIZE);
+        imageFile = BenchmarkImages.generate(generator, "cache");
+
+        cachingStream = new ReadableBlockCachingStream(
+                new ReadableFileStream(imageFile), CACHE_BLOCK_SIZE,
+                CACHE_BLOCK_COUNT);
+
+        buffer = new byte[readSize];
+        hitOffsets = BenchmarkImages.randomOffsets(OFFSET_COUNT,
+                (long) CACHE_BLOCK_SIZE * CACHE_BLOCK_COUNT / 2, readSize,
+                readSize);
+        missOffsets = BenchmarkImages.randomOffsets(OFFSET_COUNT,
+                imageFile.length(), readSize, readSize);
+
+        for(long offset : hitOffsets) {
+            cachingStream.seek(offset);
+            cachingStream.readFully(buffer, 0, readSize);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cachingStream.close();
+        BenchmarkImages.delete(imageFile);
+    }
+
+    private int nextIndex() {
+        index = (index + 1) & (OFFSET_COUNT - 1);
+        return index;
+    }
+
+    @Benchmark
+    public byte cacheHit() {
+        cachingStream.seek(hitOffsets[nextIndex()]);
+        cachingStream.readFully(buffer, 0, readSize);
+        return buffer[0];
+    }
+
+    @Benchmark
+    public byte cacheMiss() {
+        cachingStream.seek(missOffsets[nextIndex()]);
+        cachingStream.readFully(buffer, 0, readSize);
+        return buffer[0];
+    }
+}
@@ -0,0 +1,160 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.catacombae.hfs.CatalogFile;
+import org.catacombae.hfs.generator.SyntheticVolumeGenerator;
+import org.catacombae.hfs.plus.HFSPlusVolume;
+import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogFileRecord;
+import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogFolderRecord;
+import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogLeafRecord;
+import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogNodeID;
+import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogString;
+import org.catacombae.io.ReadableFileStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks catalog file lookups ({@link CatalogFile#getRecord}) and folder
+ * listings ({@link CatalogFile#listRecords(CommonHFSCatalogNodeID)}) on a
+ * synthetic volume. Each invocation looks up a different randomly chosen
+ * file or folder.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogBenchmark {
+    /** Number of distinct lookup keys, must be a power of two. */
+    private static final int KEY_COUNT = 1024;
+
+    @Param({"10000", "200000"})
+    public int fileCount;
+
+    @Param({"100"})
+    public int filesPerFolder;
+
+    @Param({"false", "true"})
+    public boolean caching;
+
+    private File imageFile;
+    private HFSPlusVolume volume;
+    private CatalogFile catalogFile;
+    private final CommonHFSCatalogNodeID[] fileParentIDs =
+            new CommonHFSCatalogNodeID[KEY_COUNT];
+    private final CommonHFSCatalogString[] fileNames =
+            new CommonHFSCatalogString[KEY_COUNT];
+    private final CommonHFSCatalogNodeID[] folderIDs =
+            new CommonHFSCatalogNodeID[KEY_COUNT];
+    private int index = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final SyntheticVolumeGenerator generator =
+                BenchmarkImages.createGenerator();
+        generator.setFolderCount(fileCount / filesPerFolder);
+        generator.setFileCount(fileCount);
+        imageFile = BenchmarkImages.generate(generator, "catalog");
+
+        volume = new HFSPlusVolume(new ReadableFileStream(imageFile),
+                caching);
+        catalogFile = volume.getCatalogFile();
+
+        /* Walk the folder tree to collect the keys of all files and the IDs
+         * of all folders, then pick the lookup keys among them. */
+        final ArrayList<CommonHFSCatalogLeafRecord> files =
+                new ArrayList<CommonHFSCatalogLeafRecord>();
+        final ArrayList<CommonHFSCatalogNodeID> folders =
+                new ArrayList<CommonHFSCatalogNodeID>();
+        final LinkedList<CommonHFSCatalogNodeID> queue =
+                new LinkedList<CommonHFSCatalogNodeID>();
+        queue.add(catalogFile.getRootFolder().getData().getFolderID());
+        while(!queue.isEmpty()) {
+            final CommonHFSCatalogNodeID folderID = queue.removeFirst();
+            folders.add(folderID);
+            for(CommonHFSCatalogLeafRecord rec :
+                    catalogFile.listRecords(folderID))
+            {
+                if(rec instanceof CommonHFSCatalogFolderRecord) {
+                    queue.add(((CommonHFSCatalogFolderRecord) rec).getData().
+                            getFolderID());
+                }
+                else if(rec instanceof CommonHFSCatalogFileRecord) {
+                    files.add(rec);
+                }
+            }
+        }
+
+        if(files.size() != fileCount) {
+            throw new IllegalStateException("Expected " + fileCount +
+                    " files, found " + files.size() + ".");
+        }
+
+        final Random random = new Random(0);
+        for(int i = 0; i < KEY_COUNT; ++i) {
+            final CommonHFSCatalogLeafRecord file =
+                    files.get(random.nextInt(files.size()));
+            fileParentIDs[i] = file.getKey().getParentID();
+            fileNames[i] = file.getKey().getNodeName();
+            folderIDs[i] = folders.get(random.nextInt(folders.size()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        volume.close();
+        BenchmarkImages.delete(imageFile);
+    }
+
+    private int nextIndex() {
+        index = (index + 1) & (KEY_COUNT - 1);
+        return index;
+    }
+
+    @Benchmark
+    public CommonHFSCatalogLeafRecord getRecord() {
+        final int i = nextIndex();
+        return catalogFile.getRecord(fileParentIDs[i], fileNames[i]);
+    }
+
+    @Benchmark
+    public CommonHFSCatalogLeafRecord[] listRecords() {
+        return catalogFile.listRecords(folderIDs[nextIndex()]);
+    }
+}
@@ -0,0 +1,139 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.catacombae.hfs.generator.SyntheticVolumeGenerator;
+import org.catacombae.io.ReadableRandomAccessStream;
+import org.catacombae.storage.fs.FSEntry;
+import org.catacombae.storage.fs.FSFile;
+import org.catacombae.storage.fs.FSFork;
+import org.catacombae.storage.fs.hfsplus.HFSPlusFileSystemHandler;
+import org.catacombae.storage.io.RandomAccessFileDataLocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks reading decmpfs compressed files (zlib compressed resource
+ * forks), which are decompressed by
+ * {@link org.catacombae.storage.fs.hfsplus.HFSPlusCompressedDataFork}.
+ * The files are reached through the file system handler, the same way the
+ * GUI and unhfs read them.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressedForkBenchmark {
+    private static final int FILE_COUNT = 4;
+    private static final long FILE_SIZE = 4L * 1024 * 1024;
+    private static final int RANDOM_READ_SIZE = 4096;
+
+    /** Number of random offsets, must be a power of two. */
+    private static final int OFFSET_COUNT = 4096;
+
+    private File imageFile;
+    private HFSPlusFileSystemHandler fsHandler;
+    private final FSFork[] forks = new FSFork[FILE_COUNT];
+    private ReadableRandomAccessStream randomReadStream;
+    private final byte[] buffer = new byte[64 * 1024];
+    private long[] randomOffsets;
+    private int index = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final SyntheticVolumeGenerator generator =
+                BenchmarkImages.createGenerator();
+        generator.setFileCount(FILE_COUNT);
+        generator.setFileSize(FILE_SIZE);
+        generator.setCompressedFileCount(FILE_COUNT);
+        imageFile = BenchmarkImages.generate(generator, "compressed");
+
+        fsHandler = new HFSPlusFileSystemHandler(
+                new RandomAccessFileDataLocator(imageFile), false, false,
+                false, false, false);
+        for(int i = 0; i < FILE_COUNT; ++i) {
+            final FSEntry entry =
+                    fsHandler.getRoot().getChild(generator.getFileName(i));
+            forks[i] = ((FSFile) entry).getMainFork();
+            if(!forks[i].isCompressed()) {
+                throw new IllegalStateException("File " + i + " is not " +
+                        "compressed.");
+            }
+        }
+
+        randomReadStream = forks[0].getReadableRandomAccessStream();
+        randomOffsets = BenchmarkImages.randomOffsets(OFFSET_COUNT,
+                FILE_SIZE, RANDOM_READ_SIZE, 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        randomReadStream.close();
+        fsHandler.close();
+        BenchmarkImages.delete(imageFile);
+    }
+
+    private int nextIndex() {
+        index = (index + 1) & (OFFSET_COUNT - 1);
+        return index;
+    }
+
+    /** Decompresses a whole file through a newly opened stream. */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long readWholeFile() {
+        final ReadableRandomAccessStream stream =
+                forks[nextIndex() % FILE_COUNT].getReadableRandomAccessStream();
+        try {
+            long checksum = 0;
+            int bytesRead;
+            while((bytesRead = stream.read(buffer, 0, buffer.length)) > 0) {
+                checksum += buffer[bytesRead - 1];
+            }
+
+            return checksum;
+        } finally {
+            stream.close();
+        }
+    }
+
+    /** Reads a small block at a random offset of an already open stream. */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte randomRead() {
+        randomReadStream.seek(randomOffsets[nextIndex()]);
+        randomReadStream.readFully(buffer, 0, RANDOM_READ_SIZE);
+        return buffer[0];
+    }
+}
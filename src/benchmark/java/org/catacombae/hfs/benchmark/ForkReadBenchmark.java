@@ -0,0 +1,125 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.catacombae.hfs.CatalogFile;
+import org.catacombae.hfs.generator.SyntheticVolumeGenerator;
+import org.catacombae.hfs.plus.HFSPlusVolume;
+import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogLeafRecord;
+import org.catacombae.io.ReadableFileStream;
+import org.catacombae.io.ReadableRandomAccessStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks sequential and random reads from a file's data fork through
+ * the {@link org.catacombae.hfs.io.ForkFilter} returned by
+ * {@link HFSPlusVolume#getReadableDataForkStream}. The image is small enough
+ * to stay in the operating system's page cache, so this mostly measures the
+ * overhead of the fork and stream layers.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ForkReadBenchmark {
+    private static final long FILE_SIZE = 64L * 1024 * 1024;
+
+    /** Number of random offsets, must be a power of two. */
+    private static final int OFFSET_COUNT = 4096;
+
+    @Param({"4096", "65536"})
+    public int readSize;
+
+    @Param({"false", "true"})
+    public boolean caching;
+
+    private File imageFile;
+    private HFSPlusVolume volume;
+    private ReadableRandomAccessStream forkStream;
+    private byte[] buffer;
+    private long[] randomOffsets;
+    private long sequentialPosition = 0;
+    private int index = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final SyntheticVolumeGenerator generator =
+                BenchmarkImages.createGenerator();
+        generator.setFileCount(1);
+        generator.setFileSize(FILE_SIZE);
+        imageFile = BenchmarkImages.generate(generator, "fork");
+
+        volume = new HFSPlusVolume(new ReadableFileStream(imageFile),
+                caching);
+        final CatalogFile catalogFile = volume.getCatalogFile();
+        final CommonHFSCatalogLeafRecord fileRecord = catalogFile.getRecord(
+                catalogFile.getRootFolder().getData().getFolderID(),
+                volume.encodeString(generator.getFileName(0)));
+        forkStream = volume.getReadableDataForkStream(fileRecord);
+
+        buffer = new byte[readSize];
+        randomOffsets = BenchmarkImages.randomOffsets(OFFSET_COUNT,
+                FILE_SIZE, readSize, 512);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        forkStream.close();
+        volume.close();
+        BenchmarkImages.delete(imageFile);
+    }
+
+    @Benchmark
+    public byte sequentialRead() {
+        if(sequentialPosition + readSize > FILE_SIZE) {
+            sequentialPosition = 0;
+            forkStream.seek(0);
+        }
+
+        forkStream.readFully(buffer, 0, readSize);
+        sequentialPosition += readSize;
+        return buffer[0];
+    }
+
+    @Benchmark
+    public byte randomRead() {
+        index = (index + 1) & (OFFSET_COUNT - 1);
+        forkStream.seek(randomOffsets[index]);
+        forkStream.readFully(buffer, 0, readSize);
+        return buffer[0];
+    }
+}
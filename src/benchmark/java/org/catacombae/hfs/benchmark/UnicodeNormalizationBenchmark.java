@@ -0,0 +1,99 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.catacombae.hfs.UnicodeNormalizationToolkit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks composing and decomposing file names with
+ * {@link UnicodeNormalizationToolkit}, as done for every catalog name that
+ * is displayed or looked up. The names mix plain ASCII with Latin, Greek,
+ * Cyrillic and Hangul characters that have decompositions.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnicodeNormalizationBenchmark {
+    private static final String[] COMPOSED_NAMES = {
+        "Ångström café résumé.txt",
+        "Øresund Ærøskøbing naïve façade.pdf",
+        "Ελληνικά ἀρχεῖα.doc",
+        "Йошкар-Ола ёлка.odt",
+        "한국어 파일 이름.hwp",
+    };
+
+    private static final String ASCII_NAME =
+            "Quarterly report 2026 - final version (2).xlsx";
+
+    private UnicodeNormalizationToolkit toolkit;
+    private String[] decomposedNames;
+    private char[][] composedChars;
+    private int index = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        toolkit = UnicodeNormalizationToolkit.getDefaultInstance();
+        decomposedNames = new String[COMPOSED_NAMES.length];
+        composedChars = new char[COMPOSED_NAMES.length][];
+        for(int i = 0; i < COMPOSED_NAMES.length; ++i) {
+            composedChars[i] = COMPOSED_NAMES[i].toCharArray();
+            decomposedNames[i] = toolkit.decompose(composedChars[i]);
+        }
+    }
+
+    private int nextIndex() {
+        if(++index == COMPOSED_NAMES.length) {
+            index = 0;
+        }
+
+        return index;
+    }
+
+    @Benchmark
+    public String compose() {
+        return toolkit.compose(decomposedNames[nextIndex()]);
+    }
+
+    /** Composition of a name without any combining characters. */
+    @Benchmark
+    public String composeAscii() {
+        return toolkit.compose(ASCII_NAME);
+    }
+
+    @Benchmark
+    public String decompose() {
+        return toolkit.decompose(composedChars[nextIndex()]);
+    }
+}
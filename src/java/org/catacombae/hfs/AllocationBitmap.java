@@ -0,0 +1,258 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs;
+
+import org.catacombae.io.ReadableRandomAccessStream;
+import org.catacombae.util.ObjectContainer;
+
+/**
+ * In-memory copy of the allocation bitmap of a volume, packed into 64-bit
+ * words so that blocks can be counted and searched a word at a time.<br>
+ * In the on-disk bitmap, the most significant bit of the first byte
+ * represents allocation block 0. Eight bytes at a time are packed into a
+ * <code>long</code> in big endian order, so allocation block <i>n</i> is bit
+ * <code>63 - (n % 64)</code> of word <code>n / 64</code>, and the first used
+ * block in a word is found with {@link Long#numberOfLeadingZeros(long)}. Bits
+ * beyond the last block of the volume are always zero.<br>
+ * The bitmap is a snapshot, and won't reflect changes made to the volume after
+ * it was read. Instances are immutable and thus thread safe.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public final class AllocationBitmap {
+    /** Number of bytes read from the allocation file at a time. */
+    private static final int READ_BUFFER_SIZE = 128 * 1024;
+
+    private final long[] words;
+    private final long totalBlocks;
+    private final long usedBlocks;
+
+    private AllocationBitmap(long[] words, long totalBlocks) {
+        this.words = words;
+        this.totalBlocks = totalBlocks;
+
+        long count = 0;
+        for(long word : words) {
+            count += Long.bitCount(word);
+        }
+        this.usedBlocks = count;
+    }
+
+    /**
+     * Reads the allocation bitmap of a volume from its allocation file.
+     *
+     * @param allocationFileStream
+     *      <b>(in)</b> Stream for the allocation file (or the volume bitmap of
+     *      an HFS volume). The stream is read from the start, but not closed.
+     * @param totalBlocks
+     *      <b>(in)</b> The number of allocation blocks of the volume.
+     * @param stop
+     *      <b>(in)</b> (optional) Variable which can be set to abort reading.
+     *      Must initially be set to <code>false</code>.
+     * @return the allocation bitmap, or <code>null</code> if reading was
+     * aborted through <code>stop</code>.
+     */
+    public static AllocationBitmap read(
+            ReadableRandomAccessStream allocationFileStream, long totalBlocks,
+            ObjectContainer<Boolean> stop)
+    {
+        if(totalBlocks < 0 || (totalBlocks + 63) / 64 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Unsupported number of " +
+                    "allocation blocks: " + totalBlocks);
+        }
+
+        final long[] words = new long[(int) ((totalBlocks + 63) / 64)];
+        final long totalBytes = (totalBlocks + 7) / 8;
+        final byte[] buffer =
+                new byte[(int) Math.min(READ_BUFFER_SIZE, totalBytes + 8)];
+
+        allocationFileStream.seek(0);
+
+        long bytesProcessed = 0;
+        while(bytesProcessed < totalBytes) {
+            if(stop != null && stop.o) {
+                return null;
+            }
+
+            final int bytesToRead =
+                    (int) Math.min(buffer.length, totalBytes - bytesProcessed);
+            allocationFileStream.readFully(buffer, 0, bytesToRead);
+
+            /* bytesProcessed is always a multiple of 8 here, except after the
+             * last (possibly partial) word. */
+            int i = 0;
+            int wordIndex = (int) (bytesProcessed / 8);
+            for(; i + 8 <= bytesToRead; i += 8) {
+                words[wordIndex++] =
+                        ((long) (buffer[i] & 0xFF) << 56) |
+                        ((long) (buffer[i + 1] & 0xFF) << 48) |
+                        ((long) (buffer[i + 2] & 0xFF) << 40) |
+                        ((long) (buffer[i + 3] & 0xFF) << 32) |
+                        ((long) (buffer[i + 4] & 0xFF) << 24) |
+                        ((buffer[i + 5] & 0xFF) << 16) |
+                        ((buffer[i + 6] & 0xFF) << 8) |
+                        (buffer[i + 7] & 0xFF);
+            }
+
+            if(i < bytesToRead) {
+                /* Trailing partial word at the end of the bitmap. */
+                long word = 0;
+                for(int j = 0; j < 8; ++j) {
+                    word <<= 8;
+                    if(i + j < bytesToRead) {
+                        word |= buffer[i + j] & 0xFF;
+                    }
+                }
+                words[wordIndex] = word;
+            }
+
+            bytesProcessed += bytesToRead;
+        }
+
+        /* Clear any bits beyond the last block. */
+        final int lastBits = (int) (totalBlocks % 64);
+        if(lastBits != 0) {
+            words[words.length - 1] &= -1L << (64 - lastBits);
+        }
+
+        return new AllocationBitmap(words, totalBlocks);
+    }
+
+    /** Returns the number of allocation blocks of the volume. */
+    public long getTotalBlocks() {
+        return totalBlocks;
+    }
+
+    /** Returns the number of allocation blocks that are marked as used. */
+    public long getUsedBlockCount() {
+        return usedBlocks;
+    }
+
+    /** Returns the number of allocation blocks that are marked as free. */
+    public long getFreeBlockCount() {
+        return totalBlocks - usedBlocks;
+    }
+
+    /**
+     * Tells if the allocation block addressed by <code>blockNumber</code> is
+     * used or not.
+     *
+     * @throws IllegalArgumentException if <code>blockNumber</code> is out of
+     * range.
+     */
+    public boolean isUsed(long blockNumber) {
+        checkBlockNumber(blockNumber);
+        return (words[(int) (blockNumber >>> 6)] << (blockNumber & 63)) < 0;
+    }
+
+    /**
+     * Counts the used allocation blocks from <code>startBlock</code>
+     * (inclusive) to <code>endBlock</code> (exclusive).
+     */
+    public long countUsedBlocks(long startBlock, long endBlock) {
+        checkRange(startBlock, endBlock);
+        if(startBlock == endBlock) {
+            return 0;
+        }
+
+        final int firstWord = (int) (startBlock >>> 6);
+        final int lastWord = (int) ((endBlock - 1) >>> 6);
+        final long firstMask = -1L >>> (startBlock & 63);
+        final long lastMask = -1L << (63 - ((endBlock - 1) & 63));
+
+        if(firstWord == lastWord) {
+            return Long.bitCount(words[firstWord] & firstMask & lastMask);
+        }
+
+        long count = Long.bitCount(words[firstWord] & firstMask);
+        for(int i = firstWord + 1; i < lastWord; ++i) {
+            count += Long.bitCount(words[i]);
+        }
+        count += Long.bitCount(words[lastWord] & lastMask);
+
+        return count;
+    }
+
+    /**
+     * Finds the first used allocation block at or after
+     * <code>fromBlock</code>.
+     *
+     * @return the block number of the first used block, or the total number
+     * of blocks if there is none.
+     */
+    public long findNextUsed(long fromBlock) {
+        return findNext(fromBlock, 0L);
+    }
+
+    /**
+     * Finds the first free allocation block at or after
+     * <code>fromBlock</code>.
+     *
+     * @return the block number of the first free block, or the total number
+     * of blocks if there is none.
+     */
+    public long findNextFree(long fromBlock) {
+        return findNext(fromBlock, -1L);
+    }
+
+    /**
+     * Finds the first block at or after <code>fromBlock</code> whose bit
+     * differs from the bits of <code>skipPattern</code> (all zeros to find
+     * used blocks, all ones to find free blocks).
+     */
+    private long findNext(long fromBlock, long skipPattern) {
+        if(fromBlock < 0) {
+            throw new IllegalArgumentException("Negative block number: " +
+                    fromBlock);
+        }
+        else if(fromBlock >= totalBlocks) {
+            return totalBlocks;
+        }
+
+        int wordIndex = (int) (fromBlock >>> 6);
+        long word = (words[wordIndex] ^ skipPattern) &
+                (-1L >>> (fromBlock & 63));
+        while(word == 0) {
+            if(++wordIndex == words.length) {
+                return totalBlocks;
+            }
+            word = words[wordIndex] ^ skipPattern;
+        }
+
+        /* When looking for free blocks, the cleared bits beyond the end of
+         * the volume look free, so clamp the result. */
+        return Math.min(totalBlocks,
+                ((long) wordIndex << 6) + Long.numberOfLeadingZeros(word));
+    }
+
+    private void checkBlockNumber(long blockNumber) {
+        if(blockNumber < 0 || blockNumber >= totalBlocks) {
+            throw new IllegalArgumentException("Block number (" + blockNumber +
+                    ") is outside of the volume (0-" + (totalBlocks - 1) +
+                    ").");
+        }
+    }
+
+    private void checkRange(long startBlock, long endBlock) {
+        if(startBlock < 0 || endBlock > totalBlocks || startBlock > endBlock) {
+            throw new IllegalArgumentException("Invalid block range " +
+                    startBlock + "-" + endBlock + " (total blocks: " +
+                    totalBlocks + ").");
+        }
+    }
+}
@@ -17,7 +17,6 @@
 
 package org.catacombae.hfs;
 
-import java.util.LinkedList;
 import org.catacombae.util.ObjectContainer;
 import org.catacombae.hfs.types.hfscommon.CommonHFSExtentDescriptor;
 import org.catacombae.hfs.types.hfscommon.CommonHFSVolumeHeader;
@@ -30,6 +29,12 @@ public abstract class AllocationFile {
     protected final HFSVolume parentView;
     protected final ReadableRandomAccessStream allocationFileStream;
 
+    /**
+     * The allocation bitmap that {@link #isAllocationBlockUsed(long)} is
+     * answered from, read on first use.
+     */
+    private volatile AllocationBitmap cachedBitmap = null;
+
     protected AllocationFile(HFSVolume parentView,
             ReadableRandomAccessStream allocationFileStream) {
         this.parentView = parentView;
@@ -41,7 +46,10 @@ public abstract class AllocationFile {
 
     /**
      * Tells if the allocation block addressed by <code>blockNumber</code> is
-     * used or not.
+     * used or not.<br>
+     * The first call reads the entire allocation file into an
+     * {@link AllocationBitmap} (one bit per allocation block), which is kept
+     * and used to answer all subsequent calls without any I/O.
      *
      * @param blockNumber the block number to probe for allocation status.
      * @return whether the block <code>blockNumber</code> is used (true) or not
@@ -49,30 +57,36 @@ public abstract class AllocationFile {
      * @throws java.lang.IllegalArgumentException if <code>blockNumber</code>
      * is out of range.
      */
-    public synchronized boolean isAllocationBlockUsed(long blockNumber)
+    public boolean isAllocationBlockUsed(long blockNumber)
             throws IllegalArgumentException {
 
-        CommonHFSVolumeHeader vh = parentView.getVolumeHeader();
-        return isAllocationBlockUsed(blockNumber, vh);
-    }
-
-    private synchronized boolean isAllocationBlockUsed(long blockNumber, CommonHFSVolumeHeader vh) {
-        long numAllocationBlocks = vh.getTotalBlocks();
+        final AllocationBitmap bitmap = getCachedBitmap();
+        final long numAllocationBlocks = bitmap.getTotalBlocks();
         if(blockNumber >= numAllocationBlocks)
             throw new IllegalArgumentException("Block number (" + blockNumber +
                     ") is beyond the highest block of the volume (" +
                     (numAllocationBlocks-1) + ").");
 
+        return bitmap.isUsed(blockNumber);
+    }
 
-        long byteIndex = blockNumber / 8;
-        allocationFileStream.seek(byteIndex);
-        int currentByte = allocationFileStream.read();
-        if(currentByte >= 0)
-            return (currentByte & (1 << 7 - (blockNumber % 8))) != 0;
-        else
-            throw new RuntimeException("No data left in stream! allocationFileStream.getFilePointer()=" +
-                    allocationFileStream.getFilePointer() + " allocationFileStream.length()=" +
-                    allocationFileStream.length());
+    /**
+     * Returns the allocation bitmap used by
+     * {@link #isAllocationBlockUsed(long)}, reading it on first use.
+     */
+    private AllocationBitmap getCachedBitmap() {
+        AllocationBitmap bitmap = cachedBitmap;
+        if(bitmap == null) {
+            synchronized(this) {
+                bitmap = cachedBitmap;
+                if(bitmap == null) {
+                    bitmap = readBitmap(null);
+                    cachedBitmap = bitmap;
+                }
+            }
+        }
+
+        return bitmap;
     }
 
     /**
@@ -99,6 +113,39 @@ public abstract class AllocationFile {
     }
     */
 
+    /**
+     * Reads the entire allocation file into an {@link AllocationBitmap}. The
+     * bitmap is a snapshot of the allocation state at the time of the call.
+     *
+     * @param stop (optional) variable which can be set to abort reading. Must
+     * initially be set to <code>false</code> or no work will be done
+     * whatsoever.
+     * @return the allocation bitmap of the volume, or <code>null</code> if
+     * reading was aborted through <code>stop</code>.
+     */
+    public synchronized AllocationBitmap readBitmap(
+            ObjectContainer<Boolean> stop)
+    {
+        CommonHFSVolumeHeader vh = parentView.getVolumeHeader();
+        return AllocationBitmap.read(allocationFileStream, vh.getTotalBlocks(),
+                stop);
+    }
+
+    /**
+     * Reads the entire allocation file and builds an index of the free extents
+     * of the volume.
+     *
+     * @param stop (optional) variable which can be set to abort reading. Must
+     * initially be set to <code>false</code> or no work will be done
+     * whatsoever.
+     * @return the free extent index of the volume, or <code>null</code> if
+     * reading was aborted through <code>stop</code>.
+     */
+    public FreeExtentIndex buildFreeExtentIndex(ObjectContainer<Boolean> stop) {
+        final AllocationBitmap bitmap = readBitmap(stop);
+        return bitmap != null ? FreeExtentIndex.build(bitmap) : null;
+    }
+
     /**
      * Loops through the entire allocation file to count the number of used and free blocks on the
      * volume. The output is placed in two <code>ObjectContainer</code>s
@@ -110,52 +157,18 @@ public abstract class AllocationFile {
      * @return the total number of allocation blocks on the volume.
      */
     public long countBlocks(ObjectContainer<Long> oFreeBlocks, ObjectContainer<Long> oUsedBlocks, ObjectContainer<Boolean> stop) {
-        CommonHFSVolumeHeader vh = parentView.getVolumeHeader();
-        byte[] currentBlock = new byte[128*1024];
-        final long totalBlocks = vh.getTotalBlocks();
-        long blockCount = 0;
-        //long allocatedBlockCount = 0;
-        long usedBlockCount = 0;
-        //int blockValue = (usedBlocks?0x1:0x0);
-        if(stop == null)
-            stop = new ObjectContainer<Boolean>(false);
-
-        //System.err.println("countBlocks(): totalBlocks=" + totalBlocks);
-        //System.err.println("countBlocks(): allocationFileStream.length()=" + allocationFileStream.length());
-        allocationFileStream.seek(0);
-        while(blockCount < totalBlocks && !stop.o) {
-            //System.err.println("countBlocks():   blockCount=" + blockCount);
-            //System.err.println("countBlocks():   allocationFileStream.getFilePointer()=" + allocationFileStream.getFilePointer());
-            //System.err.println("countBlocks():   =" + );
-
-            //System.out.println("countBlocks():   Reading a blob (" + currentBlock.length + " bytes)...");
-            int bytesRead = allocationFileStream.read(currentBlock);
-            //System.out.println("countBlocks():   ..." + bytesRead + " bytes read.");
-
-            if(bytesRead >= 0) {
-                for(int i = 0; i < bytesRead && blockCount < totalBlocks && !stop.o; ++i) {
-                    byte currentByte = currentBlock[i];
-                    for(int j = 0; j < 8 && blockCount < totalBlocks && !stop.o; ++j) {
-                        ++blockCount;
-                        if(((currentByte >> (7 - j)) & 0x1) == 0x1)
-                            ++usedBlockCount;
-                    }
-                }
-            }
-            else
-                throw new RuntimeException("Could not read all blocks from allocation file!");
+        final AllocationBitmap bitmap = readBitmap(stop);
+        if(bitmap == null) {
+            /* Aborted. Leave the output variables untouched. */
+            return parentView.getVolumeHeader().getTotalBlocks();
         }
 
-        if(blockCount != totalBlocks)
-            throw new RuntimeException("[INTERNAL ERROR] blockCount(" + blockCount +
-                    ") != totalBlocks(" + totalBlocks + ")");
-
         if(oFreeBlocks != null)
-            oFreeBlocks.o = blockCount-usedBlockCount;
+            oFreeBlocks.o = bitmap.getFreeBlockCount();
         if(oUsedBlocks != null)
-            oUsedBlocks.o = usedBlockCount;
+            oUsedBlocks.o = bitmap.getUsedBlockCount();
 
-        return totalBlocks;
+        return bitmap.getTotalBlocks();
     }
 
     /**
@@ -185,113 +198,46 @@ public abstract class AllocationFile {
      * @return an array of descriptors of the extents where the data region
      * can be stored on disk.
      */
-    public synchronized CommonHFSExtentDescriptor[] findFreeSpace(final long fileSize) {
+    public CommonHFSExtentDescriptor[] findFreeSpace(final long fileSize) {
+        if(fileSize < 0)
+            throw new IllegalArgumentException("Negative file size: " + fileSize);
+
+        return findFreeSpace(buildFreeExtentIndex(null), fileSize);
+    }
+
+    /**
+     * Like {@link #findFreeSpace(long)}, but searches a previously built free
+     * extent index instead of reading the allocation file. This is useful
+     * when calculating several allocations against the same snapshot of the
+     * volume.
+     *
+     * @param index the free extent index of this volume.
+     * @param fileSize the size of the data region to be allocated, in bytes.
+     * @return an array of descriptors of the extents where the data region
+     * can be stored on disk.
+     */
+    public CommonHFSExtentDescriptor[] findFreeSpace(FreeExtentIndex index,
+            final long fileSize)
+    {
         if(fileSize < 0)
             throw new IllegalArgumentException("Negative file size: " + fileSize);
 
         CommonHFSVolumeHeader vh = parentView.getVolumeHeader();
         final long blockSize = vh.getAllocationBlockSize();
-        final long totalBlocks = vh.getTotalBlocks();
         final long blocksToAllocate = fileSize / blockSize +
                 (fileSize % blockSize != 0 ? 1 : 0);
-        long blocksLeft = blocksToAllocate;
-
-        /*
-         * Search for the closest matching region, i.e. the smallest region that
-         * is larger than or equal to fileSize, or if none can be found, the
-         * largest region that is smaller than fileSize.
-         */
-
-        // Loop through the entire allocation file
-        ByteRegion closestMatchAbove = new ByteRegion();
-        ByteRegion closestMatchBelow = new ByteRegion();
-        LinkedList<ByteRegion> allocations =
-                new LinkedList<ByteRegion>();
-
-        while(blocksLeft > 0) {
-            if(closestMatchAbove == null)
-                closestMatchAbove = new ByteRegion();
-            if(closestMatchBelow == null)
-                closestMatchBelow = new ByteRegion();
-
-            closestMatchAbove.reset();
-            closestMatchBelow.reset();
-
-            long regionStart = -1;
-            for(int i = 0; i < totalBlocks; ++i) {
-                // Check that we do not collide with any already allocated regions
-                int j = 0;
-                for(ByteRegion br : allocations) {
-                    if(i >= br.offset && i < (br.offset+br.length))
-                        break;
-                    ++j;
-                }
-                if(j != allocations.size())
-                    continue;
-
-                if(!isAllocationBlockUsed(i, vh)) {
-                    if(regionStart == -1)
-                        regionStart = i;
-                }
-                else {
-                    if(regionStart != -1) {
-                        long length = i-regionStart;
-                        if(length > blocksLeft) {
-                            if(closestMatchAbove.length < 0 || closestMatchAbove.length > length) {
-                                closestMatchAbove.offset = regionStart;
-                                closestMatchAbove.length = length;
-                            }
-                        }
-                        else if(length < blocksLeft) {
-                            if(closestMatchBelow.length < 0 || closestMatchBelow.length < length) {
-                                closestMatchBelow.offset = regionStart;
-                                closestMatchBelow.length = length;
-                            }
-                        }
-                        else {
-                            closestMatchAbove.offset = regionStart;
-                            closestMatchAbove.length = length;
-                            break; // A perfect match, so we don't need to search more.
-                        }
-                    }
-                    regionStart = -1;
-                }
-            }
-
-            if(closestMatchAbove.isValid()) {
-                // We found a fitting region for the rest of the data
-                //result.add(createExtentDescriptor(closestMatchAbove.offset,
-                //        blocksLeft));
-                closestMatchAbove.length = blocksLeft;
-                allocations.add(closestMatchAbove);
 
-                blocksLeft = 0;
-                closestMatchAbove = null; // It is taken
-            }
-            else if(closestMatchBelow.isValid()) {
-                //result.add(createExtentDescriptor(closestMatchBelow.offset,
-                //        closestMatchBelow.length));
-                allocations.add(closestMatchBelow);
-
-                blocksLeft -= closestMatchBelow.length;
-                closestMatchBelow = null; // It is taken
-            }
-            else {
-                // We're out of free blocks...
-                return null;
-            }
+        final long[][] allocations = index.allocate(blocksToAllocate);
+        if(allocations == null) {
+            // We're out of free blocks...
+            return null;
         }
 
-        if(blocksLeft != 0)
-            throw new RuntimeException("[INTERNAL ERROR] blocksLeft(" +
-                    blocksLeft + ") != 0 [closestMatchAbove.offset=" +
-                    closestMatchAbove.offset + ",closestMatchAbove.length=" +
-                    closestMatchAbove.length + "]");
-
-        CommonHFSExtentDescriptor[] result = new CommonHFSExtentDescriptor[allocations.size()];
-        int i = 0;
-        for(ByteRegion br : allocations)
-            result[i++] = createExtentDescriptor(br.offset, br.length);
+        CommonHFSExtentDescriptor[] result =
+                new CommonHFSExtentDescriptor[allocations.length];
+        for(int i = 0; i < allocations.length; ++i)
+            result[i] = createExtentDescriptor(allocations[i][0],
+                    allocations[i][1]);
 
         return result;
     }
@@ -299,19 +245,4 @@ public abstract class AllocationFile {
     public void close() {
         allocationFileStream.close();
     }
-
-    private class ByteRegion {
-        public long offset;
-        public long length;
-
-        public void reset() {
-            offset = -1;
-            length = -1;
-        }
-
-        public boolean isValid() {
-            return offset > 0 && length > 0;
-        }
-    }
-
 }
@@ -17,7 +17,10 @@
 
 package org.catacombae.hfs;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import org.catacombae.hfs.io.ForkFilter;
 import org.catacombae.hfs.types.hfscommon.CommonBTNode;
 import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogNodeID.ReservedID;
@@ -25,13 +28,16 @@ import org.catacombae.hfs.types.hfscommon.CommonHFSVolumeHeader;
 import org.catacombae.io.ReadableRandomAccessStream;
 import org.catacombae.hfs.plus.HFSPlusVolume;
 import org.catacombae.hfs.types.hfscommon.CommonBTHeaderNode;
-import org.catacombae.hfs.types.hfscommon.CommonBTIndexRecord;
+import org.catacombae.hfs.types.hfscommon.CommonBTNodeDescriptor;
+import org.catacombae.hfs.types.hfscommon.CommonBTNodeDescriptor.NodeType;
 import org.catacombae.hfs.types.hfscommon.CommonHFSAttributesIndexNode;
 import org.catacombae.hfs.types.hfscommon.CommonHFSAttributesKey;
 import org.catacombae.hfs.types.hfscommon.CommonHFSAttributesLeafNode;
 import org.catacombae.hfs.types.hfscommon.CommonHFSAttributesLeafRecord;
 import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogNodeID;
 import org.catacombae.hfs.types.hfsplus.HFSPlusAttributesKey;
+import org.catacombae.hfs.types.hfsplus.HFSPlusAttributesLeafRecord;
+import org.catacombae.util.Util;
 
 /**
  * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
@@ -39,7 +45,11 @@ import org.catacombae.hfs.types.hfsplus.HFSPlusAttributesKey;
 public class AttributesFile
     extends BTreeFile<CommonHFSAttributesKey, CommonHFSAttributesLeafRecord>
 {
+    /* HFSPlusAttributesKey: keyLength (2 bytes), pad (2), fileID (4), ... */
+    private static final int FILE_ID_OFFSET = 4;
+
     private final HFSPlusVolume view;
+    private volatile AttributesIndex index = null;
 
     private class Session extends BTreeFileSession {
         ReadableRandomAccessStream attributesFileStream;
@@ -76,6 +86,7 @@ public class AttributesFile
                 toLong(),
                 header.getAttributesFile(),
                 vol.extentsOverflowFile,
+                vol.getForkExtentMapCache(),
                 view.createFSStream(),
                 0,
                 header.getAllocationBlockSize(),
@@ -98,6 +109,107 @@ public class AttributesFile
         return CommonHFSAttributesLeafNode.createHFSPlus(nodeData, 0, nodeSize);
     }
 
+    protected CommonHFSAttributesKey createKey(byte[] nodeData, int offset) {
+        return CommonHFSAttributesKey.create(
+                new HFSPlusAttributesKey(nodeData, offset));
+    }
+
+    protected CommonHFSAttributesLeafRecord createLeafRecord(byte[] nodeData,
+            int offset, int length)
+    {
+        return CommonHFSAttributesLeafRecord.create(
+                new HFSPlusAttributesLeafRecord(nodeData, offset));
+    }
+
+    @Override
+    protected AttributesLeafCursor newLeafCursor() {
+        return new AttributesLeafCursor(this);
+    }
+
+    /**
+     * Returns a cursor over all the leaf records of the attributes file, in
+     * key order. See {@link BTreeFile#leafCursor()}.
+     *
+     * @return a cursor over all leaf records of the attributes file.
+     */
+    @Override
+    public AttributesLeafCursor leafCursor() {
+        return newLeafCursor();
+    }
+
+    /**
+     * Scans all the leaf records of the attributes file using
+     * <code>threadCount</code> threads, passing an
+     * {@link AttributesLeafCursor} positioned at each record to
+     * <code>visitor</code>.
+     *
+     * @param visitor
+     *      <b>(in)</b> The visitor receiving the leaf cursors. The cursors
+     *      must not be kept or moved by the visitor.
+     * @param threadCount
+     *      <b>(in)</b> The number of threads to scan the leaf nodes with.
+     */
+    public <R> void scanLeafCursors(
+            BTreeScanVisitor<AttributesLeafCursor, R> visitor, int threadCount)
+    {
+        scanLeafCursors(visitor, threadCount,
+                new LeafCursorFactory<AttributesLeafCursor>() {
+            /* @Override */
+            public AttributesLeafCursor createCursor() {
+                return newLeafCursor();
+            }
+        });
+    }
+
+    @Override
+    protected RawKeyComparator createRawKeyComparator(
+            final CommonHFSAttributesKey searchKey)
+    {
+        final long searchFileID = searchKey.getFileID().toLong();
+        final char[] searchAttrName = searchKey.getAttrName();
+        final long searchStartBlock = searchKey.getStartBlock();
+
+        return new RawKeyComparator() {
+            @Override
+            public int compare(byte[] data, int offset) {
+                /* HFSPlusAttributesKey: keyLength (2 bytes), pad (2),
+                 * fileID (4), startBlock (4), attrNameLen (2),
+                 * attrName (2 * attrNameLen). Compared in the same order as
+                 * CommonHFSAttributesKey.compareTo. */
+                final long fileID =
+                        Util.unsign(Util.readIntBE(data, offset + 4));
+                if(fileID != searchFileID) {
+                    return fileID < searchFileID ? -1 : 1;
+                }
+
+                final int attrNameLen =
+                        Util.unsign(Util.readShortBE(data, offset + 12));
+                final int minAttrNameLen =
+                        Math.min(attrNameLen, searchAttrName.length);
+                for(int i = 0; i < minAttrNameLen; ++i) {
+                    final int curChar = Util.unsign(
+                            Util.readShortBE(data, offset + 14 + i * 2));
+                    final int searchChar = searchAttrName[i];
+                    if(curChar != searchChar) {
+                        return curChar < searchChar ? -1 : 1;
+                    }
+                }
+
+                if(attrNameLen != searchAttrName.length) {
+                    return attrNameLen < searchAttrName.length ? -1 : 1;
+                }
+
+                final long startBlock =
+                        Util.unsign(Util.readIntBE(data, offset + 8));
+                if(startBlock != searchStartBlock) {
+                    return startBlock < searchStartBlock ? -1 : 1;
+                }
+
+                return 0;
+            }
+        };
+    }
+
     public CommonBTHeaderNode getHeaderNode() {
         CommonBTNode firstNode = getNode(0);
         if(firstNode instanceof CommonBTHeaderNode) {
@@ -148,54 +260,222 @@ public class AttributesFile
     public void listAttributeRecords(final CommonHFSCatalogNodeID nodeID,
             final LinkedList<CommonHFSAttributesLeafRecord> list)
     {
-        final CommonBTNode rootNode = getRootNode();
-        if(rootNode != null) {
-            listAttributeRecords(rootNode, nodeID, list);
+        final long fileID = nodeID.toLong();
+        final HashMap<Long, LinkedList<CommonHFSAttributesLeafRecord>> result =
+                new HashMap<Long, LinkedList<CommonHFSAttributesLeafRecord>>();
+
+        findAttributeRecords(new long[] { fileID }, result);
+
+        final LinkedList<CommonHFSAttributesLeafRecord> records =
+                result.get(fileID);
+        if(records != null) {
+            list.addAll(records);
         }
     }
 
-    private void listAttributeRecords(final CommonBTNode curNode,
-            final CommonHFSCatalogNodeID nodeID,
-            final LinkedList<CommonHFSAttributesLeafRecord> list)
+    /**
+     * Lists the attribute records of all the file IDs in
+     * <code>fileIDs</code>. The leaf nodes holding the records are visited in
+     * key order in a single pass, each of them at most once, so this is much
+     * cheaper than looking up the file IDs one at a time when they are close
+     * to each other, like the children of a folder tend to be.
+     *
+     * @param fileIDs
+     *      <b>(in)</b> The file IDs to list the attribute records of, in any
+     *      order.
+     *
+     * @return
+     *      A map from file ID to the attribute records of that file ID, in key
+     *      order. File IDs without attribute records are not included.
+     */
+    public Map<Long, CommonHFSAttributesLeafRecord[]> listAttributeRecords(
+            long[] fileIDs)
     {
-        final CommonHFSAttributesKey searchKey =
-                CommonHFSAttributesKey.create(new HFSPlusAttributesKey(
-                ((CommonHFSCatalogNodeID.HFSPlusImplementation) nodeID).
-                getHFSCatalogNodeID(), 0, new char[0]));
-        final CommonHFSAttributesKey endKey =
-                CommonHFSAttributesKey.create(new HFSPlusAttributesKey(
-                ((CommonHFSCatalogNodeID.HFSPlusImplementation)
-                nodeID.add(1)).getHFSCatalogNodeID(), 0, new char[0]));
-
-        if(curNode instanceof CommonHFSAttributesLeafNode) {
-            CommonHFSAttributesLeafNode leafNode =
-                    (CommonHFSAttributesLeafNode) curNode;
-
-            int listSizeBefore = list.size();
-            if(!findLEKeys(leafNode, searchKey, endKey, true, list)) {
-                while(list.size() > listSizeBefore) {
-                    list.removeLast();
-                }
+        final HashMap<Long, LinkedList<CommonHFSAttributesLeafRecord>> lists =
+                new HashMap<Long, LinkedList<CommonHFSAttributesLeafRecord>>();
+
+        findAttributeRecords(fileIDs, lists);
+
+        final HashMap<Long, CommonHFSAttributesLeafRecord[]> result =
+                new HashMap<Long, CommonHFSAttributesLeafRecord[]>();
+        for(Map.Entry<Long, LinkedList<CommonHFSAttributesLeafRecord>> e :
+                lists.entrySet())
+        {
+            final LinkedList<CommonHFSAttributesLeafRecord> records =
+                    e.getValue();
+            result.put(e.getKey(), records.toArray(
+                    new CommonHFSAttributesLeafRecord[records.size()]));
+        }
+
+        return result;
+    }
+
+    /**
+     * Builds an index of the file IDs that have attribute records by scanning
+     * all the leaf nodes of the attributes file, and uses it for all further
+     * lookups in this attributes file. This speeds up repeated lookups,
+     * particularly of file IDs without attributes, which then need no I/O at
+     * all.
+     *
+     * @return the new index.
+     */
+    public AttributesIndex buildIndex() {
+        final AttributesIndex newIndex = AttributesIndex.build(leafCursor());
+        index = newIndex;
+        return newIndex;
+    }
+
+    /**
+     * Returns the index built by {@link #buildIndex()}, or <code>null</code>
+     * if no index has been built.
+     */
+    public AttributesIndex getIndex() {
+        return index;
+    }
+
+    private void findAttributeRecords(long[] fileIDs,
+            Map<Long, LinkedList<CommonHFSAttributesLeafRecord>> result)
+    {
+        final AttributesIndex curIndex = index;
+
+        /* Sort the file IDs, dropping duplicates and (if we have an index)
+         * file IDs without attributes. */
+        long[] sortedFileIDs = new long[fileIDs.length];
+        System.arraycopy(fileIDs, 0, sortedFileIDs, 0, fileIDs.length);
+        Arrays.sort(sortedFileIDs);
+
+        int fileIDCount = 0;
+        for(int i = 0; i < sortedFileIDs.length; ++i) {
+            final long fileID = sortedFileIDs[i];
+            if((fileIDCount == 0 || sortedFileIDs[fileIDCount - 1] != fileID) &&
+                    (curIndex == null || curIndex.hasAttributes(fileID)))
+            {
+                sortedFileIDs[fileIDCount++] = fileID;
             }
         }
-        else if(curNode instanceof CommonHFSAttributesIndexNode) {
-            CommonHFSAttributesIndexNode indexNode =
-                    (CommonHFSAttributesIndexNode) curNode;
-            LinkedList<CommonBTIndexRecord<CommonHFSAttributesKey>> recList =
-                    new LinkedList<CommonBTIndexRecord<CommonHFSAttributesKey>>
-                    ();
-
-            /* Search for all keys in index node between search key (inclusive)
-             * and end key (exclusive). */
-            findLEKeys(indexNode, searchKey, endKey, false, recList);
-
-            for(CommonBTIndexRecord<CommonHFSAttributesKey> rec : recList) {
-                listAttributeRecords(getNode(rec.getIndex()), nodeID, list);
+
+        if(fileIDCount == 0) {
+            return;
+        }
+
+        final BTreeFileSession ses = openSession();
+        try {
+            findAttributeRecords(ses, curIndex, sortedFileIDs, fileIDCount,
+                    result);
+        } finally {
+            ses.close();
+        }
+    }
+
+    private void findAttributeRecords(BTreeFileSession ses,
+            AttributesIndex curIndex, long[] fileIDs, int fileIDCount,
+            Map<Long, LinkedList<CommonHFSAttributesLeafRecord>> result)
+    {
+        final int nodeSize = ses.bthr.getNodeSize();
+        final long maxNodeCount = ses.bthr.getTotalNodes();
+
+        int fileIDIndex = 0;
+        long nodeNumber = findFirstLeafNodeNumber(ses, curIndex, fileIDs[0]);
+        long nodeCount = 0;
+        LinkedList<CommonHFSAttributesLeafRecord> curList = null;
+
+        while(nodeNumber != 0) {
+            if(++nodeCount > maxNodeCount) {
+                throw new RuntimeException("Leaf node chain is longer than " +
+                        "the number of nodes in the B-tree (" + maxNodeCount +
+                        "). The forward links are probably circular.");
+            }
+
+            final byte[] nodeData = getCachedNode(ses, nodeNumber).data;
+            final CommonBTNodeDescriptor nodeDescriptor =
+                    createCommonBTNodeDescriptor(nodeData, 0);
+            if(nodeDescriptor.getNodeType() != NodeType.LEAF) {
+                throw new RuntimeException("Expected leaf node at node " +
+                        "number " + nodeNumber + ". Found other kind: " +
+                        nodeDescriptor.getNodeType());
+            }
+
+            /* Skip the records before the first one of the current file ID. */
+            final int numRecords = nodeDescriptor.getNumberOfRecords();
+            int recordNumber = findLERecordNumber(nodeData, nodeSize,
+                    numRecords,
+                    createFileIDComparator(fileIDs[fileIDIndex])) + 1;
+
+            long fileID = -1;
+            for(; recordNumber < numRecords; ++recordNumber) {
+                final int recordOffset =
+                        getRecordOffset(nodeData, nodeSize, recordNumber);
+                fileID = Util.unsign(Util.readIntBE(nodeData,
+                        recordOffset + FILE_ID_OFFSET));
+
+                while(fileIDs[fileIDIndex] < fileID) {
+                    if(++fileIDIndex == fileIDCount) {
+                        return;
+                    }
+
+                    curList = null;
+                }
+
+                if(fileID != fileIDs[fileIDIndex]) {
+                    continue;
+                }
+
+                if(curList == null) {
+                    curList = new LinkedList<CommonHFSAttributesLeafRecord>();
+                    result.put(fileID, curList);
+                }
+
+                final int recordLength = getRecordOffset(nodeData, nodeSize,
+                        recordNumber + 1) - recordOffset;
+                curList.add(createLeafRecord(nodeData, recordOffset,
+                        recordLength));
+            }
+
+            if(fileID == fileIDs[fileIDIndex]) {
+                /* The records of the current file ID may continue in the next
+                 * leaf node. */
+                nodeNumber = nodeDescriptor.getForwardLink();
+            }
+            else {
+                /* All keys in this leaf node are less than the current file
+                 * ID, so its first record is in a later leaf node. Go directly
+                 * to that leaf node, skipping any leaf nodes in between. */
+                final long nextNodeNumber = findFirstLeafNodeNumber(ses,
+                        curIndex, fileIDs[fileIDIndex]);
+                nodeNumber = nextNodeNumber != nodeNumber ? nextNodeNumber :
+                        nodeDescriptor.getForwardLink();
             }
         }
-        else {
-            throw new RuntimeException("Unexpected node type: " +
-                    curNode.getClass());
+    }
+
+    /**
+     * Returns the node number of the leaf node where the search for the
+     * attribute records of <code>fileID</code> should start.
+     */
+    private long findFirstLeafNodeNumber(BTreeFileSession ses,
+            AttributesIndex curIndex, long fileID)
+    {
+        if(curIndex != null) {
+            return curIndex.getLeafNodeNumber(fileID);
         }
+
+        return findLeafNodeNumber(ses, createFileIDComparator(fileID));
+    }
+
+    /**
+     * Creates a comparator placing the search key between the last key with a
+     * file ID less than <code>fileID</code> and the first key with file ID
+     * <code>fileID</code>, so that searching for the largest key less than or
+     * equal to it finds the last key preceding the records of
+     * <code>fileID</code>.
+     */
+    private static RawKeyComparator createFileIDComparator(final long fileID) {
+        return new RawKeyComparator() {
+            @Override
+            public int compare(byte[] data, int offset) {
+                return Util.unsign(Util.readIntBE(data,
+                        offset + FILE_ID_OFFSET)) < fileID ? -1 : 1;
+            }
+        };
     }
 }
@@ -0,0 +1,144 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs;
+
+/**
+ * An index of the file IDs that have attribute records in an attributes file,
+ * mapping each of them to the leaf node holding its first attribute record.
+ * The index is built by {@link AttributesFile#buildIndex()} in a single scan
+ * of the leaf nodes, and lets lookups skip the descent through the index
+ * nodes, and skip the attributes file entirely for file IDs without
+ * attributes.<br>
+ * The index is stored in sorted arrays, using 20 bytes per file ID. It is
+ * immutable and may be shared between threads.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class AttributesIndex {
+    private final long[] fileIDs;
+    private final long[] leafNodeNumbers;
+    private final int[] recordCounts;
+    private final int size;
+
+    private AttributesIndex(long[] fileIDs, long[] leafNodeNumbers,
+            int[] recordCounts, int size)
+    {
+        this.fileIDs = fileIDs;
+        this.leafNodeNumbers = leafNodeNumbers;
+        this.recordCounts = recordCounts;
+        this.size = size;
+    }
+
+    /**
+     * Builds an index of the attributes file that <code>cursor</code> walks
+     * over. The cursor is run to its end.
+     */
+    static AttributesIndex build(AttributesLeafCursor cursor) {
+        long[] fileIDs = new long[256];
+        long[] leafNodeNumbers = new long[256];
+        int[] recordCounts = new int[256];
+        int size = 0;
+
+        while(cursor.next()) {
+            final long fileID = cursor.getFileID();
+            if(size > 0 && fileIDs[size - 1] == fileID) {
+                ++recordCounts[size - 1];
+                continue;
+            }
+            else if(size > 0 && fileIDs[size - 1] > fileID) {
+                cursor.close();
+                throw new RuntimeException("Attributes file leaf records " +
+                        "are out of order (file ID " + fileID + " follows " +
+                        fileIDs[size - 1] + ").");
+            }
+
+            if(size == fileIDs.length) {
+                final int newLength = size * 2;
+                fileIDs = grow(fileIDs, newLength);
+                leafNodeNumbers = grow(leafNodeNumbers, newLength);
+
+                final int[] newRecordCounts = new int[newLength];
+                System.arraycopy(recordCounts, 0, newRecordCounts, 0, size);
+                recordCounts = newRecordCounts;
+            }
+
+            fileIDs[size] = fileID;
+            leafNodeNumbers[size] = cursor.getNodeNumber();
+            recordCounts[size] = 1;
+            ++size;
+        }
+
+        return new AttributesIndex(fileIDs, leafNodeNumbers, recordCounts,
+                size);
+    }
+
+    private static long[] grow(long[] array, int newLength) {
+        final long[] newArray = new long[newLength];
+        System.arraycopy(array, 0, newArray, 0, array.length);
+        return newArray;
+    }
+
+    private int indexOf(long fileID) {
+        int low = 0;
+        int high = size - 1;
+        while(low <= high) {
+            final int mid = (low + high) >>> 1;
+            final long midFileID = fileIDs[mid];
+
+            if(midFileID < fileID) {
+                low = mid + 1;
+            }
+            else if(midFileID > fileID) {
+                high = mid - 1;
+            }
+            else {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    /** Returns the number of file IDs that have attribute records. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns whether <code>fileID</code> has any attribute records. */
+    public boolean hasAttributes(long fileID) {
+        return indexOf(fileID) >= 0;
+    }
+
+    /**
+     * Returns the number of attribute records of <code>fileID</code>,
+     * including extent records.
+     */
+    public int getRecordCount(long fileID) {
+        final int index = indexOf(fileID);
+        return index >= 0 ? recordCounts[index] : 0;
+    }
+
+    /**
+     * Returns the node number of the leaf node holding the first attribute
+     * record of <code>fileID</code>, or 0 if it has no attribute records.
+     */
+    long getLeafNodeNumber(long fileID) {
+        final int index = indexOf(fileID);
+        return index >= 0 ? leafNodeNumbers[index] : 0;
+    }
+}
@@ -0,0 +1,134 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs;
+
+import org.catacombae.hfs.types.hfscommon.CommonHFSAttributesKey;
+import org.catacombae.hfs.types.hfscommon.CommonHFSAttributesLeafRecord;
+import org.catacombae.hfs.types.hfsplus.HFSPlusAttributesData;
+import org.catacombae.hfs.types.hfsplus.HFSPlusAttributesLeafRecordData;
+import org.catacombae.util.Util;
+
+/**
+ * A {@link BTreeLeafCursor} over the records of an attributes file, with
+ * getters for the fields of the attribute keys and of inline attribute data
+ * that read them directly from the node data.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class AttributesLeafCursor
+        extends BTreeLeafCursor<CommonHFSAttributesKey,
+        CommonHFSAttributesLeafRecord>
+{
+    /* HFSPlusAttributesKey: keyLength (2 bytes), pad (2), fileID (4),
+     * startBlock (4), attrNameLen (2), attrName (2 * attrNameLen). */
+    private static final int FILE_ID_OFFSET = 4;
+    private static final int START_BLOCK_OFFSET = 8;
+    private static final int NAME_LENGTH_OFFSET = 12;
+    private static final int NAME_OFFSET = 14;
+
+    /* HFSPlusAttributesData: recordType (4 bytes), reserved (8),
+     * attrSize (4), attrData (attrSize). */
+    private static final int INLINE_SIZE_OFFSET = 12;
+
+    AttributesLeafCursor(AttributesFile attributesFile) {
+        super(attributesFile);
+    }
+
+    /** Returns the file ID of the key of the current record. */
+    public long getFileID() {
+        return Util.unsign(Util.readIntBE(nodeData,
+                recordOffset + FILE_ID_OFFSET));
+    }
+
+    /** Returns the start block of the key of the current record. */
+    public long getStartBlock() {
+        return Util.unsign(Util.readIntBE(nodeData,
+                recordOffset + START_BLOCK_OFFSET));
+    }
+
+    /** Returns the length in characters of the attribute name. */
+    public int getNameLength() {
+        return Util.unsign(Util.readShortBE(nodeData,
+                recordOffset + NAME_LENGTH_OFFSET));
+    }
+
+    /**
+     * Returns the offset in the node data of the attribute name, which is
+     * stored as {@link #getNameLength()} UTF-16BE characters.
+     */
+    public int getNameOffset() {
+        return recordOffset + NAME_OFFSET;
+    }
+
+    /**
+     * Tells whether the attribute name of the current record is
+     * <code>name</code>, without decoding it.
+     *
+     * @param name the attribute name to compare to.
+     * @return whether the attribute name is equal to <code>name</code>.
+     */
+    public boolean nameEquals(String name) {
+        final int nameLength = getNameLength();
+        if(nameLength != name.length()) {
+            return false;
+        }
+
+        final int nameOffset = getNameOffset();
+        for(int i = 0; i < nameLength; ++i) {
+            if((char) Util.readShortBE(nodeData, nameOffset + 2 * i) !=
+                    name.charAt(i))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the type of the current record's data, one of the
+     * <code>kHFSPlusAttr*</code> constants of
+     * {@link HFSPlusAttributesLeafRecordData}.
+     */
+    public int getRecordType() {
+        return Util.readIntBE(nodeData, dataOffset);
+    }
+
+    /** Returns whether the current record holds inline attribute data. */
+    public boolean isInlineData() {
+        return getRecordType() ==
+                HFSPlusAttributesLeafRecordData.kHFSPlusAttrInlineData;
+    }
+
+    /**
+     * Returns the size of the inline attribute data of the current record, or
+     * 0 if the record doesn't hold inline data.
+     */
+    public long getInlineDataSize() {
+        return isInlineData() ? Util.unsign(Util.readIntBE(nodeData,
+                dataOffset + INLINE_SIZE_OFFSET)) : 0;
+    }
+
+    /**
+     * Returns the offset in the node data of the inline attribute data of the
+     * current record.
+     */
+    public int getInlineDataOffset() {
+        return dataOffset + HFSPlusAttributesData.STATIC_SIZE;
+    }
+}
@@ -17,8 +17,16 @@
 
 package org.catacombae.hfs;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.catacombae.hfs.types.hfscommon.CommonBTHeaderNode;
 import org.catacombae.hfs.types.hfscommon.CommonBTHeaderRecord;
 import org.catacombae.hfs.types.hfscommon.CommonBTIndexRecord;
@@ -33,6 +41,7 @@ import org.catacombae.hfs.types.hfscommon.CommonHFSVolumeHeader;
 import org.catacombae.io.Readable;
 import org.catacombae.io.ReadableRandomAccessStream;
 import org.catacombae.io.RuntimeIOException;
+import org.catacombae.util.Util;
 
 /**
  * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
@@ -79,42 +88,55 @@ public abstract class BTreeFile<K extends CommonBTKey<K>,
                 CommonHFSVolumeHeader header);
     }
 
+    /**
+     * Compares the keys of the records in the nodes of a B-tree, in their
+     * on-disk form, to a search key.
+     */
+    protected static abstract class RawKeyComparator {
+        /**
+         * Compares the key that starts at <code>offset</code> in
+         * <code>data</code> to the search key.
+         *
+         * @param data
+         *      <b>(in)</b> The data of the node containing the key.
+         * @param offset
+         *      <b>(in)</b> The offset of the key in <code>data</code> (i.e. the
+         *      offset of the record).
+         *
+         * @return
+         *      A negative integer, zero, or a positive integer as the key in
+         *      <code>data</code> is less than, equal to, or greater than the
+         *      search key.
+         */
+        public abstract int compare(byte[] data, int offset);
+    }
+
     protected <R extends CommonBTKeyedRecord<K>> R findLEKey(
             CommonBTKeyedNode<R> indexNode, K searchKey)
     {
-	/*
-	 * Algorithm:
-	 *   input: Key searchKey
-	 *   variables: Key greatestMatchingKey
-	 *   For each n : records
-	 *     If n.key <= searchKey && n.key > greatestMatchingKey
-	 *       greatestMatchingKey = n.key
-	 */
-	R largestMatchingRecord = null;
-
-        //System.err.println("findLEKey(): Entering loop...");
-        for(R record : indexNode.getBTKeyedRecords()) {
-            K recordKey = record.getKey();
-
-            //System.err.print("findLEKey():   Processing record");
-            //if(recordKey instanceof CommonHFSExtentKey)
-            //    System.err.print(" with key " + getDebugString((CommonHFSExtentKey)recordKey));
-            //System.err.print("...");
-
-	    if(recordKey.compareTo(searchKey) <= 0 &&
-                    (largestMatchingRecord == null ||
-                    recordKey.compareTo(largestMatchingRecord.getKey()) > 0)) {
-
-		largestMatchingRecord = record;
-                //System.err.print("match!");
-	    }
-            //else
-            //    System.err.print("no match.");
-            //System.err.println();
-	}
-
-        //System.err.println("findLEKey(): Returning...");
-	return largestMatchingRecord;
+        /*
+         * The records in a node are ordered by key, so we binary search for
+         * the last record with a key less than or equal to searchKey.
+         */
+        final List<R> records = indexNode.getBTKeyedRecords();
+        R largestMatchingRecord = null;
+
+        int low = 0;
+        int high = records.size() - 1;
+        while(low <= high) {
+            final int mid = (low + high) >>> 1;
+            final R record = records.get(mid);
+
+            if(record.getKey().compareTo(searchKey) <= 0) {
+                largestMatchingRecord = record;
+                low = mid + 1;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+
+        return largestMatchingRecord;
     }
 
     /**
@@ -189,41 +211,157 @@ public abstract class BTreeFile<K extends CommonBTKey<K>,
             CommonBTKeyedNode<R> keyedNode, K minKeyInclusive,
             K maxKeyExclusive, boolean strict, LinkedList<R> result)
     {
-        boolean found = false;
-	K largestLEKey = null;
-	R largestLERecord = null;
+        final List<R> records = keyedNode.getBTKeyedRecords();
 
-        /* TODO: Iteration could be optimized to binary search since keys are
-         *       (supposed to be) ordered. */
-	for(R record : keyedNode.getBTKeyedRecords()) {
-            K key = record.getKey();
+        /* The records in a node are ordered by key, so binary search for the
+         * first record with a key greater than or equal to minKeyInclusive. */
+        int low = 0;
+        int high = records.size();
+        while(low < high) {
+            final int mid = (low + high) >>> 1;
 
-            if(key.compareTo(minKeyInclusive) < 0) {
-                if(largestLEKey == null ||
-                        key.compareTo(largestLEKey) > 0)
-                {
-                    largestLEKey = key;
-                    largestLERecord = record;
-                }
+            if(records.get(mid).getKey().compareTo(minKeyInclusive) < 0) {
+                low = mid + 1;
             }
-            else if(key.compareTo(maxKeyExclusive) < 0) {
-                if(result != null) {
-                    result.addLast(record);
-                }
+            else {
+                high = mid;
+            }
+        }
 
-                found = true;
+        boolean found = false;
+        for(int i = low; i < records.size(); ++i) {
+            final R record = records.get(i);
+            if(record.getKey().compareTo(maxKeyExclusive) >= 0) {
+                break;
+            }
+
+            if(result != null) {
+                result.addLast(record);
             }
-	}
 
-        if(largestLEKey != null && (!found || !strict)) {
+            found = true;
+        }
+
+        /* The record before 'low' (if any) has the largest key that is less
+         * than minKeyInclusive. */
+        if(low > 0 && (!found || !strict)) {
             if(result != null) {
-                result.addFirst(largestLERecord);
+                result.addFirst(records.get(low - 1));
             }
         }
 
         return found;
     }
 
+    /**
+     * Binary searches the records of a keyed node, in its on-disk form, for the
+     * record with the largest key that is less than or equal to the search
+     * key. Only the keys that are compared are examined and no record objects
+     * are created.
+     *
+     * @param nodeData
+     *      <b>(in)</b> The data of the node.
+     * @param nodeSize
+     *      <b>(in)</b> The node size of the B-tree.
+     * @param numRecords
+     *      <b>(in)</b> The number of records in the node.
+     * @param cmp
+     *      <b>(in)</b> Comparator for the search key.
+     *
+     * @return
+     *      The number of the matching record, or -1 if all keys in the node are
+     *      greater than the search key.
+     */
+    static int findLERecordNumber(byte[] nodeData, int nodeSize,
+            int numRecords, RawKeyComparator cmp)
+    {
+        int result = -1;
+
+        int low = 0;
+        int high = numRecords - 1;
+        while(low <= high) {
+            final int mid = (low + high) >>> 1;
+
+            if(cmp.compare(nodeData,
+                    getRecordOffset(nodeData, nodeSize, mid)) <= 0)
+            {
+                result = mid;
+                low = mid + 1;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the offset of record <code>recordNumber</code> in a node by
+     * looking it up in the offset table at the end of the node. The offset of
+     * the free space in the node is returned for
+     * <code>recordNumber == numRecords</code>.
+     */
+    static int getRecordOffset(byte[] nodeData, int nodeSize,
+            int recordNumber)
+    {
+        return Util.unsign(Util.readShortBE(nodeData,
+                nodeSize - (recordNumber + 1) * 2));
+    }
+
+    /**
+     * Returns the child node number of record <code>recordNumber</code> in an
+     * index node, in its on-disk form.
+     */
+    long getChildNodeNumber(byte[] nodeData, int nodeSize, int recordNumber) {
+        /* The child node pointer follows immediately after the key. */
+        final int recordOffset =
+                getRecordOffset(nodeData, nodeSize, recordNumber);
+        return Util.unsign(Util.readIntBE(nodeData,
+                recordOffset + vol.getBTKeySize(nodeData, recordOffset)));
+    }
+
+    /**
+     * Descends from the root node to the leaf node holding the largest key
+     * that is less than or equal to the search key of <code>cmp</code>, or to
+     * the first leaf node if all keys are greater than the search key. Index
+     * nodes are read through the node cache.
+     *
+     * @return
+     *      The node number of the leaf node, or 0 if the B-tree is empty.
+     */
+    long findLeafNodeNumber(BTreeFileSession ses, RawKeyComparator cmp) {
+        final int nodeSize = ses.bthr.getNodeSize();
+        final long maxNodeCount = ses.bthr.getTotalNodes();
+
+        long nodeNumber = ses.bthr.getRootNodeNumber();
+        for(long nodeCount = 1; nodeNumber != 0; ++nodeCount) {
+            final byte[] nodeData = getCachedNode(ses, nodeNumber).data;
+            final CommonBTNodeDescriptor nodeDescriptor =
+                    createCommonBTNodeDescriptor(nodeData, 0);
+            if(nodeDescriptor.getNodeType() == NodeType.LEAF) {
+                return nodeNumber;
+            }
+            else if(nodeDescriptor.getNodeType() != NodeType.INDEX) {
+                throw new RuntimeException("Expected index or leaf node at " +
+                        "node number " + nodeNumber + ". Found other kind: " +
+                        nodeDescriptor.getNodeType());
+            }
+            else if(nodeCount >= maxNodeCount) {
+                throw new RuntimeException("No leaf node reached after " +
+                        "visiting " + nodeCount + " index nodes. The index " +
+                        "nodes are probably circular.");
+            }
+
+            final int recordNumber = findLERecordNumber(nodeData, nodeSize,
+                    nodeDescriptor.getNumberOfRecords(), cmp);
+            nodeNumber = getChildNodeNumber(nodeData, nodeSize,
+                    Math.max(recordNumber, 0));
+        }
+
+        return 0;
+    }
+
     protected CommonBTHeaderNode createCommonBTHeaderNode(byte[] currentNodeData,
             int offset, int nodeSize) {
         return vol.createCommonBTHeaderNode(currentNodeData, offset, nodeSize);
@@ -235,6 +373,37 @@ public abstract class BTreeFile<K extends CommonBTKey<K>,
     protected abstract CommonBTKeyedNode<L> createLeafNode(byte[] nodeData,
             int offset, int nodeSize);
 
+    /**
+     * Decodes the key of the record at <code>offset</code> in a node of this
+     * B-tree.
+     */
+    protected abstract K createKey(byte[] nodeData, int offset);
+
+    /**
+     * Decodes the leaf record at <code>offset</code> in a leaf node of this
+     * B-tree.
+     */
+    protected abstract L createLeafRecord(byte[] nodeData, int offset,
+            int length);
+
+    /**
+     * Creates a comparator for the on-disk keys of this B-tree and
+     * <code>searchKey</code>. The default implementation decodes each key that
+     * is compared. Subclasses may override this method to compare keys without
+     * decoding them.
+     *
+     * @param searchKey the key to compare the keys of the B-tree to.
+     * @return a comparator for <code>searchKey</code>.
+     */
+    protected RawKeyComparator createRawKeyComparator(final K searchKey) {
+        return new RawKeyComparator() {
+            @Override
+            public int compare(byte[] data, int offset) {
+                return createKey(data, offset).compareTo(searchKey);
+            }
+        };
+    }
+
     protected CommonBTNodeDescriptor readNodeDescriptor(Readable rd) {
         return vol.readNodeDescriptor(rd);
     }
@@ -295,27 +464,59 @@ public abstract class BTreeFile<K extends CommonBTKey<K>,
         }
     }
 
-    CommonBTNode getNode(long nodeNumber, BTreeFileSession ses) {
-        final String METHOD = "getNode";
+    /**
+     * Returns the data of node <code>nodeNumber</code> in this B-tree. The node
+     * is taken from the volume's B-tree node cache if present, and is otherwise
+     * read through <code>ses</code> and added to the cache.<br>
+     * The data of the returned node may be shared with other threads and must
+     * not be modified.
+     */
+    BTreeNodeCache.CachedNode getCachedNode(BTreeFileSession ses,
+            long nodeNumber)
+    {
+        final BTreeNodeCache cache = vol.getBTreeNodeCache();
+        if(cache != null) {
+            final BTreeNodeCache.CachedNode cachedNode =
+                    cache.get(this, nodeNumber);
+            if(cachedNode != null) {
+                return cachedNode;
+            }
+        }
+
         final int nodeSize = ses.bthr.getNodeSize();
+        final byte[] nodeData = new byte[nodeSize];
+        ses.btreeStream.seek(nodeNumber * nodeSize);
+        ses.btreeStream.readFully(nodeData);
+
+        final BTreeNodeCache.CachedNode cachedNode =
+                new BTreeNodeCache.CachedNode(nodeData);
+        if(cache != null) {
+            cache.put(this, nodeNumber, cachedNode);
+        }
 
-        CommonBTNode node;
-        byte[] nodeData = new byte[nodeSize];
-        try {
-            ses.btreeStream.seek(nodeNumber * nodeSize);
-            ses.btreeStream.readFully(nodeData);
-        } catch(RuntimeException e) {
-            System.err.println("RuntimeException in " + METHOD + ". Printing " +
-                    "additional information:");
-            System.err.println("  nodeNumber=" + nodeNumber);
-            System.err.println("  nodeSize=" + nodeSize);
-            System.err.println("  init.btreeStream.length()=" +
-                    ses.btreeStream.length());
-            System.err.println("  (currentNodeNumber * nodeSize)=" +
-                    (nodeNumber * nodeSize));
-            throw e;
+        return cachedNode;
+    }
+
+    /**
+     * Returns the decoded form of <code>cachedNode</code>, decoding it if this
+     * hasn't been done before.
+     */
+    CommonBTNode getDecodedNode(BTreeNodeCache.CachedNode cachedNode,
+            int nodeSize)
+    {
+        CommonBTNode node = cachedNode.node;
+        if(node == null) {
+            /* If several threads get here at the same time the node will be
+             * decoded more than once, which is harmless. */
+            node = decodeNode(cachedNode.data, nodeSize);
+            cachedNode.node = node;
         }
 
+        return node;
+    }
+
+    private CommonBTNode decodeNode(byte[] nodeData, int nodeSize) {
+        final CommonBTNode node;
         CommonBTNodeDescriptor nodeDescriptor =
                 createCommonBTNodeDescriptor(nodeData, 0);
         switch(nodeDescriptor.getNodeType()) {
@@ -336,6 +537,28 @@ public abstract class BTreeFile<K extends CommonBTKey<K>,
         return node;
     }
 
+    CommonBTNode getNode(long nodeNumber, BTreeFileSession ses) {
+        final String METHOD = "getNode";
+        final int nodeSize = ses.bthr.getNodeSize();
+
+        final BTreeNodeCache.CachedNode cachedNode;
+        try {
+            cachedNode = getCachedNode(ses, nodeNumber);
+        } catch(RuntimeException e) {
+            System.err.println("RuntimeException in " + METHOD + ". Printing " +
+                    "additional information:");
+            System.err.println("  nodeNumber=" + nodeNumber);
+            System.err.println("  nodeSize=" + nodeSize);
+            System.err.println("  init.btreeStream.length()=" +
+                    ses.btreeStream.length());
+            System.err.println("  (currentNodeNumber * nodeSize)=" +
+                    (nodeNumber * nodeSize));
+            throw e;
+        }
+
+        return getDecodedNode(cachedNode, nodeSize);
+    }
+
     /**
      * Returns the requested node in the B-tree file. If the requested node is
      * not a header, index or leaf node, <code>null</code> is returned because
@@ -354,6 +577,43 @@ public abstract class BTreeFile<K extends CommonBTKey<K>,
         }
     }
 
+    /**
+     * Returns an iterator over all the leaf records of the B-tree file, in key
+     * order. The iterator follows the chain of leaf nodes, reading each of them
+     * exactly once, without descending through the index nodes.<br>
+     * If the iteration is not run to its end, the iterator should be closed
+     * with {@link BTreeLeafRecordIterator#close()} to release the B-tree file.
+     *
+     * @return an iterator over all leaf records of the B-tree file.
+     */
+    public BTreeLeafRecordIterator<K, L> leafRecordIterator() {
+        return new BTreeLeafRecordIterator<K, L>(this);
+    }
+
+    /**
+     * Returns a cursor over all the leaf records of the B-tree file, in key
+     * order. The cursor follows the chain of leaf nodes like
+     * {@link #leafRecordIterator()}, but doesn't decode the records unless
+     * asked to, so a scan that only looks at a few fields of each record
+     * produces next to no garbage.<br>
+     * If the cursor is not run to its end, it should be closed with
+     * {@link BTreeLeafCursor#close()} to release the B-tree file.
+     *
+     * @return a cursor over all leaf records of the B-tree file.
+     */
+    public BTreeLeafCursor<K, L> leafCursor() {
+        return newLeafCursor();
+    }
+
+    /**
+     * Creates a new cursor over the leaf records of this B-tree file.
+     * Subclasses override this to return cursors with getters for the fields
+     * of their records.
+     */
+    protected BTreeLeafCursor<K, L> newLeafCursor() {
+        return new BTreeLeafCursor<K, L>(this);
+    }
+
     /**
      * Get a record from the B* tree with the specified key.<br>
      *
@@ -369,56 +629,360 @@ public abstract class BTreeFile<K extends CommonBTKey<K>,
     public L getRecord(K searchKey) {
         BTreeFileSession ses = openSession();
 
+        try {
+            return getRecord(ses, searchKey);
+        } finally {
+            ses.close();
+        }
+    }
+
+    L getRecord(BTreeFileSession ses, K searchKey) {
+        final int nodeSize = ses.bthr.getNodeSize();
+        final RawKeyComparator cmp = createRawKeyComparator(searchKey);
+
+        byte[] currentNodeData =
+                getCachedNode(ses, ses.bthr.getRootNodeNumber()).data;
+        CommonBTNodeDescriptor nodeDescriptor =
+                createCommonBTNodeDescriptor(currentNodeData, 0);
+
+        /* Search down through the layers of indices (O(log n) steps, where n
+         * is the size of the tree) */
+        while(nodeDescriptor.getNodeType() == NodeType.INDEX) {
+            final int recordNumber = findLERecordNumber(currentNodeData,
+                    nodeSize, nodeDescriptor.getNumberOfRecords(), cmp);
+            if(recordNumber < 0) {
+                return null;
+            }
+
+            currentNodeData = getCachedNode(ses, getChildNodeNumber(
+                    currentNodeData, nodeSize, recordNumber)).data;
+            nodeDescriptor = createCommonBTNodeDescriptor(currentNodeData, 0);
+        }
+
+        /* Leaf node reached. Find record. */
+        if(nodeDescriptor.getNodeType() == NodeType.LEAF) {
+            final int recordNumber = findLERecordNumber(currentNodeData,
+                    nodeSize, nodeDescriptor.getNumberOfRecords(), cmp);
+            if(recordNumber < 0) {
+                return null;
+            }
+
+            final int recordOffset =
+                    getRecordOffset(currentNodeData, nodeSize, recordNumber);
+            if(cmp.compare(currentNodeData, recordOffset) != 0) {
+                return null;
+            }
+
+            final int recordLength = getRecordOffset(currentNodeData, nodeSize,
+                    recordNumber + 1) - recordOffset;
+
+            return createLeafRecord(currentNodeData, recordOffset,
+                    recordLength);
+        }
+        else {
+            throw new RuntimeException("Expected leaf node. Found other " +
+                    "kind: " + nodeDescriptor.getNodeType());
+        }
+    }
+
+    /**
+     * Gets the records with the specified keys from the B* tree. The keys are
+     * looked up in key order, and a key that falls within the leaf node of
+     * the previous one is looked up in that node without descending from the
+     * root again, so looking up keys that are close to each other (like the
+     * names in one folder) costs little more than one lookup per leaf node.
+     *
+     * @param searchKeys
+     *      <b>(in)</b> The keys of the records that we are looking for, in any
+     *      order.
+     *
+     * @return
+     *      A list of the requested records in the same order as
+     *      <code>searchKeys</code>, with <code>null</code> for keys that were
+     *      not found.
+     */
+    public List<L> getRecords(final List<K> searchKeys) {
+        final int keyCount = searchKeys.size();
+        final ArrayList<L> result = new ArrayList<L>(keyCount);
+        for(int i = 0; i < keyCount; ++i) {
+            result.add(null);
+        }
+
+        if(keyCount == 0) {
+            return result;
+        }
+
+        final Integer[] order = new Integer[keyCount];
+        for(int i = 0; i < keyCount; ++i) {
+            order[i] = i;
+        }
+
+        Arrays.sort(order, new Comparator<Integer>() {
+            /* @Override */
+            public int compare(Integer a, Integer b) {
+                return searchKeys.get(a).compareTo(searchKeys.get(b));
+            }
+        });
+
+        final BTreeFileSession ses = openSession();
         try {
             final int nodeSize = ses.bthr.getNodeSize();
 
-            long currentNodeOffset = ses.bthr.getRootNodeNumber() * nodeSize;
-
-            byte[] currentNodeData = new byte[nodeSize];
-            ses.btreeStream.seek(currentNodeOffset);
-            ses.btreeStream.readFully(currentNodeData);
-            CommonBTNodeDescriptor nodeDescriptor =
-                    createCommonBTNodeDescriptor(currentNodeData, 0);
-
-            /* Search down through the layers of indices (O(log n) steps, where
-             * n is the size of the tree) */
-            while(nodeDescriptor.getNodeType() == NodeType.INDEX) {
-                CommonBTKeyedNode<? extends CommonBTIndexRecord<K>>
-                        currentNode =
-                        createIndexNode(currentNodeData, 0, nodeSize);
-                CommonBTIndexRecord<K> matchingRecord =
-                        findLEKey(currentNode, searchKey);
-
-                if(matchingRecord == null) {
-                    return null;
+            byte[] leafData = null;
+            int numRecords = 0;
+            for(int keyIndex : order) {
+                final RawKeyComparator cmp =
+                        createRawKeyComparator(searchKeys.get(keyIndex));
+
+                /* Descend from the root only if the key is outside the range
+                 * of keys of the current leaf node. */
+                if(leafData == null || numRecords == 0 ||
+                        cmp.compare(leafData,
+                        getRecordOffset(leafData, nodeSize, 0)) > 0 ||
+                        cmp.compare(leafData, getRecordOffset(leafData,
+                        nodeSize, numRecords - 1)) < 0)
+                {
+                    final long leafNodeNumber = findLeafNodeNumber(ses, cmp);
+                    if(leafNodeNumber == 0) {
+                        break;
+                    }
+
+                    leafData = getCachedNode(ses, leafNodeNumber).data;
+                    final CommonBTNodeDescriptor nodeDescriptor =
+                            createCommonBTNodeDescriptor(leafData, 0);
+                    numRecords = nodeDescriptor.getNumberOfRecords();
+                }
+
+                final int recordNumber =
+                        findLERecordNumber(leafData, nodeSize, numRecords, cmp);
+                if(recordNumber < 0) {
+                    continue;
                 }
 
-                currentNodeOffset = matchingRecord.getIndex() * nodeSize;
-                ses.btreeStream.seek(currentNodeOffset);
-                ses.btreeStream.readFully(currentNodeData);
-                nodeDescriptor =
-                        createCommonBTNodeDescriptor(currentNodeData, 0);
+                final int recordOffset =
+                        getRecordOffset(leafData, nodeSize, recordNumber);
+                if(cmp.compare(leafData, recordOffset) != 0) {
+                    continue;
+                }
+
+                final int recordLength = getRecordOffset(leafData, nodeSize,
+                        recordNumber + 1) - recordOffset;
+                result.set(keyIndex, createLeafRecord(leafData, recordOffset,
+                        recordLength));
             }
+        } finally {
+            ses.close();
+        }
 
-            /* Leaf node reached. Find record. */
-            if(nodeDescriptor.getNodeType() == NodeType.LEAF) {
-                CommonBTKeyedNode<L> leaf =
-                        createLeafNode(currentNodeData, 0, nodeSize);
+        return result;
+    }
 
-                for(L rec : leaf.getBTRecords()) {
-                    if(rec.getKey().compareTo(searchKey) == 0) {
-                        return rec;
+    /**
+     * Creates the leaf cursors for
+     * {@link #scanLeafCursors(BTreeScanVisitor, int, LeafCursorFactory)}.
+     */
+    protected static interface LeafCursorFactory<C> {
+        public C createCursor();
+    }
+
+    /**
+     * Scans all the leaf records of the B-tree file using
+     * <code>threadCount</code> threads. The leaf nodes are divided into ranges
+     * of consecutive nodes, found by walking the index nodes, and each range
+     * is scanned by one thread, reading its leaf nodes in order. See
+     * {@link BTreeScanVisitor} for how the records are passed to
+     * <code>visitor</code>.<br>
+     * A leaf cursor positioned at each record is passed to
+     * <code>visitor</code>. Each thread uses a single cursor, created by
+     * <code>cursorFactory</code>, for all of its records.<br>
+     * This method returns when all ranges have been scanned and merged, or
+     * when the visitor cancels the scan.<br>
+     * Subclasses expose this with the cursor type of the B-tree file.
+     *
+     * @param visitor
+     *      <b>(in)</b> The visitor receiving the leaf cursors. The cursors
+     *      must not be kept or moved by the visitor.
+     * @param threadCount
+     *      <b>(in)</b> The number of threads to scan the leaf nodes with.
+     * @param cursorFactory
+     *      <b>(in)</b> The factory creating one cursor for each range of
+     *      leaf nodes.
+     */
+    protected <C extends BTreeLeafCursor<K, L>, R> void scanLeafCursors(
+            final BTreeScanVisitor<? super C, R> visitor, int threadCount,
+            LeafCursorFactory<C> cursorFactory)
+    {
+        if(threadCount < 1) {
+            throw new IllegalArgumentException("'threadCount' must be at " +
+                    "least 1");
+        }
+
+        final long[] leafNodeNumbers;
+        final BTreeFileSession ses = openSession();
+        try {
+            leafNodeNumbers = getLeafNodeNumbers(ses);
+        } finally {
+            ses.close();
+        }
+
+        if(leafNodeNumbers.length == 0) {
+            return;
+        }
+
+        /* Create a few ranges per thread so that threads that happen to get
+         * ranges with few records don't end up idle. */
+        final int rangeCount =
+                (int) Math.min(leafNodeNumbers.length, threadCount * 4L);
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(threadCount, rangeCount));
+        try {
+            final ArrayList<Future<R>> results =
+                    new ArrayList<Future<R>>(rangeCount);
+            for(int i = 0; i < rangeCount; ++i) {
+                final int start =
+                        (int) ((long) leafNodeNumbers.length * i / rangeCount);
+                final int end =
+                        (int) ((long) leafNodeNumbers.length * (i + 1) /
+                        rangeCount);
+
+                results.add(executor.submit(new LeafRangeScanner<C, R>(
+                        visitor, cursorFactory, leafNodeNumbers, start,
+                        end)));
+            }
+
+            for(Future<R> result : results) {
+                final R rangeResult;
+                try {
+                    rangeResult = result.get();
+                } catch(InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting " +
+                            "for B-tree scan to complete.", e);
+                } catch(ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if(cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    else if(cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    else {
+                        throw new RuntimeException(cause);
                     }
                 }
 
-                return null;
-            }
-            else {
-                throw new RuntimeException("Expected leaf node. Found other " +
-                        "kind: " + nodeDescriptor.getNodeType());
+                if(visitor.cancelScan()) {
+                    break;
+                }
+
+                visitor.merge(rangeResult);
             }
         } finally {
-            ses.close();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the node numbers of all leaf nodes of the B-tree in key order,
+     * by walking the index nodes one level at a time. Only the index nodes are
+     * read.
+     */
+    private long[] getLeafNodeNumbers(BTreeFileSession ses) {
+        final int nodeSize = ses.bthr.getNodeSize();
+        final long rootNodeNumber = ses.bthr.getRootNodeNumber();
+        if(rootNodeNumber == 0) {
+            return new long[0];
+        }
+
+        long[] currentLevel = new long[] { rootNodeNumber };
+        while(true) {
+            final byte[] firstNodeData =
+                    getCachedNode(ses, currentLevel[0]).data;
+            final CommonBTNodeDescriptor firstNodeDescriptor =
+                    createCommonBTNodeDescriptor(firstNodeData, 0);
+            if(firstNodeDescriptor.getNodeType() == NodeType.LEAF) {
+                return currentLevel;
+            }
+
+            final ArrayList<Long> nextLevel = new ArrayList<Long>();
+            for(long nodeNumber : currentLevel) {
+                final byte[] nodeData = getCachedNode(ses, nodeNumber).data;
+                final CommonBTNodeDescriptor nodeDescriptor =
+                        createCommonBTNodeDescriptor(nodeData, 0);
+                if(nodeDescriptor.getNodeType() != NodeType.INDEX) {
+                    throw new RuntimeException("Expected index node at node " +
+                            "number " + nodeNumber + ". Found other kind: " +
+                            nodeDescriptor.getNodeType());
+                }
+
+                final int numRecords = nodeDescriptor.getNumberOfRecords();
+                for(int i = 0; i < numRecords; ++i) {
+                    nextLevel.add(getChildNodeNumber(nodeData, nodeSize, i));
+                }
+            }
+
+            if(nextLevel.isEmpty()) {
+                return new long[0];
+            }
+
+            currentLevel = new long[nextLevel.size()];
+            for(int i = 0; i < currentLevel.length; ++i) {
+                currentLevel[i] = nextLevel.get(i);
+            }
+        }
+    }
+
+    /** Scans a range of leaf nodes for {@link #scanLeafCursors}. */
+    private class LeafRangeScanner<C extends BTreeLeafCursor<K, L>, R>
+            implements Callable<R>
+    {
+        private final BTreeScanVisitor<? super C, R> visitor;
+        private final LeafCursorFactory<C> cursorFactory;
+        private final long[] leafNodeNumbers;
+        private final int start;
+        private final int end;
+
+        public LeafRangeScanner(BTreeScanVisitor<? super C, R> visitor,
+                LeafCursorFactory<C> cursorFactory, long[] leafNodeNumbers,
+                int start, int end)
+        {
+            this.visitor = visitor;
+            this.cursorFactory = cursorFactory;
+            this.leafNodeNumbers = leafNodeNumbers;
+            this.start = start;
+            this.end = end;
+        }
+
+        /* @Override */
+        public R call() {
+            final R result = visitor.createResult();
+            if(visitor.cancelScan()) {
+                return result;
+            }
+
+            /* Leaf nodes are read past the node cache by the cursor, like in
+             * BTreeLeafRecordIterator. */
+            final C cursor = cursorFactory.createCursor();
+            try {
+                cursor.setLeafNodeRange(leafNodeNumbers, start, end);
+
+                long currentNodeNumber = -1;
+                while(cursor.next()) {
+                    if(cursor.getNodeNumber() != currentNodeNumber) {
+                        if(currentNodeNumber != -1 && visitor.cancelScan()) {
+                            break;
+                        }
+
+                        currentNodeNumber = cursor.getNodeNumber();
+                    }
+
+                    visitor.visit(result, cursor);
+                }
+            } finally {
+                cursor.close();
+            }
+
+            return result;
         }
     }
 }
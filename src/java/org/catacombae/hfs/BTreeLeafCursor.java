@@ -0,0 +1,257 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs;
+
+import org.catacombae.hfs.types.hfscommon.CommonBTKey;
+import org.catacombae.hfs.types.hfscommon.CommonBTLeafRecord;
+import org.catacombae.hfs.types.hfscommon.CommonBTNodeDescriptor;
+import org.catacombae.hfs.types.hfscommon.CommonBTNodeDescriptor.NodeType;
+
+/**
+ * A cursor over the leaf records of a B-tree, in key order. The cursor is a
+ * flyweight view of one record at a time in the raw data of its leaf node:
+ * moving to the next record with {@link #next()} doesn't allocate anything,
+ * and the record can be inspected through the position getters (and the
+ * typed getters of subclasses) without decoding it. {@link #getRecord()}
+ * decodes the whole record when that is needed.<br>
+ * Like {@link BTreeLeafRecordIterator}, the cursor follows the chain of leaf
+ * nodes through the forward links of the node descriptors, reading each leaf
+ * node exactly once into a single buffer that is reused for all nodes. Nodes
+ * read by the cursor do not go into the volume's B-tree node cache.<br>
+ * The cursor keeps the B-tree file open until {@link #next()} has returned
+ * <code>false</code>. If the iteration is abandoned before that,
+ * {@link #close()} should be called.<br>
+ * This class is not thread safe. Use one cursor per thread.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class BTreeLeafCursor<K extends CommonBTKey<K>,
+        L extends CommonBTLeafRecord<K>>
+{
+    private final BTreeFile<K, L> tree;
+    private final BTreeFile<K, L>.BTreeFileSession ses;
+    private final int nodeSize;
+
+    /** The data of the current leaf node. */
+    protected final byte[] nodeData;
+
+    /** Upper limit for the number of nodes that can be visited. */
+    private final long maxNodeCount;
+
+    /**
+     * If not <code>null</code>, the cursor visits the nodes
+     * <code>leafNodeNumbers[nextNodeIndex]</code> up to
+     * <code>leafNodeNumbers[endNodeIndex - 1]</code> instead of following the
+     * leaf node chain.
+     */
+    private long[] leafNodeNumbers = null;
+    private int nextNodeIndex = 0;
+    private int endNodeIndex = 0;
+
+    /** The number of leaf nodes read so far. */
+    private long nodeCount = 0;
+
+    /** The node number of the current leaf node. */
+    private long nodeNumber = 0;
+
+    /** The node number of the next leaf node, or 0 if there is none. */
+    private long nextNodeNumber;
+
+    /** The number of records in the current leaf node. */
+    private int numRecords = 0;
+
+    /** The index of the current record in the current leaf node. */
+    private int recordNumber = -1;
+
+    /** The offset of the current record in {@link #nodeData}. */
+    protected int recordOffset = 0;
+
+    /** The length of the current record. */
+    protected int recordLength = 0;
+
+    /**
+     * The offset of the data of the current record in {@link #nodeData},
+     * that is the offset following the key.
+     */
+    protected int dataOffset = 0;
+
+    private boolean closed = false;
+
+    protected BTreeLeafCursor(BTreeFile<K, L> tree) {
+        this.tree = tree;
+        this.ses = tree.openSession();
+        this.nodeSize = ses.bthr.getNodeSize();
+        this.nodeData = new byte[nodeSize];
+        this.maxNodeCount = ses.bthr.getTotalNodes();
+        this.nextNodeNumber =
+                ses.bthr.getRootNodeNumber() != 0 ?
+                ses.bthr.getFirstLeafNodeNumber() : 0;
+    }
+
+    /**
+     * Restricts the cursor to the leaf nodes
+     * <code>leafNodeNumbers[start]</code> up to
+     * <code>leafNodeNumbers[end - 1]</code>. Must be called before the first
+     * call to {@link #next()}.
+     */
+    void setLeafNodeRange(long[] leafNodeNumbers, int start, int end) {
+        this.leafNodeNumbers = leafNodeNumbers;
+        this.nextNodeIndex = start;
+        this.endNodeIndex = end;
+    }
+
+    /**
+     * Moves the cursor to the next leaf record. The cursor starts out before
+     * the first record, so this method must be called before inspecting the
+     * first record.
+     *
+     * @return <code>true</code> if the cursor was moved to a record, and
+     * <code>false</code> if there are no more records.
+     */
+    public boolean next() {
+        while(recordNumber + 1 >= numRecords) {
+            if(closed) {
+                return false;
+            }
+            else if(leafNodeNumbers != null ? nextNodeIndex >= endNodeIndex :
+                nextNodeNumber == 0)
+            {
+                close();
+                return false;
+            }
+
+            try {
+                readNextLeafNode();
+            } catch(RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        ++recordNumber;
+        recordOffset =
+                BTreeFile.getRecordOffset(nodeData, nodeSize, recordNumber);
+        recordLength = BTreeFile.getRecordOffset(nodeData, nodeSize,
+                recordNumber + 1) - recordOffset;
+
+        /* The data of a leaf record starts at the first even offset after the
+         * key. */
+        dataOffset = recordOffset +
+                tree.getVolume().getBTKeySize(nodeData, recordOffset);
+        if((dataOffset & 1) != 0) {
+            ++dataOffset;
+        }
+
+        return true;
+    }
+
+    /**
+     * Decodes the key of the current record.
+     *
+     * @return the key of the current record.
+     */
+    public K getKey() {
+        return tree.createKey(nodeData, recordOffset);
+    }
+
+    /**
+     * Decodes the current record.
+     *
+     * @return the current record.
+     */
+    public L getRecord() {
+        return tree.createLeafRecord(nodeData, recordOffset, recordLength);
+    }
+
+    /**
+     * Returns the data of the current leaf node. The array is reused for all
+     * leaf nodes, so its contents change when the cursor moves to another
+     * node, and it must not be modified.
+     */
+    public byte[] getNodeData() {
+        return nodeData;
+    }
+
+    /** Returns the node number of the current leaf node. */
+    public long getNodeNumber() {
+        return nodeNumber;
+    }
+
+    /** Returns the index of the current record in the current leaf node. */
+    public int getRecordNumber() {
+        return recordNumber;
+    }
+
+    /** Returns the offset of the current record in the node data. */
+    public int getRecordOffset() {
+        return recordOffset;
+    }
+
+    /** Returns the length of the current record. */
+    public int getRecordLength() {
+        return recordLength;
+    }
+
+    /**
+     * Returns the offset in the node data of the data of the current record,
+     * which follows its key.
+     */
+    public int getDataOffset() {
+        return dataOffset;
+    }
+
+    /**
+     * Releases the resources held by this cursor. This happens automatically
+     * when {@link #next()} reaches the end, so this method only needs to be
+     * called if the iteration is abandoned. Calling it more than once has no
+     * effect.
+     */
+    public void close() {
+        if(!closed) {
+            closed = true;
+            numRecords = 0;
+            recordNumber = -1;
+            ses.close();
+        }
+    }
+
+    private void readNextLeafNode() {
+        if(++nodeCount > maxNodeCount) {
+            throw new RuntimeException("Leaf node chain is longer than the " +
+                    "number of nodes in the B-tree (" + maxNodeCount + "). " +
+                    "The forward links are probably circular.");
+        }
+
+        nodeNumber = leafNodeNumbers != null ?
+            leafNodeNumbers[nextNodeIndex++] : nextNodeNumber;
+        ses.btreeStream.seek(nodeNumber * nodeSize);
+        ses.btreeStream.readFully(nodeData);
+
+        final CommonBTNodeDescriptor nodeDescriptor =
+                tree.createCommonBTNodeDescriptor(nodeData, 0);
+        if(nodeDescriptor.getNodeType() != NodeType.LEAF) {
+            throw new RuntimeException("Expected leaf node at node number " +
+                    nodeNumber + ". Found other kind: " +
+                    nodeDescriptor.getNodeType());
+        }
+
+        nextNodeNumber = nodeDescriptor.getForwardLink();
+        numRecords = nodeDescriptor.getNumberOfRecords();
+        recordNumber = -1;
+    }
+}
@@ -0,0 +1,100 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.catacombae.hfs.types.hfscommon.CommonBTKey;
+import org.catacombae.hfs.types.hfscommon.CommonBTLeafRecord;
+
+/**
+ * Iterates over all the leaf records of a B-tree in key order, by following
+ * the chain of leaf nodes from the first leaf node through the forward links
+ * of the node descriptors.<br>
+ * Each leaf node is read exactly once, in the order that they are linked
+ * (which for a B-tree that hasn't been modified much is also the order on
+ * disk), and leaf records are decoded one at a time as they are requested.
+ * The iterator is built on a {@link BTreeLeafCursor}, which can be used
+ * directly when the records don't need to be decoded.
+ * Nodes read by the iterator do not go into the volume's B-tree node cache,
+ * so a full scan doesn't push out the index nodes kept there.<br>
+ * The iterator keeps the B-tree file open until the last record has been
+ * returned. If the iteration is abandoned before that, {@link #close()} should
+ * be called.<br>
+ * This class is not thread safe.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class BTreeLeafRecordIterator<K extends CommonBTKey<K>,
+        L extends CommonBTLeafRecord<K>>
+        implements Iterator<L>
+{
+    private final BTreeLeafCursor<K, L> cursor;
+
+    /** Whether the cursor has been moved to the record to return next. */
+    private boolean advanced = false;
+
+    /** Whether the cursor is at a record, if it has been advanced. */
+    private boolean hasRecord = false;
+
+    BTreeLeafRecordIterator(BTreeFile<K, L> tree) {
+        this.cursor = tree.newLeafCursor();
+    }
+
+    /* @Override */
+    public boolean hasNext() {
+        if(!advanced) {
+            hasRecord = cursor.next();
+            advanced = true;
+        }
+
+        return hasRecord;
+    }
+
+    /* @Override */
+    public L next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        advanced = false;
+        return cursor.getRecord();
+    }
+
+    /**
+     * Not supported, since this iterator is read only.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    /* @Override */
+    public void remove() {
+        throw new UnsupportedOperationException("Not supported.");
+    }
+
+    /**
+     * Releases the resources held by this iterator. This happens automatically
+     * when the last record has been returned, so this method only needs to be
+     * called if the iteration is abandoned. Calling it more than once has no
+     * effect.
+     */
+    public void close() {
+        advanced = true;
+        hasRecord = false;
+        cursor.close();
+    }
+}
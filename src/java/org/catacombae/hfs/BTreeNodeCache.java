@@ -0,0 +1,182 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.catacombae.hfs.types.hfscommon.CommonBTNode;
+
+/**
+ * Cache of B-tree nodes shared by all the B-tree files of a volume, keyed by
+ * (tree, node number). Each entry holds the on-disk data of the node and, once
+ * someone has asked for it, the decoded node.<br>
+ * The cache is bounded by an estimate of the memory used by its entries and
+ * evicts the least recently used node when full. Since every lookup in a
+ * B-tree passes through the root node and the upper index levels, these stay
+ * in the cache while leaf nodes come and go.<br>
+ * This class is thread safe.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+final class BTreeNodeCache {
+    /**
+     * The estimated number of bytes used by an entry, in units of the node
+     * size. The node data itself accounts for one unit, and the decoded node
+     * objects (which may or may not be present) for the rest.
+     */
+    private static final int ENTRY_SIZE_FACTOR = 3;
+
+    /** A cached B-tree node. */
+    static final class CachedNode {
+        /**
+         * The on-disk data of the node. Shared between threads, so it must
+         * never be modified.
+         */
+        final byte[] data;
+
+        /** The decoded node, or <code>null</code> if not yet decoded. */
+        volatile CommonBTNode node;
+
+        CachedNode(byte[] data) {
+            this.data = data;
+        }
+    }
+
+    private static final class NodeKey {
+        private final BTreeFile<?, ?> tree;
+        private final long nodeNumber;
+
+        public NodeKey(BTreeFile<?, ?> tree, long nodeNumber) {
+            this.tree = tree;
+            this.nodeNumber = nodeNumber;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof NodeKey) {
+                final NodeKey k = (NodeKey) o;
+                return k.tree == tree && k.nodeNumber == nodeNumber;
+            }
+
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(tree) * 31 +
+                    (int) (nodeNumber ^ (nodeNumber >>> 32));
+        }
+    }
+
+    /** The maximum estimated size of the cached entries, in bytes. */
+    private final long maxSize;
+
+    /** The current estimated size of the cached entries, in bytes. */
+    private long currentSize = 0;
+
+    /** LRU list of cached nodes. Least recently used first. */
+    private final LinkedHashMap<NodeKey, CachedNode> nodes =
+            new LinkedHashMap<NodeKey, CachedNode>(16, 0.75f, true);
+
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    /**
+     * Creates a new node cache.
+     *
+     * @param maxSize
+     *      <b>(in)</b> The maximum estimated number of bytes used by the cached
+     *      nodes.
+     */
+    BTreeNodeCache(long maxSize) {
+        if(maxSize <= 0) {
+            throw new IllegalArgumentException("'maxSize' must be positive " +
+                    "and non-zero");
+        }
+
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Looks up node <code>nodeNumber</code> of <code>tree</code> in the cache.
+     *
+     * @return the cached node, or <code>null</code> if it's not present in the
+     * cache.
+     */
+    synchronized CachedNode get(BTreeFile<?, ?> tree, long nodeNumber) {
+        final CachedNode node = nodes.get(new NodeKey(tree, nodeNumber));
+        if(node != null) {
+            ++hitCount;
+        }
+        else {
+            ++missCount;
+        }
+
+        return node;
+    }
+
+    /**
+     * Adds node <code>nodeNumber</code> of <code>tree</code> to the cache,
+     * evicting the least recently used nodes if necessary. Nodes larger than
+     * the cache itself are not added.
+     */
+    synchronized void put(BTreeFile<?, ?> tree, long nodeNumber,
+            CachedNode node)
+    {
+        final long entrySize = entrySize(node);
+        if(entrySize > maxSize) {
+            return;
+        }
+
+        final CachedNode oldNode =
+                nodes.put(new NodeKey(tree, nodeNumber), node);
+        if(oldNode != null) {
+            currentSize -= entrySize(oldNode);
+        }
+        currentSize += entrySize;
+
+        final Iterator<Map.Entry<NodeKey, CachedNode>> it =
+                nodes.entrySet().iterator();
+        while(currentSize > maxSize && it.hasNext()) {
+            final CachedNode victim = it.next().getValue();
+            it.remove();
+            currentSize -= entrySize(victim);
+        }
+    }
+
+    /** Removes all nodes from the cache. */
+    synchronized void clear() {
+        nodes.clear();
+        currentSize = 0;
+    }
+
+    /** Returns the number of lookups that found the node in the cache. */
+    synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /** Returns the number of lookups that did not find the node in the cache. */
+    synchronized long getMissCount() {
+        return missCount;
+    }
+
+    private static long entrySize(CachedNode node) {
+        return (long) node.data.length * ENTRY_SIZE_FACTOR;
+    }
+}
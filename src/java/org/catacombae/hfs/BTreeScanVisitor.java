@@ -0,0 +1,76 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs;
+
+/**
+ * A visitor for the parallel leaf scans of B-tree files, such as
+ * {@link CatalogFile#scanLeafCursors(BTreeScanVisitor, int)}.<br>
+ * The leaf records of the B-tree are divided into ranges of consecutive leaf
+ * nodes which are scanned in parallel. Each range gets its own result object
+ * which is only accessed by the thread scanning that range, so
+ * {@link #createResult()} and {@link #visit(Object, Object)} need
+ * no synchronization as long as they don't touch any shared state. The results
+ * are then passed to {@link #merge(Object)} one at a time, in key order.
+ *
+ * @param <L> the type of the leaf cursors passed to the visitor.
+ * @param <R> the type of the per-range results.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public interface BTreeScanVisitor<L, R> {
+    /**
+     * Creates a new, empty result object for a range of leaf nodes. May be
+     * called concurrently from several threads.
+     *
+     * @return a new result object.
+     */
+    public R createResult();
+
+    /**
+     * Processes a leaf record, passed as a cursor positioned at it, adding
+     * whatever information is needed to <code>result</code>. Records within a
+     * range are visited in key order. May be called concurrently from several
+     * threads, but never concurrently for the same result object.
+     *
+     * @param result
+     *      <b>(in/out)</b> The result object of the range that the record
+     *      belongs to.
+     * @param record
+     *      <b>(in)</b> The cursor positioned at the leaf record. It must not
+     *      be kept or moved.
+     */
+    public void visit(R result, L record);
+
+    /**
+     * Merges the result of a range of leaf nodes into the final result of the
+     * scan. Results are merged one at a time, in the key order of their
+     * ranges, from the thread that started the scan.
+     *
+     * @param result
+     *      <b>(in)</b> The result of a range of leaf nodes.
+     */
+    public void merge(R result);
+
+    /**
+     * Implement this to return true when the scan is to be aborted. Called
+     * from the scanning threads between leaf nodes.
+     *
+     * @return true if the visitor requests that the scan be aborted.
+     */
+    public boolean cancelScan();
+}
@@ -18,15 +18,14 @@
 package org.catacombae.hfs;
 
 import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import org.catacombae.csjc.PrintableStruct;
 import org.catacombae.hfs.io.ForkFilter;
 import org.catacombae.io.ReadableRandomAccessSubstream;
 import org.catacombae.hfs.types.hfscommon.CommonBTHeaderNode;
-import org.catacombae.hfs.types.hfscommon.CommonBTHeaderRecord;
 import org.catacombae.hfs.types.hfscommon.CommonBTIndexRecord;
-import org.catacombae.hfs.types.hfscommon.CommonBTKeyedNode;
 import org.catacombae.hfs.types.hfscommon.CommonBTNode;
 import org.catacombae.hfs.types.hfscommon.CommonBTNodeDescriptor;
 import org.catacombae.hfs.types.hfscommon.CommonBTNodeDescriptor.NodeType;
@@ -46,6 +45,7 @@ import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogThread;
 import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogThreadRecord;
 import org.catacombae.hfs.types.hfscommon.CommonHFSVolumeHeader;
 import org.catacombae.io.ReadableRandomAccessStream;
+import org.catacombae.util.Util;
 
 /**
  * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
@@ -70,6 +70,7 @@ public class CatalogFile
                     toLong(),
                     header.getCatalogFile(),
                     vol.extentsOverflowFile,
+                    vol.getForkExtentMapCache(),
                     new ReadableRandomAccessSubstream(vol.hfsFile),
                     0,
                     header.getAllocationBlockSize(),
@@ -97,6 +98,87 @@ public class CatalogFile
         return newCatalogLeafNode(nodeData, 0, nodeSize);
     }
 
+    protected CommonHFSCatalogKey createKey(byte[] nodeData, int offset) {
+        return vol.newCatalogKey(nodeData, offset);
+    }
+
+    protected CommonHFSCatalogLeafRecord createLeafRecord(byte[] nodeData,
+            int offset, int length)
+    {
+        return vol.newCatalogLeafRecord(nodeData, offset);
+    }
+
+    @Override
+    protected CatalogLeafCursor newLeafCursor() {
+        return vol.newCatalogLeafCursor(this);
+    }
+
+    /**
+     * Returns a cursor over all the leaf records of the catalog file, in key
+     * order. See {@link BTreeFile#leafCursor()}.
+     *
+     * @return a cursor over all leaf records of the catalog file.
+     */
+    @Override
+    public CatalogLeafCursor leafCursor() {
+        return newLeafCursor();
+    }
+
+    /**
+     * Scans all the leaf records of the catalog file using
+     * <code>threadCount</code> threads, passing a {@link CatalogLeafCursor}
+     * positioned at each record to <code>visitor</code>. Each thread reuses a
+     * single cursor, so the scan allocates next to nothing per record.
+     *
+     * @param visitor
+     *      <b>(in)</b> The visitor receiving the leaf cursors. The cursors
+     *      must not be kept or moved by the visitor.
+     * @param threadCount
+     *      <b>(in)</b> The number of threads to scan the leaf nodes with.
+     */
+    public <R> void scanLeafCursors(
+            BTreeScanVisitor<CatalogLeafCursor, R> visitor, int threadCount)
+    {
+        scanLeafCursors(visitor, threadCount,
+                new LeafCursorFactory<CatalogLeafCursor>() {
+            /* @Override */
+            public CatalogLeafCursor createCursor() {
+                return newLeafCursor();
+            }
+        });
+    }
+
+    @Override
+    protected RawKeyComparator createRawKeyComparator(
+            final CommonHFSCatalogKey searchKey)
+    {
+        final long searchParentID = searchKey.getParentID().toLong();
+        final byte[] searchName = vol.isRawCatalogNodeNameCompareSupported() ?
+                searchKey.getNodeName().getStringBytes() : null;
+
+        return new RawKeyComparator() {
+            @Override
+            public int compare(byte[] data, int offset) {
+                /* The parent ID is stored at offset 2 in both HFS and HFS+
+                 * catalog keys, and is compared first. Only keys with the same
+                 * parent ID as the search key need to have their node names
+                 * compared, which the volume can do in place for HFS+/HFSX.
+                 * HFS keys are decoded. */
+                final long parentID =
+                        Util.unsign(Util.readIntBE(data, offset + 2));
+                if(parentID < searchParentID)
+                    return -1;
+                else if(parentID > searchParentID)
+                    return 1;
+                else if(searchName != null)
+                    return vol.compareRawCatalogNodeName(data, offset,
+                            searchName);
+                else
+                    return createKey(data, offset).compareTo(searchKey);
+            }
+        };
+    }
+
     /** Switches to cached mode for reading the catalog file. */
     /*
     public void retainCatalogFile() {
@@ -128,34 +210,31 @@ public class CatalogFile
         CommonHFSCatalogNodeID parentID =
                 vol.getCommonHFSCatalogNodeID(ReservedID.ROOT_PARENT);
         final int nodeSize = ses.bthr.getNodeSize();
-        long currentNodeOffset = ses.bthr.getRootNodeNumber() * ses.bthr.getNodeSize();
 
         //System.err.println("Got header record: ");
         //init.bthr.print(System.err, " ");
 
-        byte[] currentNodeData = new byte[nodeSize];
-        ses.btreeStream.seek(currentNodeOffset);
-        ses.btreeStream.readFully(currentNodeData);
-        CommonBTNodeDescriptor nodeDescriptor = createCommonBTNodeDescriptor(currentNodeData, 0);
+        BTreeNodeCache.CachedNode currentNode =
+                getCachedNode(ses, ses.bthr.getRootNodeNumber());
+        CommonBTNodeDescriptor nodeDescriptor = createCommonBTNodeDescriptor(currentNode.data, 0);
         while(nodeDescriptor.getNodeType() == NodeType.INDEX) {
-            CommonHFSCatalogIndexNode currentNode =
-                    newCatalogIndexNode(currentNodeData, 0,
-                    ses.bthr.getNodeSize());
+            CommonHFSCatalogIndexNode currentIndexNode =
+                    (CommonHFSCatalogIndexNode) getDecodedNode(currentNode,
+                    nodeSize);
             //System.err.println("currentNode:");
-            //currentNode.print(System.err, "  ");
-            CommonBTIndexRecord matchingRecord = findKey(currentNode, parentID);
+            //currentIndexNode.print(System.err, "  ");
+            CommonBTIndexRecord matchingRecord = findKey(currentIndexNode, parentID);
 
             //currentNodeNumber = matchingRecord.getIndex();
-            currentNodeOffset = matchingRecord.getIndex()*nodeSize;
-            ses.btreeStream.seek(currentNodeOffset);
-            ses.btreeStream.readFully(currentNodeData);
-            nodeDescriptor = createCommonBTNodeDescriptor(currentNodeData, 0);
+            currentNode = getCachedNode(ses, matchingRecord.getIndex());
+            nodeDescriptor = createCommonBTNodeDescriptor(currentNode.data, 0);
         }
 
         // Leaf node reached. Find record with parent id 1. (or whatever value is in the parentID variable :) )
         if(nodeDescriptor.getNodeType() == NodeType.LEAF) {
             CommonHFSCatalogLeafNode leaf =
-                    newCatalogLeafNode(currentNodeData, 0, nodeSize);
+                    (CommonHFSCatalogLeafNode) getDecodedNode(currentNode,
+                    nodeSize);
             CommonHFSCatalogLeafRecord[] recs = leaf.getLeafRecords();
             for(CommonHFSCatalogLeafRecord rec : recs) {
                 if(rec != null && rec.getKey().getParentID().toLong() ==
@@ -365,85 +444,102 @@ public class CatalogFile
     public CommonHFSCatalogLeafRecord[] listRecords(CommonHFSCatalogNodeID folderID) {
         BTreeFileSession init = openSession();
         try {
-            return collectFilesInDir(folderID, init.bthr.getRootNodeNumber(),
-                    init.header, init.bthr, init.btreeStream);
+            return collectFilesInDir(folderID.toLong(), init);
         } finally {
             init.close();
         }
     }
 
-    private CommonHFSCatalogLeafRecord[] collectFilesInDir(
-            final CommonHFSCatalogNodeID dirID, final long currentNodeIndex,
-            final CommonHFSVolumeHeader header, final CommonBTHeaderRecord bthr,
-            final ReadableRandomAccessStream catalogFile)
+    /**
+     * Gets the records with the specified node names in the folder
+     * <code>parentID</code>, looking them up together in one pass over the
+     * catalog file (see {@link BTreeFile#getRecords(List)}).
+     *
+     * @param parentID the parent ID of the requested records.
+     * @param nodeNames the node names of the requested records.
+     * @return the requested records, in the same order as
+     * <code>nodeNames</code>, with <code>null</code> for names that were not
+     * found.
+     */
+    public CommonHFSCatalogLeafRecord[] getRecords(
+            CommonHFSCatalogNodeID parentID,
+            CommonHFSCatalogString[] nodeNames)
     {
-        final int nodeSize = bthr.getNodeSize();
-
-	byte[] currentNodeData = new byte[nodeSize];
-	catalogFile.seek(currentNodeIndex*nodeSize);
-	catalogFile.readFully(currentNodeData);
-
-	CommonBTNodeDescriptor nodeDescriptor = createCommonBTNodeDescriptor(currentNodeData, 0);
-	if(nodeDescriptor.getNodeType() == NodeType.INDEX) {
-	    CommonBTKeyedNode<CommonBTIndexRecord<CommonHFSCatalogKey>>
-                    currentNode =
-                    newCatalogIndexNode(currentNodeData, 0, nodeSize);
-	    List<CommonBTIndexRecord<CommonHFSCatalogKey>> matchingRecords =
-                    findLEChildKeys(currentNode, dirID);
-	    //System.out.println("Matching records: " + matchingRecords.length);
-
-	    LinkedList<CommonHFSCatalogLeafRecord> results =
-                    new LinkedList<CommonHFSCatalogLeafRecord>();
-
-	    for(CommonBTIndexRecord bir : matchingRecords) {
-		CommonHFSCatalogLeafRecord[] partResult =
-                        collectFilesInDir(dirID, bir.getIndex(), header, bthr,
-                        catalogFile);
-		for(CommonHFSCatalogLeafRecord curRes : partResult)
-		    results.addLast(curRes);
-	    }
-	    return results.toArray(new CommonHFSCatalogLeafRecord[results.size()]);
-	}
-	else if(nodeDescriptor.getNodeType() == NodeType.LEAF) {
-	    CommonHFSCatalogLeafNode currentNode =
-                    newCatalogLeafNode(currentNodeData, 0, nodeSize);
+        final ArrayList<CommonHFSCatalogKey> keys =
+                new ArrayList<CommonHFSCatalogKey>(nodeNames.length);
+        for(CommonHFSCatalogString nodeName : nodeNames) {
+            keys.add(newCatalogKey(parentID, nodeName));
+        }
 
-	    return getChildrenTo(currentNode, dirID);
-	}
-	else
-	    throw new RuntimeException("Illegal type for node! (" + nodeDescriptor.getNodeType() + ")");
+        final List<CommonHFSCatalogLeafRecord> records = getRecords(keys);
+        return records.toArray(new CommonHFSCatalogLeafRecord[records.size()]);
     }
 
-    private List<CommonBTIndexRecord<CommonHFSCatalogKey>> findLEChildKeys(
-            CommonBTKeyedNode<CommonBTIndexRecord<CommonHFSCatalogKey>>
-            indexNode,
-            CommonHFSCatalogNodeID rootFolderID)
+    /**
+     * Collects the records with parent ID <code>dirID</code>. The children
+     * of a folder have consecutive keys, so we descend once to the leaf node
+     * where they start and then follow the leaf node chain until we're past
+     * them, decoding only the matching records.
+     */
+    private CommonHFSCatalogLeafRecord[] collectFilesInDir(final long dirID,
+            final BTreeFileSession ses)
     {
-        final CommonHFSCatalogNodeID nextCNID =
-                vol.createCommonHFSCatalogNodeID((int) (rootFolderID.toLong() +
-                1));
-        final CommonHFSCatalogKey minKeyInclusive =
-                vol.createCommonHFSCatalogKey(rootFolderID,
-                vol.getEmptyString());
-        final CommonHFSCatalogKey maxKeyExclusive =
-                vol.createCommonHFSCatalogKey(nextCNID, vol.getEmptyString());
-
-        return findLEKeys(indexNode, minKeyInclusive, maxKeyExclusive, false);
-    }
+        final int nodeSize = ses.bthr.getNodeSize();
+        final long maxNodeCount = ses.bthr.getTotalNodes();
+
+        /* Places the search key before all keys with parent ID dirID, so
+         * that the descent ends up in the leaf node with the last key
+         * preceding them. */
+        final RawKeyComparator cmp = new RawKeyComparator() {
+            @Override
+            public int compare(byte[] data, int offset) {
+                return Util.unsign(Util.readIntBE(data, offset + 2)) < dirID ?
+                        -1 : 1;
+            }
+        };
+
+        final ArrayList<CommonHFSCatalogLeafRecord> children =
+                new ArrayList<CommonHFSCatalogLeafRecord>();
+
+        long nodeNumber = findLeafNodeNumber(ses, cmp);
+        long nodeCount = 0;
+        while(nodeNumber != 0) {
+            if(++nodeCount > maxNodeCount) {
+                throw new RuntimeException("Leaf node chain is longer than " +
+                        "the number of nodes in the B-tree (" + maxNodeCount +
+                        "). The forward links are probably circular.");
+            }
+
+            final byte[] nodeData = getCachedNode(ses, nodeNumber).data;
+            final CommonBTNodeDescriptor nodeDescriptor =
+                    createCommonBTNodeDescriptor(nodeData, 0);
+            if(nodeDescriptor.getNodeType() != NodeType.LEAF) {
+                throw new RuntimeException("Illegal type for node! (" +
+                        nodeDescriptor.getNodeType() + ")");
+            }
 
-    private static CommonHFSCatalogLeafRecord[] getChildrenTo(CommonHFSCatalogLeafNode leafNode,
-            CommonHFSCatalogNodeID nodeID) {
-        LinkedList<CommonHFSCatalogLeafRecord> children =
-                new LinkedList<CommonHFSCatalogLeafRecord>();
-        CommonHFSCatalogLeafRecord[] records = leafNode.getLeafRecords();
-        for(int i = 0; i < records.length; ++i) {
-            CommonHFSCatalogLeafRecord curRec = records[i];
-            if(curRec != null &&
-                    curRec.getKey().getParentID().toLong() == nodeID.toLong())
+            final int numRecords = nodeDescriptor.getNumberOfRecords();
+            for(int i = findLERecordNumber(nodeData, nodeSize, numRecords,
+                    cmp) + 1; i < numRecords; ++i)
             {
-                children.addLast(curRec);
+                final int recordOffset = getRecordOffset(nodeData, nodeSize, i);
+                final long parentID =
+                        Util.unsign(Util.readIntBE(nodeData, recordOffset + 2));
+                if(parentID != dirID) {
+                    /* Past the last child. */
+                    return children.toArray(
+                            new CommonHFSCatalogLeafRecord[children.size()]);
+                }
+
+                final int recordLength = getRecordOffset(nodeData, nodeSize,
+                        i + 1) - recordOffset;
+                children.add(createLeafRecord(nodeData, recordOffset,
+                        recordLength));
             }
+
+            nodeNumber = nodeDescriptor.getForwardLink();
         }
+
         return children.toArray(
                 new CommonHFSCatalogLeafRecord[children.size()]);
     }
@@ -0,0 +1,351 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs;
+
+import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogKey;
+import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogLeafRecord;
+import org.catacombae.hfs.types.hfsplus.HFSPlusCatalogLeafRecordData;
+import org.catacombae.util.Util;
+
+/**
+ * A {@link BTreeLeafCursor} over the records of a catalog file, with
+ * getters for the commonly needed fields of catalog keys and records that
+ * read them directly from the node data.<br>
+ * The record types of HFS and HFS+ have the same numeric values, so
+ * {@link #getRecordType()} returns one of the <code>RECORD_TYPE_*</code>
+ * constants of this class for both. Getters for fields that the current
+ * record type doesn't have return 0.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public abstract class CatalogLeafCursor
+        extends BTreeLeafCursor<CommonHFSCatalogKey,
+        CommonHFSCatalogLeafRecord>
+{
+    public static final int RECORD_TYPE_FOLDER =
+            HFSPlusCatalogLeafRecordData.RECORD_TYPE_FOLDER;
+    public static final int RECORD_TYPE_FILE =
+            HFSPlusCatalogLeafRecordData.RECORD_TYPE_FILE;
+    public static final int RECORD_TYPE_FOLDER_THREAD =
+            HFSPlusCatalogLeafRecordData.RECORD_TYPE_FOLDER_THREAD;
+    public static final int RECORD_TYPE_FILE_THREAD =
+            HFSPlusCatalogLeafRecordData.RECORD_TYPE_FILE_THREAD;
+
+    private CatalogLeafCursor(CatalogFile catalogFile) {
+        super(catalogFile);
+    }
+
+    /** Creates a cursor over the catalog file of an HFS volume. */
+    public static CatalogLeafCursor createHFS(CatalogFile catalogFile) {
+        return new HFSImplementation(catalogFile);
+    }
+
+    /** Creates a cursor over the catalog file of an HFS+ or HFSX volume. */
+    public static CatalogLeafCursor createHFSPlus(CatalogFile catalogFile) {
+        return new HFSPlusImplementation(catalogFile);
+    }
+
+    /** Returns the parent ID of the key of the current record. */
+    public long getParentID() {
+        return Util.unsign(Util.readIntBE(nodeData, recordOffset + 2));
+    }
+
+    /**
+     * Returns the offset in the node data of the node name of the key of the
+     * current record, in its on-disk encoding (UTF-16BE for HFS+, the
+     * volume's 8-bit encoding for HFS).
+     */
+    public abstract int getNameOffset();
+
+    /**
+     * Returns the length in bytes of the node name of the key of the current
+     * record, in its on-disk encoding.
+     */
+    public abstract int getNameByteLength();
+
+    /**
+     * Returns the type of the current record, one of the
+     * <code>RECORD_TYPE_*</code> constants.
+     */
+    public abstract int getRecordType();
+
+    /** Returns whether the current record is a folder record. */
+    public boolean isFolder() {
+        return getRecordType() == RECORD_TYPE_FOLDER;
+    }
+
+    /** Returns whether the current record is a file record. */
+    public boolean isFile() {
+        return getRecordType() == RECORD_TYPE_FILE;
+    }
+
+    /** Returns whether the current record is a folder or file thread. */
+    public boolean isThread() {
+        final int recordType = getRecordType();
+        return recordType == RECORD_TYPE_FOLDER_THREAD ||
+                recordType == RECORD_TYPE_FILE_THREAD;
+    }
+
+    /**
+     * Returns the CNID of the folder or file of the current record. For
+     * thread records this is the parent ID of the key.
+     */
+    public abstract long getCNID();
+
+    /** Returns the flags of the current folder or file record. */
+    public abstract int getFlags();
+
+    /** Returns the valence of the current folder record. */
+    public abstract long getValence();
+
+    /**
+     * Returns the creation date of the current folder or file record, in
+     * seconds since 1904-01-01 00:00:00 (GMT for HFS+, local time for HFS).
+     */
+    public abstract long getCreateDate();
+
+    /**
+     * Returns the content modification date of the current folder or file
+     * record, in the same form as {@link #getCreateDate()}.
+     */
+    public abstract long getContentModDate();
+
+    /** Returns the Finder file type of the current file record. */
+    public abstract int getFileType();
+
+    /** Returns the Finder creator code of the current file record. */
+    public abstract int getFileCreator();
+
+    /**
+     * Returns the special field of the BSD info of the current folder or file
+     * record (the inode number of a hard link, or the link count of an
+     * inode). Always 0 for HFS.
+     */
+    public abstract long getBSDSpecial();
+
+    /** Returns the logical size of the data fork of the current file. */
+    public abstract long getDataForkLogicalSize();
+
+    /** Returns the logical size of the resource fork of the current file. */
+    public abstract long getResourceForkLogicalSize();
+
+    /** Returns the parent ID stored in the current thread record. */
+    public abstract long getThreadParentID();
+
+    private static class HFSImplementation extends CatalogLeafCursor {
+        public HFSImplementation(CatalogFile catalogFile) {
+            super(catalogFile);
+        }
+
+        @Override
+        public int getNameOffset() {
+            return recordOffset + 7;
+        }
+
+        @Override
+        public int getNameByteLength() {
+            return Util.unsign(nodeData[recordOffset + 6]);
+        }
+
+        @Override
+        public int getRecordType() {
+            return nodeData[dataOffset];
+        }
+
+        @Override
+        public long getCNID() {
+            switch(getRecordType()) {
+                case RECORD_TYPE_FOLDER:
+                    return Util.unsign(Util.readIntBE(nodeData,
+                            dataOffset + 6));
+                case RECORD_TYPE_FILE:
+                    return Util.unsign(Util.readIntBE(nodeData,
+                            dataOffset + 20));
+                default:
+                    return getParentID();
+            }
+        }
+
+        @Override
+        public int getFlags() {
+            switch(getRecordType()) {
+                case RECORD_TYPE_FOLDER:
+                    return Util.unsign(Util.readShortBE(nodeData,
+                            dataOffset + 2));
+                case RECORD_TYPE_FILE:
+                    return Util.unsign(nodeData[dataOffset + 2]);
+                default:
+                    return 0;
+            }
+        }
+
+        @Override
+        public long getValence() {
+            return getRecordType() == RECORD_TYPE_FOLDER ?
+                Util.unsign(Util.readShortBE(nodeData, dataOffset + 4)) : 0;
+        }
+
+        @Override
+        public long getCreateDate() {
+            return getDate(10, 44);
+        }
+
+        @Override
+        public long getContentModDate() {
+            return getDate(14, 48);
+        }
+
+        private long getDate(int folderOffset, int fileOffset) {
+            switch(getRecordType()) {
+                case RECORD_TYPE_FOLDER:
+                    return Util.unsign(Util.readIntBE(nodeData,
+                            dataOffset + folderOffset));
+                case RECORD_TYPE_FILE:
+                    return Util.unsign(Util.readIntBE(nodeData,
+                            dataOffset + fileOffset));
+                default:
+                    return 0;
+            }
+        }
+
+        @Override
+        public int getFileType() {
+            return getFileInt(4);
+        }
+
+        @Override
+        public int getFileCreator() {
+            return getFileInt(8);
+        }
+
+        @Override
+        public long getBSDSpecial() {
+            return 0;
+        }
+
+        @Override
+        public long getDataForkLogicalSize() {
+            return Util.unsign(getFileInt(26));
+        }
+
+        @Override
+        public long getResourceForkLogicalSize() {
+            return Util.unsign(getFileInt(36));
+        }
+
+        private int getFileInt(int offset) {
+            return getRecordType() == RECORD_TYPE_FILE ?
+                Util.readIntBE(nodeData, dataOffset + offset) : 0;
+        }
+
+        @Override
+        public long getThreadParentID() {
+            return isThread() ?
+                Util.unsign(Util.readIntBE(nodeData, dataOffset + 10)) : 0;
+        }
+    }
+
+    private static class HFSPlusImplementation extends CatalogLeafCursor {
+        public HFSPlusImplementation(CatalogFile catalogFile) {
+            super(catalogFile);
+        }
+
+        @Override
+        public int getNameOffset() {
+            return recordOffset + 8;
+        }
+
+        @Override
+        public int getNameByteLength() {
+            return 2 * Util.unsign(Util.readShortBE(nodeData,
+                    recordOffset + 6));
+        }
+
+        @Override
+        public int getRecordType() {
+            return Util.unsign(Util.readShortBE(nodeData, dataOffset));
+        }
+
+        @Override
+        public long getCNID() {
+            return isThread() ? getParentID() : getRecordInt(8);
+        }
+
+        @Override
+        public int getFlags() {
+            return isThread() ? 0 :
+                Util.unsign(Util.readShortBE(nodeData, dataOffset + 2));
+        }
+
+        @Override
+        public long getValence() {
+            return getRecordType() == RECORD_TYPE_FOLDER ?
+                getRecordInt(4) : 0;
+        }
+
+        @Override
+        public long getCreateDate() {
+            return getRecordInt(12);
+        }
+
+        @Override
+        public long getContentModDate() {
+            return getRecordInt(16);
+        }
+
+        @Override
+        public int getFileType() {
+            return isFile() ? Util.readIntBE(nodeData, dataOffset + 48) : 0;
+        }
+
+        @Override
+        public int getFileCreator() {
+            return isFile() ? Util.readIntBE(nodeData, dataOffset + 52) : 0;
+        }
+
+        @Override
+        public long getBSDSpecial() {
+            return getRecordInt(44);
+        }
+
+        @Override
+        public long getDataForkLogicalSize() {
+            return isFile() ? Util.readLongBE(nodeData, dataOffset + 88) : 0;
+        }
+
+        @Override
+        public long getResourceForkLogicalSize() {
+            return isFile() ? Util.readLongBE(nodeData, dataOffset + 168) : 0;
+        }
+
+        @Override
+        public long getThreadParentID() {
+            return isThread() ?
+                Util.unsign(Util.readIntBE(nodeData, dataOffset + 4)) : 0;
+        }
+
+        /**
+         * Reads an unsigned 32-bit field of a folder or file record, which
+         * share the layout of their first 48 bytes.
+         */
+        private long getRecordInt(int offset) {
+            return isThread() ? 0 :
+                Util.unsign(Util.readIntBE(nodeData, dataOffset + offset));
+        }
+    }
+}
@@ -40,6 +40,7 @@ import org.catacombae.hfs.types.hfscommon.CommonHFSForkData;
 import org.catacombae.hfs.types.hfscommon.CommonHFSForkType;
 import org.catacombae.hfs.types.hfscommon.CommonHFSVolumeHeader;
 import org.catacombae.io.ReadableRandomAccessStream;
+import org.catacombae.util.Util;
 
 /**
  * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
@@ -83,6 +84,62 @@ public class ExtentsOverflowFile
         return createCommonHFSExtentLeafNode(nodeData, 0, nodeSize);
     }
 
+    protected CommonHFSExtentKey createKey(byte[] nodeData, int offset) {
+        return vol.createCommonHFSExtentKey(nodeData, offset);
+    }
+
+    protected CommonHFSExtentLeafRecord createLeafRecord(byte[] nodeData,
+            int offset, int length)
+    {
+        return vol.createCommonHFSExtentLeafRecord(nodeData, offset);
+    }
+
+    @Override
+    protected RawKeyComparator createRawKeyComparator(
+            final CommonHFSExtentKey searchKey)
+    {
+        final boolean hfsPlus =
+                searchKey instanceof CommonHFSExtentKey.HFSPlusImplementation;
+        final long searchFileID = searchKey.getFileID().toLong();
+        final int searchForkType = searchKey.getForkType();
+        final long searchStartBlock = searchKey.getStartBlock();
+
+        return new RawKeyComparator() {
+            @Override
+            public int compare(byte[] data, int offset) {
+                final long fileID;
+                final int forkType;
+                final long startBlock;
+
+                if(hfsPlus) {
+                    /* HFSPlusExtentKey: keyLength (2 bytes), forkType (1),
+                     * pad (1), fileID (4), startBlock (4). */
+                    forkType = Util.unsign(data[offset + 2]);
+                    fileID = Util.unsign(Util.readIntBE(data, offset + 4));
+                    startBlock = Util.unsign(Util.readIntBE(data, offset + 8));
+                }
+                else {
+                    /* ExtKeyRec: xkrKeyLen (1 byte), xkrFkType (1),
+                     * xkrFNum (4), xkrFABN (2). */
+                    forkType = Util.unsign(data[offset + 1]);
+                    fileID = Util.unsign(Util.readIntBE(data, offset + 2));
+                    startBlock =
+                            Util.unsign(Util.readShortBE(data, offset + 6));
+                }
+
+                /* Same order as CommonHFSExtentKey.compareTo. */
+                if(fileID != searchFileID)
+                    return fileID < searchFileID ? -1 : 1;
+                else if(forkType != searchForkType)
+                    return forkType < searchForkType ? -1 : 1;
+                else if(startBlock != searchStartBlock)
+                    return startBlock < searchStartBlock ? -1 : 1;
+                else
+                    return 0;
+            }
+        };
+    }
+
     public CommonBTHeaderNode getHeaderNode() {
         CommonBTNode firstNode = getNode(0);
         if(firstNode instanceof CommonBTHeaderNode) {
@@ -103,73 +160,12 @@ public class ExtentsOverflowFile
         //System.err.println("  ExtentsInitProcedure done!");
 
         try {
-            return getOverflowExtent(init, key);
+            return getRecord(init, key);
         } finally {
             init.close();
         }
     }
 
-    private CommonHFSExtentLeafRecord getOverflowExtent(BTreeFileSession init,
-            CommonHFSExtentKey key)
-    {
-	final int nodeSize = init.bthr.getNodeSize();
-
-	long currentNodeOffset = init.bthr.getRootNodeNumber()*nodeSize;
-
-	// Search down through the layers of indices (O(log n) steps, where n is the size of the tree)
-
-	final byte[] currentNodeData = new byte[nodeSize];
-        init.btreeStream.seek(currentNodeOffset);
-        init.btreeStream.readFully(currentNodeData);
-        //System.err.println("  Calling createCommonBTNodeDescriptor(byte[" + currentNodeData.length + "], 0)...");
-	CommonBTNodeDescriptor nodeDescriptor = createCommonBTNodeDescriptor(currentNodeData, 0);
-
-	while(nodeDescriptor.getNodeType() == NodeType.INDEX) {
-            //System.err.println("getOverflowExtent(): Processing index node...");
-	    CommonBTKeyedNode<CommonBTIndexRecord<CommonHFSExtentKey>>
-                    currentNode =
-                    createCommonHFSExtentIndexNode(currentNodeData, 0,
-                    nodeSize);
-
-	    CommonBTIndexRecord<CommonHFSExtentKey> matchingRecord = findLEKey(currentNode, key);
-            //System.err.println("getOverflowExtent(): findLEKey found a child node with key: " +
-            //        getDebugString(matchingRecord.getKey()));
-            //matchingRecord.getKey().printFields(System.err, "getOverflowExtent():   ");
-
-	    currentNodeOffset = matchingRecord.getIndex()*nodeSize;
-            init.btreeStream.seek(currentNodeOffset);
-            init.btreeStream.readFully(currentNodeData);
-            //System.err.println("  Calling createCommonBTNodeDescriptor(byte[" + currentNodeData.length + "], 0)...");
-	    nodeDescriptor = createCommonBTNodeDescriptor(currentNodeData, 0);
-	}
-
-	// Leaf node reached. Find record.
-	if(nodeDescriptor.getNodeType() == NodeType.LEAF) {
-	    CommonHFSExtentLeafNode leaf = createCommonHFSExtentLeafNode(currentNodeData, 0, nodeSize);
-            //System.err.println("getOverflowExtent(): Processing leaf node...");
-	    CommonHFSExtentLeafRecord[] recs = leaf.getLeafRecords();
-	    for(CommonHFSExtentLeafRecord rec : recs) {
-                CommonHFSExtentKey curKey = rec.getKey();
-                //System.err.print("getOverflowExtent(): checking how " + getDebugString(curKey));
-                //System.err.print(" compares to " + getDebugString(key));
-                //System.err.println("...");
-		if(curKey.compareTo(key) == 0)
-		    return rec;
-	    }
-// 	    try {
-// 		java.io.FileOutputStream dataDump = new java.io.FileOutputStream("node_dump.dmp");
-// 		dataDump.write(currentNodeData);
-// 		dataDump.close();
-// 		System.err.println("A dump of the node has been written to node_dump.dmp");
-// 	    } catch(Exception e) { e.printStackTrace(); }
-            //System.err.println("Returning from getOverflowExtent(..)");
-	    return null;
-	}
-	else
-	    throw new RuntimeException("Expected leaf node. Found other kind: " +
-				       nodeDescriptor.getNodeType());
-    }
-
     public CommonHFSExtentLeafRecord getOverflowExtent(boolean isResource,
             int cnid, long startBlock)
     {
@@ -129,6 +129,107 @@ public class FastUnicodeCompare {
     }
 
 
+    /**
+     * Compares two UTF-16BE strings in their raw form using the
+     * FastUnicodeCompare algorithm. This gives the same result as
+     * {@link #compare(char[], char[])} on the decoded strings, but works
+     * directly on the bytes, for instance the node name of a catalog key
+     * inside the data of a B-tree node.
+     *
+     * @param str1 array containing the first string to compare.
+     * @param offset1 offset of the first string in <code>str1</code>.
+     * @param length1 length of the first string, in UTF-16 code units.
+     * @param str2 array containing the second string to compare.
+     * @param offset2 offset of the second string in <code>str2</code>.
+     * @param length2 length of the second string, in UTF-16 code units.
+     * @return 0 if the strings are identical, -1 if the first string is
+     * considered "less than" the second, and 1 if the first string is
+     * considered "greater than" the second.
+     */
+    public static int compare(byte[] str1, int offset1, int length1,
+            byte[] str2, int offset2, int length2)
+    {
+        final int[] lowerCaseTable = gLowerCaseTable;
+        int str1ptr = offset1;
+        int str2ptr = offset2;
+        final int str1end = offset1 + 2 * length1;
+        final int str2end = offset2 + 2 * length2;
+
+        while(true) {
+            /* Set default values for c1, c2 in case there are no more valid
+             * chars. */
+            int c1 = 0;
+            int c2 = 0;
+
+            /* Find next non-ignorable char from str1, or zero if no more. */
+            while(str1ptr != str1end && c1 == 0) {
+                c1 = ((str1[str1ptr] & 0xFF) << 8) | (str1[str1ptr + 1] & 0xFF);
+                str1ptr += 2;
+
+                final int subTable = lowerCaseTable[c1 >> 8];
+                if(subTable != 0) {
+                    c1 = lowerCaseTable[subTable + (c1 & 0x00FF)];
+                }
+            }
+
+            /* Find next non-ignorable char from str2, or zero if no more. */
+            while(str2ptr != str2end && c2 == 0) {
+                c2 = ((str2[str2ptr] & 0xFF) << 8) | (str2[str2ptr + 1] & 0xFF);
+                str2ptr += 2;
+
+                final int subTable = lowerCaseTable[c2 >> 8];
+                if(subTable != 0) {
+                    c2 = lowerCaseTable[subTable + (c2 & 0x00FF)];
+                }
+            }
+
+            if(c1 != c2) {
+                /* Found a difference, so stop looping. */
+                return c1 < c2 ? -1 : 1;
+            }
+            else if(c1 == 0) {
+                /* Reached the end of both strings at the same time, so the
+                 * strings are equal. */
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Compares two UTF-16BE strings in their raw form the way that catalog
+     * keys are ordered on HFSX volumes using binary compare, i.e. as arrays of
+     * unsigned 16-bit values with no case folding or ignorable characters.
+     * Since the strings are big endian, this is the same as comparing the
+     * bytes as unsigned values.
+     *
+     * @param str1 array containing the first string to compare.
+     * @param offset1 offset of the first string in <code>str1</code>.
+     * @param length1 length of the first string, in UTF-16 code units.
+     * @param str2 array containing the second string to compare.
+     * @param offset2 offset of the second string in <code>str2</code>.
+     * @param length2 length of the second string, in UTF-16 code units.
+     * @return 0 if the strings are identical, -1 if the first string is
+     * "less than" the second, and 1 if the first string is "greater than" the
+     * second.
+     */
+    public static int compareBinary(byte[] str1, int offset1, int length1,
+            byte[] str2, int offset2, int length2)
+    {
+        final int commonLength = 2 * Math.min(length1, length2);
+        for(int i = 0; i < commonLength; ++i) {
+            final int b1 = str1[offset1 + i] & 0xFF;
+            final int b2 = str2[offset2 + i] & 0xFF;
+            if(b1 != b2) {
+                return b1 < b2 ? -1 : 1;
+            }
+        }
+
+        if(length1 == length2)
+            return 0;
+        else
+            return length1 < length2 ? -1 : 1;
+    }
+
     /**
      * The lower case table consists of a 256-entry high-byte table followed by
      * some number of 256-entry subtables. The high-byte table contains either an
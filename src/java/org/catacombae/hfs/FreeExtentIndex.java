@@ -0,0 +1,411 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs;
+
+import java.io.PrintStream;
+import java.util.LinkedList;
+import org.catacombae.util.Util;
+
+/**
+ * Index of the free extents (maximal runs of free allocation blocks) of a
+ * volume, built in one pass over an {@link AllocationBitmap}.<br>
+ * The extents are kept in two orders: by start block, and by length (ties
+ * broken by start block). The latter is used to answer best-fit queries with a
+ * binary search. Like the bitmap that it's built from, the index is an
+ * immutable snapshot and thus thread safe.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public final class FreeExtentIndex {
+    /**
+     * Number of buckets in the length histogram. Bucket <i>n</i> counts the
+     * extents that are at least 2<sup>n</sup> and less than
+     * 2<sup>n+1</sup> blocks long, and the last bucket is open ended.
+     */
+    public static final int HISTOGRAM_BUCKETS = 33;
+
+    private final long totalBlocks;
+    private final long freeBlocks;
+
+    /* The extents in start block order. */
+    private final long[] starts;
+    private final long[] lengths;
+
+    /* The extents in (length, start block) order, as indices into starts and
+     * lengths, and a copy of their lengths for binary searching. */
+    private final int[] bySize;
+    private final long[] sortedLengths;
+
+    private FreeExtentIndex(long totalBlocks, long[] starts, long[] lengths) {
+        this.totalBlocks = totalBlocks;
+        this.starts = starts;
+        this.lengths = lengths;
+
+        long count = 0;
+        for(long length : lengths) {
+            count += length;
+        }
+        this.freeBlocks = count;
+
+        this.bySize = sortBySize(starts, lengths);
+        this.sortedLengths = new long[bySize.length];
+        for(int i = 0; i < bySize.length; ++i) {
+            sortedLengths[i] = lengths[bySize[i]];
+        }
+    }
+
+    /**
+     * Builds a free extent index from an allocation bitmap.
+     *
+     * @param bitmap <b>(in)</b> the allocation bitmap of the volume.
+     * @return the free extent index of the volume.
+     */
+    public static FreeExtentIndex build(AllocationBitmap bitmap) {
+        final long totalBlocks = bitmap.getTotalBlocks();
+        long[] starts = new long[64];
+        long[] lengths = new long[64];
+        int count = 0;
+
+        long start = bitmap.findNextFree(0);
+        while(start < totalBlocks) {
+            final long end = bitmap.findNextUsed(start);
+
+            if(count == starts.length) {
+                if(count > Integer.MAX_VALUE / 2) {
+                    throw new RuntimeException("Too many free extents.");
+                }
+
+                starts = Util.arrayCopy(starts, new long[count * 2]);
+                lengths = Util.arrayCopy(lengths, new long[count * 2]);
+            }
+
+            starts[count] = start;
+            lengths[count] = end - start;
+            ++count;
+
+            start = bitmap.findNextFree(end);
+        }
+
+        return new FreeExtentIndex(totalBlocks,
+                Util.arrayCopy(starts, 0, new long[count], 0, count),
+                Util.arrayCopy(lengths, 0, new long[count], 0, count));
+    }
+
+    /** Returns the number of allocation blocks of the volume. */
+    public long getTotalBlocks() {
+        return totalBlocks;
+    }
+
+    /** Returns the number of free allocation blocks of the volume. */
+    public long getFreeBlocks() {
+        return freeBlocks;
+    }
+
+    /** Returns the number of free extents of the volume. */
+    public int getExtentCount() {
+        return starts.length;
+    }
+
+    /**
+     * Returns the first block of free extent <code>index</code>, counting in
+     * start block order.
+     */
+    public long getExtentStart(int index) {
+        return starts[index];
+    }
+
+    /**
+     * Returns the length in blocks of free extent <code>index</code>, counting
+     * in start block order.
+     */
+    public long getExtentLength(int index) {
+        return lengths[index];
+    }
+
+    /** Returns the length of the largest free extent, or 0 if none. */
+    public long getLargestExtentLength() {
+        return sortedLengths.length > 0 ?
+            sortedLengths[sortedLengths.length - 1] : 0;
+    }
+
+    /**
+     * Returns the fragmentation of the free space as a number between 0 and 1:
+     * the part of the free blocks that lie outside the largest free extent.
+     * A volume whose free space is a single extent has fragmentation 0.
+     */
+    public double getFragmentation() {
+        if(freeBlocks == 0) {
+            return 0.0;
+        }
+
+        return (double) (freeBlocks - getLargestExtentLength()) / freeBlocks;
+    }
+
+    /**
+     * Finds the free extent that best fits an allocation of
+     * <code>blockCount</code> blocks, i.e. the shortest extent that is at
+     * least <code>blockCount</code> blocks long. Of equally long extents, the
+     * one located first on the volume is chosen.
+     *
+     * @return the index (in start block order) of the best fitting extent, or
+     * -1 if no free extent is long enough.
+     */
+    public int findBestFit(long blockCount) {
+        final int i = lowerBound(blockCount);
+        return i < bySize.length ? bySize[i] : -1;
+    }
+
+    /**
+     * Computes the number of free extents per length range. Element <i>n</i>
+     * of the returned array counts the extents that are 2<sup>n</sup> to
+     * 2<sup>n+1</sup>-1 blocks long.
+     *
+     * @return an array of {@link #HISTOGRAM_BUCKETS} extent counts.
+     */
+    public long[] getExtentCountHistogram() {
+        final long[] histogram = new long[HISTOGRAM_BUCKETS];
+        for(long length : lengths) {
+            ++histogram[getHistogramBucket(length)];
+        }
+
+        return histogram;
+    }
+
+    /**
+     * Computes the number of free blocks per extent length range. Element
+     * <i>n</i> of the returned array is the total length of the extents that
+     * are 2<sup>n</sup> to 2<sup>n+1</sup>-1 blocks long.
+     *
+     * @return an array of {@link #HISTOGRAM_BUCKETS} block counts.
+     */
+    public long[] getBlockCountHistogram() {
+        final long[] histogram = new long[HISTOGRAM_BUCKETS];
+        for(long length : lengths) {
+            histogram[getHistogramBucket(length)] += length;
+        }
+
+        return histogram;
+    }
+
+    /**
+     * Picks free extents for an allocation of <code>blockCount</code> blocks,
+     * using as few extents as possible: the best fitting extent if there is
+     * one that is long enough, otherwise the longest extent, repeated for the
+     * remaining blocks. The last extent returned is trimmed to the needed
+     * length.
+     *
+     * @param blockCount the number of blocks to allocate.
+     * @return the extents of the allocation as pairs of <code>{ start block,
+     * length }</code>, or <code>null</code> if the volume doesn't have
+     * <code>blockCount</code> free blocks.
+     */
+    public long[][] allocate(long blockCount) {
+        if(blockCount < 0) {
+            throw new IllegalArgumentException("Negative block count: " +
+                    blockCount);
+        }
+        else if(blockCount > freeBlocks) {
+            return null;
+        }
+
+        /*
+         * Extents are taken longest first, and among extents of equal length
+         * in start block order, so the taken extents of every length are a
+         * prefix of that length's run in bySize. We only need to keep track of
+         * the length of these prefixes, keyed by the first index of the run.
+         */
+        final int[] takenCounts = new int[bySize.length];
+        final LinkedList<long[]> allocations = new LinkedList<long[]>();
+        long blocksLeft = blockCount;
+
+        while(blocksLeft > 0) {
+            /* Look for the shortest extent that holds the remaining blocks. */
+            int i = lowerBound(blocksLeft);
+            int match = -1;
+            while(i < bySize.length) {
+                final int runEnd = upperBound(sortedLengths[i]);
+                if(i + takenCounts[i] < runEnd) {
+                    match = i + takenCounts[i]++;
+                    break;
+                }
+
+                i = runEnd;
+            }
+
+            if(match != -1) {
+                allocations.add(new long[] { starts[bySize[match]],
+                        blocksLeft });
+                blocksLeft = 0;
+                break;
+            }
+
+            /* None is long enough, so take the longest one that's left. */
+            i = lowerBound(blocksLeft) - 1;
+            while(i >= 0) {
+                final int runStart = lowerBound(sortedLengths[i]);
+                if(runStart + takenCounts[runStart] <= i) {
+                    match = runStart + takenCounts[runStart]++;
+                    break;
+                }
+
+                i = runStart - 1;
+            }
+
+            if(match == -1) {
+                /* Can't happen as long as freeBlocks is correct. */
+                throw new RuntimeException("[INTERNAL ERROR] Out of free " +
+                        "extents with " + blocksLeft + " blocks left.");
+            }
+
+            final int extent = bySize[match];
+            allocations.add(new long[] { starts[extent], lengths[extent] });
+            blocksLeft -= lengths[extent];
+        }
+
+        return allocations.toArray(new long[allocations.size()][]);
+    }
+
+    /**
+     * Prints a summary of the free space and a histogram of the free extent
+     * lengths.
+     *
+     * @param ps <b>(in)</b> the stream to print to.
+     * @param prefix <b>(in)</b> string to print at the start of every line.
+     * @param blockSize <b>(in)</b> the allocation block size of the volume.
+     */
+    public void printReport(PrintStream ps, String prefix, long blockSize) {
+        ps.println(prefix + "Total blocks: " + totalBlocks);
+        ps.println(prefix + "Free blocks: " + freeBlocks + " (" +
+                freeBlocks * blockSize + " bytes)");
+        ps.println(prefix + "Free extents: " + starts.length);
+        ps.println(prefix + "Largest free extent: " +
+                getLargestExtentLength() + " blocks (" +
+                getLargestExtentLength() * blockSize + " bytes)");
+        if(starts.length > 0) {
+            ps.println(prefix + "Average free extent: " +
+                    (freeBlocks / starts.length) + " blocks");
+        }
+        ps.println(prefix + "Fragmentation: " +
+                (Math.round(getFragmentation() * 1000) / 10.0) + "%");
+
+        final long[] extentCounts = getExtentCountHistogram();
+        final long[] blockCounts = getBlockCountHistogram();
+        int lastBucket = extentCounts.length - 1;
+        while(lastBucket > 0 && extentCounts[lastBucket] == 0) {
+            --lastBucket;
+        }
+
+        ps.println(prefix + "Free extents by length (blocks):");
+        for(int i = 0; i <= lastBucket; ++i) {
+            final long low = 1L << i;
+            final String range;
+            if(i == HISTOGRAM_BUCKETS - 1) {
+                range = low + "-";
+            }
+            else if(i == 0) {
+                range = "1";
+            }
+            else {
+                range = low + "-" + ((low << 1) - 1);
+            }
+
+            ps.println(prefix + "  " + range + ": " + extentCounts[i] +
+                    " extents, " + blockCounts[i] + " blocks (" +
+                    (freeBlocks == 0 ? 0.0 :
+                    Math.round(blockCounts[i] * 1000.0 / freeBlocks) / 10.0) +
+                    "% of free space)");
+        }
+    }
+
+    private static int getHistogramBucket(long length) {
+        return Math.min(HISTOGRAM_BUCKETS - 1,
+                63 - Long.numberOfLeadingZeros(length));
+    }
+
+    /** Index in bySize of the first extent at least <code>length</code> long. */
+    private int lowerBound(long length) {
+        int low = 0;
+        int high = sortedLengths.length;
+        while(low < high) {
+            final int mid = (low + high) >>> 1;
+            if(sortedLengths[mid] < length) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /** Index in bySize of the first extent longer than <code>length</code>. */
+    private int upperBound(long length) {
+        int low = 0;
+        int high = sortedLengths.length;
+        while(low < high) {
+            final int mid = (low + high) >>> 1;
+            if(sortedLengths[mid] <= length) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the indices of the extents sorted by length, and by start block
+     * among extents of equal length. Since the extents are already in start
+     * block order, a stable merge sort by length gives that order.
+     */
+    private static int[] sortBySize(long[] starts, long[] lengths) {
+        int[] src = new int[starts.length];
+        for(int i = 0; i < src.length; ++i) {
+            src[i] = i;
+        }
+
+        int[] dst = new int[src.length];
+        for(int width = 1; width < src.length; width *= 2) {
+            for(int low = 0; low < src.length; low += 2 * width) {
+                final int mid = Math.min(low + width, src.length);
+                final int high = Math.min(low + 2 * width, src.length);
+                int a = low;
+                int b = mid;
+                for(int k = low; k < high; ++k) {
+                    if(a < mid && (b >= high ||
+                            lengths[src[a]] <= lengths[src[b]]))
+                    {
+                        dst[k] = src[a++];
+                    }
+                    else {
+                        dst[k] = src[b++];
+                    }
+                }
+            }
+
+            final int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+
+        return src;
+    }
+}
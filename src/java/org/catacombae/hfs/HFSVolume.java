@@ -19,11 +19,18 @@ package org.catacombae.hfs;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import org.catacombae.hfs.io.ConcurrentBlockCachingStream;
+import org.catacombae.hfs.io.ForkDataTransfer;
+import org.catacombae.hfs.io.ForkExtentMapCache;
 import org.catacombae.hfs.io.ForkFilter;
-import org.catacombae.hfs.io.ReadableBlockCachingStream;
 import org.catacombae.hfs.types.hfscommon.CommonBTHeaderNode;
 import org.catacombae.hfs.types.hfscommon.CommonBTHeaderRecord;
 import org.catacombae.hfs.types.hfscommon.CommonBTNodeDescriptor;
+import org.catacombae.io.BasicSynchronizedReadableRandomAccessStream;
 import org.catacombae.io.ReadableRandomAccessSubstream;
 import org.catacombae.io.SynchronizedReadableRandomAccess;
 import org.catacombae.io.SynchronizedReadableRandomAccessStream;
@@ -37,9 +44,11 @@ import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogLeafRecord;
 import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogNodeID;
 import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogNodeID.ReservedID;
 import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogString;
+import org.catacombae.hfs.types.hfscommon.CommonHFSExtentDescriptor;
 import org.catacombae.hfs.types.hfscommon.CommonHFSExtentIndexNode;
 import org.catacombae.hfs.types.hfscommon.CommonHFSExtentKey;
 import org.catacombae.hfs.types.hfscommon.CommonHFSExtentLeafNode;
+import org.catacombae.hfs.types.hfscommon.CommonHFSExtentLeafRecord;
 import org.catacombae.hfs.types.hfscommon.CommonHFSForkData;
 import org.catacombae.hfs.types.hfscommon.CommonHFSForkType;
 import org.catacombae.hfs.types.hfscommon.CommonHFSVolumeHeader;
@@ -75,9 +84,9 @@ public abstract class HFSVolume {
     public static volatile long fileReadOffset = 0;
 
     protected volatile SynchronizedReadableRandomAccess hfsFile;
-    private volatile SynchronizedReadableRandomAccessStream hfsStream;
+    private volatile BasicSynchronizedReadableRandomAccessStream hfsStream;
     //private final SynchronizedReadableRandomAccessStream backingFile;
-    private final SynchronizedReadableRandomAccessStream sourceStream;
+    private final BasicSynchronizedReadableRandomAccessStream sourceStream;
     protected final int physicalBlockSize;
 
     // Variables for reading cached files.
@@ -86,6 +95,18 @@ public abstract class HFSVolume {
     protected final CatalogFile catalogFile;
     protected final ExtentsOverflowFile extentsOverflowFile;
 
+    /**
+     * Cache of B-tree nodes shared by the B-tree files of this volume, or
+     * <code>null</code> if caching is disabled.
+     */
+    private volatile BTreeNodeCache nodeCache;
+
+    /**
+     * Cache of the extent maps of recently accessed forks, or
+     * <code>null</code> if caching is disabled.
+     */
+    private volatile ForkExtentMapCache extentMapCache;
+
     private boolean closed = false;
 
     protected HFSVolume(ReadableRandomAccessStream hfsFile,
@@ -94,8 +115,17 @@ public abstract class HFSVolume {
         //System.err.println("HFSVolume(" + hfsFile + ", " +
         //        cachingEnabled + ", " + btreeOperations + ", " +
         //        catalogOperations + ", " + extentsOverflowOperations + ");");
-        this.sourceStream =
-                new SynchronizedReadableRandomAccessStream(hfsFile);
+        if(hfsFile instanceof BasicSynchronizedReadableRandomAccessStream) {
+            /* The stream already supports concurrent positional reads (for
+             * instance a ReadableFileChannelStream), so there is no need to
+             * serialize all reads through a lock. */
+            this.sourceStream =
+                    (BasicSynchronizedReadableRandomAccessStream) hfsFile;
+        }
+        else {
+            this.sourceStream =
+                    new SynchronizedReadableRandomAccessStream(hfsFile);
+        }
         this.hfsStream =
                 new SynchronizedReadableRandomAccessStream(
                 new ReadableRandomAccessSubstream(sourceStream));
@@ -327,17 +357,105 @@ public abstract class HFSVolume {
         enableFileSystemCaching(256 * 1024, 64); // 64 pages of 256 KiB each is the default setting
     }
 
+    /**
+     * Enables caching of file system data. The cache is thread safe and
+     * position independent, so threads reading different parts of the volume
+     * through separate streams (for instance {@link ForkFilter}s or B-tree
+     * sessions) do not serialize on a single lock.
+     *
+     * @param blockSize the size of each cached block.
+     * @param blocksInCache the maximum number of blocks to keep in the cache.
+     */
     public void enableFileSystemCaching(int blockSize, int blocksInCache) {
         hfsStream.close();
-        hfsStream =
-                new SynchronizedReadableRandomAccessStream(
-                new ReadableBlockCachingStream(
-                new ReadableRandomAccessSubstream(sourceStream), blockSize,
-                blocksInCache));
+        hfsStream = new ConcurrentBlockCachingStream(sourceStream, blockSize,
+                blocksInCache);
         hfsFile = hfsStream;
+        nodeCache = new BTreeNodeCache(16 * 1024 * 1024); // 16 MiB
+        extentMapCache = new ForkExtentMapCache(64 * 1024); // 64 Ki extents
+    }
+
+    /**
+     * Returns the number of block lookups that were satisfied by the file
+     * system cache, or -1 if caching is not enabled.
+     *
+     * @return the number of file system cache hits.
+     */
+    public long getFileSystemCacheHitCount() {
+        final BasicSynchronizedReadableRandomAccessStream curStream = hfsStream;
+        if(curStream instanceof ConcurrentBlockCachingStream) {
+            return ((ConcurrentBlockCachingStream) curStream).getHitCount();
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the number of block lookups that had to be read from the
+     * underlying storage by the file system cache, or -1 if caching is not
+     * enabled.
+     *
+     * @return the number of file system cache misses.
+     */
+    public long getFileSystemCacheMissCount() {
+        final BasicSynchronizedReadableRandomAccessStream curStream = hfsStream;
+        if(curStream instanceof ConcurrentBlockCachingStream) {
+            return ((ConcurrentBlockCachingStream) curStream).getMissCount();
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the number of B-tree node lookups that were satisfied by the
+     * B-tree node cache, or -1 if caching is not enabled.
+     *
+     * @return the number of B-tree node cache hits.
+     */
+    public long getBTreeNodeCacheHitCount() {
+        final BTreeNodeCache curNodeCache = nodeCache;
+        if(curNodeCache != null) {
+            return curNodeCache.getHitCount();
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the number of B-tree node lookups that had to be read from the
+     * volume because the node was not present in the B-tree node cache, or -1
+     * if caching is not enabled.
+     *
+     * @return the number of B-tree node cache misses.
+     */
+    public long getBTreeNodeCacheMissCount() {
+        final BTreeNodeCache curNodeCache = nodeCache;
+        if(curNodeCache != null) {
+            return curNodeCache.getMissCount();
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the cache of decoded B-tree nodes used by the B-tree files of
+     * this volume, or <code>null</code> if caching is not enabled.
+     */
+    BTreeNodeCache getBTreeNodeCache() {
+        return nodeCache;
+    }
+
+    /**
+     * Returns the cache of fork extent maps of this volume, or
+     * <code>null</code> if caching is not enabled.
+     */
+    ForkExtentMapCache getForkExtentMapCache() {
+        return extentMapCache;
     }
 
     public void disableFileSystemCaching() {
+        nodeCache = null;
+        extentMapCache = null;
         hfsStream.close();
         hfsStream =
                 new SynchronizedReadableRandomAccessStream(
@@ -398,31 +516,25 @@ public abstract class HFSVolume {
                 cnid,
                 forkData,
                 extentsOverflowFile,
+                extentMapCache,
                 new ReadableRandomAccessSubstream(hfsFile), 0,
                 header.getAllocationBlockSize(),
                 header.getAllocationBlockStart() * physicalBlockSize);
-        long bytesToRead = forkData.getLogicalSize();
-        byte[] buffer = new byte[4096];
-        while(bytesToRead > 0) {
-            if(pm.cancelSignaled())
-                break;
-
-//          System.out.print("forkFilter.read([].length=" + buffer.length +
-//                    ", 0, " +
-//                    (bytesToRead < buffer.length ? (int)bytesToRead : buffer.length) +
-//                    "...");
-            int bytesRead = forkFilter.read(buffer, 0,
-                    (bytesToRead < buffer.length ? (int)bytesToRead : buffer.length));
-//          System.out.println("done. bytesRead = " + bytesRead);
-            if(bytesRead < 0)
-                break;
-            else {
-                pm.addDataProgress(bytesRead);
-                os.write(buffer, 0, bytesRead);
-                bytesToRead -= bytesRead;
-            }
+        final CommonHFSExtentDescriptor[] extents;
+        try {
+            extents = forkFilter.getAllExtents();
+        } finally {
+            forkFilter.close();
         }
-        return forkData.getLogicalSize() - bytesToRead;
+
+        /* The fork data is read directly from the source stream. Each block
+         * is only read once, so there is nothing to gain from passing it
+         * through the block cache (and the cache would only lose its
+         * metadata blocks to the file data). */
+        ForkDataTransfer transfer = new ForkDataTransfer(sourceStream,
+                header.getAllocationBlockStart() * physicalBlockSize,
+                header.getAllocationBlockSize());
+        return transfer.transfer(extents, forkData.getLogicalSize(), os, pm);
     }
 
     /**
@@ -471,6 +583,7 @@ public abstract class HFSVolume {
                 cnid,
                 forkData,
                 extentsOverflowFile,
+                extentMapCache,
                 new ReadableRandomAccessSubstream(hfsFile),
                 fileReadOffset,
                 header.getAllocationBlockSize(),
@@ -510,7 +623,7 @@ public abstract class HFSVolume {
     /**
      * Calculates the complete size of the tree represented by <code>rec</code>.
      */
-    protected long calculateForkSizeRecursive(CommonHFSCatalogLeafRecord rec, boolean resourceFork) {
+    public long calculateForkSizeRecursive(CommonHFSCatalogLeafRecord rec, boolean resourceFork) {
 	if(rec instanceof CommonHFSCatalogFileRecord) {
 	    if(!resourceFork)
 		return ((CommonHFSCatalogFileRecord)rec).getData().getDataFork().getLogicalSize();
@@ -531,6 +644,164 @@ public abstract class HFSVolume {
 	    return 0;
     }
 
+    /**
+     * Calculates the complete size of the tree represented by <code>rec</code>
+     * like {@link #calculateForkSizeRecursive(CommonHFSCatalogLeafRecord,
+     * boolean)}, but by scanning all leaf nodes of the catalog file using
+     * <code>threadCount</code> threads instead of listing one folder at a time.
+     * Since the entire catalog file is read, this is only worth it for large
+     * trees.
+     *
+     * @param rec the root of the tree.
+     * @param resourceFork whether to calculate the size of the resource forks
+     * instead of the data forks.
+     * @param threadCount the number of threads to scan the catalog file with.
+     * @return the combined size of the forks of all files in the tree.
+     */
+    public long calculateForkSizeParallel(CommonHFSCatalogLeafRecord rec,
+            boolean resourceFork, int threadCount)
+    {
+        return calculateForkSizesParallel(rec, threadCount)[resourceFork ?
+            1 : 0];
+    }
+
+    /**
+     * Calculates the complete size of the data forks and of the resource forks
+     * of the tree represented by <code>rec</code> in a single scan of the
+     * catalog file, like
+     * {@link #calculateForkSizeParallel(CommonHFSCatalogLeafRecord, boolean,
+     * int)}.
+     *
+     * @param rec the root of the tree.
+     * @param threadCount the number of threads to scan the catalog file with.
+     * @return a two element array with the combined size of the data forks
+     * and the combined size of the resource forks of all files in the tree.
+     */
+    public long[] calculateForkSizesParallel(CommonHFSCatalogLeafRecord rec,
+            int threadCount)
+    {
+        if(!(rec instanceof CommonHFSCatalogFolderRecord)) {
+            return new long[] {
+                calculateForkSizeRecursive(rec, false),
+                calculateForkSizeRecursive(rec, true),
+            };
+        }
+
+        final FolderForkSizeVisitor visitor = new FolderForkSizeVisitor();
+        catalogFile.scanLeafCursors(visitor, threadCount);
+
+        return visitor.getTreeSizes(((CommonHFSCatalogFolderRecord) rec).
+                getData().getFolderID().toLong());
+    }
+
+    /**
+     * Collects the combined data and resource fork sizes of the files in each
+     * folder, and the subfolders of each folder, from a scan of the catalog
+     * file.
+     */
+    private static class FolderForkSizeVisitor
+            implements BTreeScanVisitor<CatalogLeafCursor,
+            FolderForkSizeVisitor.Result>
+    {
+        private static class Result {
+            /* Folder ID -> { data fork size, resource fork size }. */
+            private final HashMap<Long, long[]> forkSizes =
+                    new HashMap<Long, long[]>();
+            private final HashMap<Long, ArrayList<Long>> subfolders =
+                    new HashMap<Long, ArrayList<Long>>();
+        }
+
+        private final Result total = new Result();
+
+        /* @Override */
+        public Result createResult() {
+            return new Result();
+        }
+
+        /* @Override */
+        public void visit(Result result, CatalogLeafCursor cursor) {
+            final long parentID = cursor.getParentID();
+
+            if(cursor.isFile()) {
+                addForkSizes(result, parentID,
+                        cursor.getDataForkLogicalSize(),
+                        cursor.getResourceForkLogicalSize());
+            }
+            else if(cursor.isFolder()) {
+                addSubfolders(result, parentID, cursor.getCNID());
+            }
+        }
+
+        /* @Override */
+        public void merge(Result result) {
+            for(Map.Entry<Long, long[]> e : result.forkSizes.entrySet()) {
+                addForkSizes(total, e.getKey(), e.getValue()[0],
+                        e.getValue()[1]);
+            }
+
+            for(Map.Entry<Long, ArrayList<Long>> e :
+                    result.subfolders.entrySet())
+            {
+                for(Long folderID : e.getValue()) {
+                    addSubfolders(total, e.getKey(), folderID);
+                }
+            }
+        }
+
+        /* @Override */
+        public boolean cancelScan() {
+            return false;
+        }
+
+        public long[] getTreeSizes(long folderID) {
+            final long[] treeSizes = new long[2];
+            final LinkedList<Long> folderQueue = new LinkedList<Long>();
+            folderQueue.add(folderID);
+            while(!folderQueue.isEmpty()) {
+                final Long curFolderID = folderQueue.removeFirst();
+
+                final long[] forkSizes = total.forkSizes.get(curFolderID);
+                if(forkSizes != null) {
+                    treeSizes[0] += forkSizes[0];
+                    treeSizes[1] += forkSizes[1];
+                }
+
+                final ArrayList<Long> curSubfolders =
+                        total.subfolders.get(curFolderID);
+                if(curSubfolders != null) {
+                    folderQueue.addAll(curSubfolders);
+                }
+            }
+
+            return treeSizes;
+        }
+
+        private static void addForkSizes(Result result, long parentID,
+                long dataForkSize, long resourceForkSize)
+        {
+            long[] forkSizes = result.forkSizes.get(parentID);
+            if(forkSizes == null) {
+                forkSizes = new long[2];
+                result.forkSizes.put(parentID, forkSizes);
+            }
+
+            forkSizes[0] += dataForkSize;
+            forkSizes[1] += resourceForkSize;
+        }
+
+        private static void addSubfolders(Result result, long parentID,
+                long folderID)
+        {
+            ArrayList<Long> curSubfolders = result.subfolders.get(parentID);
+            if(curSubfolders == null) {
+                curSubfolders = new ArrayList<Long>();
+                result.subfolders.put(parentID, curSubfolders);
+            }
+
+            curSubfolders.add(folderID);
+        }
+    }
+
     public int getPhysicalBlockSize() {
         return physicalBlockSize;
     }
@@ -545,24 +816,87 @@ public abstract class HFSVolume {
     public abstract CommonBTNodeDescriptor createCommonBTNodeDescriptor(
             byte[] currentNodeData, int offset);
 
+    /**
+     * Returns the size of the B-tree key starting at <code>offset</code> in
+     * <code>data</code>, including its key length field. In an index record,
+     * this is the offset of the child node pointer relative to the start of
+     * the record.
+     *
+     * @param data the node data containing the key.
+     * @param offset the offset of the key in <code>data</code>.
+     * @return the size of the key.
+     */
+    public abstract int getBTKeySize(byte[] data, int offset);
+
     public abstract CommonHFSCatalogIndexNode newCatalogIndexNode(byte[] data,
             int offset, int nodeSize);
 
     public abstract CommonHFSCatalogKey newCatalogKey(
             CommonHFSCatalogNodeID nodeID, CommonHFSCatalogString searchString);
 
+    public abstract CommonHFSCatalogKey newCatalogKey(byte[] data, int offset);
+
+    /**
+     * Tells if this volume can compare the node names of catalog keys in their
+     * on-disk form, through
+     * {@link #compareRawCatalogNodeName(byte[], int, byte[])}.
+     *
+     * @return whether raw catalog node name comparison is supported.
+     */
+    public boolean isRawCatalogNodeNameCompareSupported() {
+        return false;
+    }
+
+    /**
+     * Compares the node name of the catalog key starting at
+     * <code>offset</code> in <code>data</code> to <code>searchName</code>,
+     * without decoding the key, using the ordering of this volume's catalog
+     * file. Only supported if {@link #isRawCatalogNodeNameCompareSupported()}
+     * returns <code>true</code>.
+     *
+     * @param data the node data containing the key.
+     * @param offset the offset of the key in <code>data</code>.
+     * @param searchName the node name to compare to, in the form returned by
+     * {@link CommonHFSCatalogString#getStringBytes()}.
+     * @return a negative integer, zero, or a positive integer as the node name
+     * of the key in <code>data</code> is less than, equal to, or greater than
+     * <code>searchName</code>.
+     */
+    public int compareRawCatalogNodeName(byte[] data, int offset,
+            byte[] searchName)
+    {
+        throw new UnsupportedOperationException("Not supported for " +
+                getClass().getName() + ".");
+    }
+
     public abstract CommonHFSCatalogLeafNode newCatalogLeafNode(byte[] data,
             int offset, int nodeSize);
 
     public abstract CommonHFSCatalogLeafRecord newCatalogLeafRecord(byte[] data,
             int offset);
 
+    /**
+     * Creates a cursor over the leaf records of <code>catalogFile</code> that
+     * reads the fields of the records in this volume's on-disk format.
+     *
+     * @param catalogFile the catalog file of this volume.
+     * @return a new leaf cursor.
+     */
+    public abstract CatalogLeafCursor newCatalogLeafCursor(
+            CatalogFile catalogFile);
+
     public abstract CommonHFSExtentIndexNode createCommonHFSExtentIndexNode(
             byte[] currentNodeData, int offset, int nodeSize);
 
     public abstract CommonHFSExtentLeafNode createCommonHFSExtentLeafNode(
             byte[] currentNodeData, int offset, int nodeSize);
 
+    public abstract CommonHFSExtentKey createCommonHFSExtentKey(byte[] data,
+            int offset);
+
+    public abstract CommonHFSExtentLeafRecord createCommonHFSExtentLeafRecord(
+            byte[] data, int offset);
+
     public abstract CommonHFSExtentKey createCommonHFSExtentKey(
             CommonHFSForkType forkType, CommonHFSCatalogNodeID fileID,
             int startBlock);
@@ -18,10 +18,8 @@
 package org.catacombae.hfs;
 
 import java.nio.CharBuffer;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
+import java.util.TreeMap;
 import org.catacombae.util.Util;
 
 /**
@@ -29,6 +27,15 @@ import org.catacombae.util.Util;
  * creating Unicode filenames for an HFS+ file system.
  * Created from http://developer.apple.com/technotes/tn/tn1150table.html and verified against it.
  * Also including a Hangul decomposition algorithm from the Unicode Book.
+ * <p>
+ * The tables are kept in compact primitive form: decompositions are looked
+ * up through a two-level table indexed by the high and low byte of the
+ * composed character, and compositions are found by walking a double-array
+ * trie of the decomposed sequences. Strings that can't be affected by
+ * composition or decomposition (such as plain ASCII names) are recognized up
+ * front and passed through without any table walking. Both lookups are
+ * generated offline from the decomposition table by
+ * org.catacombae.hfsexplorer.testcode.GenerateNormalizationTables.
  *
  * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
  */
@@ -38,10 +45,2140 @@ public class UnicodeNormalizationToolkit {
      * UTF-16 code unit.
      */
     private static final int MAX_DECOMPOSED_LENGTH = 4;
+
+    /**
+     * The decomposition table, sorted by composed character. Each entry
+     * consists of the composed character, the number of decomposed
+     * characters and the decomposed characters themselves.
+     */
+    private static final String DECOMPOSITION_TABLE =
+            "\u00C0\u0002\u0041\u0300\u00C1\u0002\u0041\u0301" +
+            "\u00C2\u0002\u0041\u0302\u00C3\u0002\u0041\u0303" +
+            "\u00C4\u0002\u0041\u0308\u00C5\u0002\u0041\u030A" +
+            "\u00C7\u0002\u0043\u0327\u00C8\u0002\u0045\u0300" +
+            "\u00C9\u0002\u0045\u0301\u00CA\u0002\u0045\u0302" +
+            "\u00CB\u0002\u0045\u0308\u00CC\u0002\u0049\u0300" +
+            "\u00CD\u0002\u0049\u0301\u00CE\u0002\u0049\u0302" +
+            "\u00CF\u0002\u0049\u0308\u00D1\u0002\u004E\u0303" +
+            "\u00D2\u0002\u004F\u0300\u00D3\u0002\u004F\u0301" +
+            "\u00D4\u0002\u004F\u0302\u00D5\u0002\u004F\u0303" +
+            "\u00D6\u0002\u004F\u0308\u00D9\u0002\u0055\u0300" +
+            "\u00DA\u0002\u0055\u0301\u00DB\u0002\u0055\u0302" +
+            "\u00DC\u0002\u0055\u0308\u00DD\u0002\u0059\u0301" +
+            "\u00E0\u0002\u0061\u0300\u00E1\u0002\u0061\u0301" +
+            "\u00E2\u0002\u0061\u0302\u00E3\u0002\u0061\u0303" +
+            "\u00E4\u0002\u0061\u0308\u00E5\u0002\u0061\u030A" +
+            "\u00E7\u0002\u0063\u0327\u00E8\u0002\u0065\u0300" +
+            "\u00E9\u0002\u0065\u0301\u00EA\u0002\u0065\u0302" +
+            "\u00EB\u0002\u0065\u0308\u00EC\u0002\u0069\u0300" +
+            "\u00ED\u0002\u0069\u0301\u00EE\u0002\u0069\u0302" +
+            "\u00EF\u0002\u0069\u0308\u00F1\u0002\u006E\u0303" +
+            "\u00F2\u0002\u006F\u0300\u00F3\u0002\u006F\u0301" +
+            "\u00F4\u0002\u006F\u0302\u00F5\u0002\u006F\u0303" +
+            "\u00F6\u0002\u006F\u0308\u00F9\u0002\u0075\u0300" +
+            "\u00FA\u0002\u0075\u0301\u00FB\u0002\u0075\u0302" +
+            "\u00FC\u0002\u0075\u0308\u00FD\u0002\u0079\u0301" +
+            "\u00FF\u0002\u0079\u0308\u0100\u0002\u0041\u0304" +
+            "\u0101\u0002\u0061\u0304\u0102\u0002\u0041\u0306" +
+            "\u0103\u0002\u0061\u0306\u0104\u0002\u0041\u0328" +
+            "\u0105\u0002\u0061\u0328\u0106\u0002\u0043\u0301" +
+            "\u0107\u0002\u0063\u0301\u0108\u0002\u0043\u0302" +
+            "\u0109\u0002\u0063\u0302\u010A\u0002\u0043\u0307" +
+            "\u010B\u0002\u0063\u0307\u010C\u0002\u0043\u030C" +
+            "\u010D\u0002\u0063\u030C\u010E\u0002\u0044\u030C" +
+            "\u010F\u0002\u0064\u030C\u0112\u0002\u0045\u0304" +
+            "\u0113\u0002\u0065\u0304\u0114\u0002\u0045\u0306" +
+            "\u0115\u0002\u0065\u0306\u0116\u0002\u0045\u0307" +
+            "\u0117\u0002\u0065\u0307\u0118\u0002\u0045\u0328" +
+            "\u0119\u0002\u0065\u0328\u011A\u0002\u0045\u030C" +
+            "\u011B\u0002\u0065\u030C\u011C\u0002\u0047\u0302" +
+            "\u011D\u0002\u0067\u0302\u011E\u0002\u0047\u0306" +
+            "\u011F\u0002\u0067\u0306\u0120\u0002\u0047\u0307" +
+            "\u0121\u0002\u0067\u0307\u0122\u0002\u0047\u0327" +
+            "\u0123\u0002\u0067\u0327\u0124\u0002\u0048\u0302" +
+            "\u0125\u0002\u0068\u0302\u0128\u0002\u0049\u0303" +
+            "\u0129\u0002\u0069\u0303\u012A\u0002\u0049\u0304" +
+            "\u012B\u0002\u0069\u0304\u012C\u0002\u0049\u0306" +
+            "\u012D\u0002\u0069\u0306\u012E\u0002\u0049\u0328" +
+            "\u012F\u0002\u0069\u0328\u0130\u0002\u0049\u0307" +
+            "\u0134\u0002\u004A\u0302\u0135\u0002\u006A\u0302" +
+            "\u0136\u0002\u004B\u0327\u0137\u0002\u006B\u0327" +
+            "\u0139\u0002\u004C\u0301\u013A\u0002\u006C\u0301" +
+            "\u013B\u0002\u004C\u0327\u013C\u0002\u006C\u0327" +
+            "\u013D\u0002\u004C\u030C\u013E\u0002\u006C\u030C" +
+            "\u0143\u0002\u004E\u0301\u0144\u0002\u006E\u0301" +
+            "\u0145\u0002\u004E\u0327\u0146\u0002\u006E\u0327" +
+            "\u0147\u0002\u004E\u030C\u0148\u0002\u006E\u030C" +
+            "\u014C\u0002\u004F\u0304\u014D\u0002\u006F\u0304" +
+            "\u014E\u0002\u004F\u0306\u014F\u0002\u006F\u0306" +
+            "\u0150\u0002\u004F\u030B\u0151\u0002\u006F\u030B" +
+            "\u0154\u0002\u0052\u0301\u0155\u0002\u0072\u0301" +
+            "\u0156\u0002\u0052\u0327\u0157\u0002\u0072\u0327" +
+            "\u0158\u0002\u0052\u030C\u0159\u0002\u0072\u030C" +
+            "\u015A\u0002\u0053\u0301\u015B\u0002\u0073\u0301" +
+            "\u015C\u0002\u0053\u0302\u015D\u0002\u0073\u0302" +
+            "\u015E\u0002\u0053\u0327\u015F\u0002\u0073\u0327" +
+            "\u0160\u0002\u0053\u030C\u0161\u0002\u0073\u030C" +
+            "\u0162\u0002\u0054\u0327\u0163\u0002\u0074\u0327" +
+            "\u0164\u0002\u0054\u030C\u0165\u0002\u0074\u030C" +
+            "\u0168\u0002\u0055\u0303\u0169\u0002\u0075\u0303" +
+            "\u016A\u0002\u0055\u0304\u016B\u0002\u0075\u0304" +
+            "\u016C\u0002\u0055\u0306\u016D\u0002\u0075\u0306" +
+            "\u016E\u0002\u0055\u030A\u016F\u0002\u0075\u030A" +
+            "\u0170\u0002\u0055\u030B\u0171\u0002\u0075\u030B" +
+            "\u0172\u0002\u0055\u0328\u0173\u0002\u0075\u0328" +
+            "\u0174\u0002\u0057\u0302\u0175\u0002\u0077\u0302" +
+            "\u0176\u0002\u0059\u0302\u0177\u0002\u0079\u0302" +
+            "\u0178\u0002\u0059\u0308\u0179\u0002\u005A\u0301" +
+            "\u017A\u0002\u007A\u0301\u017B\u0002\u005A\u0307" +
+            "\u017C\u0002\u007A\u0307\u017D\u0002\u005A\u030C" +
+            "\u017E\u0002\u007A\u030C\u01A0\u0002\u004F\u031B" +
+            "\u01A1\u0002\u006F\u031B\u01AF\u0002\u0055\u031B" +
+            "\u01B0\u0002\u0075\u031B\u01CD\u0002\u0041\u030C" +
+            "\u01CE\u0002\u0061\u030C\u01CF\u0002\u0049\u030C" +
+            "\u01D0\u0002\u0069\u030C\u01D1\u0002\u004F\u030C" +
+            "\u01D2\u0002\u006F\u030C\u01D3\u0002\u0055\u030C" +
+            "\u01D4\u0002\u0075\u030C\u01D5\u0003\u0055\u0308\u0304" +
+            "\u01D6\u0003\u0075\u0308\u0304\u01D7\u0003\u0055\u0308\u0301" +
+            "\u01D8\u0003\u0075\u0308\u0301\u01D9\u0003\u0055\u0308\u030C" +
+            "\u01DA\u0003\u0075\u0308\u030C\u01DB\u0003\u0055\u0308\u0300" +
+            "\u01DC\u0003\u0075\u0308\u0300\u01DE\u0003\u0041\u0308\u0304" +
+            "\u01DF\u0003\u0061\u0308\u0304\u01E0\u0003\u0041\u0307\u0304" +
+            "\u01E1\u0003\u0061\u0307\u0304\u01E2\u0002\u00C6\u0304" +
+            "\u01E3\u0002\u00E6\u0304\u01E6\u0002\u0047\u030C" +
+            "\u01E7\u0002\u0067\u030C\u01E8\u0002\u004B\u030C" +
+            "\u01E9\u0002\u006B\u030C\u01EA\u0002\u004F\u0328" +
+            "\u01EB\u0002\u006F\u0328\u01EC\u0003\u004F\u0328\u0304" +
+            "\u01ED\u0003\u006F\u0328\u0304\u01EE\u0002\u01B7\u030C" +
+            "\u01EF\u0002\u0292\u030C\u01F0\u0002\u006A\u030C" +
+            "\u01F4\u0002\u0047\u0301\u01F5\u0002\u0067\u0301" +
+            "\u01FA\u0003\u0041\u030A\u0301\u01FB\u0003\u0061\u030A\u0301" +
+            "\u01FC\u0002\u00C6\u0301\u01FD\u0002\u00E6\u0301" +
+            "\u01FE\u0002\u00D8\u0301\u01FF\u0002\u00F8\u0301" +
+            "\u0200\u0002\u0041\u030F\u0201\u0002\u0061\u030F" +
+            "\u0202\u0002\u0041\u0311\u0203\u0002\u0061\u0311" +
+            "\u0204\u0002\u0045\u030F\u0205\u0002\u0065\u030F" +
+            "\u0206\u0002\u0045\u0311\u0207\u0002\u0065\u0311" +
+            "\u0208\u0002\u0049\u030F\u0209\u0002\u0069\u030F" +
+            "\u020A\u0002\u0049\u0311\u020B\u0002\u0069\u0311" +
+            "\u020C\u0002\u004F\u030F\u020D\u0002\u006F\u030F" +
+            "\u020E\u0002\u004F\u0311\u020F\u0002\u006F\u0311" +
+            "\u0210\u0002\u0052\u030F\u0211\u0002\u0072\u030F" +
+            "\u0212\u0002\u0052\u0311\u0213\u0002\u0072\u0311" +
+            "\u0214\u0002\u0055\u030F\u0215\u0002\u0075\u030F" +
+            "\u0216\u0002\u0055\u0311\u0217\u0002\u0075\u0311" +
+            "\u0310\u0002\u0306\u0307\u0340\u0001\u0300\u0341\u0001\u0301" +
+            "\u0343\u0001\u0313\u0344\u0002\u0308\u030D\u0374\u0001\u02B9" +
+            "\u037E\u0001\u003B\u0385\u0002\u00A8\u030D" +
+            "\u0386\u0002\u0391\u030D\u0387\u0001\u00B7" +
+            "\u0388\u0002\u0395\u030D\u0389\u0002\u0397\u030D" +
+            "\u038A\u0002\u0399\u030D\u038C\u0002\u039F\u030D" +
+            "\u038E\u0002\u03A5\u030D\u038F\u0002\u03A9\u030D" +
+            "\u0390\u0003\u03B9\u0308\u030D\u03AA\u0002\u0399\u0308" +
+            "\u03AB\u0002\u03A5\u0308\u03AC\u0002\u03B1\u030D" +
+            "\u03AD\u0002\u03B5\u030D\u03AE\u0002\u03B7\u030D" +
+            "\u03AF\u0002\u03B9\u030D\u03B0\u0003\u03C5\u0308\u030D" +
+            "\u03CA\u0002\u03B9\u0308\u03CB\u0002\u03C5\u0308" +
+            "\u03CC\u0002\u03BF\u030D\u03CD\u0002\u03C5\u030D" +
+            "\u03CE\u0002\u03C9\u030D\u03D3\u0002\u03D2\u030D" +
+            "\u03D4\u0002\u03D2\u0308\u0401\u0002\u0415\u0308" +
+            "\u0403\u0002\u0413\u0301\u0407\u0002\u0406\u0308" +
+            "\u040C\u0002\u041A\u0301\u040E\u0002\u0423\u0306" +
+            "\u0419\u0002\u0418\u0306\u0439\u0002\u0438\u0306" +
+            "\u0451\u0002\u0435\u0308\u0453\u0002\u0433\u0301" +
+            "\u0457\u0002\u0456\u0308\u045C\u0002\u043A\u0301" +
+            "\u045E\u0002\u0443\u0306\u0476\u0002\u0474\u030F" +
+            "\u0477\u0002\u0475\u030F\u04C1\u0002\u0416\u0306" +
+            "\u04C2\u0002\u0436\u0306\u04D0\u0002\u0410\u0306" +
+            "\u04D1\u0002\u0430\u0306\u04D2\u0002\u0410\u0308" +
+            "\u04D3\u0002\u0430\u0308\u04D4\u0001\u00C6\u04D5\u0001\u00E6" +
+            "\u04D6\u0002\u0415\u0306\u04D7\u0002\u0435\u0306" +
+            "\u04D8\u0001\u018F\u04D9\u0001\u0259\u04DA\u0002\u018F\u0308" +
+            "\u04DB\u0002\u0259\u0308\u04DC\u0002\u0416\u0308" +
+            "\u04DD\u0002\u0436\u0308\u04DE\u0002\u0417\u0308" +
+            "\u04DF\u0002\u0437\u0308\u04E0\u0001\u01B7\u04E1\u0001\u0292" +
+            "\u04E2\u0002\u0418\u0304\u04E3\u0002\u0438\u0304" +
+            "\u04E4\u0002\u0418\u0308\u04E5\u0002\u0438\u0308" +
+            "\u04E6\u0002\u041E\u0308\u04E7\u0002\u043E\u0308" +
+            "\u04E8\u0001\u019F\u04E9\u0001\u0275\u04EA\u0002\u019F\u0308" +
+            "\u04EB\u0002\u0275\u0308\u04EE\u0002\u0423\u0304" +
+            "\u04EF\u0002\u0443\u0304\u04F0\u0002\u0423\u0308" +
+            "\u04F1\u0002\u0443\u0308\u04F2\u0002\u0423\u030B" +
+            "\u04F3\u0002\u0443\u030B\u04F4\u0002\u0427\u0308" +
+            "\u04F5\u0002\u0447\u0308\u04F8\u0002\u042B\u0308" +
+            "\u04F9\u0002\u044B\u0308\u0929\u0002\u0928\u093C" +
+            "\u0931\u0002\u0930\u093C\u0934\u0002\u0933\u093C" +
+            "\u0958\u0002\u0915\u093C\u0959\u0002\u0916\u093C" +
+            "\u095A\u0002\u0917\u093C\u095B\u0002\u091C\u093C" +
+            "\u095C\u0002\u0921\u093C\u095D\u0002\u0922\u093C" +
+            "\u095E\u0002\u092B\u093C\u095F\u0002\u092F\u093C" +
+            "\u09B0\u0002\u09AC\u09BC\u09CB\u0002\u09C7\u09BE" +
+            "\u09CC\u0002\u09C7\u09D7\u09DC\u0002\u09A1\u09BC" +
+            "\u09DD\u0002\u09A2\u09BC\u09DF\u0002\u09AF\u09BC" +
+            "\u0A59\u0002\u0A16\u0A3C\u0A5A\u0002\u0A17\u0A3C" +
+            "\u0A5B\u0002\u0A1C\u0A3C\u0A5C\u0002\u0A21\u0A3C" +
+            "\u0A5E\u0002\u0A2B\u0A3C\u0B48\u0002\u0B47\u0B56" +
+            "\u0B4B\u0002\u0B47\u0B3E\u0B4C\u0002\u0B47\u0B57" +
+            "\u0B5C\u0002\u0B21\u0B3C\u0B5D\u0002\u0B22\u0B3C" +
+            "\u0B5F\u0002\u0B2F\u0B3C\u0B94\u0002\u0B92\u0BD7" +
+            "\u0BCA\u0002\u0BC6\u0BBE\u0BCB\u0002\u0BC7\u0BBE" +
+            "\u0BCC\u0002\u0BC6\u0BD7\u0C48\u0002\u0C46\u0C56" +
+            "\u0CC0\u0002\u0CBF\u0CD5\u0CC7\u0002\u0CC6\u0CD5" +
+            "\u0CC8\u0002\u0CC6\u0CD6\u0CCA\u0002\u0CC6\u0CC2" +
+            "\u0CCB\u0003\u0CC6\u0CC2\u0CD5\u0D4A\u0002\u0D46\u0D3E" +
+            "\u0D4B\u0002\u0D47\u0D3E\u0D4C\u0002\u0D46\u0D57" +
+            "\u0E33\u0002\u0E4D\u0E32\u0EB3\u0002\u0ECD\u0EB2" +
+            "\u0F43\u0002\u0F42\u0FB7\u0F4D\u0002\u0F4C\u0FB7" +
+            "\u0F52\u0002\u0F51\u0FB7\u0F57\u0002\u0F56\u0FB7" +
+            "\u0F5C\u0002\u0F5B\u0FB7\u0F69\u0002\u0F40\u0FB5" +
+            "\u0F73\u0002\u0F72\u0F71\u0F75\u0002\u0F74\u0F71" +
+            "\u0F76\u0002\u0FB2\u0F80\u0F77\u0003\u0FB2\u0F80\u0F71" +
+            "\u0F78\u0002\u0FB3\u0F80\u0F79\u0003\u0FB3\u0F80\u0F71" +
+            "\u0F81\u0002\u0F80\u0F71\u0F93\u0002\u0F92\u0FB7" +
+            "\u0F9D\u0002\u0F9C\u0FB7\u0FA2\u0002\u0FA1\u0FB7" +
+            "\u0FA7\u0002\u0FA6\u0FB7\u0FAC\u0002\u0FAB\u0FB7" +
+            "\u0FB9\u0002\u0F90\u0FB5\u1E00\u0002\u0041\u0325" +
+            "\u1E01\u0002\u0061\u0325\u1E02\u0002\u0042\u0307" +
+            "\u1E03\u0002\u0062\u0307\u1E04\u0002\u0042\u0323" +
+            "\u1E05\u0002\u0062\u0323\u1E06\u0002\u0042\u0331" +
+            "\u1E07\u0002\u0062\u0331\u1E08\u0003\u0043\u0327\u0301" +
+            "\u1E09\u0003\u0063\u0327\u0301\u1E0A\u0002\u0044\u0307" +
+            "\u1E0B\u0002\u0064\u0307\u1E0C\u0002\u0044\u0323" +
+            "\u1E0D\u0002\u0064\u0323\u1E0E\u0002\u0044\u0331" +
+            "\u1E0F\u0002\u0064\u0331\u1E10\u0002\u0044\u0327" +
+            "\u1E11\u0002\u0064\u0327\u1E12\u0002\u0044\u032D" +
+            "\u1E13\u0002\u0064\u032D\u1E14\u0003\u0045\u0304\u0300" +
+            "\u1E15\u0003\u0065\u0304\u0300\u1E16\u0003\u0045\u0304\u0301" +
+            "\u1E17\u0003\u0065\u0304\u0301\u1E18\u0002\u0045\u032D" +
+            "\u1E19\u0002\u0065\u032D\u1E1A\u0002\u0045\u0330" +
+            "\u1E1B\u0002\u0065\u0330\u1E1C\u0003\u0045\u0327\u0306" +
+            "\u1E1D\u0003\u0065\u0327\u0306\u1E1E\u0002\u0046\u0307" +
+            "\u1E1F\u0002\u0066\u0307\u1E20\u0002\u0047\u0304" +
+            "\u1E21\u0002\u0067\u0304\u1E22\u0002\u0048\u0307" +
+            "\u1E23\u0002\u0068\u0307\u1E24\u0002\u0048\u0323" +
+            "\u1E25\u0002\u0068\u0323\u1E26\u0002\u0048\u0308" +
+            "\u1E27\u0002\u0068\u0308\u1E28\u0002\u0048\u0327" +
+            "\u1E29\u0002\u0068\u0327\u1E2A\u0002\u0048\u032E" +
+            "\u1E2B\u0002\u0068\u032E\u1E2C\u0002\u0049\u0330" +
+            "\u1E2D\u0002\u0069\u0330\u1E2E\u0003\u0049\u0308\u0301" +
+            "\u1E2F\u0003\u0069\u0308\u0301\u1E30\u0002\u004B\u0301" +
+            "\u1E31\u0002\u006B\u0301\u1E32\u0002\u004B\u0323" +
+            "\u1E33\u0002\u006B\u0323\u1E34\u0002\u004B\u0331" +
+            "\u1E35\u0002\u006B\u0331\u1E36\u0002\u004C\u0323" +
+            "\u1E37\u0002\u006C\u0323\u1E38\u0003\u004C\u0323\u0304" +
+            "\u1E39\u0003\u006C\u0323\u0304\u1E3A\u0002\u004C\u0331" +
+            "\u1E3B\u0002\u006C\u0331\u1E3C\u0002\u004C\u032D" +
+            "\u1E3D\u0002\u006C\u032D\u1E3E\u0002\u004D\u0301" +
+            "\u1E3F\u0002\u006D\u0301\u1E40\u0002\u004D\u0307" +
+            "\u1E41\u0002\u006D\u0307\u1E42\u0002\u004D\u0323" +
+            "\u1E43\u0002\u006D\u0323\u1E44\u0002\u004E\u0307" +
+            "\u1E45\u0002\u006E\u0307\u1E46\u0002\u004E\u0323" +
+            "\u1E47\u0002\u006E\u0323\u1E48\u0002\u004E\u0331" +
+            "\u1E49\u0002\u006E\u0331\u1E4A\u0002\u004E\u032D" +
+            "\u1E4B\u0002\u006E\u032D\u1E4C\u0003\u004F\u0303\u0301" +
+            "\u1E4D\u0003\u006F\u0303\u0301\u1E4E\u0003\u004F\u0303\u0308" +
+            "\u1E4F\u0003\u006F\u0303\u0308\u1E50\u0003\u004F\u0304\u0300" +
+            "\u1E51\u0003\u006F\u0304\u0300\u1E52\u0003\u004F\u0304\u0301" +
+            "\u1E53\u0003\u006F\u0304\u0301\u1E54\u0002\u0050\u0301" +
+            "\u1E55\u0002\u0070\u0301\u1E56\u0002\u0050\u0307" +
+            "\u1E57\u0002\u0070\u0307\u1E58\u0002\u0052\u0307" +
+            "\u1E59\u0002\u0072\u0307\u1E5A\u0002\u0052\u0323" +
+            "\u1E5B\u0002\u0072\u0323\u1E5C\u0003\u0052\u0323\u0304" +
+            "\u1E5D\u0003\u0072\u0323\u0304\u1E5E\u0002\u0052\u0331" +
+            "\u1E5F\u0002\u0072\u0331\u1E60\u0002\u0053\u0307" +
+            "\u1E61\u0002\u0073\u0307\u1E62\u0002\u0053\u0323" +
+            "\u1E63\u0002\u0073\u0323\u1E64\u0003\u0053\u0301\u0307" +
+            "\u1E65\u0003\u0073\u0301\u0307\u1E66\u0003\u0053\u030C\u0307" +
+            "\u1E67\u0003\u0073\u030C\u0307\u1E68\u0003\u0053\u0323\u0307" +
+            "\u1E69\u0003\u0073\u0323\u0307\u1E6A\u0002\u0054\u0307" +
+            "\u1E6B\u0002\u0074\u0307\u1E6C\u0002\u0054\u0323" +
+            "\u1E6D\u0002\u0074\u0323\u1E6E\u0002\u0054\u0331" +
+            "\u1E6F\u0002\u0074\u0331\u1E70\u0002\u0054\u032D" +
+            "\u1E71\u0002\u0074\u032D\u1E72\u0002\u0055\u0324" +
+            "\u1E73\u0002\u0075\u0324\u1E74\u0002\u0055\u0330" +
+            "\u1E75\u0002\u0075\u0330\u1E76\u0002\u0055\u032D" +
+            "\u1E77\u0002\u0075\u032D\u1E78\u0003\u0055\u0303\u0301" +
+            "\u1E79\u0003\u0075\u0303\u0301\u1E7A\u0003\u0055\u0304\u0308" +
+            "\u1E7B\u0003\u0075\u0304\u0308\u1E7C\u0002\u0056\u0303" +
+            "\u1E7D\u0002\u0076\u0303\u1E7E\u0002\u0056\u0323" +
+            "\u1E7F\u0002\u0076\u0323\u1E80\u0002\u0057\u0300" +
+            "\u1E81\u0002\u0077\u0300\u1E82\u0002\u0057\u0301" +
+            "\u1E83\u0002\u0077\u0301\u1E84\u0002\u0057\u0308" +
+            "\u1E85\u0002\u0077\u0308\u1E86\u0002\u0057\u0307" +
+            "\u1E87\u0002\u0077\u0307\u1E88\u0002\u0057\u0323" +
+            "\u1E89\u0002\u0077\u0323\u1E8A\u0002\u0058\u0307" +
+            "\u1E8B\u0002\u0078\u0307\u1E8C\u0002\u0058\u0308" +
+            "\u1E8D\u0002\u0078\u0308\u1E8E\u0002\u0059\u0307" +
+            "\u1E8F\u0002\u0079\u0307\u1E90\u0002\u005A\u0302" +
+            "\u1E91\u0002\u007A\u0302\u1E92\u0002\u005A\u0323" +
+            "\u1E93\u0002\u007A\u0323\u1E94\u0002\u005A\u0331" +
+            "\u1E95\u0002\u007A\u0331\u1E96\u0002\u0068\u0331" +
+            "\u1E97\u0002\u0074\u0308\u1E98\u0002\u0077\u030A" +
+            "\u1E99\u0002\u0079\u030A\u1E9B\u0002\u017F\u0307" +
+            "\u1EA0\u0002\u0041\u0323\u1EA1\u0002\u0061\u0323" +
+            "\u1EA2\u0002\u0041\u0309\u1EA3\u0002\u0061\u0309" +
+            "\u1EA4\u0003\u0041\u0302\u0301\u1EA5\u0003\u0061\u0302\u0301" +
+            "\u1EA6\u0003\u0041\u0302\u0300\u1EA7\u0003\u0061\u0302\u0300" +
+            "\u1EA8\u0003\u0041\u0302\u0309\u1EA9\u0003\u0061\u0302\u0309" +
+            "\u1EAA\u0003\u0041\u0302\u0303\u1EAB\u0003\u0061\u0302\u0303" +
+            "\u1EAC\u0003\u0041\u0323\u0302\u1EAD\u0003\u0061\u0323\u0302" +
+            "\u1EAE\u0003\u0041\u0306\u0301\u1EAF\u0003\u0061\u0306\u0301" +
+            "\u1EB0\u0003\u0041\u0306\u0300\u1EB1\u0003\u0061\u0306\u0300" +
+            "\u1EB2\u0003\u0041\u0306\u0309\u1EB3\u0003\u0061\u0306\u0309" +
+            "\u1EB4\u0003\u0041\u0306\u0303\u1EB5\u0003\u0061\u0306\u0303" +
+            "\u1EB6\u0003\u0041\u0323\u0306\u1EB7\u0003\u0061\u0323\u0306" +
+            "\u1EB8\u0002\u0045\u0323\u1EB9\u0002\u0065\u0323" +
+            "\u1EBA\u0002\u0045\u0309\u1EBB\u0002\u0065\u0309" +
+            "\u1EBC\u0002\u0045\u0303\u1EBD\u0002\u0065\u0303" +
+            "\u1EBE\u0003\u0045\u0302\u0301\u1EBF\u0003\u0065\u0302\u0301" +
+            "\u1EC0\u0003\u0045\u0302\u0300\u1EC1\u0003\u0065\u0302\u0300" +
+            "\u1EC2\u0003\u0045\u0302\u0309\u1EC3\u0003\u0065\u0302\u0309" +
+            "\u1EC4\u0003\u0045\u0302\u0303\u1EC5\u0003\u0065\u0302\u0303" +
+            "\u1EC6\u0003\u0045\u0323\u0302\u1EC7\u0003\u0065\u0323\u0302" +
+            "\u1EC8\u0002\u0049\u0309\u1EC9\u0002\u0069\u0309" +
+            "\u1ECA\u0002\u0049\u0323\u1ECB\u0002\u0069\u0323" +
+            "\u1ECC\u0002\u004F\u0323\u1ECD\u0002\u006F\u0323" +
+            "\u1ECE\u0002\u004F\u0309\u1ECF\u0002\u006F\u0309" +
+            "\u1ED0\u0003\u004F\u0302\u0301\u1ED1\u0003\u006F\u0302\u0301" +
+            "\u1ED2\u0003\u004F\u0302\u0300\u1ED3\u0003\u006F\u0302\u0300" +
+            "\u1ED4\u0003\u004F\u0302\u0309\u1ED5\u0003\u006F\u0302\u0309" +
+            "\u1ED6\u0003\u004F\u0302\u0303\u1ED7\u0003\u006F\u0302\u0303" +
+            "\u1ED8\u0003\u004F\u0323\u0302\u1ED9\u0003\u006F\u0323\u0302" +
+            "\u1EDA\u0003\u004F\u031B\u0301\u1EDB\u0003\u006F\u031B\u0301" +
+            "\u1EDC\u0003\u004F\u031B\u0300\u1EDD\u0003\u006F\u031B\u0300" +
+            "\u1EDE\u0003\u004F\u031B\u0309\u1EDF\u0003\u006F\u031B\u0309" +
+            "\u1EE0\u0003\u004F\u031B\u0303\u1EE1\u0003\u006F\u031B\u0303" +
+            "\u1EE2\u0003\u004F\u031B\u0323\u1EE3\u0003\u006F\u031B\u0323" +
+            "\u1EE4\u0002\u0055\u0323\u1EE5\u0002\u0075\u0323" +
+            "\u1EE6\u0002\u0055\u0309\u1EE7\u0002\u0075\u0309" +
+            "\u1EE8\u0003\u0055\u031B\u0301\u1EE9\u0003\u0075\u031B\u0301" +
+            "\u1EEA\u0003\u0055\u031B\u0300\u1EEB\u0003\u0075\u031B\u0300" +
+            "\u1EEC\u0003\u0055\u031B\u0309\u1EED\u0003\u0075\u031B\u0309" +
+            "\u1EEE\u0003\u0055\u031B\u0303\u1EEF\u0003\u0075\u031B\u0303" +
+            "\u1EF0\u0003\u0055\u031B\u0323\u1EF1\u0003\u0075\u031B\u0323" +
+            "\u1EF2\u0002\u0059\u0300\u1EF3\u0002\u0079\u0300" +
+            "\u1EF4\u0002\u0059\u0323\u1EF5\u0002\u0079\u0323" +
+            "\u1EF6\u0002\u0059\u0309\u1EF7\u0002\u0079\u0309" +
+            "\u1EF8\u0002\u0059\u0303\u1EF9\u0002\u0079\u0303" +
+            "\u1F00\u0002\u03B1\u0313\u1F01\u0002\u03B1\u0314" +
+            "\u1F02\u0003\u03B1\u0313\u0300\u1F03\u0003\u03B1\u0314\u0300" +
+            "\u1F04\u0003\u03B1\u0313\u0301\u1F05\u0003\u03B1\u0314\u0301" +
+            "\u1F06\u0003\u03B1\u0313\u0342\u1F07\u0003\u03B1\u0314\u0342" +
+            "\u1F08\u0002\u0391\u0313\u1F09\u0002\u0391\u0314" +
+            "\u1F0A\u0003\u0391\u0313\u0300\u1F0B\u0003\u0391\u0314\u0300" +
+            "\u1F0C\u0003\u0391\u0313\u0301\u1F0D\u0003\u0391\u0314\u0301" +
+            "\u1F0E\u0003\u0391\u0313\u0342\u1F0F\u0003\u0391\u0314\u0342" +
+            "\u1F10\u0002\u03B5\u0313\u1F11\u0002\u03B5\u0314" +
+            "\u1F12\u0003\u03B5\u0313\u0300\u1F13\u0003\u03B5\u0314\u0300" +
+            "\u1F14\u0003\u03B5\u0313\u0301\u1F15\u0003\u03B5\u0314\u0301" +
+            "\u1F18\u0002\u0395\u0313\u1F19\u0002\u0395\u0314" +
+            "\u1F1A\u0003\u0395\u0313\u0300\u1F1B\u0003\u0395\u0314\u0300" +
+            "\u1F1C\u0003\u0395\u0313\u0301\u1F1D\u0003\u0395\u0314\u0301" +
+            "\u1F20\u0002\u03B7\u0313\u1F21\u0002\u03B7\u0314" +
+            "\u1F22\u0003\u03B7\u0313\u0300\u1F23\u0003\u03B7\u0314\u0300" +
+            "\u1F24\u0003\u03B7\u0313\u0301\u1F25\u0003\u03B7\u0314\u0301" +
+            "\u1F26\u0003\u03B7\u0313\u0342\u1F27\u0003\u03B7\u0314\u0342" +
+            "\u1F28\u0002\u0397\u0313\u1F29\u0002\u0397\u0314" +
+            "\u1F2A\u0003\u0397\u0313\u0300\u1F2B\u0003\u0397\u0314\u0300" +
+            "\u1F2C\u0003\u0397\u0313\u0301\u1F2D\u0003\u0397\u0314\u0301" +
+            "\u1F2E\u0003\u0397\u0313\u0342\u1F2F\u0003\u0397\u0314\u0342" +
+            "\u1F30\u0002\u03B9\u0313\u1F31\u0002\u03B9\u0314" +
+            "\u1F32\u0003\u03B9\u0313\u0300\u1F33\u0003\u03B9\u0314\u0300" +
+            "\u1F34\u0003\u03B9\u0313\u0301\u1F35\u0003\u03B9\u0314\u0301" +
+            "\u1F36\u0003\u03B9\u0313\u0342\u1F37\u0003\u03B9\u0314\u0342" +
+            "\u1F38\u0002\u0399\u0313\u1F39\u0002\u0399\u0314" +
+            "\u1F3A\u0003\u0399\u0313\u0300\u1F3B\u0003\u0399\u0314\u0300" +
+            "\u1F3C\u0003\u0399\u0313\u0301\u1F3D\u0003\u0399\u0314\u0301" +
+            "\u1F3E\u0003\u0399\u0313\u0342\u1F3F\u0003\u0399\u0314\u0342" +
+            "\u1F40\u0002\u03BF\u0313\u1F41\u0002\u03BF\u0314" +
+            "\u1F42\u0003\u03BF\u0313\u0300\u1F43\u0003\u03BF\u0314\u0300" +
+            "\u1F44\u0003\u03BF\u0313\u0301\u1F45\u0003\u03BF\u0314\u0301" +
+            "\u1F48\u0002\u039F\u0313\u1F49\u0002\u039F\u0314" +
+            "\u1F4A\u0003\u039F\u0313\u0300\u1F4B\u0003\u039F\u0314\u0300" +
+            "\u1F4C\u0003\u039F\u0313\u0301\u1F4D\u0003\u039F\u0314\u0301" +
+            "\u1F50\u0002\u03C5\u0313\u1F51\u0002\u03C5\u0314" +
+            "\u1F52\u0003\u03C5\u0313\u0300\u1F53\u0003\u03C5\u0314\u0300" +
+            "\u1F54\u0003\u03C5\u0313\u0301\u1F55\u0003\u03C5\u0314\u0301" +
+            "\u1F56\u0003\u03C5\u0313\u0342\u1F57\u0003\u03C5\u0314\u0342" +
+            "\u1F59\u0002\u03A5\u0314\u1F5B\u0003\u03A5\u0314\u0300" +
+            "\u1F5D\u0003\u03A5\u0314\u0301\u1F5F\u0003\u03A5\u0314\u0342" +
+            "\u1F60\u0002\u03C9\u0313\u1F61\u0002\u03C9\u0314" +
+            "\u1F62\u0003\u03C9\u0313\u0300\u1F63\u0003\u03C9\u0314\u0300" +
+            "\u1F64\u0003\u03C9\u0313\u0301\u1F65\u0003\u03C9\u0314\u0301" +
+            "\u1F66\u0003\u03C9\u0313\u0342\u1F67\u0003\u03C9\u0314\u0342" +
+            "\u1F68\u0002\u03A9\u0313\u1F69\u0002\u03A9\u0314" +
+            "\u1F6A\u0003\u03A9\u0313\u0300\u1F6B\u0003\u03A9\u0314\u0300" +
+            "\u1F6C\u0003\u03A9\u0313\u0301\u1F6D\u0003\u03A9\u0314\u0301" +
+            "\u1F6E\u0003\u03A9\u0313\u0342\u1F6F\u0003\u03A9\u0314\u0342" +
+            "\u1F70\u0002\u03B1\u0300\u1F71\u0002\u03B1\u0301" +
+            "\u1F72\u0002\u03B5\u0300\u1F73\u0002\u03B5\u0301" +
+            "\u1F74\u0002\u03B7\u0300\u1F75\u0002\u03B7\u0301" +
+            "\u1F76\u0002\u03B9\u0300\u1F77\u0002\u03B9\u0301" +
+            "\u1F78\u0002\u03BF\u0300\u1F79\u0002\u03BF\u0301" +
+            "\u1F7A\u0002\u03C5\u0300\u1F7B\u0002\u03C5\u0301" +
+            "\u1F7C\u0002\u03C9\u0300\u1F7D\u0002\u03C9\u0301" +
+            "\u1F80\u0003\u03B1\u0345\u0313\u1F81\u0003\u03B1\u0345\u0314" +
+            "\u1F82\u0004\u03B1\u0345\u0313\u0300" +
+            "\u1F83\u0004\u03B1\u0345\u0314\u0300" +
+            "\u1F84\u0004\u03B1\u0345\u0313\u0301" +
+            "\u1F85\u0004\u03B1\u0345\u0314\u0301" +
+            "\u1F86\u0004\u03B1\u0345\u0313\u0342" +
+            "\u1F87\u0004\u03B1\u0345\u0314\u0342" +
+            "\u1F88\u0003\u0391\u0345\u0313\u1F89\u0003\u0391\u0345\u0314" +
+            "\u1F8A\u0004\u0391\u0345\u0313\u0300" +
+            "\u1F8B\u0004\u0391\u0345\u0314\u0300" +
+            "\u1F8C\u0004\u0391\u0345\u0313\u0301" +
+            "\u1F8D\u0004\u0391\u0345\u0314\u0301" +
+            "\u1F8E\u0004\u0391\u0345\u0313\u0342" +
+            "\u1F8F\u0004\u0391\u0345\u0314\u0342" +
+            "\u1F90\u0003\u03B7\u0345\u0313\u1F91\u0003\u03B7\u0345\u0314" +
+            "\u1F92\u0004\u03B7\u0345\u0313\u0300" +
+            "\u1F93\u0004\u03B7\u0345\u0314\u0300" +
+            "\u1F94\u0004\u03B7\u0345\u0313\u0301" +
+            "\u1F95\u0004\u03B7\u0345\u0314\u0301" +
+            "\u1F96\u0004\u03B7\u0345\u0313\u0342" +
+            "\u1F97\u0004\u03B7\u0345\u0314\u0342" +
+            "\u1F98\u0003\u0397\u0345\u0313\u1F99\u0003\u0397\u0345\u0314" +
+            "\u1F9A\u0004\u0397\u0345\u0313\u0300" +
+            "\u1F9B\u0004\u0397\u0345\u0314\u0300" +
+            "\u1F9C\u0004\u0397\u0345\u0313\u0301" +
+            "\u1F9D\u0004\u0397\u0345\u0314\u0301" +
+            "\u1F9E\u0004\u0397\u0345\u0313\u0342" +
+            "\u1F9F\u0004\u0397\u0345\u0314\u0342" +
+            "\u1FA0\u0003\u03C9\u0345\u0313\u1FA1\u0003\u03C9\u0345\u0314" +
+            "\u1FA2\u0004\u03C9\u0345\u0313\u0300" +
+            "\u1FA3\u0004\u03C9\u0345\u0314\u0300" +
+            "\u1FA4\u0004\u03C9\u0345\u0313\u0301" +
+            "\u1FA5\u0004\u03C9\u0345\u0314\u0301" +
+            "\u1FA6\u0004\u03C9\u0345\u0313\u0342" +
+            "\u1FA7\u0004\u03C9\u0345\u0314\u0342" +
+            "\u1FA8\u0003\u03A9\u0345\u0313\u1FA9\u0003\u03A9\u0345\u0314" +
+            "\u1FAA\u0004\u03A9\u0345\u0313\u0300" +
+            "\u1FAB\u0004\u03A9\u0345\u0314\u0300" +
+            "\u1FAC\u0004\u03A9\u0345\u0313\u0301" +
+            "\u1FAD\u0004\u03A9\u0345\u0314\u0301" +
+            "\u1FAE\u0004\u03A9\u0345\u0313\u0342" +
+            "\u1FAF\u0004\u03A9\u0345\u0314\u0342\u1FB0\u0002\u03B1\u0306" +
+            "\u1FB1\u0002\u03B1\u0304\u1FB2\u0003\u03B1\u0345\u0300" +
+            "\u1FB3\u0002\u03B1\u0345\u1FB4\u0003\u03B1\u0345\u0301" +
+            "\u1FB6\u0002\u03B1\u0342\u1FB7\u0003\u03B1\u0345\u0342" +
+            "\u1FB8\u0002\u0391\u0306\u1FB9\u0002\u0391\u0304" +
+            "\u1FBA\u0002\u0391\u0300\u1FBB\u0002\u0391\u0301" +
+            "\u1FBC\u0002\u0391\u0345\u1FBE\u0001\u03B9" +
+            "\u1FC1\u0002\u00A8\u0342\u1FC2\u0003\u03B7\u0345\u0300" +
+            "\u1FC3\u0002\u03B7\u0345\u1FC4\u0003\u03B7\u0345\u0301" +
+            "\u1FC6\u0002\u03B7\u0342\u1FC7\u0003\u03B7\u0345\u0342" +
+            "\u1FC8\u0002\u0395\u0300\u1FC9\u0002\u0395\u0301" +
+            "\u1FCA\u0002\u0397\u0300\u1FCB\u0002\u0397\u0301" +
+            "\u1FCC\u0002\u0397\u0345\u1FCD\u0002\u1FBF\u0300" +
+            "\u1FCE\u0002\u1FBF\u0301\u1FCF\u0002\u1FBF\u0342" +
+            "\u1FD0\u0002\u03B9\u0306\u1FD1\u0002\u03B9\u0304" +
+            "\u1FD2\u0003\u03B9\u0308\u0300\u1FD3\u0003\u03B9\u0308\u0301" +
+            "\u1FD6\u0002\u03B9\u0342\u1FD7\u0003\u03B9\u0308\u0342" +
+            "\u1FD8\u0002\u0399\u0306\u1FD9\u0002\u0399\u0304" +
+            "\u1FDA\u0002\u0399\u0300\u1FDB\u0002\u0399\u0301" +
+            "\u1FDD\u0002\u1FFE\u0300\u1FDE\u0002\u1FFE\u0301" +
+            "\u1FDF\u0002\u1FFE\u0342\u1FE0\u0002\u03C5\u0306" +
+            "\u1FE1\u0002\u03C5\u0304\u1FE2\u0003\u03C5\u0308\u0300" +
+            "\u1FE3\u0003\u03C5\u0308\u0301\u1FE4\u0002\u03C1\u0313" +
+            "\u1FE5\u0002\u03C1\u0314\u1FE6\u0002\u03C5\u0342" +
+            "\u1FE7\u0003\u03C5\u0308\u0342\u1FE8\u0002\u03A5\u0306" +
+            "\u1FE9\u0002\u03A5\u0304\u1FEA\u0002\u03A5\u0300" +
+            "\u1FEB\u0002\u03A5\u0301\u1FEC\u0002\u03A1\u0314" +
+            "\u1FED\u0002\u00A8\u0300\u1FEE\u0002\u00A8\u0301" +
+            "\u1FEF\u0001\u0060\u1FF2\u0003\u03C9\u0345\u0300" +
+            "\u1FF3\u0002\u03C9\u0345\u1FF4\u0003\u03BF\u0345\u0301" +
+            "\u1FF6\u0002\u03C9\u0342\u1FF7\u0003\u03C9\u0345\u0342" +
+            "\u1FF8\u0002\u039F\u0300\u1FF9\u0002\u039F\u0301" +
+            "\u1FFA\u0002\u03A9\u0300\u1FFB\u0002\u03A9\u0301" +
+            "\u1FFC\u0002\u03A9\u0345\u1FFD\u0001\u00B4" +
+            "\u304C\u0002\u304B\u3099\u304E\u0002\u304D\u3099" +
+            "\u3050\u0002\u304F\u3099\u3052\u0002\u3051\u3099" +
+            "\u3054\u0002\u3053\u3099\u3056\u0002\u3055\u3099" +
+            "\u3058\u0002\u3057\u3099\u305A\u0002\u3059\u3099" +
+            "\u305C\u0002\u305B\u3099\u305E\u0002\u305D\u3099" +
+            "\u3060\u0002\u305F\u3099\u3062\u0002\u3061\u3099" +
+            "\u3065\u0002\u3064\u3099\u3067\u0002\u3066\u3099" +
+            "\u3069\u0002\u3068\u3099\u3070\u0002\u306F\u3099" +
+            "\u3071\u0002\u306F\u309A\u3073\u0002\u3072\u3099" +
+            "\u3074\u0002\u3072\u309A\u3076\u0002\u3075\u3099" +
+            "\u3077\u0002\u3075\u309A\u3079\u0002\u3078\u3099" +
+            "\u307A\u0002\u3078\u309A\u307C\u0002\u307B\u3099" +
+            "\u307D\u0002\u307B\u309A\u3094\u0002\u3046\u3099" +
+            "\u309E\u0002\u309D\u3099\u30AC\u0002\u30AB\u3099" +
+            "\u30AE\u0002\u30AD\u3099\u30B0\u0002\u30AF\u3099" +
+            "\u30B2\u0002\u30B1\u3099\u30B4\u0002\u30B3\u3099" +
+            "\u30B6\u0002\u30B5\u3099\u30B8\u0002\u30B7\u3099" +
+            "\u30BA\u0002\u30B9\u3099\u30BC\u0002\u30BB\u3099" +
+            "\u30BE\u0002\u30BD\u3099\u30C0\u0002\u30BF\u3099" +
+            "\u30C2\u0002\u30C1\u3099\u30C5\u0002\u30C4\u3099" +
+            "\u30C7\u0002\u30C6\u3099\u30C9\u0002\u30C8\u3099" +
+            "\u30D0\u0002\u30CF\u3099\u30D1\u0002\u30CF\u309A" +
+            "\u30D3\u0002\u30D2\u3099\u30D4\u0002\u30D2\u309A" +
+            "\u30D6\u0002\u30D5\u3099\u30D7\u0002\u30D5\u309A" +
+            "\u30D9\u0002\u30D8\u3099\u30DA\u0002\u30D8\u309A" +
+            "\u30DC\u0002\u30DB\u3099\u30DD\u0002\u30DB\u309A" +
+            "\u30F4\u0002\u30A6\u3099\u30F7\u0002\u30EF\u3099" +
+            "\u30F8\u0002\u30F0\u3099\u30F9\u0002\u30F1\u3099" +
+            "\u30FA\u0002\u30F2\u3099\u30FE\u0002\u30FD\u3099" +
+            "\uFB1F\u0002\u05F2\u05B7\uFB2A\u0002\u05E9\u05C1" +
+            "\uFB2B\u0002\u05E9\u05C2\uFB2C\u0003\u05E9\u05BC\u05C1" +
+            "\uFB2D\u0003\u05E9\u05BC\u05C2\uFB2E\u0002\u05D0\u05B7" +
+            "\uFB2F\u0002\u05D0\u05B8\uFB30\u0002\u05D0\u05BC" +
+            "\uFB31\u0002\u05D1\u05BC\uFB32\u0002\u05D2\u05BC" +
+            "\uFB33\u0002\u05D3\u05BC\uFB34\u0002\u05D4\u05BC" +
+            "\uFB35\u0002\u05D5\u05BC\uFB36\u0002\u05D6\u05BC" +
+            "\uFB38\u0002\u05D8\u05BC\uFB39\u0002\u05D9\u05BC" +
+            "\uFB3A\u0002\u05DA\u05BC\uFB3B\u0002\u05DB\u05BC" +
+            "\uFB3C\u0002\u05DC\u05BC\uFB3E\u0002\u05DE\u05BC" +
+            "\uFB40\u0002\u05E0\u05BC\uFB41\u0002\u05E1\u05BC" +
+            "\uFB43\u0002\u05E3\u05BC\uFB44\u0002\u05E4\u05BC" +
+            "\uFB46\u0002\u05E6\u05BC\uFB47\u0002\u05E7\u05BC" +
+            "\uFB48\u0002\u05E8\u05BC\uFB49\u0002\u05E9\u05BC" +
+            "\uFB4A\u0002\u05EA\u05BC\uFB4B\u0002\u05D5\u05B9" +
+            "\uFB4C\u0002\u05D1\u05BF\uFB4D\u0002\u05DB\u05BF" +
+            "\uFB4E\u0002\u05E4\u05BF";
+
+    /*
+     * The lookup tables below are derived from DECOMPOSITION_TABLE. They are
+     * stored precomputed, rather than built when the class is initialized,
+     * to keep the class initialization down to copying the strings into
+     * arrays. Regenerate them with GenerateNormalizationTables whenever
+     * DECOMPOSITION_TABLE changes.
+     */
+
+    /*
+     * Generated by
+     * org.catacombae.hfsexplorer.testcode.GenerateNormalizationTables.
+     */
+
+    private static final String DECOMPOSITION_BLOCKS =
+            "\u0001\u0002\u0003\u0004\u0005\u0000\u0000\u0000" +
+            "\u0000\u0006\u0007\u0008\u0009\n\u000B\u000C" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\r\u000E" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u000F\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0010\u0000\u0000\u0000\u0000";
+
+    private static final String DECOMPOSITION_OFFSETS =
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0001\u0005\u0009\r\u0011\u0015\u0000\u0019" +
+            "\u001D\u0021\u0025\u0029\u002D\u0031\u0035\u0039" +
+            "\u0000\u003D\u0041\u0045\u0049\u004D\u0051\u0000" +
+            "\u0000\u0055\u0059\u005D\u0061\u0065\u0000\u0000" +
+            "\u0069\u006D\u0071\u0075\u0079\u007D\u0000\u0081" +
+            "\u0085\u0089\u008D\u0091\u0095\u0099\u009D\u00A1" +
+            "\u0000\u00A5\u00A9\u00AD\u00B1\u00B5\u00B9\u0000" +
+            "\u0000\u00BD\u00C1\u00C5\u00C9\u00CD\u0000\u00D1" +
+            "\u00D5\u00D9\u00DD\u00E1\u00E5\u00E9\u00ED\u00F1" +
+            "\u00F5\u00F9\u00FD\u0101\u0105\u0109\u010D\u0111" +
+            "\u0000\u0000\u0115\u0119\u011D\u0121\u0125\u0129" +
+            "\u012D\u0131\u0135\u0139\u013D\u0141\u0145\u0149" +
+            "\u014D\u0151\u0155\u0159\u015D\u0161\u0000\u0000" +
+            "\u0165\u0169\u016D\u0171\u0175\u0179\u017D\u0181" +
+            "\u0185\u0000\u0000\u0000\u0189\u018D\u0191\u0195" +
+            "\u0000\u0199\u019D\u01A1\u01A5\u01A9\u01AD\u0000" +
+            "\u0000\u0000\u0000\u01B1\u01B5\u01B9\u01BD\u01C1" +
+            "\u01C5\u0000\u0000\u0000\u01C9\u01CD\u01D1\u01D5" +
+            "\u01D9\u01DD\u0000\u0000\u01E1\u01E5\u01E9\u01ED" +
+            "\u01F1\u01F5\u01F9\u01FD\u0201\u0205\u0209\u020D" +
+            "\u0211\u0215\u0219\u021D\u0221\u0225\u0000\u0000" +
+            "\u0229\u022D\u0231\u0235\u0239\u023D\u0241\u0245" +
+            "\u0249\u024D\u0251\u0255\u0259\u025D\u0261\u0265" +
+            "\u0269\u026D\u0271\u0275\u0279\u027D\u0281\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0285\u0289\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u028D" +
+            "\u0291\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0295\u0299\u029D" +
+            "\u02A1\u02A5\u02A9\u02AD\u02B1\u02B5\u02BA\u02BF" +
+            "\u02C4\u02C9\u02CE\u02D3\u02D8\u0000\u02DD\u02E2" +
+            "\u02E7\u02EC\u02F1\u02F5\u0000\u0000\u02F9\u02FD" +
+            "\u0301\u0305\u0309\u030D\u0311\u0316\u031B\u031F" +
+            "\u0323\u0000\u0000\u0000\u0327\u032B\u0000\u0000" +
+            "\u0000\u0000\u032F\u0334\u0339\u033D\u0341\u0345" +
+            "\u0349\u034D\u0351\u0355\u0359\u035D\u0361\u0365" +
+            "\u0369\u036D\u0371\u0375\u0379\u037D\u0381\u0385" +
+            "\u0389\u038D\u0391\u0395\u0399\u039D\u03A1\u03A5" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u03A9\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u03AD\u03B0\u0000\u03B3\u03B6\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u03BA\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u03BD\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u03C0\u03C4\u03C8" +
+            "\u03CB\u03CF\u03D3\u0000\u03D7\u0000\u03DB\u03DF" +
+            "\u03E3\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u03E8\u03EC\u03F0\u03F4\u03F8\u03FC" +
+            "\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0405\u0409\u040D\u0411\u0415\u0000" +
+            "\u0000\u0000\u0000\u0419\u041D\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0421\u0000\u0425\u0000\u0000\u0000\u0429" +
+            "\u0000\u0000\u0000\u0000\u042D\u0000\u0431\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0435\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0439\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u043D\u0000\u0441\u0000\u0000\u0000\u0445" +
+            "\u0000\u0000\u0000\u0000\u0449\u0000\u044D\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0451\u0455" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0459\u045D\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0461\u0465\u0469\u046D\u0471\u0474\u0477\u047B" +
+            "\u047F\u0482\u0485\u0489\u048D\u0491\u0495\u0499" +
+            "\u049D\u04A0\u04A3\u04A7\u04AB\u04AF\u04B3\u04B7" +
+            "\u04BB\u04BE\u04C1\u04C5\u0000\u0000\u04C9\u04CD" +
+            "\u04D1\u04D5\u04D9\u04DD\u04E1\u04E5\u0000\u0000" +
+            "\u04E9\u04ED\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u04F1\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u04F5\u0000\u0000\u04F9\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u04FD\u0501\u0505\u0509\u050D\u0511\u0515\u0519" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u051D\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0521\u0525\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0529\u052D\u0000\u0531" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0535\u0539\u053D\u0541\u0000\u0545\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0549\u0000\u0000\u054D\u0551\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0555\u0559\u0000\u055D" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0561\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0565\u0569\u056D\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0571\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0575\u0000\u0000\u0000\u0000\u0000\u0000\u0579" +
+            "\u057D\u0000\u0581\u0585\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u058A\u058E\u0592\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0596\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u059A\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u059E\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u05A2\u0000\u0000" +
+            "\u0000\u0000\u05A6\u0000\u0000\u0000\u0000\u05AA" +
+            "\u0000\u0000\u0000\u0000\u05AE\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u05B2\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u05B6\u0000\u05BA\u05BE\u05C2" +
+            "\u05C7\u05CB\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u05D0\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u05D4\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u05D8\u0000\u0000" +
+            "\u0000\u0000\u05DC\u0000\u0000\u0000\u0000\u05E0" +
+            "\u0000\u0000\u0000\u0000\u05E4\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u05E8\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u05EC\u05F0\u05F4\u05F8\u05FC\u0600\u0604\u0608" +
+            "\u060C\u0611\u0616\u061A\u061E\u0622\u0626\u062A" +
+            "\u062E\u0632\u0636\u063A\u063E\u0643\u0648\u064D" +
+            "\u0652\u0656\u065A\u065E\u0662\u0667\u066C\u0670" +
+            "\u0674\u0678\u067C\u0680\u0684\u0688\u068C\u0690" +
+            "\u0694\u0698\u069C\u06A0\u06A4\u06A8\u06AC\u06B1" +
+            "\u06B6\u06BA\u06BE\u06C2\u06C6\u06CA\u06CE\u06D2" +
+            "\u06D6\u06DB\u06E0\u06E4\u06E8\u06EC\u06F0\u06F4" +
+            "\u06F8\u06FC\u0700\u0704\u0708\u070C\u0710\u0714" +
+            "\u0718\u071C\u0720\u0724\u0728\u072D\u0732\u0737" +
+            "\u073C\u0741\u0746\u074B\u0750\u0754\u0758\u075C" +
+            "\u0760\u0764\u0768\u076C\u0770\u0775\u077A\u077E" +
+            "\u0782\u0786\u078A\u078E\u0792\u0797\u079C\u07A1" +
+            "\u07A6\u07AB\u07B0\u07B4\u07B8\u07BC\u07C0\u07C4" +
+            "\u07C8\u07CC\u07D0\u07D4\u07D8\u07DC\u07E0\u07E4" +
+            "\u07E8\u07ED\u07F2\u07F7\u07FC\u0800\u0804\u0808" +
+            "\u080C\u0810\u0814\u0818\u081C\u0820\u0824\u0828" +
+            "\u082C\u0830\u0834\u0838\u083C\u0840\u0844\u0848" +
+            "\u084C\u0850\u0854\u0858\u085C\u0860\u0864\u0868" +
+            "\u086C\u0870\u0000\u0874\u0000\u0000\u0000\u0000" +
+            "\u0878\u087C\u0880\u0884\u0888\u088D\u0892\u0897" +
+            "\u089C\u08A1\u08A6\u08AB\u08B0\u08B5\u08BA\u08BF" +
+            "\u08C4\u08C9\u08CE\u08D3\u08D8\u08DD\u08E2\u08E7" +
+            "\u08EC\u08F0\u08F4\u08F8\u08FC\u0900\u0904\u0909" +
+            "\u090E\u0913\u0918\u091D\u0922\u0927\u092C\u0931" +
+            "\u0936\u093A\u093E\u0942\u0946\u094A\u094E\u0952" +
+            "\u0956\u095B\u0960\u0965\u096A\u096F\u0974\u0979" +
+            "\u097E\u0983\u0988\u098D\u0992\u0997\u099C\u09A1" +
+            "\u09A6\u09AB\u09B0\u09B5\u09BA\u09BE\u09C2\u09C6" +
+            "\u09CA\u09CF\u09D4\u09D9\u09DE\u09E3\u09E8\u09ED" +
+            "\u09F2\u09F7\u09FC\u0A00\u0A04\u0A08\u0A0C\u0A10" +
+            "\u0A14\u0A18\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0A1C\u0A20\u0A24\u0A29\u0A2E\u0A33\u0A38\u0A3D" +
+            "\u0A42\u0A46\u0A4A\u0A4F\u0A54\u0A59\u0A5E\u0A63" +
+            "\u0A68\u0A6C\u0A70\u0A75\u0A7A\u0A7F\u0000\u0000" +
+            "\u0A84\u0A88\u0A8C\u0A91\u0A96\u0A9B\u0000\u0000" +
+            "\u0AA0\u0AA4\u0AA8\u0AAD\u0AB2\u0AB7\u0ABC\u0AC1" +
+            "\u0AC6\u0ACA\u0ACE\u0AD3\u0AD8\u0ADD\u0AE2\u0AE7" +
+            "\u0AEC\u0AF0\u0AF4\u0AF9\u0AFE\u0B03\u0B08\u0B0D" +
+            "\u0B12\u0B16\u0B1A\u0B1F\u0B24\u0B29\u0B2E\u0B33" +
+            "\u0B38\u0B3C\u0B40\u0B45\u0B4A\u0B4F\u0000\u0000" +
+            "\u0B54\u0B58\u0B5C\u0B61\u0B66\u0B6B\u0000\u0000" +
+            "\u0B70\u0B74\u0B78\u0B7D\u0B82\u0B87\u0B8C\u0B91" +
+            "\u0000\u0B96\u0000\u0B9A\u0000\u0B9F\u0000\u0BA4" +
+            "\u0BA9\u0BAD\u0BB1\u0BB6\u0BBB\u0BC0\u0BC5\u0BCA" +
+            "\u0BCF\u0BD3\u0BD7\u0BDC\u0BE1\u0BE6\u0BEB\u0BF0" +
+            "\u0BF5\u0BF9\u0BFD\u0C01\u0C05\u0C09\u0C0D\u0C11" +
+            "\u0C15\u0C19\u0C1D\u0C21\u0C25\u0C29\u0000\u0000" +
+            "\u0C2D\u0C32\u0C37\u0C3D\u0C43\u0C49\u0C4F\u0C55" +
+            "\u0C5B\u0C60\u0C65\u0C6B\u0C71\u0C77\u0C7D\u0C83" +
+            "\u0C89\u0C8E\u0C93\u0C99\u0C9F\u0CA5\u0CAB\u0CB1" +
+            "\u0CB7\u0CBC\u0CC1\u0CC7\u0CCD\u0CD3\u0CD9\u0CDF" +
+            "\u0CE5\u0CEA\u0CEF\u0CF5\u0CFB\u0D01\u0D07\u0D0D" +
+            "\u0D13\u0D18\u0D1D\u0D23\u0D29\u0D2F\u0D35\u0D3B" +
+            "\u0D41\u0D45\u0D49\u0D4E\u0D52\u0000\u0D57\u0D5B" +
+            "\u0D60\u0D64\u0D68\u0D6C\u0D70\u0000\u0D74\u0000" +
+            "\u0000\u0D77\u0D7B\u0D80\u0D84\u0000\u0D89\u0D8D" +
+            "\u0D92\u0D96\u0D9A\u0D9E\u0DA2\u0DA6\u0DAA\u0DAE" +
+            "\u0DB2\u0DB6\u0DBA\u0DBF\u0000\u0000\u0DC4\u0DC8" +
+            "\u0DCD\u0DD1\u0DD5\u0DD9\u0000\u0DDD\u0DE1\u0DE5" +
+            "\u0DE9\u0DED\u0DF1\u0DF6\u0DFB\u0DFF\u0E03\u0E07" +
+            "\u0E0C\u0E10\u0E14\u0E18\u0E1C\u0E20\u0E24\u0E28" +
+            "\u0000\u0000\u0E2B\u0E30\u0E34\u0000\u0E39\u0E3D" +
+            "\u0E42\u0E46\u0E4A\u0E4E\u0E52\u0E56\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0E59\u0000\u0E5D\u0000" +
+            "\u0E61\u0000\u0E65\u0000\u0E69\u0000\u0E6D\u0000" +
+            "\u0E71\u0000\u0E75\u0000\u0E79\u0000\u0E7D\u0000" +
+            "\u0E81\u0000\u0E85\u0000\u0000\u0E89\u0000\u0E8D" +
+            "\u0000\u0E91\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0E95\u0E99\u0000\u0E9D\u0EA1\u0000\u0EA5\u0EA9" +
+            "\u0000\u0EAD\u0EB1\u0000\u0EB5\u0EB9\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0EBD\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0EC1\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0EC5\u0000\u0EC9\u0000" +
+            "\u0ECD\u0000\u0ED1\u0000\u0ED5\u0000\u0ED9\u0000" +
+            "\u0EDD\u0000\u0EE1\u0000\u0EE5\u0000\u0EE9\u0000" +
+            "\u0EED\u0000\u0EF1\u0000\u0000\u0EF5\u0000\u0EF9" +
+            "\u0000\u0EFD\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0F01\u0F05\u0000\u0F09\u0F0D\u0000\u0F11\u0F15" +
+            "\u0000\u0F19\u0F1D\u0000\u0F21\u0F25\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0F29\u0000\u0000\u0F2D" +
+            "\u0F31\u0F35\u0F39\u0000\u0000\u0000\u0F3D\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0F41" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0F45\u0F49\u0F4D\u0F52\u0F57\u0F5B" +
+            "\u0F5F\u0F63\u0F67\u0F6B\u0F6F\u0F73\u0F77\u0000" +
+            "\u0F7B\u0F7F\u0F83\u0F87\u0F8B\u0000\u0F8F\u0000" +
+            "\u0F93\u0F97\u0000\u0F9B\u0F9F\u0000\u0FA3\u0FA7" +
+            "\u0FAB\u0FAF\u0FB3\u0FB7\u0FBB\u0FBF\u0FC3\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000";
+
+    private static final String TRIE_CODE_BLOCKS =
+            "\u0001\u0002\u0003\u0004\u0005\u0006\u0000\u0000" +
+            "\u0000\u0007\u0008\u0009\n\u000B\u000C\r" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u000E" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u000F\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000";
+
+    private static final String TRIE_CODES =
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u003E\u0000\u0000\u0000\u0000" +
+            "\u0000\u003F\u0040\u0041\u0042\u0043\u0044\u0045" +
+            "\u0046\u0047\u0048\u0049\u004A\u004B\u004C\u004D" +
+            "\u004E\u0000\u004F\u0050\u0051\u0052\u0053\u0054" +
+            "\u0055\u0056\u0057\u0000\u0000\u0000\u0000\u0000" +
+            "\u0058\u0059\u005A\u005B\\\u005D\u005E\u005F" +
+            "\u0060\u0061\u0062\u0063\u0064\u0065\u0066\u0067" +
+            "\u0068\u0000\u0069\u006A\u006B\u006C\u006D\u006E" +
+            "\u006F\u0070\u0071\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0072\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0073\u0000\u0000\u0074" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0075\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0076\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0077\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0078\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0079" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u007A" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u007B" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u007C" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u007D\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u007E\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u007F\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0080\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0001\u0002\u0003\u0004\u0005\u0000\u0006\u0007" +
+            "\u0008\u0009\n\u000B\u000C\r\u0000\u000E" +
+            "\u0000\u000F\u0000\u0010\u0011\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0012\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0013\u0014\u0015\u0000\u0016" +
+            "\u0017\u0000\u0000\u0000\u0000\u0018\u0019\u0000" +
+            "\u001A\u001B\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u001C\u0000\u0000\u001D\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0081\u0000\u0000\u0000\u0082\u0000\u0083" +
+            "\u0000\u0084\u0000\u0000\u0000\u0000\u0000\u0085" +
+            "\u0000\u0086\u0000\u0000\u0000\u0087\u0000\u0000" +
+            "\u0000\u0088\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0089\u0000\u0000\u0000\u008A\u0000\u008B" +
+            "\u0000\u008C\u0000\u0000\u0000\u0000\u0000\u008D" +
+            "\u0000\u008E\u0000\u0000\u0000\u008F\u0000\u0000" +
+            "\u0000\u0090\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0091\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0092\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0093\u0000\u0000\u0094\u0000\u0095\u0096\u0097" +
+            "\u0098\u0000\u0099\u0000\u0000\u0000\u009A\u0000" +
+            "\u0000\u0000\u0000\u009B\u0000\u0000\u0000\u009C" +
+            "\u0000\u0000\u0000\u009D\u0000\u0000\u0000\u0000" +
+            "\u009E\u0000\u0000\u009F\u0000\u00A0\u00A1\u00A2" +
+            "\u00A3\u0000\u00A4\u0000\u0000\u0000\u00A5\u0000" +
+            "\u0000\u0000\u0000\u00A6\u0000\u0000\u0000\u00A7" +
+            "\u0000\u0000\u0000\u00A8\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u00A9\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u00AA\u00AB\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u001E" +
+            "\u001F\u0020\u0000\u0000\u0021\u0000\u0000\"" +
+            "\u0000\u0023\u0024\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u00AC\u00AD\u00AE\u00AF\u00B0\u00B1\u00B2\u0000" +
+            "\u00B3\u00B4\u00B5\u00B6\u00B7\u0000\u00B8\u0000" +
+            "\u00B9\u00BA\u0000\u00BB\u00BC\u0000\u00BD\u00BE" +
+            "\u00BF\u00C0\u00C1\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u00C2\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u00C3\u00C4\u00C5" +
+            "\u0000\u0000\u0000\u0000\u00C6\u0000\u0000\u0000" +
+            "\u0000\u00C7\u00C8\u0000\u0000\u0000\u0000\u0000" +
+            "\u00C9\u0000\u0000\u00CA\u0000\u0000\u0000\u00CB" +
+            "\u00CC\u0000\u0000\u00CD\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0025\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u00CE\u00CF\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u00D0\u0000\u0000\u00D1" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0026\u0000\u0027\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00D2" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0028" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u00D3\u00D4" +
+            "\u0000\u0000\u0000\u0000\u00D5\u0000\u0000\u0000" +
+            "\u0000\u00D6\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u00D7\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0029\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u00D8\u00D9\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00DA" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u002A\u0000\u002B\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00DB" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u002C\u002D" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u00DC\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u002E\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u00DD\u00DE" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u002F" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u00DF\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0030\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00E0" +
+            "\u0000\u0000\u0031\u0000\u0000\u0000\u00E1\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0032\u0033\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0034\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u00E2\u00E3" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0035" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0036\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u00E4\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0037\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u00E5\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u00E6\u0000\u00E7\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u00E8\u0000\u0000\u0000" +
+            "\u0000\u00E9\u0000\u0000\u0000\u0000\u00EA\u0000" +
+            "\u0000\u0000\u0000\u00EB\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0038\u00EC\u0000\u00ED\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0039\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u00EE\u0000\u00EF\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u00F0\u0000\u0000\u0000" +
+            "\u0000\u00F1\u0000\u0000\u0000\u0000\u00F2\u0000" +
+            "\u0000\u0000\u0000\u00F3\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u00F4\u00F5\u0000\u003A\u0000\u003B" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00F6" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u00F7\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u00F8\u0000" +
+            "\u0000\u0000\u0000\u00F9\u0000\u00FA\u0000\u00FB" +
+            "\u0000\u00FC\u0000\u00FD\u0000\u00FE\u0000\u00FF" +
+            "\u0000\u0100\u0000\u0101\u0000\u0102\u0000\u0103" +
+            "\u0000\u0104\u0000\u0000\u0105\u0000\u0106\u0000" +
+            "\u0107\u0000\u0000\u0000\u0000\u0000\u0000\u0108" +
+            "\u0000\u0000\u0109\u0000\u0000\u010A\u0000\u0000" +
+            "\u010B\u0000\u0000\u010C\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u003C\u003D\u0000\u0000\u010D\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u010E\u0000" +
+            "\u0000\u0000\u0000\u010F\u0000\u0110\u0000\u0111" +
+            "\u0000\u0112\u0000\u0113\u0000\u0114\u0000\u0115" +
+            "\u0000\u0116\u0000\u0117\u0000\u0118\u0000\u0119" +
+            "\u0000\u011A\u0000\u0000\u011B\u0000\u011C\u0000" +
+            "\u011D\u0000\u0000\u0000\u0000\u0000\u0000\u011E" +
+            "\u0000\u0000\u011F\u0000\u0000\u0120\u0000\u0000" +
+            "\u0121\u0000\u0000\u0122\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0123" +
+            "\u0124\u0125\u0126\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0127\u0000\u0000";
+
+    private static final String TRIE_BASE =
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0020\u0000\u0000\u0029\u0000" +
+            "\u0004\u0000\u0001\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0008\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0010" +
+            "\u0019\u0126\u0123\u013E\u0008\u0157\u0158\u0171" +
+            "\u001A\u0179\u017A\u012A\u018F\u01AA\u0133\u01B8" +
+            "\u01C6\u01B9\u01DC\u0186\u01FA\u015F\u0203\u020C" +
+            "\u0000\u0227\u0209\u0236\u0238\u0253\u0182\u026C" +
+            "\u024A\u0278\u019A\u027D\u0281\u01EB\u028A\u02A5" +
+            "\u01CE\u02B7\u02BD\u02CD\u02E8\u01D6\u0306\u0219" +
+            "\u0319\u0322\u0311\u0000\u0000\u01D6\u01E1\u01FE" +
+            "\u01EA\u01EA\u01ED\u01F1\u01FC\u020D\u020F\u0212" +
+            "\u0000\u032E\u0329\u0336\u0347\u0354\u0212\u0361" +
+            "\u036B\u037E\u03A2\u03A4\u03C6\u03DB\u03CE\u03ED" +
+            "\u03F5\u027D\u022C\u0304\u0235\u0309\u033A\u0233" +
+            "\u040E\u0245\u0247\u0414\u0256\u0264\u0362\u026E" +
+            "\u036B\u036F\u0280\u041B\u0293\u0299\u0421\u02A4" +
+            "\u02A7\u02AA\u02A8\u02B3\u040F\u0403\u02AA\u02B0" +
+            "\u02B7\u0411\u02BE\u02C3\u02CE\u02D4\u0412\u02D8" +
+            "\u02E4\u02F3\u02FE\u0307\u0414\u0311\u031B\u0329" +
+            "\u0416\u032D\u0334\u033B\u0362\u0364\u0372\u0374" +
+            "\u037A\u0385\u0387\u0389\u039A\u039D\u039E\u03A4" +
+            "\u03A7\u03AC\u0416\u03AC\u03B2\u03BA\u03C0\u03C4" +
+            "\u03C7\u03CF\u03D6\u0414\u03DB\u0414\u03E7\u03E8" +
+            "\u03E9\u0413\u0413\u03F7\u03F9\u0401\u040F\u040F" +
+            "\u0410\u0411\u0412\u0413\u0417\u0418\u0417\u0417" +
+            "\u0418\u0419\u041A\u041B\u041E\u0420\u045A\u045C" +
+            "\u0423\u0424\u0425\u0426\u0427\u0428\u0429\u042A" +
+            "\u042B\u042C\u042D\u042E\u042F\u0430\u0431\u0432" +
+            "\u0433\u0435\u0437\u043D\u043F\u0439\u043B\u0441" +
+            "\u0442\u0443\u0444\u0445\u0446\u0447\u0448\u0449" +
+            "\u044A\u044B\u044C\u044D\u044E\u044F\u0450\u0452" +
+            "\u0454\u0456\u0458\u045A\u045B\u045C\u045D\u045E" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0002\u0000\u0000\u0000" +
+            "\u0000\u002D\u0000\u0039\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0007\u0000\u0000\u0006\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0019\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0021\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0147\u012C\u0136" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0196\u012D\u0000\u0000" +
+            "\u0000\u012E\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0148\u0000\u0000\u0149\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u014B\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u014C\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0155\u0159\u0000\u0000\u0163\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u01F6\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u02C6\u02DC\u0000" +
+            "\u0000\u0000\u019F\u0000\u0000\u0210\u015D\u0164" +
+            "\u0000\u0168\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u017B\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u016A\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0219\u0000" +
+            "\u0181\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u016D\u0000" +
+            "\u0000\u0181\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0315\u0325\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u018C\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0197\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0378\u037C\u0000\u0000\u0000" +
+            "\u023F\u019C\u01C1\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u02B9" +
+            "\u01AE\u0000\u0000\u0000\u01AF\u0000\u0000\u01B4" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u01B7\u01B2\u0000\u0000\u0000\u0000\u0000" +
+            "\u01C3\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u01D4\u01CF\u0000\u0000" +
+            "\u02D5\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0302\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0244\u0266\u0000\u0000\u0000\u0248\u0299" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u02E5\u02FC" +
+            "\u0000\u0000\u0000\u0215\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0264\u0000\u0000\u0000\u0343" +
+            "\u034F\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0275\u029D\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0358\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u035A\u036E\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0293\u0000\u0000\u0000\u0000\u0000\u0380\u0384" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0391\u0000\u0000\u0000\u0000" +
+            "\u0000\u038B\u038F\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u02CD\u02DA\u0394\u039C\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u03B5\u0000\u0000\u0000\u03A7\u03B8\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u03BC\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u03CE\u03D8" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u035C\u03BA\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u03E3\u0000\u0000" +
+            "\u0230\u0000\u0000\u0000\u0000\u03DF\u03E5\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0402\u0406\u0000" +
+            "\u0000\u0000\u0000\u040C\u040E\u0000\u0000\u0000" +
+            "\u0000\u0000\u03FB\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0418" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u03EB\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0420" +
+            "\u0000\u0422\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000";
+
+    private static final String TRIE_CHECK =
+            "\u0000\u0001\u0001\u001B\u013D\u0018\u0001\u0007" +
+            "\u0001\u0019\u0152\u0024\u0155\u0009\u0024\u0045" +
+            "\u0001\u0040\u0040\u0040\u0040\u0040\u0040\u0040" +
+            "\u0040\u0040\u0040\u017A\u0040\u0049\u0040\u0040" +
+            "\u0041\u0014\u0014\u0040\u0014\u0040\u018E\u0040" +
+            "\u0000\u0014\u0017\u0017\u0041\u0017\u0142\u0142" +
+            "\u0000\u0142\u0017\u0000\u0041\u0000\u0142\u0000" +
+            "\u003A\u0001\u0144\u0144\u0000\u0000\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001" +
+            "\u0042\u0042\u0043\u0000\u004C\u0042\u01AF\u0043" +
+            "\u01BE\u004C\u0042\u01C2\u01AF\u004F\u0043\u01B0" +
+            "\u01B0\u0043\u004F\u0043\u0042\u004C\u0043\u0044" +
+            "\u0044\u0044\u0044\u0044\u0044\u0044\u0044\u0044" +
+            "\u01AE\u01AE\u0044\u01AE\u0044\u0044\u01CC\u01C9" +
+            "\u01AE\u0044\u01D3\u01DA\u0044\u0044\u0044\u01E1" +
+            "\u0044\u0046\u0046\u0047\u0046\u0046\u0046\u0047" +
+            "\u0047\u01E2\u022F\u0046\u01E5\u01E5\u0056\u0056" +
+            "\u01E5\u0230\u0232\u0047\u024D\u0046\u0047\u01E5" +
+            "\u0267\u0047\u0048\u0048\u0048\u0048\u0048\u0048" +
+            "\u0048\u0048\u0048\u004A\u004B\u0048\u023B\u0048" +
+            "\u0048\u023B\u0259\u0259\u0048\u004A\u004B\u026A" +
+            "\u0048\u005F\u0054\u0048\u004A\u004B\u0281\u004A" +
+            "\u004B\u004D\u004B\u004D\u004A\u004B\u004D\u01BD" +
+            "\u01BD\u0054\u01BD\u004D\u0295\u0063\u02AA\u01BD" +
+            "\u022B\u022B\u004D\u022B\u02AA\u004D\u0063\u004D" +
+            "\u022B\u01BD\u004D\u004E\u004E\u004E\u004E\u004E" +
+            "\u004E\u02B9\u004E\u004E\u02BD\u004E\u004E\u02CB" +
+            "\u004E\u004E\u0050\u02C0\u004E\u004E\u02CA\u0050" +
+            "\u0052\u004E\u02AB\u02AB\u0050\u0052\u0050\u0050" +
+            "\u0051\u0051\u02D1\u0050\u0052\u0051\u0050\u0052" +
+            "\u0069\u0052\u0051\u0050\u0052\u0069\u02ED\u02EE" +
+            "\u0076\u0051\u006E\u0076\u0051\u0053\u0053\u0053" +
+            "\u0053\u0053\u0053\u0077\u0053\u0053\u0053\u0053" +
+            "\u0053\u006E\u0053\u0053\u0079\u0066\u0053\u0053" +
+            "\u0053\u007A\u0066\u0053\u0053\u007B\u0053\u01EF" +
+            "\u01EF\u007C\u01EF\u0055\u0055\u0055\u0066\u01EF" +
+            "\u0078\u0055\u0055\u0078\u0057\u0057\u0057\u0057" +
+            "\u007D\u01EF\u0057\u0057\u0057\u0055\u0058\u0058" +
+            "\u005B\u022E\u022E\u0058\u022E\u007E\u0057\u007F" +
+            "\u0058\u022E\u0257\u0257\u005B\u0257\u0080\u0058" +
+            "\u0070\u0070\u0257\u0087\u005B\u034C\u034C\u0058" +
+            "\u005A\u005A\u005A\u005A\u005A\u005A\u005A\u005A" +
+            "\u005A\u005A\u03F9\u005A\u0093\u005A\u005A\u0095" +
+            "\\\\\u005A\u0098\u005A\\\u005A\u005D" +
+            "\u02A9\u02A9\\\u02A9\u005D\u033A\u033A\u009A" +
+            "\u02A9\u033F\u033F\u005D\\\u0061\u005D\u009B" +
+            "\u005D\u0061\u0061\u005D\u005E\u005E\u005E\u005E" +
+            "\u005E\u005E\u005E\u005E\u005E\u0061\u009D\u005E" +
+            "\u0061\u005E\u005E\u0061\u033F\u0061\u005E\u033B" +
+            "\u033B\u005E\u005E\u005E\u009E\u005E\u0060\u0060" +
+            "\u00A0\u0060\u0060\u0060\u0354\u0354\u0365\u0365" +
+            "\u0060\u0062\u0062\u0062\u0062\u0062\u0062\u0064" +
+            "\u0062\u0062\u0060\u0065\u0062\u0092\u0062\u0062" +
+            "\u00A3\u0064\u0092\u0062\u0067\u0065\u0067\u0062" +
+            "\u0064\u0067\u0062\u0064\u0065\u00A5\u0067\u0065" +
+            "\u0064\u0065\u0340\u0340\u0065\u0067\u0366\u0366" +
+            "\u0067\u00A6\u0067\u0389\u0389\u0067\u0068\u0068" +
+            "\u0068\u0068\u0068\u0068\u00A8\u0068\u0068\u00A9" +
+            "\u0068\u0068\u00AA\u0068\u0068\u0340\u00AB\u0068" +
+            "\u0068\u006A\u02B8\u02B8\u0068\u02B8\u006A\u006B" +
+            "\u006B\u00AC\u02B8\u006A\u006B\u006A\u006A\u0226" +
+            "\u0226\u006B\u006A\u00AF\u02B8\u006A\u03B3\u03B3" +
+            "\u006B\u00B0\u006A\u006B\u006C\u006C\u02F1\u02F1" +
+            "\u00B1\u006C\u02F1\u03B4\u03B4\u0227\u0227\u00B3" +
+            "\u006C\u02F1\u0226\u006C\u00B4\u006C\u0347\u0347" +
+            "\u006C\u006D\u006D\u006D\u006D\u006D\u006D\u00B5" +
+            "\u006D\u006D\u006D\u006D\u006D\u00B6\u006D\u006D" +
+            "\u0227\u00B8\u006D\u006D\u006D\u0348\u0348\u006D" +
+            "\u006D\u0347\u006D\u02FB\u02FB\u00B9\u02FB\u006F" +
+            "\u006F\u006F\u0094\u02FB\u0094\u006F\u006F\u0096" +
+            "\u006F\u0096\u0073\u0073\u00BA\u02FB\u0275\u0275" +
+            "\u0348\u006F\u0071\u0071\u0071\u0071\u0073\u00BB" +
+            "\u0071\u0071\u0071\u0071\u0072\u0072\u0276\u0276" +
+            "\u00BC\u0072\u0083\u0083\u0071\u0073\u0072\u0082" +
+            "\u0082\u0275\u00BE\u0082\u0082\u0072\u0083\u0084" +
+            "\u0084\u0083\u0083\u0082\u00BF\u0072\u0082\u0082" +
+            "\u0097\u0276\u0097\u0084\u0358\u0358\u0084\u0084" +
+            "\u0085\u0085\u00C0\u0082\u0085\u0085\u00C2\u0085" +
+            "\u0359\u0359\u00C3\u0084\u0085\u0086\u0086\u0085" +
+            "\u0085\u0373\u0373\u037C\u037C\u03EC\u03EC\u0358" +
+            "\u00C4\u0086\u0088\u0088\u0086\u0086\u0088\u0088" +
+            "\u009F\u0088\u009F\u0359\u0089\u0089\u0088\u037D" +
+            "\u037D\u00A1\u0088\u00A1\u0373\u00A2\u037C\u00A2" +
+            "\u0089\u02A4\u02A4\u0089\u0089\u02A5\u02A5\u008A" +
+            "\u008A\u038F\u038F\u008A\u008A\u0390\u0390\u00C5" +
+            "\u0089\u00C6\u037D\u008A\u03A2\u03A2\u008A\u008A" +
+            "\u03A3\u03A3\u039C\u039C\u02A4\u03B5\u03B5\u00C7" +
+            "\u02A5\u00C8\u008A\u008A\u038F\u03B6\u03B6\u00C9" +
+            "\u0390\u039C\u039C\u008B\u008B\u008C\u008C\u03A2" +
+            "\u03C6\u03C6\u00CA\u03A3\u00CB\u039C\u00CC\u008B" +
+            "\u03B5\u008C\u008B\u008B\u008C\u008C\u03C2\u03C2" +
+            "\u03B6\u03C7\u03C7\u03ED\u03ED\u03CF\u03CF\u00CD" +
+            "\u008C\u008C\u00CE\u03C6\u00CF\u03C2\u03C2\u008D" +
+            "\u008D\u03CF\u00D0\u008D\u008D\u00D1\u008D\u03D7" +
+            "\u03D7\u03C2\u00D2\u008D\u03C7\u00D4\u008D\u008D" +
+            "\u03CF\u03D8\u03D8\u00D5\u008E\u008E\u008F\u008F" +
+            "\u03FE\u03FE\u008D\u00D6\u03F6\u03F6\u03FF\u03FF" +
+            "\u008E\u00D7\u03D7\u008E\u008E\u00D8\u0090\u0090" +
+            "\u03F6\u00D9\u0090\u0090\u03D8\u0090\u0091\u0091" +
+            "\u008E\u00DA\u0090\u03FE\u0413\u0090\u0090\u03F6" +
+            "\u00DB\u03FF\u0091\u0406\u0406\u0091\u0091\u0407" +
+            "\u0407\u0090\u00DD\u0413\u0413\u040C\u040C\u040D" +
+            "\u040D\u0091\u0091\u0099\u0099\u00DF\u0099\u0413" +
+            "\u00E0\u009C\u009C\u00E1\u009C\u0445\u0406\u009C" +
+            "\u00A4\u00A4\u0407\u00A4\u00AE\u00AE\u00A7\u00A7" +
+            "\u040C\u00A7\u040D\u00E4\u00A7\u00AD\u00AD\u00E5" +
+            "\u00AD\u00B2\u00B2\u00B7\u00B7\u00BD\u00BD\u00C1" +
+            "\u00E6\u00C1\u00C1\u0438\u0438\u00D3\u00D3\u00DC" +
+            "\u00DC\u00DC\u00DE\u00DE\u00E2\u00E2\u00E2\u00E3" +
+            "\u00E3\u00E7\u00E8\u00E9\u00EA\u00EB\u00EC\u00ED" +
+            "\u00EE\u00EF\u00F0\u00F1\u00F2\u00F3\u00F4\u00F5" +
+            "\u0458\u00F6\u045A\u00F7\u00F7\u00F8\u00F8\u00F9" +
+            "\u00FA\u00FB\u00FC\u00FD\u00FE\u00FF\u0100\u0101" +
+            "\u0102\u0103\u0104\u0105\u0106\u0107\u0108\u0109" +
+            "\u0109\u010A\u010A\u010B\u010B\u010E\u00F7\u010F" +
+            "\u00F8\u010C\u010C\u010D\u010D\u0110\u0111\u0112" +
+            "\u0113\u0114\u0115\u0116\u0117\u0118\u0119\u011A" +
+            "\u011B\u011C\u011D\u011E\u011F\u011F\u0120\u0120" +
+            "\u0121\u0121\u0122\u0122\u0123\u0123\u0124\u0125" +
+            "\u0126\u0127\u0128";
+
+    private static final String TRIE_VALUE =
+            "\u0000\u0340\u0341\u01FA\u1E08\u01E0\u0000\u0310" +
+            "\u0000\u01DE\u1EC6\u1EAC\u1E1C\u0344\u1EB6\u1E1E" +
+            "\u0343\u00C0\u00C1\u00C2\u00C3\u0100\u0102\u0000" +
+            "\u00C4\u1EA2\u00C5\u1E2E\u01CD\u0134\u0200\u0202" +
+            "\u1E02\u1EA6\u1EA4\u1EA0\u1EAA\u1E00\u1E38\u0104" +
+            "\u0000\u1EA8\u1EB0\u1EAE\u1E04\u1EB4\u1EC0\u1EBE" +
+            "\u0000\u1EC4\u1EB2\u0000\u1E06\u0000\u1EC2\u0000" +
+            "\u0F81\u0000\u1E14\u1E16\u0000\u0000\u037E\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u1FEF\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u1FFD\u0387\u04D4\u0000\u04D5" +
+            "\u0000\u0000\u04D8\u04E8\u04E0\u04D9\u04E9\u04E1" +
+            "\u0374\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u1FBE\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+            "\u0106\u0108\u1E0A\u0000\u1E3E\u010A\u1E4C\u010E" +
+            "\u1ED8\u1E40\u010C\u01EC\u1E4E\u1E54\u1E0C\u1E50" +
+            "\u1E52\u1E10\u1E56\u1E12\u00C7\u1E42\u1E0E\u00C8" +
+            "\u00C9\u00CA\u1EBC\u0112\u0114\u0116\u00CB\u1EBA" +
+            "\u1ED2\u1ED0\u011A\u1ED6\u0204\u0206\u1E5C\u1E64" +
+            "\u1ED4\u1EB8\u1E66\u1E68\u0000\u0118\u1E18\u1E78" +
+            "\u1E1A\u01F4\u011C\u0124\u1E20\u011E\u0120\u1E22" +
+            "\u1E26\u1E7A\u01E1\u01E6\u01DB\u01D7\u1E8A\u1E8C" +
+            "\u01D5\u01DF\u01FB\u1E24\u1E09\u0122\u1E28\u01D9" +
+            "\u1EC7\u1E2A\u00CC\u00CD\u00CE\u0128\u012A\u012C" +
+            "\u0130\u00CF\u1EC8\u1E30\u0139\u01CF\u1EAD\u0208" +
+            "\u020A\u1EB7\u1E15\u1E17\u1ECA\u01E8\u013D\u1E1D" +
+            "\u012E\u1E1F\u1E7C\u1E2C\u1E32\u1E36\u1E2F\u0136" +
+            "\u013B\u0143\u1E3C\u00D1\u1E34\u1E3A\u1E44\u1EDC" +
+            "\u1EDA\u1E7E\u1EE0\u0147\u1E39\u0135\u1E4D\u1EDE" +
+            "\u1EA7\u1EA5\u1E46\u1EAB\u1E4F\u0145\u01F0\u1E4A" +
+            "\u1EA9\u1EE2\u1E48\u00D2\u00D3\u00D4\u00D5\u014C" +
+            "\u014E\u1ED9\u00D6\u1ECE\u01ED\u0150\u01D1\u1E5D" +
+            "\u020C\u020E\u0154\u1E65\u01A0\u1ECC\u1E67\u1E58" +
+            "\u1E6A\u01EA\u1E51\u1E53\u0158\u0164\u0210\u0212" +
+            "\u015A\u015C\u1E69\u1E5A\u1E6C\u1E60\u0156\u0162" +
+            "\u1E55\u1E70\u0160\u1E5E\u1E6E\u1E57\u1E79\u1E7B" +
+            "\u01FC\u1E62\u1E7D\u01E2\u015E\u00D9\u00DA\u00DB" +
+            "\u0168\u016A\u016C\u01FE\u00DC\u1EE6\u016E\u0170" +
+            "\u01D3\u1E7F\u0214\u0216\u01FF\u1E3F\u01AF\u1EE4" +
+            "\u1E72\u1E9B\u1E41\u0172\u1E76\u04DA\u1E74\u1EEA" +
+            "\u1EE8\u04EA\u1EEE\u1E80\u1E82\u0174\u1E43\u1EEC" +
+            "\u01FD\u1E86\u1E84\u01E3\u1EF2\u00DD\u0176\u1EF8" +
+            "\u01EE\u1EF0\u1E8E\u0178\u1EF6\u1E88\u0179\u1E90" +
+            "\u1E03\u1EB1\u1EAF\u017B\u1EB5\u04DB\u1EF4\u04EB" +
+            "\u017D\u1EB3\u1EC1\u1EBF\u1E05\u1EC5\u01EF\u1E92" +
+            "\u1E8B\u1E8D\u1EC3\u1FEC\u1E07\u1F88\u1F89\u1E94" +
+            "\u00E0\u00E1\u00E2\u00E3\u0101\u0103\u0000\u00E4" +
+            "\u1EA3\u00E5\u1FF4\u01CE\u0407\u0201\u0203\u0403" +
+            "\u0107\u0109\u1EA1\u04DE\u1E01\u010B\u0105\u1E0B" +
+            "\u1ED3\u1ED1\u010D\u1ED7\u010F\u1F1A\u1F1C\u040C" +
+            "\u1ED5\u1F0A\u1F0C\u1E0D\u00E7\u0125\u1E11\u04E6" +
+            "\u1E13\u1E23\u1E27\u1E0F\u00E8\u00E9\u00EA\u1EBD" +
+            "\u0113\u0115\u0117\u00EB\u1EBB\u1E25\u04F4\u011B" +
+            "\u1E29\u0205\u0207\u1E2B\u1F0E\u1E96\u1EB9\u1F1B" +
+            "\u1F1D\u0000\u0119\u1E19\u04F8\u1E1B\u01F5\u011D" +
+            "\u0453\u1E21\u011F\u0121\u1F98\u1F99\u1F4A\u1F4C" +
+            "\u01E7\u00EC\u00ED\u00EE\u0129\u012B\u012D\u1E31" +
+            "\u00EF\u1EC9\u0123\u013A\u01D0\u03D4\u0209\u020B" +
+            "\u04DF\u01E9\u03D3\u1ECB\u0144\u013E\u00F1\u012F" +
+            "\u1E33\u1E45\u1E2D\u0137\u1E37\u045C\u0148\u013C" +
+            "\u1E35\u1E3D\u1F0B\u1F0D\u1E3B\u1E47\u1F4B\u1F4D" +
+            "\u0146\u04E7\u1E4B\u1FA8\u1FA9\u1E49\u00F2\u00F3" +
+            "\u00F4\u00F5\u014D\u014F\u04F5\u00F6\u1ECF\u04F9" +
+            "\u0151\u01D2\u0457\u020D\u020F\u1F0F\u0476\u01A1" +
+            "\u1ECD\u0155\u1EDD\u1EDB\u01EB\u1EE1\u1E59\u015B" +
+            "\u015D\u0477\u1EDF\u0159\u1E61\u0211\u0213\u1F8A" +
+            "\u1F8C\u0161\u1E5B\uFB32\u1EE3\u0157\u1F12\u1F14" +
+            "\u1E63\uFB33\u1E5F\u015F\u1E6B\u1E97\u01DC\u01D8" +
+            "\uFB34\u0165\u01D6\u1F13\u1F15\u1F8B\u1F8D\uFB36" +
+            "\u1E6D\u01DA\u1F8E\u0163\uFB38\u1E71\u1F2A\u1F2C" +
+            "\u1E6F\u00F9\u00FA\u00FB\u0169\u016B\u016D\uFB39" +
+            "\u00FC\u1EE7\u016F\u0171\u01D4\uFB3A\u0215\u0217" +
+            "\u1F8F\uFB3C\u01B0\u1EE5\u1E73\u1F2B\u1F2D\u0173" +
+            "\u1E77\u1F2E\u1E75\u1EEB\u1EE9\uFB3E\u1EEF\u1E81" +
+            "\u1E83\u0175\u04D0\u1EED\u04D2\u1E87\u1E85\u04D6" +
+            "\u1E98\u0401\u1FED\u1FEE\uFB40\u1EF1\u1F9A\u1F9C" +
+            "\u1F2F\u1E89\u1EF3\u00FD\u0177\u1EF9\u0385\uFB41" +
+            "\u1E8F\u00FF\u1EF7\u1E99\u017A\u1E91\u1F9B\u1F9D" +
+            "\uFB43\u017C\u1FC8\u1FC9\u1EF5\u1FC1\u017E\u1FBA" +
+            "\u1FBB\u1F9E\uFB46\u1FB9\u1FB8\u1E93\u0388\u1FCA" +
+            "\u1FCB\u1F18\u1F19\u0386\uFB47\u1E95\u1F08\u1F09" +
+            "\u04C1\u1F9F\u04DC\u0389\u1F3A\u1F3C\u1F28\u1F29" +
+            "\u1FDA\u1FDB\uFB48\u1FBC\u1FD9\u1FD8\uFB4A\u03AA" +
+            "\u1F3B\u1F3D\uFB1F\u1FCC\u038A\u1FF8\u1FF9\u1F38" +
+            "\u1F39\u1F5B\u1F5D\u1F6A\u1F6C\u1F42\u1F44\u1F3E" +
+            "\u0958\u038C\u1FEA\u1FEB\u1F48\u1F49\u1FE9\u1FE8" +
+            "\u04D1\u03AB\u04D3\u1F3F\u1FFA\u1FFB\u038E\u1F6B" +
+            "\u1F6D\u04D7\u1F59\u0451\u1F5F\u04C2\u1F6E\u04DD" +
+            "\u038F\u1FAA\u1FAC\u1F68\u1F69\u1FAB\u1FAD\u1F70" +
+            "\u1F71\u1F02\u1F04\u1FB1\u1FB0\u1F03\u1F05\u0959" +
+            "\u1FFC\u095A\u1F6F\u03AC\u1F82\u1F84\u1F00\u1F01" +
+            "\u1F83\u1F85\u1FB2\u1FB4\u1FAE\u1F22\u1F24\u095B" +
+            "\u1FAF\u095C\u1FB6\u1FB3\u1F06\u1F23\u1F25\u095D" +
+            "\u1F07\u1F80\u1F81\u1F72\u1F73\u1F74\u1F75\u1F86" +
+            "\u1F92\u1F94\u0929\u1F87\u095E\u1FB7\u095F\u03AD" +
+            "\u1F26\u03AE\u1F10\u1F11\u1F20\u1F21\u1FC2\u1FC4" +
+            "\u1F27\u1F93\u1F95\u1F43\u1F45\u1FD2\u1FD3\u0931" +
+            "\u1FC6\u1FC3\u0934\u1F96\u09DC\u1F90\u1F91\u1F76" +
+            "\u1F77\u0390\u09DD\u1FD1\u1FD0\u09B0\u03CA\u1F32" +
+            "\u1F34\u1FC7\u09DF\u03AF\u1F97\u0A59\u1F30\u1F31" +
+            "\u1FD7\u1F33\u1F35\u0A5A\u1F78\u1F79\u1FE4\u1FE5" +
+            "\u1F52\u1F54\u1FD6\u0A5B\u1FE2\u1FE3\u1F53\u1F55" +
+            "\u03CC\u0A5C\u1F36\u1F40\u1F41\u0A5E\u1F7A\u1F7B" +
+            "\u03B0\u0B5C\u1FE1\u1FE0\u1F37\u03CB\u1F7C\u1F7D" +
+            "\u0000\u0B5D\u03CD\u1F56\u1FF2\u1F50\u1F51\u1FE7" +
+            "\u0B5F\u1F57\u03CE\u1F62\u1F64\u1F60\u1F61\u1F63" +
+            "\u1F65\u1FE6\u0B94\u1FA0\u1FA1\u1FA2\u1FA4\u1FA3" +
+            "\u1FA5\u1FF6\u1FF3\u04E2\u0419\u0BCB\u04E4\u1FF7" +
+            "\u0C48\u04EE\u040E\u0CC0\u04F0\u0CCB\u1F66\u04F2" +
+            "\u04E3\u0439\u1F67\u04E5\uFB31\uFB4C\u04EF\u045E" +
+            "\u1FA6\u04F1\u1FA7\u0D4B\u04F3\uFB2E\uFB2F\u0E33" +
+            "\uFB30\uFB4B\uFB35\uFB3B\uFB4D\uFB44\uFB4E\uFB49" +
+            "\u0EB3\uFB2A\uFB2B\uFB2C\uFB2D\u09CB\u09CC\u0B4B" +
+            "\u0B48\u0B4C\u0BCA\u0BCC\u0CCA\u0CC7\u0CC8\u0D4A" +
+            "\u0D4C\u0F69\u0F43\u0F4D\u0F52\u0F57\u0F5C\u0F73" +
+            "\u0F75\u0FB9\u0F93\u0F9D\u0FA2\u0FA7\u0FAC\u0F76" +
+            "\u0F77\u0F78\u0F79\u1FCD\u1FCE\u1FDD\u1FDE\u3094" +
+            "\u304C\u304E\u3050\u3052\u3054\u3056\u3058\u305A" +
+            "\u305C\u305E\u3060\u3062\u3065\u3067\u3069\u3070" +
+            "\u3071\u3073\u3074\u3076\u3077\u309E\u1FCF\u30F4" +
+            "\u1FDF\u3079\u307A\u307C\u307D\u30AC\u30AE\u30B0" +
+            "\u30B2\u30B4\u30B6\u30B8\u30BA\u30BC\u30BE\u30C0" +
+            "\u30C2\u30C5\u30C7\u30C9\u30D0\u30D1\u30D3\u30D4" +
+            "\u30D6\u30D7\u30D9\u30DA\u30DC\u30DD\u30F7\u30F8" +
+            "\u30F9\u30FA\u30FE";
+    /* End of generated tables. */
+
     private static final UnicodeNormalizationToolkit defaultInstance = new UnicodeNormalizationToolkit();
 
-    private Map<Character, char[]> decompositionTable;
-    private TrieNode compositionTrie;
+    /**
+     * Decomposition lookup, first level: for each high byte of a composed
+     * character, the index of its second level block in
+     * <code>decompositionOffsets</code>. Block 0 is empty.
+     */
+    private final char[] decompositionBlocks;
+
+    /**
+     * Decomposition lookup, second level: blocks of 256 entries, indexed by
+     * the low byte of the composed character, holding 1 + the offset of the
+     * character's entry in <code>decompositionData</code>, or 0 if the
+     * character has no decomposition.
+     */
+    private final char[] decompositionOffsets;
+
+    /** The decomposition table as an array (see DECOMPOSITION_TABLE). */
+    private final char[] decompositionData;
+
+    /**
+     * Characters that the composition may replace or merge: the second and
+     * following characters of decomposed sequences, characters that are
+     * decomposed sequences on their own, and Hangul vowels and trailing
+     * consonants. A string without any of these is unaffected by
+     * {@link #compose(String)}. Stored as a bitmap of 65536 bits.
+     */
+    private final long[] compositionTriggers = new long[65536 / 64];
+
+    /**
+     * The alphabet of the composition trie (all characters that occur in
+     * decomposed sequences) maps to dense codes starting at 1. First level
+     * indexed by high byte, giving a block in <code>trieCodes</code> (block 0
+     * maps everything to 0, i.e. not in the alphabet).
+     */
+    private final char[] trieCodeBlocks;
+    private final char[] trieCodes;
+
+    /*
+     * The composition trie as a double array. The root is state 0. The
+     * transition from state s on character code c leads to state
+     * t = trieBase[s] + c if trieCheck[t] == s + 1. trieValue[t] is the
+     * composed character replacing the sequence that leads to t, or 0 if
+     * the sequence isn't complete.
+     */
+    private final char[] trieBase;
+    private final char[] trieCheck;
+    private final char[] trieValue;
 
     /** This class encapsulates code copied from http://unicode.org/reports/tr15/#Hangul in order
 	to deal with Hangul decomposition algorithmically. No indication of any copyright issues.
@@ -74,15 +2211,19 @@ public class UnicodeNormalizationToolkit {
 	    if (T != TBase) result.put((char)T);
 	}
 
-	public static String composeHangul(String source) {
-	    int len = source.length();
-	    if (len == 0) return "";
-	    StringBuilder result = new StringBuilder();
-	    char last = source.charAt(0);            // copy first char
-	    result.append(last);
+        /**
+         * Composes the Hangul syllables of the first <code>len</code>
+         * characters of <code>source</code> in place.
+         *
+         * @return the length of the composed string.
+         */
+	public static int composeHangul(char[] source, int len) {
+	    if (len == 0) return 0;
+	    int resultLength = 1;
+	    char last = source[0];            // copy first char
 
 	    for (int i = 1; i < len; ++i) {
-		char ch = source.charAt(i);
+		char ch = source[i];
 
 		// 1. check to see if two current characters are L and V
 
@@ -95,7 +2236,7 @@ public class UnicodeNormalizationToolkit {
 
 			last = (char)(SBase + (LIndex * VCount + VIndex) * TCount);
 
-			result.setCharAt(result.length()-1, last); // reset last
+			source[resultLength-1] = last; // reset last
 			continue; // discard ch
 		    }
 		}
@@ -111,65 +2252,61 @@ public class UnicodeNormalizationToolkit {
 			// make syllable of form LVT
 
 			last += TIndex;
-			result.setCharAt(result.length()-1, last); // reset last
+			source[resultLength-1] = last; // reset last
 			continue; // discard ch
 		    }
 		}
 		// if neither case was true, just add the character
 		last = ch;
-		result.append(ch);
+		source[resultLength++] = ch;
 	    }
-	    return result.toString();
-	}
-    }
-
-    private static long nextID = 0;
-    private static class TrieNode {
-	private final HashMap<Character, TrieNode> childNodes =
-                new HashMap<Character, TrieNode>();
-	private char[] replacementSequence = null;
-	private char trig;
-	private long id;
-
-	public TrieNode(char trig) { this.trig = trig; this.id = nextID++; }
-
-	public void addChild(char nextChar, TrieNode childNode) {
-	    childNodes.put(nextChar, childNode);
-	}
-	public TrieNode getChild(char nextChar) {
-	    return childNodes.get(nextChar);
-	}
-	public Collection<TrieNode> getChildren() {
-	    return childNodes.values();
-	}
-	public void setReplacementSequence(char[] seq) {
-	    this.replacementSequence = seq;
-	}
-	public char[] getReplacementSequence() { return replacementSequence; }
-
-        @Override
-	public String toString() {
-	    return "{" + id + "} 0x" + Util.toHexStringBE(trig) +
-		(replacementSequence == null?"":(" -> 0x" + Util.toHexStringBE(replacementSequence)));
+	    return resultLength;
 	}
     }
 
     private UnicodeNormalizationToolkit() {
-	this(new HashMap<Character, char[]>());
-    }
-    /** This method can be used in order to tune which Map implementation is used (default is HashMap). */
-    private UnicodeNormalizationToolkit(Map<Character, char[]> decompositionTable) {
-	this.decompositionTable = decompositionTable;
-	buildDecompositionTable(decompositionTable);
-	this.compositionTrie = buildCompositionTrie(decompositionTable);
-	//checkTrie(compositionTrie);
+        this.decompositionData = DECOMPOSITION_TABLE.toCharArray();
+        this.decompositionBlocks = DECOMPOSITION_BLOCKS.toCharArray();
+        this.decompositionOffsets = DECOMPOSITION_OFFSETS.toCharArray();
+        this.trieCodeBlocks = TRIE_CODE_BLOCKS.toCharArray();
+        this.trieCodes = TRIE_CODES.toCharArray();
+        this.trieBase = TRIE_BASE.toCharArray();
+        this.trieCheck = TRIE_CHECK.toCharArray();
+        this.trieValue = TRIE_VALUE.toCharArray();
+        buildCompositionTriggers();
     }
 
     public static UnicodeNormalizationToolkit getDefaultInstance() {
 	return defaultInstance;
     }
+
+    /**
+     * Fills <code>decompositionTable</code> with the decomposition table and
+     * returns the default instance. The tables are no longer stored in a
+     * {@link Map}, so there is nothing left to tune.
+     *
+     * @deprecated Use {@link #getDefaultInstance()} and
+     * {@link #getDecompositionTable()} instead.
+     */
+    @Deprecated
     public static UnicodeNormalizationToolkit getCustomInstance(Map<Character, char[]> decompositionTable) {
-	return new UnicodeNormalizationToolkit(decompositionTable);
+        decompositionTable.putAll(defaultInstance.getDecompositionTable());
+	return defaultInstance;
+    }
+
+    /**
+     * Returns the offset of the decomposition table entry for
+     * <code>c</code> in <code>decompositionData</code>, or -1 if
+     * <code>c</code> has no decomposition (Hangul syllables are decomposed
+     * algorithmically and not part of the table).
+     */
+    private int getDecompositionOffset(char c) {
+        final int block = decompositionBlocks[c >>> 8];
+        return decompositionOffsets[(block << 8) | (c & 0xFF)] - 1;
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= 0xAC00 && c <= 0xD7A3;
     }
 
     /**
@@ -178,20 +2315,18 @@ public class UnicodeNormalizationToolkit {
      * <code>decomposedBuffer</code>.
      */
     public void decompose(char c, CharBuffer decomposedBuffer) {
-	int codepoint = c & 0xFFFF;
-	if(codepoint >= 0xAC00 && codepoint <= 0xD7A3) {
+	if(isHangulSyllable(c)) {
 	    // We have a Hangul character
 	    HangulDecomposition.decomposeHangul(c, decomposedBuffer);
 	}
 	else {
-	    char[] subst = decompositionTable.get(c);
-	    if(subst == null) {
+            final int offset = getDecompositionOffset(c);
+	    if(offset < 0) {
 		decomposedBuffer.put(c);
             }
             else {
-                for(char sc : subst) {
-                    decomposedBuffer.put(sc);
-                }
+                decomposedBuffer.put(decompositionData, offset + 2,
+                        decompositionData[offset + 1]);
             }
 	}
     }
@@ -218,17 +2353,7 @@ public class UnicodeNormalizationToolkit {
      * returning the result as a {@link java.lang.String}.
      */
     public String decompose(char[] composedArray) {
-        final CharBuffer decomposedBuffer =
-                CharBuffer.allocate(composedArray.length *
-                MAX_DECOMPOSED_LENGTH);
-
-        for(char c : composedArray) {
-            decompose(c, decomposedBuffer);
-        }
-
-        decomposedBuffer.limit(decomposedBuffer.position());
-        decomposedBuffer.rewind();
-        return decomposedBuffer.toString();
+        return decompose(CharBuffer.wrap(composedArray));
     }
 
     /**
@@ -237,8 +2362,28 @@ public class UnicodeNormalizationToolkit {
      * returning the result as a {@link java.lang.String}.
      */
     public String decompose(CharBuffer composedBuffer) {
+        /* Fast path: Nothing to decompose. */
+        boolean decomposable = false;
+        for(int i = composedBuffer.position(); i < composedBuffer.limit();
+                ++i)
+        {
+            final char c = composedBuffer.get(i);
+            if(c >= 0xC0 && (isHangulSyllable(c) ||
+                    getDecompositionOffset(c) >= 0))
+            {
+                decomposable = true;
+                break;
+            }
+        }
+
+        if(!decomposable) {
+            final String result = composedBuffer.toString();
+            composedBuffer.position(composedBuffer.limit());
+            return result;
+        }
+
         final CharBuffer decomposedBuffer =
-                CharBuffer.allocate(composedBuffer.length() *
+                CharBuffer.allocate(composedBuffer.remaining() *
                 MAX_DECOMPOSED_LENGTH);
 
         while(composedBuffer.hasRemaining()) {
@@ -250,82 +2395,111 @@ public class UnicodeNormalizationToolkit {
         return decomposedBuffer.toString();
     }
 
+    private boolean isCompositionTrigger(char c) {
+        return (compositionTriggers[c >>> 6] & (1L << (c & 63))) != 0;
+    }
+
+    /**
+     * Composes the decomposed sequences of <code>decomposedString</code> into
+     * their composed characters, always replacing the longest sequence that
+     * has a composed form. Hangul syllables are then composed
+     * algorithmically.<br>
+     * If nothing in the string can be composed (such as for plain ASCII
+     * names), <code>decomposedString</code> itself is returned.
+     */
     public String compose(String decomposedString) {
-	//System.err.println("compose");
-	StringBuilder sb = new StringBuilder();
-	LinkedList<TrieNode> matchSequence = new LinkedList<TrieNode>();
-	for(int i = 0; i < decomposedString.length(); ++i) {
-	    //System.err.println("i = " + i);
-	    char[] replacementSequence = null;
-	    matchSequence.clear();
+        final int length = decomposedString.length();
+
+        /* Fast path: Look for the first character that can take part in a
+         * composition. If there is none, the string is returned as is. */
+        int firstTrigger = 0;
+        while(firstTrigger < length &&
+                !isCompositionTrigger(decomposedString.charAt(firstTrigger)))
+        {
+            ++firstTrigger;
+        }
 
-	    /* First, we loop through the characters, starting at i, and matches characters in the
-	       trie until no more match is found. We push each node in a stack for later processing. */
-	    TrieNode tn = compositionTrie;
-	    int charsRead = 0;
-	    while(tn != null && i+charsRead < decomposedString.length()) {
-		char current = decomposedString.charAt(i+charsRead);
-		tn = tn.getChild(current);
-		if(tn != null) {
-		    matchSequence.addFirst(tn);
-		    ++charsRead;
-		}
-		//System.err.print(" -> 0x" + Util.toHexStringBE(nextChar));
-	    }
-	    //System.err.println(" <BREAK>");
+        if(firstTrigger == length) {
+            return decomposedString;
+        }
 
-	    /* To find the longest matching substring, we must loop from the back of the match
-	       sequence and find the first (last) TrieNode with a replacement sequence. We have
-	       conveniently arranged the match sequence in a LIFO manner, so we just have to loop. */
-	    //System.err.print("  {read:" + charsRead + "}");
-	    for(TrieNode cur : matchSequence) {
-		//System.err.print(cur.toString() + " > ");
-		if(cur.getReplacementSequence() != null) {
-		    //System.err.println("<REPLACEMENT FOUND: " + Util.toHexStringBE(cur.getReplacementSequence()) + ">{read:" + charsRead + "}");
-		    replacementSequence = cur.getReplacementSequence();
-		    break;
-		}
-		else
-		    --charsRead;
-	    }
-//  	    if(replacementSequence == null)
-//  		System.err.println("<NOTHING FOUND>{read:" + charsRead + "}");
+        /* Matches can't start more than MAX_DECOMPOSED_LENGTH - 1 characters
+         * before the first trigger, so everything before that is copied
+         * as is. Compositions only shrink the string, so the input length is
+         * enough for the result. */
+        final char[] result = new char[length];
+        final int start =
+                Math.max(0, firstTrigger - (MAX_DECOMPOSED_LENGTH - 1));
+        decomposedString.getChars(0, start, result, 0);
+        int resultLength = start;
+
+        for(int i = start; i < length; ++i) {
+            /* Walk the trie from position i as far as the characters match,
+             * remembering the longest match that has a replacement. */
+            int state = 0;
+            int matchLength = 0;
+            char replacement = 0;
+            for(int j = i; j < length; ++j) {
+                final int next = getTrieTransition(state,
+                        decomposedString.charAt(j));
+                if(next < 0) {
+                    break;
+                }
 
+                state = next;
+                if(trieValue[state] != 0) {
+                    replacement = trieValue[state];
+                    matchLength = j - i + 1;
+                }
+            }
 
-	    if(replacementSequence != null) {
-		sb.append(replacementSequence);
-		i += charsRead - 1;
-	    }
-	    else
-		sb.append(decomposedString.charAt(i));
-	}
-	return HangulDecomposition.composeHangul(sb.toString());
-    }
+            if(replacement != 0) {
+                result[resultLength++] = replacement;
+                i += matchLength - 1;
+            }
+            else
+                result[resultLength++] = decomposedString.charAt(i);
+        }
 
-    public Map<Character, char[]> getDecompositionTable() {
-	return decompositionTable;
+        resultLength = HangulDecomposition.composeHangul(result, resultLength);
+        return new String(result, 0, resultLength);
     }
 
-    /** Throws a RuntimeException if the trie contains non-leaf nodes with replacement sequences. */
-    private void checkTrie(TrieNode root) {
-	checkTrie(root, "  ");
+    /**
+     * Returns the state reached from trie state <code>state</code> on
+     * character <code>c</code>, or -1 if there is no such transition.
+     */
+    private int getTrieTransition(int state, char c) {
+        final int code = getTrieCode(c);
+        if(code == 0) {
+            return -1;
+        }
+
+        final int next = trieBase[state] + code;
+        if(next >= trieCheck.length || trieCheck[next] != state + 1) {
+            return -1;
+        }
+
+        return next;
     }
-    private void checkTrie(TrieNode root, String prefix) {
-	Collection<TrieNode> children = root.getChildren();
-	//if(children.size() > 0 && root.getReplacementSequence() != null)
-	    //throw new RuntimeException("Inconsistent trie.");
-	if(root.getReplacementSequence() != null) {
-	    System.err.print(prefix + root.toString());// + " -> 0x" + Util.toHexStringBE(root.getReplacementSequence()));
-	    if(children.size() > 0)
-		System.err.println(" <INCONSISTENCY!>");
-	    else
-		System.err.println();
-	}
-	else
-	    System.err.println(prefix + root.toString());
 
-	for(TrieNode tn : children)
-	    checkTrie(tn, prefix + "  ");
+    /**
+     * Returns the decomposition table as a map from composed character to
+     * decomposed characters, sorted by composed character. The map is a copy
+     * and is created on each call.
+     */
+    public Map<Character, char[]> getDecompositionTable() {
+        final TreeMap<Character, char[]> table =
+                new TreeMap<Character, char[]>();
+        for(int i = 0; i < decompositionData.length;
+                i += 2 + decompositionData[i + 1])
+        {
+            table.put(decompositionData[i], Util.arrayCopy(decompositionData,
+                    i + 2, new char[decompositionData[i + 1]], 0,
+                    decompositionData[i + 1]));
+        }
+
+	return table;
     }
 
     /**
@@ -337,10 +2511,9 @@ public class UnicodeNormalizationToolkit {
      */
     /*
     public static void main(String[] args) throws IOException {
-	// Useage of TreeMap is essential to produce a sorted output.
-	UnicodeNormalizationToolkit ud = new UnicodeNormalizationToolkit(new TreeMap<Character, char[]>());
+	UnicodeNormalizationToolkit ud = UnicodeNormalizationToolkit.getDefaultInstance();
 	PrintStream out = new PrintStream(new FileOutputStream(args[0]), true, "US-ASCII");
-	for(Map.Entry<Character, char[]> cur : ud.decompositionTable.entrySet()) {
+	for(Map.Entry<Character, char[]> cur : ud.getDecompositionTable().entrySet()) {
 	    out.println("0x" + Util.toHexStringBE((short)cur.getKey().charValue()).toUpperCase());
 	    char[] subst = cur.getValue();
 	    out.print("0x" + Util.toHexStringBE((short)subst[0]).toUpperCase());
@@ -352,6374 +2525,38 @@ public class UnicodeNormalizationToolkit {
     }
     */
 
-    private static TrieNode buildCompositionTrie(Map<Character, char[]> decompositionTable) {
-	final TrieNode rootNode = new TrieNode('\0');
-	for(Map.Entry<Character, char[]> entry : decompositionTable.entrySet()) {
-	    char key = entry.getKey();
-	    char[] value = entry.getValue();
-
-	    TrieNode currentNode = rootNode;
-	    for(char c : value) {
-		TrieNode nextNode = currentNode.getChild(c);
-		if(nextNode == null) {
-		    nextNode = new TrieNode(c);
-		    currentNode.addChild(c, nextNode);
-		}
-		currentNode = nextNode;
-	    }
-	    currentNode.setReplacementSequence(new char[] { key });
-	}
-	return rootNode;
+    private int getTrieCode(char c) {
+        return trieCodes[(trieCodeBlocks[c >>> 8] << 8) | (c & 0xFF)];
     }
 
-    private static void buildDecompositionTable(Map<Character, char[]> decompositionTable) {
-	char key;
-	char[] subst;
-
-	key = (char)0x00C0;
-	subst = new char[] { (char)0x0041, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00C1;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-
-	key = (char)0x00C2;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00C3;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x00C4;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00C5;
-
-
-	subst = new char[] { (char)0x0041, (char)0x030A };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00C7;
-
-
-	subst = new char[] { (char)0x0043, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00C8;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x00C9;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00CA;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00CB;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00CC;
-
-
-	subst = new char[] { (char)0x0049, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x00CD;
-
-
-	subst = new char[] { (char)0x0049, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00CE;
-
-
-	subst = new char[] { (char)0x0049, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00CF;
-
-
-	subst = new char[] { (char)0x0049, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00D1;
-
-
-	subst = new char[] { (char)0x004E, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x00D2;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00D3;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00D4;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00D5;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x00D6;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00D9;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00DA;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00DB;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x00DC;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00DD;
-
-
-	subst = new char[] { (char)0x0059, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00E0;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00E1;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x00E2;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00E3;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00E4;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00E5;
-
-
-	subst = new char[] { (char)0x0061, (char)0x030A };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x00E7;
-
-
-	subst = new char[] { (char)0x0063, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00E8;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00E9;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00EA;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x00EB;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00EC;
-
-
-	subst = new char[] { (char)0x0069, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00ED;
-
-
-	subst = new char[] { (char)0x0069, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00EE;
-
-
-	subst = new char[] { (char)0x0069, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x00EF;
-
-
-	subst = new char[] { (char)0x0069, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00F1;
-
-
-	subst = new char[] { (char)0x006E, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
+    /** Fills in compositionTriggers from decompositionData. */
+    private void buildCompositionTriggers() {
+        for(int i = 0; i < decompositionData.length;
+                i += 2 + decompositionData[i + 1])
+        {
+            final int length = decompositionData[i + 1];
+            for(int j = (length == 1 ? 0 : 1); j < length; ++j) {
+                setCompositionTrigger(decompositionData[i + 2 + j]);
+            }
+        }
 
-	key = (char)0x00F2;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00F3;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x00F4;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00F5;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00F6;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00F9;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00FA;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x00FB;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00FC;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00FD;
-
-
-	subst = new char[] { (char)0x0079, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x00FF;
-
-
-	subst = new char[] { (char)0x0079, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0100;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0101;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0102;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0103;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0104;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0328 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0105;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0328 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0106;
-
-
-	subst = new char[] { (char)0x0043, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0107;
-
-
-	subst = new char[] { (char)0x0063, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0108;
-
-
-	subst = new char[] { (char)0x0043, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0109;
-
-
-	subst = new char[] { (char)0x0063, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x010A;
-
-
-	subst = new char[] { (char)0x0043, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x010B;
-
-
-	subst = new char[] { (char)0x0063, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x010C;
-
-
-	subst = new char[] { (char)0x0043, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x010D;
-
-
-	subst = new char[] { (char)0x0063, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x010E;
-
-
-	subst = new char[] { (char)0x0044, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x010F;
-
-
-	subst = new char[] { (char)0x0064, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0112;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0113;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0114;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0115;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0116;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0117;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0118;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0328 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0119;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0328 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x011A;
-
-
-	subst = new char[] { (char)0x0045, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x011B;
-
-
-	subst = new char[] { (char)0x0065, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x011C;
-
-
-	subst = new char[] { (char)0x0047, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x011D;
-
-
-	subst = new char[] { (char)0x0067, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x011E;
-
-
-	subst = new char[] { (char)0x0047, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x011F;
-
-
-	subst = new char[] { (char)0x0067, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0120;
-
-
-	subst = new char[] { (char)0x0047, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0121;
-
-
-	subst = new char[] { (char)0x0067, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0122;
-
-
-	subst = new char[] { (char)0x0047, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0123;
-
-
-	subst = new char[] { (char)0x0067, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0124;
-
-
-	subst = new char[] { (char)0x0048, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0125;
-
-
-	subst = new char[] { (char)0x0068, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0128;
-
-
-	subst = new char[] { (char)0x0049, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0129;
-
-
-	subst = new char[] { (char)0x0069, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x012A;
-
-
-	subst = new char[] { (char)0x0049, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x012B;
-
-
-	subst = new char[] { (char)0x0069, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x012C;
-
-
-	subst = new char[] { (char)0x0049, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x012D;
-
-
-	subst = new char[] { (char)0x0069, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x012E;
-
-
-	subst = new char[] { (char)0x0049, (char)0x0328 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x012F;
-
-
-	subst = new char[] { (char)0x0069, (char)0x0328 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0130;
-
-
-	subst = new char[] { (char)0x0049, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0134;
-
-
-	subst = new char[] { (char)0x004A, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0135;
-
-
-	subst = new char[] { (char)0x006A, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0136;
-
-
-	subst = new char[] { (char)0x004B, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0137;
-
-
-	subst = new char[] { (char)0x006B, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0139;
-
-
-	subst = new char[] { (char)0x004C, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x013A;
-
-
-	subst = new char[] { (char)0x006C, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x013B;
-
-
-	subst = new char[] { (char)0x004C, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x013C;
-
-
-	subst = new char[] { (char)0x006C, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x013D;
-
-
-	subst = new char[] { (char)0x004C, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x013E;
-
-
-	subst = new char[] { (char)0x006C, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0143;
-
-
-	subst = new char[] { (char)0x004E, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0144;
-
-
-	subst = new char[] { (char)0x006E, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0145;
-
-
-	subst = new char[] { (char)0x004E, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0146;
-
-
-	subst = new char[] { (char)0x006E, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0147;
-
-
-	subst = new char[] { (char)0x004E, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0148;
-
-
-	subst = new char[] { (char)0x006E, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x014C;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x014D;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x014E;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x014F;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0150;
-
-
-	subst = new char[] { (char)0x004F, (char)0x030B };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0151;
-
-
-	subst = new char[] { (char)0x006F, (char)0x030B };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0154;
-
-
-	subst = new char[] { (char)0x0052, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0155;
-
-
-	subst = new char[] { (char)0x0072, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0156;
-
-
-	subst = new char[] { (char)0x0052, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0157;
-
-
-	subst = new char[] { (char)0x0072, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0158;
-
-
-	subst = new char[] { (char)0x0052, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0159;
-
-
-	subst = new char[] { (char)0x0072, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x015A;
-
-
-	subst = new char[] { (char)0x0053, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x015B;
-
-
-	subst = new char[] { (char)0x0073, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x015C;
-
-
-	subst = new char[] { (char)0x0053, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x015D;
-
-
-	subst = new char[] { (char)0x0073, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x015E;
-
-
-	subst = new char[] { (char)0x0053, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x015F;
-
-
-	subst = new char[] { (char)0x0073, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0160;
-
-
-	subst = new char[] { (char)0x0053, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0161;
-
-
-	subst = new char[] { (char)0x0073, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0162;
-
-
-	subst = new char[] { (char)0x0054, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0163;
-
-
-	subst = new char[] { (char)0x0074, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0164;
-
-
-	subst = new char[] { (char)0x0054, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0165;
-
-
-	subst = new char[] { (char)0x0074, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0168;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0169;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x016A;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x016B;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x016C;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x016D;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x016E;
-
-
-	subst = new char[] { (char)0x0055, (char)0x030A };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x016F;
-
-
-	subst = new char[] { (char)0x0075, (char)0x030A };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0170;
-
-
-	subst = new char[] { (char)0x0055, (char)0x030B };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0171;
-
-
-	subst = new char[] { (char)0x0075, (char)0x030B };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0172;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0328 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0173;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0328 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0174;
-
-
-	subst = new char[] { (char)0x0057, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0175;
-
-
-	subst = new char[] { (char)0x0077, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0176;
-
-
-	subst = new char[] { (char)0x0059, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0177;
-
-
-	subst = new char[] { (char)0x0079, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0178;
-
-
-	subst = new char[] { (char)0x0059, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0179;
-
-
-	subst = new char[] { (char)0x005A, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x017A;
-
-
-	subst = new char[] { (char)0x007A, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x017B;
-
-
-	subst = new char[] { (char)0x005A, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x017C;
-
-
-	subst = new char[] { (char)0x007A, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x017D;
-
-
-	subst = new char[] { (char)0x005A, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x017E;
-
-
-	subst = new char[] { (char)0x007A, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01A0;
-
-
-	subst = new char[] { (char)0x004F, (char)0x031B };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01A1;
-
-
-	subst = new char[] { (char)0x006F, (char)0x031B };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01AF;
-
-
-	subst = new char[] { (char)0x0055, (char)0x031B };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x01B0;
-
-
-	subst = new char[] { (char)0x0075, (char)0x031B };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01CD;
-
-
-	subst = new char[] { (char)0x0041, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01CE;
-
-
-	subst = new char[] { (char)0x0061, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01CF;
-
-
-	subst = new char[] { (char)0x0049, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x01D0;
-
-
-	subst = new char[] { (char)0x0069, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01D1;
-
-
-	subst = new char[] { (char)0x004F, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01D2;
-
-
-	subst = new char[] { (char)0x006F, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01D3;
-
-
-	subst = new char[] { (char)0x0055, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x01D4;
-
-
-	subst = new char[] { (char)0x0075, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01D5;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0308, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01D6;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0308, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01D7;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0308, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x01D8;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0308, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01D9;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0308, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01DA;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0308, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01DB;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0308, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x01DC;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0308, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01DE;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0308, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01DF;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0308, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01E0;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0307, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x01E1;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0307, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01E2;
-
-
-	subst = new char[] { (char)0x00C6, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01E3;
-
-
-	subst = new char[] { (char)0x00E6, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01E6;
-
-
-	subst = new char[] { (char)0x0047, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x01E7;
-
-
-	subst = new char[] { (char)0x0067, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01E8;
-
-
-	subst = new char[] { (char)0x004B, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01E9;
-
-
-	subst = new char[] { (char)0x006B, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01EA;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0328 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x01EB;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0328 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01EC;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0328, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01ED;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0328, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01EE;
-
-
-	subst = new char[] { (char)0x01B7, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x01EF;
-
-
-	subst = new char[] { (char)0x0292, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01F0;
-
-
-	subst = new char[] { (char)0x006A, (char)0x030C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01F4;
-
-
-	subst = new char[] { (char)0x0047, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01F5;
-
-
-	subst = new char[] { (char)0x0067, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x01FA;
-
-
-	subst = new char[] { (char)0x0041, (char)0x030A, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01FB;
-
-
-	subst = new char[] { (char)0x0061, (char)0x030A, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01FC;
-
-
-	subst = new char[] { (char)0x00C6, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01FD;
-
-
-	subst = new char[] { (char)0x00E6, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x01FE;
-
-
-	subst = new char[] { (char)0x00D8, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x01FF;
-
-
-	subst = new char[] { (char)0x00F8, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0200;
-
-
-	subst = new char[] { (char)0x0041, (char)0x030F };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0201;
-
-
-	subst = new char[] { (char)0x0061, (char)0x030F };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0202;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0311 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0203;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0311 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0204;
-
-
-	subst = new char[] { (char)0x0045, (char)0x030F };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0205;
-
-
-	subst = new char[] { (char)0x0065, (char)0x030F };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0206;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0311 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0207;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0311 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0208;
-
-
-	subst = new char[] { (char)0x0049, (char)0x030F };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0209;
-
-
-	subst = new char[] { (char)0x0069, (char)0x030F };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x020A;
-
-
-	subst = new char[] { (char)0x0049, (char)0x0311 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x020B;
-
-
-	subst = new char[] { (char)0x0069, (char)0x0311 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x020C;
-
-
-	subst = new char[] { (char)0x004F, (char)0x030F };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x020D;
-
-
-	subst = new char[] { (char)0x006F, (char)0x030F };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x020E;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0311 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x020F;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0311 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0210;
-
-
-	subst = new char[] { (char)0x0052, (char)0x030F };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0211;
-
-
-	subst = new char[] { (char)0x0072, (char)0x030F };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0212;
-
-
-	subst = new char[] { (char)0x0052, (char)0x0311 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0213;
-
-
-	subst = new char[] { (char)0x0072, (char)0x0311 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0214;
-
-
-	subst = new char[] { (char)0x0055, (char)0x030F };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0215;
-
-
-	subst = new char[] { (char)0x0075, (char)0x030F };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0216;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0311 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0217;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0311 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0310;
-
-
-	subst = new char[] { (char)0x0306, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0340;
-
-
-	subst = new char[] { (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0341;
-
-
-	subst = new char[] { (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0343;
-
-
-	subst = new char[] { (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0344;
-
-
-	subst = new char[] { (char)0x0308, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0374;
-
-
-	subst = new char[] { (char)0x02B9 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x037E;
-
-
-	subst = new char[] { (char)0x003B };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0385;
-
-
-	subst = new char[] { (char)0x00A8, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0386;
-
-
-	subst = new char[] { (char)0x0391, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0387;
-
-
-	subst = new char[] { (char)0x00B7 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0388;
-
-
-	subst = new char[] { (char)0x0395, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0389;
-
-
-	subst = new char[] { (char)0x0397, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x038A;
-
-
-	subst = new char[] { (char)0x0399, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x038C;
-
-
-	subst = new char[] { (char)0x039F, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x038E;
-
-
-	subst = new char[] { (char)0x03A5, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x038F;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0390;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0308, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x03AA;
-
-
-	subst = new char[] { (char)0x0399, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x03AB;
-
-
-	subst = new char[] { (char)0x03A5, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x03AC;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x03AD;
-
-
-	subst = new char[] { (char)0x03B5, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x03AE;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x03AF;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x03B0;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0308, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x03CA;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x03CB;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x03CC;
-
-
-	subst = new char[] { (char)0x03BF, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x03CD;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x03CE;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x03D3;
-
-
-	subst = new char[] { (char)0x03D2, (char)0x030D };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x03D4;
-
-
-	subst = new char[] { (char)0x03D2, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0401;
-
-
-	subst = new char[] { (char)0x0415, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0403;
-
-
-	subst = new char[] { (char)0x0413, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0407;
-
-
-	subst = new char[] { (char)0x0406, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x040C;
-
-
-	subst = new char[] { (char)0x041A, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x040E;
-
-
-	subst = new char[] { (char)0x0423, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0419;
-
-
-	subst = new char[] { (char)0x0418, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0439;
-
-
-	subst = new char[] { (char)0x0438, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0451;
-
-
-	subst = new char[] { (char)0x0435, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0453;
-
-
-	subst = new char[] { (char)0x0433, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0457;
-
-
-	subst = new char[] { (char)0x0456, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x045C;
-
-
-	subst = new char[] { (char)0x043A, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x045E;
-
-
-	subst = new char[] { (char)0x0443, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0476;
-
-
-	subst = new char[] { (char)0x0474, (char)0x030F };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0477;
-
-
-	subst = new char[] { (char)0x0475, (char)0x030F };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04C1;
-
-
-	subst = new char[] { (char)0x0416, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04C2;
-
-
-	subst = new char[] { (char)0x0436, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04D0;
-
-
-	subst = new char[] { (char)0x0410, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04D1;
-
-
-	subst = new char[] { (char)0x0430, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04D2;
-
-
-	subst = new char[] { (char)0x0410, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04D3;
-
-
-	subst = new char[] { (char)0x0430, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04D4;
-
-
-	subst = new char[] { (char)0x00C6 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04D5;
-
-
-	subst = new char[] { (char)0x00E6 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04D6;
-
-
-	subst = new char[] { (char)0x0415, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04D7;
-
-
-	subst = new char[] { (char)0x0435, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04D8;
-
-
-	subst = new char[] { (char)0x018F };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04D9;
-
-
-	subst = new char[] { (char)0x0259 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04DA;
-
-
-	subst = new char[] { (char)0x018F, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04DB;
-
-
-	subst = new char[] { (char)0x0259, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04DC;
-
-
-	subst = new char[] { (char)0x0416, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04DD;
-
-
-	subst = new char[] { (char)0x0436, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04DE;
-
-
-	subst = new char[] { (char)0x0417, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04DF;
-
-
-	subst = new char[] { (char)0x0437, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04E0;
-
-
-	subst = new char[] { (char)0x01B7 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04E1;
-
-
-	subst = new char[] { (char)0x0292 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04E2;
-
-
-	subst = new char[] { (char)0x0418, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04E3;
-
-
-	subst = new char[] { (char)0x0438, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04E4;
-
-
-	subst = new char[] { (char)0x0418, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04E5;
-
-
-	subst = new char[] { (char)0x0438, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04E6;
-
-
-	subst = new char[] { (char)0x041E, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04E7;
-
-
-	subst = new char[] { (char)0x043E, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04E8;
-
-
-	subst = new char[] { (char)0x019F };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04E9;
-
-
-	subst = new char[] { (char)0x0275 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04EA;
-
-
-	subst = new char[] { (char)0x019F, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04EB;
-
-
-	subst = new char[] { (char)0x0275, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04EE;
-
-
-	subst = new char[] { (char)0x0423, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04EF;
-
-
-	subst = new char[] { (char)0x0443, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04F0;
-
-
-	subst = new char[] { (char)0x0423, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04F1;
-
-
-	subst = new char[] { (char)0x0443, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04F2;
-
-
-	subst = new char[] { (char)0x0423, (char)0x030B };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04F3;
-
-
-	subst = new char[] { (char)0x0443, (char)0x030B };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04F4;
-
-
-	subst = new char[] { (char)0x0427, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x04F5;
-
-
-	subst = new char[] { (char)0x0447, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04F8;
-
-
-	subst = new char[] { (char)0x042B, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x04F9;
-
-
-	subst = new char[] { (char)0x044B, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0929;
-
-
-	subst = new char[] { (char)0x0928, (char)0x093C };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0931;
-
-
-	subst = new char[] { (char)0x0930, (char)0x093C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0934;
-
-
-	subst = new char[] { (char)0x0933, (char)0x093C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0958;
-
-
-	subst = new char[] { (char)0x0915, (char)0x093C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0959;
-
-
-	subst = new char[] { (char)0x0916, (char)0x093C };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x095A;
-
-
-	subst = new char[] { (char)0x0917, (char)0x093C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x095B;
-
-
-	subst = new char[] { (char)0x091C, (char)0x093C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x095C;
-
-
-	subst = new char[] { (char)0x0921, (char)0x093C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x095D;
-
-
-	subst = new char[] { (char)0x0922, (char)0x093C };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x095E;
-
-
-	subst = new char[] { (char)0x092B, (char)0x093C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x095F;
-
-
-	subst = new char[] { (char)0x092F, (char)0x093C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x09B0;
-
-
-	subst = new char[] { (char)0x09AC, (char)0x09BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x09CB;
-
-
-	subst = new char[] { (char)0x09C7, (char)0x09BE };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x09CC;
-
-
-	subst = new char[] { (char)0x09C7, (char)0x09D7 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x09DC;
-
-
-	subst = new char[] { (char)0x09A1, (char)0x09BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x09DD;
-
-
-	subst = new char[] { (char)0x09A2, (char)0x09BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x09DF;
-
-
-	subst = new char[] { (char)0x09AF, (char)0x09BC };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0A59;
-
-
-	subst = new char[] { (char)0x0A16, (char)0x0A3C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0A5A;
-
-
-	subst = new char[] { (char)0x0A17, (char)0x0A3C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0A5B;
-
-
-	subst = new char[] { (char)0x0A1C, (char)0x0A3C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0A5C;
-
-
-	subst = new char[] { (char)0x0A21, (char)0x0A3C };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0A5E;
-
-
-	subst = new char[] { (char)0x0A2B, (char)0x0A3C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0B48;
-
-
-	subst = new char[] { (char)0x0B47, (char)0x0B56 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0B4B;
-
-
-	subst = new char[] { (char)0x0B47, (char)0x0B3E };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0B4C;
-
-
-	subst = new char[] { (char)0x0B47, (char)0x0B57 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0B5C;
-
-
-	subst = new char[] { (char)0x0B21, (char)0x0B3C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0B5D;
-
-
-	subst = new char[] { (char)0x0B22, (char)0x0B3C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0B5F;
-
-
-	subst = new char[] { (char)0x0B2F, (char)0x0B3C };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0B94;
-
-
-	subst = new char[] { (char)0x0B92, (char)0x0BD7 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0BCA;
-
-
-	subst = new char[] { (char)0x0BC6, (char)0x0BBE };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0BCB;
-
-
-	subst = new char[] { (char)0x0BC7, (char)0x0BBE };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0BCC;
-
-
-	subst = new char[] { (char)0x0BC6, (char)0x0BD7 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0C48;
-
-
-	subst = new char[] { (char)0x0C46, (char)0x0C56 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0CC0;
-
-
-	subst = new char[] { (char)0x0CBF, (char)0x0CD5 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0CC7;
-
-
-	subst = new char[] { (char)0x0CC6, (char)0x0CD5 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0CC8;
-
-
-	subst = new char[] { (char)0x0CC6, (char)0x0CD6 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0CCA;
-
-
-	subst = new char[] { (char)0x0CC6, (char)0x0CC2 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0CCB;
-
-
-	subst = new char[] { (char)0x0CC6, (char)0x0CC2, (char)0x0CD5 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0D4A;
-
-
-	subst = new char[] { (char)0x0D46, (char)0x0D3E };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0D4B;
-
-
-	subst = new char[] { (char)0x0D47, (char)0x0D3E };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0D4C;
-
-
-	subst = new char[] { (char)0x0D46, (char)0x0D57 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0E33;
-
-
-	subst = new char[] { (char)0x0E4D, (char)0x0E32 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0EB3;
-
-
-	subst = new char[] { (char)0x0ECD, (char)0x0EB2 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0F43;
-
-
-	subst = new char[] { (char)0x0F42, (char)0x0FB7 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0F4D;
-
-
-	subst = new char[] { (char)0x0F4C, (char)0x0FB7 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0F52;
-
-
-	subst = new char[] { (char)0x0F51, (char)0x0FB7 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0F57;
-
-
-	subst = new char[] { (char)0x0F56, (char)0x0FB7 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0F5C;
-
-
-	subst = new char[] { (char)0x0F5B, (char)0x0FB7 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0F69;
-
-
-	subst = new char[] { (char)0x0F40, (char)0x0FB5 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0F73;
-
-
-	subst = new char[] { (char)0x0F72, (char)0x0F71 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0F75;
-
-
-	subst = new char[] { (char)0x0F74, (char)0x0F71 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0F76;
-
-
-	subst = new char[] { (char)0x0FB2, (char)0x0F80 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0F77;
-
-
-	subst = new char[] { (char)0x0FB2, (char)0x0F80, (char)0x0F71 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0F78;
-
-
-	subst = new char[] { (char)0x0FB3, (char)0x0F80 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0F79;
-
-
-	subst = new char[] { (char)0x0FB3, (char)0x0F80, (char)0x0F71 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0F81;
-
-
-	subst = new char[] { (char)0x0F80, (char)0x0F71 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0F93;
-
-
-	subst = new char[] { (char)0x0F92, (char)0x0FB7 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0F9D;
-
-
-	subst = new char[] { (char)0x0F9C, (char)0x0FB7 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x0FA2;
-
-
-	subst = new char[] { (char)0x0FA1, (char)0x0FB7 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0FA7;
-
-
-	subst = new char[] { (char)0x0FA6, (char)0x0FB7 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0FAC;
-
-
-	subst = new char[] { (char)0x0FAB, (char)0x0FB7 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x0FB9;
-
-
-	subst = new char[] { (char)0x0F90, (char)0x0FB5 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E00;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0325 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E01;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0325 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E02;
-
-
-	subst = new char[] { (char)0x0042, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E03;
-
-
-	subst = new char[] { (char)0x0062, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E04;
-
-
-	subst = new char[] { (char)0x0042, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E05;
-
-
-	subst = new char[] { (char)0x0062, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E06;
-
-
-	subst = new char[] { (char)0x0042, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E07;
-
-
-	subst = new char[] { (char)0x0062, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E08;
-
-
-	subst = new char[] { (char)0x0043, (char)0x0327, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E09;
-
-
-	subst = new char[] { (char)0x0063, (char)0x0327, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E0A;
-
-
-	subst = new char[] { (char)0x0044, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E0B;
-
-
-	subst = new char[] { (char)0x0064, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E0C;
-
-
-	subst = new char[] { (char)0x0044, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E0D;
-
-
-	subst = new char[] { (char)0x0064, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E0E;
-
-
-	subst = new char[] { (char)0x0044, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E0F;
-
-
-	subst = new char[] { (char)0x0064, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E10;
-
-
-	subst = new char[] { (char)0x0044, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E11;
-
-
-	subst = new char[] { (char)0x0064, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E12;
-
-
-	subst = new char[] { (char)0x0044, (char)0x032D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E13;
-
-
-	subst = new char[] { (char)0x0064, (char)0x032D };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E14;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0304, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E15;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0304, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E16;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0304, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E17;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0304, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E18;
-
-
-	subst = new char[] { (char)0x0045, (char)0x032D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E19;
-
-
-	subst = new char[] { (char)0x0065, (char)0x032D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E1A;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0330 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E1B;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0330 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E1C;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0327, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E1D;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0327, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E1E;
-
-
-	subst = new char[] { (char)0x0046, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E1F;
-
-
-	subst = new char[] { (char)0x0066, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E20;
-
-
-	subst = new char[] { (char)0x0047, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E21;
-
-
-	subst = new char[] { (char)0x0067, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E22;
-
-
-	subst = new char[] { (char)0x0048, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E23;
-
-
-	subst = new char[] { (char)0x0068, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E24;
-
-
-	subst = new char[] { (char)0x0048, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E25;
-
-
-	subst = new char[] { (char)0x0068, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E26;
-
-
-	subst = new char[] { (char)0x0048, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E27;
-
-
-	subst = new char[] { (char)0x0068, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E28;
-
-
-	subst = new char[] { (char)0x0048, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E29;
-
-
-	subst = new char[] { (char)0x0068, (char)0x0327 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E2A;
-
-
-	subst = new char[] { (char)0x0048, (char)0x032E };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E2B;
-
-
-	subst = new char[] { (char)0x0068, (char)0x032E };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E2C;
-
-
-	subst = new char[] { (char)0x0049, (char)0x0330 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E2D;
-
-
-	subst = new char[] { (char)0x0069, (char)0x0330 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E2E;
-
-
-	subst = new char[] { (char)0x0049, (char)0x0308, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E2F;
-
-
-	subst = new char[] { (char)0x0069, (char)0x0308, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E30;
-
-
-	subst = new char[] { (char)0x004B, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E31;
-
-
-	subst = new char[] { (char)0x006B, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E32;
-
-
-	subst = new char[] { (char)0x004B, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E33;
-
-
-	subst = new char[] { (char)0x006B, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E34;
-
-
-	subst = new char[] { (char)0x004B, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E35;
-
-
-	subst = new char[] { (char)0x006B, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E36;
-
-
-	subst = new char[] { (char)0x004C, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E37;
-
-
-	subst = new char[] { (char)0x006C, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E38;
-
-
-	subst = new char[] { (char)0x004C, (char)0x0323, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E39;
-
-
-	subst = new char[] { (char)0x006C, (char)0x0323, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E3A;
-
-
-	subst = new char[] { (char)0x004C, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E3B;
-
-
-	subst = new char[] { (char)0x006C, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E3C;
-
-
-	subst = new char[] { (char)0x004C, (char)0x032D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E3D;
-
-
-	subst = new char[] { (char)0x006C, (char)0x032D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E3E;
-
-
-	subst = new char[] { (char)0x004D, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E3F;
-
-
-	subst = new char[] { (char)0x006D, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E40;
-
-
-	subst = new char[] { (char)0x004D, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E41;
-
-
-	subst = new char[] { (char)0x006D, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E42;
-
-
-	subst = new char[] { (char)0x004D, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E43;
-
-
-	subst = new char[] { (char)0x006D, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E44;
-
-
-	subst = new char[] { (char)0x004E, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E45;
-
-
-	subst = new char[] { (char)0x006E, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E46;
-
-
-	subst = new char[] { (char)0x004E, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E47;
-
-
-	subst = new char[] { (char)0x006E, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E48;
-
-
-	subst = new char[] { (char)0x004E, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E49;
-
-
-	subst = new char[] { (char)0x006E, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E4A;
-
-
-	subst = new char[] { (char)0x004E, (char)0x032D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E4B;
-
-
-	subst = new char[] { (char)0x006E, (char)0x032D };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E4C;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0303, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E4D;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0303, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E4E;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0303, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E4F;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0303, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E50;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0304, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E51;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0304, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E52;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0304, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E53;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0304, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E54;
-
-
-	subst = new char[] { (char)0x0050, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E55;
-
-
-	subst = new char[] { (char)0x0070, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E56;
-
-
-	subst = new char[] { (char)0x0050, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E57;
-
-
-	subst = new char[] { (char)0x0070, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E58;
-
-
-	subst = new char[] { (char)0x0052, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E59;
-
-
-	subst = new char[] { (char)0x0072, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E5A;
-
-
-	subst = new char[] { (char)0x0052, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E5B;
-
-
-	subst = new char[] { (char)0x0072, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E5C;
-
-
-	subst = new char[] { (char)0x0052, (char)0x0323, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E5D;
-
-
-	subst = new char[] { (char)0x0072, (char)0x0323, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E5E;
-
-
-	subst = new char[] { (char)0x0052, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E5F;
-
-
-	subst = new char[] { (char)0x0072, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E60;
-
-
-	subst = new char[] { (char)0x0053, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E61;
-
-
-	subst = new char[] { (char)0x0073, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E62;
-
-
-	subst = new char[] { (char)0x0053, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E63;
-
-
-	subst = new char[] { (char)0x0073, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E64;
-
-
-	subst = new char[] { (char)0x0053, (char)0x0301, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E65;
-
-
-	subst = new char[] { (char)0x0073, (char)0x0301, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E66;
-
-
-	subst = new char[] { (char)0x0053, (char)0x030C, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E67;
-
-
-	subst = new char[] { (char)0x0073, (char)0x030C, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E68;
-
-
-	subst = new char[] { (char)0x0053, (char)0x0323, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E69;
-
-
-	subst = new char[] { (char)0x0073, (char)0x0323, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E6A;
-
-
-	subst = new char[] { (char)0x0054, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E6B;
-
-
-	subst = new char[] { (char)0x0074, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E6C;
-
-
-	subst = new char[] { (char)0x0054, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E6D;
-
-
-	subst = new char[] { (char)0x0074, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E6E;
-
-
-	subst = new char[] { (char)0x0054, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E6F;
-
-
-	subst = new char[] { (char)0x0074, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E70;
-
-
-	subst = new char[] { (char)0x0054, (char)0x032D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E71;
-
-
-	subst = new char[] { (char)0x0074, (char)0x032D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E72;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0324 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E73;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0324 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E74;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0330 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E75;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0330 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E76;
-
-
-	subst = new char[] { (char)0x0055, (char)0x032D };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E77;
-
-
-	subst = new char[] { (char)0x0075, (char)0x032D };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E78;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0303, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E79;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0303, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E7A;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0304, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E7B;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0304, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E7C;
-
-
-	subst = new char[] { (char)0x0056, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E7D;
-
-
-	subst = new char[] { (char)0x0076, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E7E;
-
-
-	subst = new char[] { (char)0x0056, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E7F;
-
-
-	subst = new char[] { (char)0x0076, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E80;
-
-
-	subst = new char[] { (char)0x0057, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E81;
-
-
-	subst = new char[] { (char)0x0077, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E82;
-
-
-	subst = new char[] { (char)0x0057, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E83;
-
-
-	subst = new char[] { (char)0x0077, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E84;
-
-
-	subst = new char[] { (char)0x0057, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E85;
-
-
-	subst = new char[] { (char)0x0077, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E86;
-
-
-	subst = new char[] { (char)0x0057, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E87;
-
-
-	subst = new char[] { (char)0x0077, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E88;
-
-
-	subst = new char[] { (char)0x0057, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E89;
-
-
-	subst = new char[] { (char)0x0077, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E8A;
-
-
-	subst = new char[] { (char)0x0058, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E8B;
-
-
-	subst = new char[] { (char)0x0078, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E8C;
-
-
-	subst = new char[] { (char)0x0058, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E8D;
-
-
-	subst = new char[] { (char)0x0078, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E8E;
-
-
-	subst = new char[] { (char)0x0059, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E8F;
-
-
-	subst = new char[] { (char)0x0079, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E90;
-
-
-	subst = new char[] { (char)0x005A, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E91;
-
-
-	subst = new char[] { (char)0x007A, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E92;
-
-
-	subst = new char[] { (char)0x005A, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E93;
-
-
-	subst = new char[] { (char)0x007A, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E94;
-
-
-	subst = new char[] { (char)0x005A, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E95;
-
-
-	subst = new char[] { (char)0x007A, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E96;
-
-
-	subst = new char[] { (char)0x0068, (char)0x0331 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E97;
-
-
-	subst = new char[] { (char)0x0074, (char)0x0308 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E98;
-
-
-	subst = new char[] { (char)0x0077, (char)0x030A };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1E99;
-
-
-	subst = new char[] { (char)0x0079, (char)0x030A };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1E9B;
-
-
-	subst = new char[] { (char)0x017F, (char)0x0307 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EA0;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EA1;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EA2;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EA3;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EA4;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0302, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EA5;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0302, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EA6;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0302, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EA7;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0302, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EA8;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0302, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EA9;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0302, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EAA;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0302, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EAB;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0302, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EAC;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0323, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EAD;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0323, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EAE;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0306, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EAF;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0306, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EB0;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0306, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EB1;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0306, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EB2;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0306, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EB3;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0306, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EB4;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0306, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EB5;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0306, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EB6;
-
-
-	subst = new char[] { (char)0x0041, (char)0x0323, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EB7;
-
-
-	subst = new char[] { (char)0x0061, (char)0x0323, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EB8;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EB9;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EBA;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EBB;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EBC;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EBD;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EBE;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0302, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EBF;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0302, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EC0;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0302, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EC1;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0302, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EC2;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0302, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EC3;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0302, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EC4;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0302, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EC5;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0302, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EC6;
-
-
-	subst = new char[] { (char)0x0045, (char)0x0323, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EC7;
-
-
-	subst = new char[] { (char)0x0065, (char)0x0323, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EC8;
-
-
-	subst = new char[] { (char)0x0049, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EC9;
-
-
-	subst = new char[] { (char)0x0069, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1ECA;
-
-
-	subst = new char[] { (char)0x0049, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1ECB;
-
-
-	subst = new char[] { (char)0x0069, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1ECC;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1ECD;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1ECE;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1ECF;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1ED0;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0302, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1ED1;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0302, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1ED2;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0302, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1ED3;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0302, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1ED4;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0302, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1ED5;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0302, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1ED6;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0302, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1ED7;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0302, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1ED8;
-
-
-	subst = new char[] { (char)0x004F, (char)0x0323, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1ED9;
-
-
-	subst = new char[] { (char)0x006F, (char)0x0323, (char)0x0302 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EDA;
-
-
-	subst = new char[] { (char)0x004F, (char)0x031B, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EDB;
-
-
-	subst = new char[] { (char)0x006F, (char)0x031B, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EDC;
-
-
-	subst = new char[] { (char)0x004F, (char)0x031B, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EDD;
-
-
-	subst = new char[] { (char)0x006F, (char)0x031B, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EDE;
-
-
-	subst = new char[] { (char)0x004F, (char)0x031B, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EDF;
-
-
-	subst = new char[] { (char)0x006F, (char)0x031B, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EE0;
-
-
-	subst = new char[] { (char)0x004F, (char)0x031B, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EE1;
-
-
-	subst = new char[] { (char)0x006F, (char)0x031B, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EE2;
-
-
-	subst = new char[] { (char)0x004F, (char)0x031B, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EE3;
-
-
-	subst = new char[] { (char)0x006F, (char)0x031B, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EE4;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EE5;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EE6;
-
-
-	subst = new char[] { (char)0x0055, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EE7;
-
-
-	subst = new char[] { (char)0x0075, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EE8;
-
-
-	subst = new char[] { (char)0x0055, (char)0x031B, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EE9;
-
-
-	subst = new char[] { (char)0x0075, (char)0x031B, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EEA;
-
-
-	subst = new char[] { (char)0x0055, (char)0x031B, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EEB;
-
-
-	subst = new char[] { (char)0x0075, (char)0x031B, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EEC;
-
-
-	subst = new char[] { (char)0x0055, (char)0x031B, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EED;
-
-
-	subst = new char[] { (char)0x0075, (char)0x031B, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EEE;
-
-
-	subst = new char[] { (char)0x0055, (char)0x031B, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EEF;
-
-
-	subst = new char[] { (char)0x0075, (char)0x031B, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EF0;
-
-
-	subst = new char[] { (char)0x0055, (char)0x031B, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EF1;
-
-
-	subst = new char[] { (char)0x0075, (char)0x031B, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EF2;
-
-
-	subst = new char[] { (char)0x0059, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EF3;
-
-
-	subst = new char[] { (char)0x0079, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EF4;
-
-
-	subst = new char[] { (char)0x0059, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EF5;
-
-
-	subst = new char[] { (char)0x0079, (char)0x0323 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1EF6;
-
-
-	subst = new char[] { (char)0x0059, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EF7;
-
-
-	subst = new char[] { (char)0x0079, (char)0x0309 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EF8;
-
-
-	subst = new char[] { (char)0x0059, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1EF9;
-
-
-	subst = new char[] { (char)0x0079, (char)0x0303 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F00;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F01;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F02;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F03;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F04;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F05;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F06;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0313, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F07;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F08;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F09;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F0A;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F0B;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F0C;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F0D;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F0E;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0313, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F0F;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F10;
-
-
-	subst = new char[] { (char)0x03B5, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F11;
-
-
-	subst = new char[] { (char)0x03B5, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F12;
-
-
-	subst = new char[] { (char)0x03B5, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F13;
-
-
-	subst = new char[] { (char)0x03B5, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F14;
-
-
-	subst = new char[] { (char)0x03B5, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F15;
-
-
-	subst = new char[] { (char)0x03B5, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F18;
-
-
-	subst = new char[] { (char)0x0395, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F19;
-
-
-	subst = new char[] { (char)0x0395, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F1A;
-
-
-	subst = new char[] { (char)0x0395, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F1B;
-
-
-	subst = new char[] { (char)0x0395, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F1C;
-
-
-	subst = new char[] { (char)0x0395, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F1D;
-
-
-	subst = new char[] { (char)0x0395, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F20;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F21;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F22;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F23;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F24;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F25;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F26;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0313, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F27;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F28;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F29;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F2A;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F2B;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F2C;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F2D;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F2E;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0313, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F2F;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F30;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F31;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F32;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F33;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F34;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F35;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F36;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0313, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F37;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F38;
-
-
-	subst = new char[] { (char)0x0399, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F39;
-
-
-	subst = new char[] { (char)0x0399, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F3A;
-
-
-	subst = new char[] { (char)0x0399, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F3B;
-
-
-	subst = new char[] { (char)0x0399, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F3C;
-
-
-	subst = new char[] { (char)0x0399, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F3D;
-
-
-	subst = new char[] { (char)0x0399, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F3E;
-
-
-	subst = new char[] { (char)0x0399, (char)0x0313, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F3F;
-
-
-	subst = new char[] { (char)0x0399, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F40;
-
-
-	subst = new char[] { (char)0x03BF, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F41;
-
-
-	subst = new char[] { (char)0x03BF, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F42;
-
-
-	subst = new char[] { (char)0x03BF, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F43;
-
-
-	subst = new char[] { (char)0x03BF, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F44;
-
-
-	subst = new char[] { (char)0x03BF, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F45;
-
-
-	subst = new char[] { (char)0x03BF, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F48;
-
-
-	subst = new char[] { (char)0x039F, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F49;
-
-
-	subst = new char[] { (char)0x039F, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F4A;
-
-
-	subst = new char[] { (char)0x039F, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F4B;
-
-
-	subst = new char[] { (char)0x039F, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F4C;
-
-
-	subst = new char[] { (char)0x039F, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F4D;
-
-
-	subst = new char[] { (char)0x039F, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F50;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F51;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F52;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F53;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F54;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F55;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F56;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0313, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F57;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F59;
-
-
-	subst = new char[] { (char)0x03A5, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F5B;
-
-
-	subst = new char[] { (char)0x03A5, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F5D;
-
-
-	subst = new char[] { (char)0x03A5, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F5F;
-
-
-	subst = new char[] { (char)0x03A5, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F60;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F61;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F62;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F63;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F64;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F65;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F66;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0313, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F67;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F68;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F69;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F6A;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F6B;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F6C;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F6D;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F6E;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0313, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F6F;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F70;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F71;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F72;
-
-
-	subst = new char[] { (char)0x03B5, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F73;
-
-
-	subst = new char[] { (char)0x03B5, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F74;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F75;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F76;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F77;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F78;
-
-
-	subst = new char[] { (char)0x03BF, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F79;
-
-
-	subst = new char[] { (char)0x03BF, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F7A;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F7B;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F7C;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F7D;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F80;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0345, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F81;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0345, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F82;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0345, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F83;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0345, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F84;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0345, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F85;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0345, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F86;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0345, (char)0x0313, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F87;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0345, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F88;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0345, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F89;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0345, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F8A;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0345, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F8B;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0345, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F8C;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0345, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F8D;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0345, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F8E;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0345, (char)0x0313, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F8F;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0345, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F90;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0345, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F91;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0345, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F92;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0345, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F93;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0345, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F94;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0345, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F95;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0345, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F96;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0345, (char)0x0313, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F97;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0345, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F98;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0345, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F99;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0345, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F9A;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0345, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F9B;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0345, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1F9C;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0345, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F9D;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0345, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F9E;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0345, (char)0x0313, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1F9F;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0345, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FA0;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0345, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FA1;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0345, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FA2;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0345, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FA3;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0345, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FA4;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0345, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FA5;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0345, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FA6;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0345, (char)0x0313, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FA7;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0345, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FA8;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0345, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FA9;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0345, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FAA;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0345, (char)0x0313, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FAB;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0345, (char)0x0314, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FAC;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0345, (char)0x0313, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FAD;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0345, (char)0x0314, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FAE;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0345, (char)0x0313, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FAF;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0345, (char)0x0314, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FB0;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FB1;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FB2;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0345, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FB3;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0345 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FB4;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0345, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FB6;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FB7;
-
-
-	subst = new char[] { (char)0x03B1, (char)0x0345, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FB8;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FB9;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FBA;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FBB;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FBC;
-
-
-	subst = new char[] { (char)0x0391, (char)0x0345 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FBE;
-
-
-	subst = new char[] { (char)0x03B9 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FC1;
-
-
-	subst = new char[] { (char)0x00A8, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FC2;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0345, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FC3;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0345 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FC4;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0345, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FC6;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FC7;
-
-
-	subst = new char[] { (char)0x03B7, (char)0x0345, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FC8;
-
-
-	subst = new char[] { (char)0x0395, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FC9;
-
-
-	subst = new char[] { (char)0x0395, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FCA;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FCB;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FCC;
-
-
-	subst = new char[] { (char)0x0397, (char)0x0345 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FCD;
-
-
-	subst = new char[] { (char)0x1FBF, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FCE;
-
-
-	subst = new char[] { (char)0x1FBF, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FCF;
-
-
-	subst = new char[] { (char)0x1FBF, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FD0;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FD1;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FD2;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0308, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FD3;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0308, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FD6;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FD7;
-
-
-	subst = new char[] { (char)0x03B9, (char)0x0308, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FD8;
-
-
-	subst = new char[] { (char)0x0399, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FD9;
-
-
-	subst = new char[] { (char)0x0399, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FDA;
-
-
-	subst = new char[] { (char)0x0399, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FDB;
-
-
-	subst = new char[] { (char)0x0399, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FDD;
-
-
-	subst = new char[] { (char)0x1FFE, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FDE;
-
-
-	subst = new char[] { (char)0x1FFE, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FDF;
-
-
-	subst = new char[] { (char)0x1FFE, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FE0;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FE1;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FE2;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0308, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FE3;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0308, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FE4;
-
-
-	subst = new char[] { (char)0x03C1, (char)0x0313 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FE5;
-
-
-	subst = new char[] { (char)0x03C1, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FE6;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FE7;
-
-
-	subst = new char[] { (char)0x03C5, (char)0x0308, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FE8;
-
-
-	subst = new char[] { (char)0x03A5, (char)0x0306 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FE9;
-
-
-	subst = new char[] { (char)0x03A5, (char)0x0304 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FEA;
-
-
-	subst = new char[] { (char)0x03A5, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FEB;
-
-
-	subst = new char[] { (char)0x03A5, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FEC;
-
-
-	subst = new char[] { (char)0x03A1, (char)0x0314 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FED;
-
-
-	subst = new char[] { (char)0x00A8, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FEE;
-
-
-	subst = new char[] { (char)0x00A8, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FEF;
-
-
-	subst = new char[] { (char)0x0060 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FF2;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0345, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FF3;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0345 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FF4;
-
-
-	subst = new char[] { (char)0x03BF, (char)0x0345, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FF6;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FF7;
-
-
-	subst = new char[] { (char)0x03C9, (char)0x0345, (char)0x0342 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FF8;
-
-
-	subst = new char[] { (char)0x039F, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FF9;
-
-
-	subst = new char[] { (char)0x039F, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FFA;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0300 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x1FFB;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0301 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FFC;
-
-
-	subst = new char[] { (char)0x03A9, (char)0x0345 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x1FFD;
-
-
-	subst = new char[] { (char)0x00B4 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x304C;
-
-
-	subst = new char[] { (char)0x304B, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x304E;
-
-
-	subst = new char[] { (char)0x304D, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x3050;
-
-
-	subst = new char[] { (char)0x304F, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x3052;
-
-
-	subst = new char[] { (char)0x3051, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x3054;
-
-
-	subst = new char[] { (char)0x3053, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x3056;
-
-
-	subst = new char[] { (char)0x3055, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x3058;
-
-
-	subst = new char[] { (char)0x3057, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x305A;
-
-
-	subst = new char[] { (char)0x3059, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x305C;
-
-
-	subst = new char[] { (char)0x305B, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x305E;
-
-
-	subst = new char[] { (char)0x305D, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x3060;
-
-
-	subst = new char[] { (char)0x305F, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x3062;
-
-
-	subst = new char[] { (char)0x3061, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x3065;
-
-
-	subst = new char[] { (char)0x3064, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x3067;
-
-
-	subst = new char[] { (char)0x3066, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x3069;
-
-
-	subst = new char[] { (char)0x3068, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x3070;
-
-
-	subst = new char[] { (char)0x306F, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x3071;
-
-
-	subst = new char[] { (char)0x306F, (char)0x309A };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x3073;
-
-
-	subst = new char[] { (char)0x3072, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x3074;
-
-
-	subst = new char[] { (char)0x3072, (char)0x309A };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x3076;
-
-
-	subst = new char[] { (char)0x3075, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x3077;
-
-
-	subst = new char[] { (char)0x3075, (char)0x309A };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x3079;
-
-
-	subst = new char[] { (char)0x3078, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x307A;
-
-
-	subst = new char[] { (char)0x3078, (char)0x309A };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x307C;
-
-
-	subst = new char[] { (char)0x307B, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x307D;
-
-
-	subst = new char[] { (char)0x307B, (char)0x309A };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x3094;
-
-
-	subst = new char[] { (char)0x3046, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x309E;
-
-
-	subst = new char[] { (char)0x309D, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30AC;
-
-
-	subst = new char[] { (char)0x30AB, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30AE;
-
-
-	subst = new char[] { (char)0x30AD, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x30B0;
-
-
-	subst = new char[] { (char)0x30AF, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30B2;
-
-
-	subst = new char[] { (char)0x30B1, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30B4;
-
-
-	subst = new char[] { (char)0x30B3, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30B6;
-
-
-	subst = new char[] { (char)0x30B5, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x30B8;
-
-
-	subst = new char[] { (char)0x30B7, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30BA;
-
-
-	subst = new char[] { (char)0x30B9, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30BC;
-
-
-	subst = new char[] { (char)0x30BB, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30BE;
-
-
-	subst = new char[] { (char)0x30BD, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x30C0;
-
-
-	subst = new char[] { (char)0x30BF, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30C2;
-
-
-	subst = new char[] { (char)0x30C1, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30C5;
-
-
-	subst = new char[] { (char)0x30C4, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30C7;
-
-
-	subst = new char[] { (char)0x30C6, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x30C9;
-
-
-	subst = new char[] { (char)0x30C8, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30D0;
-
-
-	subst = new char[] { (char)0x30CF, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30D1;
-
-
-	subst = new char[] { (char)0x30CF, (char)0x309A };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30D3;
-
-
-	subst = new char[] { (char)0x30D2, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x30D4;
-
-
-	subst = new char[] { (char)0x30D2, (char)0x309A };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30D6;
-
-
-	subst = new char[] { (char)0x30D5, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30D7;
-
-
-	subst = new char[] { (char)0x30D5, (char)0x309A };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30D9;
-
-
-	subst = new char[] { (char)0x30D8, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x30DA;
-
-
-	subst = new char[] { (char)0x30D8, (char)0x309A };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30DC;
-
-
-	subst = new char[] { (char)0x30DB, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30DD;
-
-
-	subst = new char[] { (char)0x30DB, (char)0x309A };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30F4;
-
-
-	subst = new char[] { (char)0x30A6, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x30F7;
-
-
-	subst = new char[] { (char)0x30EF, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30F8;
-
-
-	subst = new char[] { (char)0x30F0, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30F9;
-
-
-	subst = new char[] { (char)0x30F1, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0x30FA;
-
-
-	subst = new char[] { (char)0x30F2, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0x30FE;
-
-
-	subst = new char[] { (char)0x30FD, (char)0x3099 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB1F;
-
-
-	subst = new char[] { (char)0x05F2, (char)0x05B7 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB2A;
-
-
-	subst = new char[] { (char)0x05E9, (char)0x05C1 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB2B;
-
-
-	subst = new char[] { (char)0x05E9, (char)0x05C2 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0xFB2C;
-
-
-	subst = new char[] { (char)0x05E9, (char)0x05BC, (char)0x05C1 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB2D;
-
-
-	subst = new char[] { (char)0x05E9, (char)0x05BC, (char)0x05C2 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB2E;
-
-
-	subst = new char[] { (char)0x05D0, (char)0x05B7 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB2F;
-
-
-	subst = new char[] { (char)0x05D0, (char)0x05B8 };
-	decompositionTable.put(key, subst);
-
-	key = (char)0xFB30;
-
-
-	subst = new char[] { (char)0x05D0, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB31;
-
-
-	subst = new char[] { (char)0x05D1, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB32;
-
-
-	subst = new char[] { (char)0x05D2, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB33;
-
-
-	subst = new char[] { (char)0x05D3, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-	key = (char)0xFB34;
-
-
-	subst = new char[] { (char)0x05D4, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB35;
-
-
-	subst = new char[] { (char)0x05D5, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB36;
-
-
-	subst = new char[] { (char)0x05D6, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB38;
-
-
-	subst = new char[] { (char)0x05D8, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-	key = (char)0xFB39;
-
-
-	subst = new char[] { (char)0x05D9, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB3A;
-
-
-	subst = new char[] { (char)0x05DA, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB3B;
-
-
-	subst = new char[] { (char)0x05DB, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB3C;
-
-
-	subst = new char[] { (char)0x05DC, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-	key = (char)0xFB3E;
-
-
-	subst = new char[] { (char)0x05DE, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB40;
-
-
-	subst = new char[] { (char)0x05E0, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB41;
-
-
-	subst = new char[] { (char)0x05E1, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB43;
-
-
-	subst = new char[] { (char)0x05E3, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-	key = (char)0xFB44;
-
-
-	subst = new char[] { (char)0x05E4, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB46;
-
-
-	subst = new char[] { (char)0x05E6, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB47;
-
-
-	subst = new char[] { (char)0x05E7, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB48;
-
-
-	subst = new char[] { (char)0x05E8, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-	key = (char)0xFB49;
-
-
-	subst = new char[] { (char)0x05E9, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB4A;
-
-
-	subst = new char[] { (char)0x05EA, (char)0x05BC };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB4B;
-
-
-	subst = new char[] { (char)0x05D5, (char)0x05B9 };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB4C;
-
-
-	subst = new char[] { (char)0x05D1, (char)0x05BF };
-	decompositionTable.put(key, subst);
-
-	key = (char)0xFB4D;
-
-
-	subst = new char[] { (char)0x05DB, (char)0x05BF };
-	decompositionTable.put(key, subst);
-
-
-	key = (char)0xFB4E;
+        /* Hangul vowels and trailing consonants. */
+        for(int c = HangulDecomposition.VBase;
+                c < HangulDecomposition.VBase + HangulDecomposition.VCount;
+                ++c)
+        {
+            setCompositionTrigger((char) c);
+        }
 
+        for(int c = HangulDecomposition.TBase + 1;
+                c < HangulDecomposition.TBase + HangulDecomposition.TCount;
+                ++c)
+        {
+            setCompositionTrigger((char) c);
+        }
+    }
 
-	subst = new char[] { (char)0x05E4, (char)0x05BF };
-	decompositionTable.put(key, subst);
+    private void setCompositionTrigger(char c) {
+        compositionTriggers[c >>> 6] |= 1L << (c & 63);
     }
 }
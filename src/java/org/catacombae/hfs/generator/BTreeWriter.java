@@ -0,0 +1,467 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import org.catacombae.hfs.types.hfsplus.BTNodeDescriptor;
+import org.catacombae.util.Util;
+
+/**
+ * Writes an HFS+ B-tree file (catalog, extents overflow or attributes file)
+ * from leaf records supplied in ascending key order.<br>
+ * Leaf nodes are written to a temporary file as soon as they are full, so
+ * only the first key of each leaf node is kept in memory. Once all records
+ * have been added, {@link #finish()} builds the index levels, map nodes and
+ * the header node, after which the tree can be copied into a volume with
+ * {@link #writeTo(OutputStream)}.<br>
+ * Node 0 is the header node, followed by the leaf nodes in key order, the
+ * index nodes level by level and finally any map nodes. All nodes are marked
+ * as used, so the tree has no free nodes.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+class BTreeWriter {
+    /** B-tree attribute: The tree was not closed properly. */
+    static final int kBTBadCloseMask = 0x00000001;
+    /** B-tree attribute: Key lengths are 16 bits. */
+    static final int kBTBigKeysMask = 0x00000002;
+    /** B-tree attribute: Index node keys are variable length. */
+    static final int kBTVariableIndexKeysMask = 0x00000004;
+
+    private static final int NODE_DESCRIPTOR_SIZE = 14;
+    private static final int HEADER_RECORD_SIZE = 106;
+    private static final int USER_DATA_RECORD_SIZE = 128;
+
+    private final int nodeSize;
+    private final int maxKeyLength;
+    private final byte keyCompareType;
+    private final int attributes;
+    private final File tempFile;
+    private final RandomAccessFile nodeFile;
+
+    /* The node currently being filled. */
+    private final byte[] node;
+    private int nodeRecordCount = 0;
+    private int nodeFreeOffset = NODE_DESCRIPTOR_SIZE;
+
+    /* The leaf nodes written so far. */
+    private final KeyList leafKeys = new KeyList();
+    private long leafRecordCount = 0;
+    private long nextNodeNumber = 1;
+
+    /* Set by finish(). */
+    private boolean finished = false;
+    private long totalNodes;
+
+    /**
+     * Creates a new B-tree writer.
+     *
+     * @param nodeSize
+     *      <b>(in)</b> The node size of the tree, in bytes.
+     * @param maxKeyLength
+     *      <b>(in)</b> The maximum key length of the tree, excluding the key
+     *      length field.
+     * @param keyCompareType
+     *      <b>(in)</b> The key compare type to store in the header record.
+     * @param attributes
+     *      <b>(in)</b> The attributes to store in the header record. If
+     *      {@link #kBTVariableIndexKeysMask} is not set, index node keys are
+     *      padded to <code>maxKeyLength</code>.
+     * @param tempDir
+     *      <b>(in)</b> Directory for the temporary file holding the nodes, or
+     *      <code>null</code> for the default temporary directory.
+     */
+    public BTreeWriter(int nodeSize, int maxKeyLength, byte keyCompareType,
+            int attributes, File tempDir) throws IOException
+    {
+        if(nodeSize < 512 || (nodeSize & (nodeSize - 1)) != 0 ||
+                nodeSize > 32768)
+        {
+            throw new IllegalArgumentException("Invalid node size: " +
+                    nodeSize);
+        }
+
+        this.nodeSize = nodeSize;
+        this.maxKeyLength = maxKeyLength;
+        this.keyCompareType = keyCompareType;
+        this.attributes = attributes;
+        this.node = new byte[nodeSize];
+        this.tempFile = File.createTempFile("btree", ".tmp", tempDir);
+        this.nodeFile = new RandomAccessFile(tempFile, "rw");
+    }
+
+    public int getNodeSize() {
+        return nodeSize;
+    }
+
+    /** Returns the number of leaf records added so far. */
+    public long getLeafRecordCount() {
+        return leafRecordCount;
+    }
+
+    /**
+     * Returns the total number of nodes in the tree. Only valid after
+     * {@link #finish()} has been called.
+     */
+    public long getTotalNodes() {
+        checkFinished(true);
+        return totalNodes;
+    }
+
+    /**
+     * Returns the size of the tree file in bytes. Only valid after
+     * {@link #finish()} has been called.
+     */
+    public long getLength() {
+        return getTotalNodes() * nodeSize;
+    }
+
+    /**
+     * Adds a leaf record to the tree. Records must be added in ascending key
+     * order, which is not checked here.
+     *
+     * @param key
+     *      <b>(in)</b> The record's key, including the key length field.
+     * @param data
+     *      <b>(in)</b> The record's data.
+     */
+    public void addRecord(byte[] key, byte[] data) throws IOException {
+        checkFinished(false);
+
+        final int recordSize = key.length + data.length;
+        if(!recordFits(NODE_DESCRIPTOR_SIZE, 0, recordSize)) {
+            throw new IllegalArgumentException("Record of size " + recordSize +
+                    " does not fit in a node of size " + nodeSize + ".");
+        }
+
+        if(!recordFits(nodeFreeOffset, nodeRecordCount, recordSize)) {
+            flushLeafNode(true);
+        }
+
+        if(nodeRecordCount == 0) {
+            leafKeys.add(key, nextNodeNumber);
+        }
+
+        putRecord(key, data);
+        ++leafRecordCount;
+    }
+
+    /**
+     * Writes the remaining leaf node, the index nodes, map nodes and the
+     * header node. No more records can be added after this.
+     */
+    public void finish() throws IOException {
+        checkFinished(false);
+        finished = true;
+
+        if(nodeRecordCount > 0) {
+            flushLeafNode(false);
+        }
+
+        final long firstLeafNode = leafKeys.size() > 0 ? 1 : 0;
+        final long lastLeafNode = leafKeys.size() > 0 ? nextNodeNumber - 1 : 0;
+
+        /* Build the index levels bottom up until a single node remains. */
+        KeyList level = leafKeys;
+        int height = leafKeys.size() > 0 ? 1 : 0;
+        while(level.size() > 1) {
+            level = writeIndexLevel(level, ++height);
+        }
+        final long rootNode = level.size() > 0 ? level.getNodeNumber(0) : 0;
+
+        /* The header node maps the first nodes, and map nodes are added for
+         * the rest. */
+        final long headerMapNodes = 8L * (nodeSize - 256);
+        final long mapNodeNodes = 8L * (nodeSize - 20);
+        final long usedNodes = nextNodeNumber;
+        long mapNodeCount = 0;
+        while(headerMapNodes + mapNodeCount * mapNodeNodes <
+                usedNodes + mapNodeCount)
+        {
+            ++mapNodeCount;
+        }
+
+        totalNodes = usedNodes + mapNodeCount;
+        if(totalNodes > 0xFFFFFFFFL) {
+            throw new IllegalStateException("Too many nodes in B-tree: " +
+                    totalNodes);
+        }
+
+        writeMapNodes(usedNodes, mapNodeCount);
+        writeHeaderNode(height, rootNode, firstLeafNode, lastLeafNode,
+                mapNodeCount > 0 ? usedNodes : 0);
+    }
+
+    /**
+     * Copies the nodes of the finished tree to <code>os</code>.
+     */
+    public void writeTo(OutputStream os) throws IOException {
+        checkFinished(true);
+
+        final byte[] buffer = new byte[Math.max(nodeSize, 1024 * 1024)];
+        long remaining = totalNodes * nodeSize;
+        nodeFile.seek(0);
+        while(remaining > 0) {
+            final int curLength = (int) Math.min(buffer.length, remaining);
+            nodeFile.readFully(buffer, 0, curLength);
+            os.write(buffer, 0, curLength);
+            remaining -= curLength;
+        }
+    }
+
+    /** Closes and deletes the temporary file. */
+    public void close() throws IOException {
+        nodeFile.close();
+        if(!tempFile.delete()) {
+            tempFile.deleteOnExit();
+        }
+    }
+
+    private void checkFinished(boolean expected) {
+        if(finished != expected) {
+            throw new IllegalStateException(finished ? "B-tree is finished." :
+                    "B-tree is not finished.");
+        }
+    }
+
+    private boolean recordFits(int freeOffset, int recordCount,
+            int recordSize)
+    {
+        /* Records are 2-byte aligned, and each record and the free space
+         * offset take 2 bytes in the offset table at the end of the node. */
+        return freeOffset + recordSize + (recordSize & 1) +
+                2 * (recordCount + 2) <= nodeSize;
+    }
+
+    private void putRecord(byte[] key, byte[] data) {
+        Util.arrayPutBE(node, nodeSize - 2 * (nodeRecordCount + 1),
+                (short) nodeFreeOffset);
+        System.arraycopy(key, 0, node, nodeFreeOffset, key.length);
+        System.arraycopy(data, 0, node, nodeFreeOffset + key.length,
+                data.length);
+        nodeFreeOffset += key.length + data.length;
+        if((nodeFreeOffset & 1) != 0) {
+            node[nodeFreeOffset++] = 0;
+        }
+        ++nodeRecordCount;
+    }
+
+    private void flushLeafNode(boolean moreLeafNodes) throws IOException {
+        final long nodeNumber = nextNodeNumber++;
+        writeNode(nodeNumber, moreLeafNodes ? nodeNumber + 1 : 0,
+                nodeNumber > 1 ? nodeNumber - 1 : 0,
+                BTNodeDescriptor.BT_LEAF_NODE, 1);
+    }
+
+    /**
+     * Finishes the current node by writing its descriptor and free space
+     * offset, writes it to the node file at <code>nodeNumber</code> and
+     * clears it for the next node.
+     */
+    private void writeNode(long nodeNumber, long fLink, long bLink, byte kind,
+            int height) throws IOException
+    {
+        Util.arrayPutBE(node, 0, (int) fLink);
+        Util.arrayPutBE(node, 4, (int) bLink);
+        node[8] = kind;
+        node[9] = (byte) height;
+        Util.arrayPutBE(node, 10, (short) nodeRecordCount);
+        Util.arrayPutBE(node, 12, (short) 0);
+        Util.arrayPutBE(node, nodeSize - 2 * (nodeRecordCount + 1),
+                (short) nodeFreeOffset);
+
+        nodeFile.seek(nodeNumber * nodeSize);
+        nodeFile.write(node);
+
+        java.util.Arrays.fill(node, (byte) 0);
+        nodeRecordCount = 0;
+        nodeFreeOffset = NODE_DESCRIPTOR_SIZE;
+    }
+
+    /**
+     * Writes the index nodes pointing to the nodes in <code>children</code>.
+     *
+     * @return the first keys and node numbers of the written index nodes.
+     */
+    private KeyList writeIndexLevel(KeyList children, int height)
+            throws IOException
+    {
+        final boolean variableKeys =
+                (attributes & kBTVariableIndexKeysMask) != 0;
+        final KeyList result = new KeyList();
+        final byte[] pointer = new byte[4];
+        long previousNode = 0;
+
+        for(int i = 0; i < children.size(); ++i) {
+            byte[] key = children.getKey(i);
+            if(!variableKeys && key.length != 2 + maxKeyLength) {
+                final byte[] paddedKey = new byte[2 + maxKeyLength];
+                System.arraycopy(key, 0, paddedKey, 0,
+                        Math.min(key.length, paddedKey.length));
+                Util.arrayPutBE(paddedKey, 0, (short) maxKeyLength);
+                key = paddedKey;
+            }
+
+            Util.arrayPutBE(pointer, 0, (int) children.getNodeNumber(i));
+
+            if(!recordFits(nodeFreeOffset, nodeRecordCount,
+                    key.length + pointer.length))
+            {
+                final long nodeNumber = nextNodeNumber++;
+                writeNode(nodeNumber, nodeNumber + 1, previousNode,
+                        BTNodeDescriptor.BT_INDEX_NODE, height);
+                previousNode = nodeNumber;
+            }
+
+            if(nodeRecordCount == 0) {
+                result.add(key, nextNodeNumber);
+            }
+
+            putRecord(key, pointer);
+        }
+
+        final long nodeNumber = nextNodeNumber++;
+        writeNode(nodeNumber, 0, previousNode, BTNodeDescriptor.BT_INDEX_NODE,
+                height);
+
+        return result;
+    }
+
+    private void writeMapNodes(long firstMapNode, long mapNodeCount)
+            throws IOException
+    {
+        final int headerMapBytes = nodeSize - 256;
+        final int mapRecordSize = nodeSize - 20;
+
+        for(long i = 0; i < mapNodeCount; ++i) {
+            /* Bits of this map record cover the nodes starting at
+             * firstBit. */
+            final long firstBit =
+                    8L * headerMapBytes + 8L * mapRecordSize * i;
+            fillNodeBitmap(NODE_DESCRIPTOR_SIZE, mapRecordSize, firstBit);
+
+            Util.arrayPutBE(node, nodeSize - 2,
+                    (short) NODE_DESCRIPTOR_SIZE);
+            nodeRecordCount = 1;
+            nodeFreeOffset = NODE_DESCRIPTOR_SIZE + mapRecordSize;
+
+            final long nodeNumber = firstMapNode + i;
+            writeNode(nodeNumber, i + 1 < mapNodeCount ? nodeNumber + 1 : 0,
+                    0, BTNodeDescriptor.BT_MAP_NODE, 0);
+        }
+    }
+
+    private void writeHeaderNode(int treeDepth, long rootNode,
+            long firstLeafNode, long lastLeafNode, long firstMapNode)
+            throws IOException
+    {
+        int offset = NODE_DESCRIPTOR_SIZE;
+
+        /* Header record. */
+        Util.arrayPutBE(node, offset + 0, (short) treeDepth);
+        Util.arrayPutBE(node, offset + 2, (int) rootNode);
+        Util.arrayPutBE(node, offset + 6, (int) leafRecordCount);
+        Util.arrayPutBE(node, offset + 10, (int) firstLeafNode);
+        Util.arrayPutBE(node, offset + 14, (int) lastLeafNode);
+        Util.arrayPutBE(node, offset + 18, (short) nodeSize);
+        Util.arrayPutBE(node, offset + 20, (short) maxKeyLength);
+        Util.arrayPutBE(node, offset + 22, (int) totalNodes);
+        Util.arrayPutBE(node, offset + 26, 0); // freeNodes
+        Util.arrayPutBE(node, offset + 30, (short) 0); // reserved1
+        Util.arrayPutBE(node, offset + 32, nodeSize); // clumpSize
+        node[offset + 36] = 0; // btreeType (kHFSBTreeType)
+        node[offset + 37] = keyCompareType;
+        Util.arrayPutBE(node, offset + 38, attributes);
+        Util.arrayPutBE(node, nodeSize - 2, (short) offset);
+        offset += HEADER_RECORD_SIZE;
+
+        /* User data record (unused). */
+        Util.arrayPutBE(node, nodeSize - 4, (short) offset);
+        offset += USER_DATA_RECORD_SIZE;
+
+        /* Map record. */
+        Util.arrayPutBE(node, nodeSize - 6, (short) offset);
+        fillNodeBitmap(offset, nodeSize - 256, 0);
+
+        nodeRecordCount = 3;
+        nodeFreeOffset = nodeSize - 8;
+        writeNode(0, firstMapNode, 0, BTNodeDescriptor.BT_HEADER_NODE, 0);
+    }
+
+    /**
+     * Sets the bits for the used nodes in a map record of
+     * <code>length</code> bytes at <code>offset</code> in the current node,
+     * whose first bit represents node <code>firstBit</code>.
+     */
+    private void fillNodeBitmap(int offset, int length, long firstBit) {
+        final long usedBits = Math.max(0, Math.min(8L * length,
+                totalNodes - firstBit));
+        final int fullBytes = (int) (usedBits / 8);
+        java.util.Arrays.fill(node, offset, offset + fullBytes, (byte) 0xFF);
+        if(usedBits % 8 != 0) {
+            node[offset + fullBytes] = (byte) (0xFF << (8 - usedBits % 8));
+        }
+    }
+
+    /**
+     * A list of node keys and node numbers, packed into arrays to keep the
+     * per-node overhead low for large trees.
+     */
+    private static class KeyList {
+        private byte[] keyData = new byte[4096];
+        private int keyDataLength = 0;
+        private int[] keyOffsets = new int[64];
+        private long[] nodeNumbers = new long[64];
+        private int size = 0;
+
+        public void add(byte[] key, long nodeNumber) {
+            if(size == nodeNumbers.length) {
+                keyOffsets = Util.arrayCopy(keyOffsets, new int[size * 2]);
+                nodeNumbers = Util.arrayCopy(nodeNumbers, new long[size * 2]);
+            }
+
+            while(keyDataLength + key.length > keyData.length) {
+                keyData = Util.arrayCopy(keyData,
+                        new byte[keyData.length * 2]);
+            }
+
+            System.arraycopy(key, 0, keyData, keyDataLength, key.length);
+            keyOffsets[size] = keyDataLength;
+            nodeNumbers[size] = nodeNumber;
+            keyDataLength += key.length;
+            ++size;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public byte[] getKey(int i) {
+            final int end = i + 1 < size ? keyOffsets[i + 1] : keyDataLength;
+            return Util.createCopy(keyData, keyOffsets[i],
+                    end - keyOffsets[i]);
+        }
+
+        public long getNodeNumber(int i) {
+            return nodeNumbers[i];
+        }
+    }
+}
@@ -0,0 +1,1518 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs.generator;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import org.catacombae.hfs.types.carbon.OSType;
+import org.catacombae.hfs.types.decmpfs.DecmpfsHeader;
+import org.catacombae.hfs.types.hfsplus.BTHeaderRec;
+import org.catacombae.hfs.types.hfsplus.HFSCatalogNodeID;
+import org.catacombae.hfs.types.hfsplus.HFSPlusAttributesKey;
+import org.catacombae.hfs.types.hfsplus.HFSPlusAttributesLeafRecordData;
+import org.catacombae.hfs.types.hfsplus.HFSPlusBSDInfo;
+import org.catacombae.hfs.types.hfsplus.HFSPlusCatalogAttributes;
+import org.catacombae.hfs.types.hfsplus.HFSPlusCatalogFile;
+import org.catacombae.hfs.types.hfsplus.HFSPlusCatalogFolder;
+import org.catacombae.hfs.types.hfsplus.HFSPlusCatalogKey;
+import org.catacombae.hfs.types.hfsplus.HFSPlusCatalogLeafRecordData;
+import org.catacombae.hfs.types.hfsplus.HFSPlusCatalogThread;
+import org.catacombae.hfs.types.hfsplus.HFSPlusExtentDescriptor;
+import org.catacombae.hfs.types.hfsplus.HFSPlusExtentKey;
+import org.catacombae.hfs.types.hfsplus.HFSPlusExtentRecord;
+import org.catacombae.hfs.types.hfsplus.HFSPlusForkData;
+import org.catacombae.hfs.types.hfsplus.HFSPlusVolumeHeader;
+import org.catacombae.hfs.types.hfsplus.HFSUniStr255;
+import org.catacombae.util.Util;
+
+/**
+ * Generates synthetic HFS+ and HFSX volume images for testing, benchmarking
+ * and load testing.<br>
+ * The volume is written sequentially: file data first, then the B-tree files,
+ * the allocation file and finally the volume headers. B-tree nodes are
+ * streamed to temporary files as they fill up, so the memory use is small
+ * even for volumes with millions of catalog records.<br>
+ * Folders form a tree where each folder has up to
+ * {@link #setFolderFanout(int) fanout} subfolders (or as many as needed to
+ * reach a given {@link #setFolderDepth(int) depth}), and the files are
+ * distributed evenly over all folders including the root folder. Among the
+ * files, the requested numbers of compressed files, fragmented files, hard
+ * links and files with extended attributes are spread evenly.<br>
+ * The file contents are deterministic pseudo-random data derived from the
+ * seed and the file's CNID, so the same configuration always produces the
+ * same image (apart from the dates, see {@link #setDate(long)}).
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class SyntheticVolumeGenerator {
+    /** The kinds of files that the generator creates. */
+    public static enum FileKind {
+        /** A file with its data in a single extent. */
+        REGULAR,
+        /**
+         * A file with decmpfs compression: an empty data fork, a zlib
+         * compressed resource fork and a com.apple.decmpfs attribute.
+         */
+        COMPRESSED,
+        /**
+         * A file with its data split into several extents with free blocks
+         * in between. Extents beyond the first eight are stored in the
+         * extents overflow file.
+         */
+        FRAGMENTED,
+        /**
+         * A hard link to an inode file in the private metadata folder, which
+         * holds the data.
+         */
+        HARD_LINK,
+    }
+
+    /** Seconds between the HFS+ epoch (1904-01-01) and the Java epoch. */
+    private static final long HFS_EPOCH_OFFSET = 2082844800L;
+
+    private static final int FIRST_USER_CATALOG_NODE_ID = 16;
+    private static final int kHFSThreadExistsMask = 0x0002;
+    private static final int kHFSHasAttributesMask = 0x0004;
+    private static final int kHFSVolumeUnmountedMask = 0x0100;
+    private static final int DEFAULT_OWNER_ID = 501;
+    private static final int DEFAULT_GROUP_ID = 20;
+    private static final short FOLDER_MODE = (short) 040755;
+    private static final short PRIVATE_FOLDER_MODE = (short) 040000;
+    private static final short FILE_MODE = (short) 0100644;
+
+    /** Finder flags of the private metadata folder: invisible, name locked. */
+    private static final short PRIVATE_FOLDER_FINDER_FLAGS = 0x5000;
+    private static final String PRIVATE_FOLDER_NAME =
+            "\u0000\u0000\u0000\u0000HFS+ Private Data";
+    private static final String INODE_PREFIX = "iNode";
+    private static final OSType HARD_LINK_FILE_TYPE =
+            new OSType(new byte[] { 'h', 'l', 'n', 'k' }, 0);
+    private static final OSType HARD_LINK_CREATOR =
+            new OSType(new byte[] { 'h', 'f', 's', '+' }, 0);
+
+    private static final int CATALOG_MAX_KEY_LENGTH = 516;
+    private static final int EXTENTS_MAX_KEY_LENGTH = 10;
+    private static final int ATTRIBUTES_MAX_KEY_LENGTH = 266;
+
+    private static final int EXTENTS_PER_RECORD = 8;
+    private static final int EXTENT_RECORD_SIZE = 64;
+    private static final int ATTRIBUTE_DATA_HEADER_SIZE = 16;
+
+    private static final int COMPRESSION_CHUNK_SIZE = 64 * 1024;
+    private static final char[] DECMPFS_ATTRIBUTE_NAME =
+            "com.apple.decmpfs".toCharArray();
+    private static final String XATTR_NAME_PREFIX = "org.catacombae.test.";
+
+    private static final String[] TEXT_WORDS = {
+        "alpha   ", "bravo   ", "charlie ", "delta   ",
+        "echo    ", "foxtrot ", "golf    ", "hotel   ",
+        "india   ", "juliett ", "kilo    ", "lima    ",
+        "mike    ", "november", "oscar   ", "papa    ",
+    };
+
+    private String volumeName = "Synthetic";
+    private boolean hfsx = false;
+    private boolean caseSensitive = false;
+    private int blockSize = 4096;
+    private int catalogNodeSize = 8192;
+    private int extentsNodeSize = 4096;
+    private int attributesNodeSize = 8192;
+    private int folderCount = 0;
+    private int folderFanout = 16;
+    private int folderDepth = 0;
+    private int fileCount = 0;
+    private long fileSize = 0;
+    private int compressedFileCount = 0;
+    private int fragmentedFileCount = 0;
+    private int extentsPerFragmentedFile = 16;
+    private int hardLinkCount = 0;
+    private int linksPerInode = 2;
+    private int xattrFileCount = 0;
+    private int xattrsPerFile = 1;
+    private int xattrSize = 32;
+    private long freeBlockCount = 0;
+    private long seed = 0;
+    private long date = System.currentTimeMillis() / 1000 + HFS_EPOCH_OFFSET;
+    private File tempDir = null;
+
+    /* Fanout resolved from folderDepth, or 0 if not yet resolved. */
+    private int resolvedFanout = 0;
+
+    /* State while generating. */
+    private OutputStream out;
+    private long outPosition;
+    private BTreeWriter catalogTree;
+    private BTreeWriter extentsTree;
+    private BTreeWriter attributesTree;
+    private final byte[] buffer = new byte[COMPRESSION_CHUNK_SIZE];
+    private Deflater deflater;
+    private long lastCatalogParentID;
+    private HFSUniStr255 lastCatalogName;
+    /* Blocks left free between the extents of fragmented files. */
+    private long[] gapBitmap;
+    private long gapBlockCount;
+
+    public SyntheticVolumeGenerator() {
+    }
+
+    /** Sets the volume name. Default: "Synthetic". */
+    public void setVolumeName(String volumeName) {
+        if(volumeName.length() == 0 || volumeName.length() > 255) {
+            throw new IllegalArgumentException("Invalid volume name: \"" +
+                    volumeName + "\"");
+        }
+
+        this.volumeName = volumeName;
+    }
+
+    /** Sets whether to create an HFSX volume. Default: false (HFS+). */
+    public void setHFSX(boolean hfsx) {
+        this.hfsx = hfsx;
+    }
+
+    /**
+     * Sets whether the catalog of an HFSX volume uses case sensitive binary
+     * name comparison. Only valid for HFSX volumes. Default: false.
+     */
+    public void setCaseSensitive(boolean caseSensitive) {
+        this.caseSensitive = caseSensitive;
+    }
+
+    /** Sets the allocation block size in bytes. Default: 4096. */
+    public void setBlockSize(int blockSize) {
+        checkPowerOfTwo("block size", blockSize, 512, 1024 * 1024);
+        this.blockSize = blockSize;
+    }
+
+    /** Sets the catalog file node size in bytes. Default: 8192. */
+    public void setCatalogNodeSize(int catalogNodeSize) {
+        checkPowerOfTwo("catalog node size", catalogNodeSize, 4096, 32768);
+        this.catalogNodeSize = catalogNodeSize;
+    }
+
+    /** Sets the extents overflow file node size in bytes. Default: 4096. */
+    public void setExtentsNodeSize(int extentsNodeSize) {
+        checkPowerOfTwo("extents node size", extentsNodeSize, 512, 32768);
+        this.extentsNodeSize = extentsNodeSize;
+    }
+
+    /** Sets the attributes file node size in bytes. Default: 8192. */
+    public void setAttributesNodeSize(int attributesNodeSize) {
+        checkPowerOfTwo("attributes node size", attributesNodeSize,
+                HFSPlusAttributesKey.kHFSPlusAttrMinNodeSize, 32768);
+        this.attributesNodeSize = attributesNodeSize;
+    }
+
+    /**
+     * Sets the number of folders to create, not counting the root folder.
+     * Default: 0.
+     */
+    public void setFolderCount(int folderCount) {
+        checkNotNegative("folder count", folderCount);
+        this.folderCount = folderCount;
+        this.resolvedFanout = 0;
+    }
+
+    /**
+     * Sets the maximum number of subfolders of each folder. A low fanout
+     * makes for a deep folder hierarchy. Overrides any depth set with
+     * {@link #setFolderDepth(int)}. Default: 16.
+     */
+    public void setFolderFanout(int folderFanout) {
+        if(folderFanout < 1) {
+            throw new IllegalArgumentException("Invalid folder fanout: " +
+                    folderFanout);
+        }
+
+        this.folderFanout = folderFanout;
+        this.folderDepth = 0;
+        this.resolvedFanout = 0;
+    }
+
+    /**
+     * Sets the depth of the folder hierarchy, 1 meaning that all folders are
+     * in the root folder. The fanout is chosen as the smallest one that
+     * fits all folders within this depth. Overrides any fanout set with
+     * {@link #setFolderFanout(int)}.
+     */
+    public void setFolderDepth(int folderDepth) {
+        if(folderDepth < 1) {
+            throw new IllegalArgumentException("Invalid folder depth: " +
+                    folderDepth);
+        }
+
+        this.folderDepth = folderDepth;
+        this.resolvedFanout = 0;
+    }
+
+    /** Sets the number of files to create. Default: 0. */
+    public void setFileCount(int fileCount) {
+        checkNotNegative("file count", fileCount);
+        this.fileCount = fileCount;
+    }
+
+    /** Sets the size of the data of each file in bytes. Default: 0. */
+    public void setFileSize(long fileSize) {
+        checkNotNegative("file size", fileSize);
+        this.fileSize = fileSize;
+    }
+
+    /**
+     * Sets how many of the files are stored with decmpfs compression (zlib
+     * compressed resource fork). These files get compressible text content
+     * instead of random data. Default: 0.
+     */
+    public void setCompressedFileCount(int compressedFileCount) {
+        checkNotNegative("compressed file count", compressedFileCount);
+        this.compressedFileCount = compressedFileCount;
+    }
+
+    /**
+     * Sets how many of the files have fragmented data forks. Default: 0.
+     *
+     * @see #setExtentsPerFragmentedFile(int)
+     */
+    public void setFragmentedFileCount(int fragmentedFileCount) {
+        checkNotNegative("fragmented file count", fragmentedFileCount);
+        this.fragmentedFileCount = fragmentedFileCount;
+    }
+
+    /**
+     * Sets the number of extents that the data fork of a fragmented file is
+     * split into, limited by the number of blocks of the file. More than 8
+     * extents puts records in the extents overflow file. Default: 16.
+     */
+    public void setExtentsPerFragmentedFile(int extentsPerFragmentedFile) {
+        if(extentsPerFragmentedFile < 2) {
+            throw new IllegalArgumentException("Invalid number of extents " +
+                    "per fragmented file: " + extentsPerFragmentedFile);
+        }
+
+        this.extentsPerFragmentedFile = extentsPerFragmentedFile;
+    }
+
+    /**
+     * Sets how many of the files are hard links. The links are grouped to
+     * share inodes, see {@link #setLinksPerInode(int)}. Default: 0.
+     */
+    public void setHardLinkCount(int hardLinkCount) {
+        checkNotNegative("hard link count", hardLinkCount);
+        this.hardLinkCount = hardLinkCount;
+    }
+
+    /** Sets the number of hard links to each inode. Default: 2. */
+    public void setLinksPerInode(int linksPerInode) {
+        if(linksPerInode < 1) {
+            throw new IllegalArgumentException("Invalid number of links per " +
+                    "inode: " + linksPerInode);
+        }
+
+        this.linksPerInode = linksPerInode;
+    }
+
+    /**
+     * Sets how many of the files (not counting hard links) have extended
+     * attributes. Default: 0.
+     *
+     * @see #setXattrsPerFile(int)
+     * @see #setXattrSize(int)
+     */
+    public void setXattrFileCount(int xattrFileCount) {
+        checkNotNegative("extended attribute file count", xattrFileCount);
+        this.xattrFileCount = xattrFileCount;
+    }
+
+    /** Sets the number of extended attributes of each file. Default: 1. */
+    public void setXattrsPerFile(int xattrsPerFile) {
+        if(xattrsPerFile < 1 || xattrsPerFile > 10000) {
+            throw new IllegalArgumentException("Invalid number of extended " +
+                    "attributes per file: " + xattrsPerFile);
+        }
+
+        this.xattrsPerFile = xattrsPerFile;
+    }
+
+    /**
+     * Sets the size of each extended attribute in bytes. Attributes are
+     * stored inline, so they must fit in an attributes file node.
+     * Default: 32.
+     */
+    public void setXattrSize(int xattrSize) {
+        checkNotNegative("extended attribute size", xattrSize);
+        this.xattrSize = xattrSize;
+    }
+
+    /** Sets the number of free blocks at the end of the volume. Default: 0. */
+    public void setFreeBlockCount(long freeBlockCount) {
+        checkNotNegative("free block count", freeBlockCount);
+        this.freeBlockCount = freeBlockCount;
+    }
+
+    /** Sets the seed for the file contents. Default: 0. */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the date of all files, folders and the volume in seconds since
+     * 1904-01-01 00:00:00 GMT (HFS+ time). Default: the current time.
+     */
+    public void setDate(long date) {
+        this.date = date;
+    }
+
+    /**
+     * Sets the directory for temporary files, or <code>null</code> for the
+     * system default. Default: <code>null</code>.
+     */
+    public void setTempDir(File tempDir) {
+        this.tempDir = tempDir;
+    }
+
+    /** Returns the CNID of the folder with index <code>folder</code>. */
+    public static int getFolderID(int folder) {
+        return folder == 0 ? HFSCatalogNodeID.kHFSRootFolderID.toInt() :
+            FIRST_USER_CATALOG_NODE_ID + folder - 1;
+    }
+
+    /**
+     * Returns the name of the folder with index <code>folder</code>
+     * (1 or higher, index 0 is the root folder).
+     */
+    public String getFolderName(int folder) {
+        return "dir" +
+                padNumber(folder, Integer.toString(folderCount).length());
+    }
+
+    /** Returns the name of the file with index <code>file</code>. */
+    public String getFileName(int file) {
+        return "file" + padNumber(file, Integer.toString(fileCount).length()) +
+                ".dat";
+    }
+
+    /**
+     * Returns the path of the folder with index <code>folder</code>
+     * relative to the root folder, as an array of path components.
+     */
+    public String[] getFolderPath(int folder) {
+        int depth = 0;
+        for(int f = folder; f != 0; f = getParentFolder(f)) {
+            ++depth;
+        }
+
+        final String[] path = new String[depth];
+        for(int f = folder; f != 0; f = getParentFolder(f)) {
+            path[--depth] = getFolderName(f);
+        }
+
+        return path;
+    }
+
+    /**
+     * Returns the path of the file with index <code>file</code> relative to
+     * the root folder, as an array of path components.
+     */
+    public String[] getFilePath(int file) {
+        final String[] folderPath = getFolderPath(getFileFolder(file));
+        final String[] path = new String[folderPath.length + 1];
+        System.arraycopy(folderPath, 0, path, 0, folderPath.length);
+        path[folderPath.length] = getFileName(file);
+        return path;
+    }
+
+    /**
+     * Returns the depth of the folder hierarchy, that is the number of
+     * folders in the path of the deepest folder.
+     */
+    public int getFolderDepth() {
+        return getFolderPath(folderCount).length;
+    }
+
+    /** Returns the kind of the file with index <code>file</code>. */
+    public FileKind getFileKind(int file) {
+        if(isSpread(file, compressedFileCount, fileCount)) {
+            return FileKind.COMPRESSED;
+        }
+
+        /* Fragmented files are spread among the uncompressed files, and hard
+         * links among the remaining ones. */
+        final long uncompressedIndex =
+                file - spreadBefore(file, compressedFileCount, fileCount);
+        final long uncompressedCount = fileCount - compressedFileCount;
+        if(isSpread(uncompressedIndex, fragmentedFileCount, uncompressedCount))
+        {
+            return FileKind.FRAGMENTED;
+        }
+
+        final long unfragmentedIndex = uncompressedIndex -
+                spreadBefore(uncompressedIndex, fragmentedFileCount,
+                uncompressedCount);
+        if(isSpread(unfragmentedIndex, hardLinkCount,
+                uncompressedCount - fragmentedFileCount))
+        {
+            return FileKind.HARD_LINK;
+        }
+
+        return FileKind.REGULAR;
+    }
+
+    /**
+     * Returns whether the file with index <code>file</code> has extended
+     * attributes (not counting com.apple.decmpfs).
+     */
+    public boolean hasXattrs(int file) {
+        if(getFileKind(file) == FileKind.HARD_LINK) {
+            return false;
+        }
+
+        return isSpread(file - getHardLinksBefore(file), xattrFileCount,
+                fileCount - hardLinkCount);
+    }
+
+    /**
+     * Returns the name of extended attribute <code>index</code> of the files
+     * with extended attributes.
+     */
+    public String getXattrName(int index) {
+        return XATTR_NAME_PREFIX +
+                padNumber(index, Integer.toString(xattrsPerFile).length());
+    }
+
+    /**
+     * Generates a volume image with the current settings and writes it to
+     * <code>imageFile</code>, replacing any existing file.
+     */
+    public void generate(File imageFile) throws IOException {
+        checkSettings();
+
+        out = new BufferedOutputStream(new FileOutputStream(imageFile),
+                1024 * 1024);
+        outPosition = 0;
+        deflater = new Deflater();
+        lastCatalogParentID = -1;
+        lastCatalogName = null;
+        gapBitmap = new long[64];
+        gapBlockCount = 0;
+        try {
+            final byte catalogKeyCompareType;
+            if(!hfsx) {
+                catalogKeyCompareType = 0;
+            }
+            else if(caseSensitive) {
+                catalogKeyCompareType = BTHeaderRec.kHFSBinaryCompare;
+            }
+            else {
+                catalogKeyCompareType = BTHeaderRec.kHFSCaseFolding;
+            }
+
+            catalogTree = new BTreeWriter(catalogNodeSize,
+                    CATALOG_MAX_KEY_LENGTH, catalogKeyCompareType,
+                    BTreeWriter.kBTBigKeysMask |
+                    BTreeWriter.kBTVariableIndexKeysMask, tempDir);
+            extentsTree = new BTreeWriter(extentsNodeSize,
+                    EXTENTS_MAX_KEY_LENGTH, (byte) 0,
+                    BTreeWriter.kBTBigKeysMask, tempDir);
+            attributesTree = new BTreeWriter(attributesNodeSize,
+                    ATTRIBUTES_MAX_KEY_LENGTH, (byte) 0,
+                    BTreeWriter.kBTBigKeysMask |
+                    BTreeWriter.kBTVariableIndexKeysMask, tempDir);
+
+            /* The boot blocks and volume header are written last, reserve
+             * the blocks containing them. */
+            writeZeros(1536);
+            padToBlock();
+
+            generateCatalog();
+
+            extentsTree.finish();
+            catalogTree.finish();
+            attributesTree.finish();
+
+            final HFSPlusVolumeHeader.Mutable header =
+                    new HFSPlusVolumeHeader.Mutable(new byte[512]);
+            putVolumeHeaderFields(header);
+            header.setExtentsFile(getTreeForkData(extentsTree));
+            header.setCatalogFile(getTreeForkData(catalogTree));
+            header.setAttributesFile(getTreeForkData(attributesTree));
+
+            final long totalBlocks = writeAllocationFile(header);
+            out.close();
+            out = null;
+
+            final byte[] headerData = header.getBytes();
+            final RandomAccessFile raf = new RandomAccessFile(imageFile, "rw");
+            try {
+                raf.setLength(totalBlocks * blockSize);
+                raf.seek(1024);
+                raf.write(headerData);
+                raf.seek(totalBlocks * blockSize - 1024);
+                raf.write(headerData);
+            } finally {
+                raf.close();
+            }
+        } finally {
+            if(out != null) {
+                out.close();
+                out = null;
+            }
+
+            deflater.end();
+            deflater = null;
+            gapBitmap = null;
+
+            closeTree(catalogTree);
+            closeTree(extentsTree);
+            closeTree(attributesTree);
+            catalogTree = null;
+            extentsTree = null;
+            attributesTree = null;
+        }
+    }
+
+    private void checkSettings() {
+        if(caseSensitive && !hfsx) {
+            throw new IllegalArgumentException("Case sensitivity is only " +
+                    "supported for HFSX volumes.");
+        }
+        else if(compressedFileCount > fileCount) {
+            throw new IllegalArgumentException("More compressed files (" +
+                    compressedFileCount + ") than files (" + fileCount +
+                    ").");
+        }
+        else if(fragmentedFileCount > fileCount - compressedFileCount) {
+            throw new IllegalArgumentException("More fragmented files (" +
+                    fragmentedFileCount + ") than uncompressed files (" +
+                    (fileCount - compressedFileCount) + ").");
+        }
+        else if(hardLinkCount >
+                fileCount - compressedFileCount - fragmentedFileCount)
+        {
+            throw new IllegalArgumentException("More hard links (" +
+                    hardLinkCount + ") than files that are neither " +
+                    "compressed nor fragmented (" + (fileCount -
+                    compressedFileCount - fragmentedFileCount) + ").");
+        }
+        else if(xattrFileCount > fileCount - hardLinkCount) {
+            throw new IllegalArgumentException("More files with extended " +
+                    "attributes (" + xattrFileCount + ") than files that " +
+                    "are not hard links (" + (fileCount - hardLinkCount) +
+                    ").");
+        }
+        else if(fileSize == 0 &&
+                (compressedFileCount > 0 || fragmentedFileCount > 0))
+        {
+            throw new IllegalArgumentException("Compressed and fragmented " +
+                    "files require a non-zero file size.");
+        }
+        else if((long) getFileID(fileCount) > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("Too many catalog nodes.");
+        }
+
+        /* Require at least two inline attribute records per node, like the
+         * maximum inline attribute size of Mac OS X. */
+        final int xattrRecordSize = 2 + HFSPlusAttributesKey.STATIC_SIZE - 2 +
+                2 * getXattrName(0).length() + ATTRIBUTE_DATA_HEADER_SIZE +
+                xattrSize;
+        if(xattrFileCount > 0 &&
+                2 * (xattrRecordSize + 2) > attributesNodeSize - 14 - 2)
+        {
+            throw new IllegalArgumentException("Extended attribute size " +
+                    xattrSize + " is too large for the attributes node " +
+                    "size " + attributesNodeSize + ".");
+        }
+    }
+
+    private static void closeTree(BTreeWriter tree) throws IOException {
+        if(tree != null) {
+            tree.close();
+        }
+    }
+
+    /**
+     * Returns whether item <code>index</code> of <code>total</code> items is
+     * one of <code>count</code> items spread evenly among them.
+     */
+    private static boolean isSpread(long index, long count, long total) {
+        return spreadBefore(index + 1, count, total) !=
+                spreadBefore(index, count, total);
+    }
+
+    /**
+     * Returns how many of <code>count</code> items spread evenly among
+     * <code>total</code> items have an index lower than <code>index</code>.
+     */
+    private static long spreadBefore(long index, long count, long total) {
+        return total == 0 ? 0 : (index * count) / total;
+    }
+
+    /** Returns the number of hard links among the files before file. */
+    private int getHardLinksBefore(int file) {
+        final long uncompressedIndex =
+                file - spreadBefore(file, compressedFileCount, fileCount);
+        final long uncompressedCount = fileCount - compressedFileCount;
+        final long unfragmentedIndex = uncompressedIndex -
+                spreadBefore(uncompressedIndex, fragmentedFileCount,
+                uncompressedCount);
+        return (int) spreadBefore(unfragmentedIndex, hardLinkCount,
+                uncompressedCount - fragmentedFileCount);
+    }
+
+    private int getFanout() {
+        if(folderDepth == 0) {
+            return folderFanout;
+        }
+        else if(resolvedFanout == 0) {
+            /* The smallest fanout where a tree of folderDepth levels has
+             * room for all folders. */
+            int fanout = 1;
+            while(true) {
+                long capacity = 0;
+                long levelSize = 1;
+                for(int i = 0; i < folderDepth && capacity < folderCount; ++i)
+                {
+                    levelSize *= fanout;
+                    capacity += levelSize;
+                }
+
+                if(capacity >= folderCount) {
+                    break;
+                }
+
+                ++fanout;
+            }
+
+            resolvedFanout = fanout;
+        }
+
+        return resolvedFanout;
+    }
+
+    private int getParentFolder(int folder) {
+        return (folder - 1) / getFanout();
+    }
+
+    private int getSubfolderCount(int folder) {
+        final long first = (long) folder * getFanout() + 1;
+        return (int) Math.max(0, Math.min(getFanout(),
+                folderCount - first + 1));
+    }
+
+    /** Returns the index of the first file in folder <code>folder</code>. */
+    private int getFirstFile(int folder) {
+        return (int) (((long) folder * fileCount) / (folderCount + 1));
+    }
+
+    /** Returns the index of the folder containing file <code>file</code>. */
+    private int getFileFolder(int file) {
+        /* Inverse of getFirstFile: the last folder starting at or before
+         * the file. */
+        int folder = (int) ((((long) file + 1) * (folderCount + 1) - 1) /
+                fileCount);
+        while(getFirstFile(folder) > file) {
+            --folder;
+        }
+        while(folder < folderCount && getFirstFile(folder + 1) <= file) {
+            ++folder;
+        }
+
+        return folder;
+    }
+
+    private int getInodeCount() {
+        return (hardLinkCount + linksPerInode - 1) / linksPerInode;
+    }
+
+    /**
+     * Returns the CNID of the private metadata folder holding the hard link
+     * inodes. It comes right after the regular folders, followed by the
+     * inodes and then the files.
+     */
+    private int getPrivateFolderID() {
+        return FIRST_USER_CATALOG_NODE_ID + folderCount;
+    }
+
+    private int getInodeID(int inode) {
+        return getPrivateFolderID() + 1 + inode;
+    }
+
+    private int getFileID(int file) {
+        return FIRST_USER_CATALOG_NODE_ID + folderCount +
+                (hardLinkCount > 0 ? 1 + getInodeCount() : 0) + file;
+    }
+
+    private static String padNumber(int number, int width) {
+        final String s = Integer.toString(number);
+        final StringBuilder sb = new StringBuilder(width);
+        for(int i = s.length(); i < width; ++i) {
+            sb.append('0');
+        }
+
+        return sb.append(s).toString();
+    }
+
+    private int compareNames(HFSUniStr255 a, HFSUniStr255 b) {
+        return caseSensitive ? a.compareBinary(b) : a.compareFastUnicode(b);
+    }
+
+    /**
+     * Emits the catalog records in key order, writing the data of each file
+     * as its record is emitted. Records are ordered by parent ID and then
+     * name, so each folder's thread record (empty name) comes before its
+     * children, and the thread records of the inodes and files come last
+     * since they have the highest CNIDs.
+     */
+    private void generateCatalog() throws IOException {
+        final boolean hasPrivateFolder = hardLinkCount > 0;
+
+        /* The private folder name starts with NUL characters, which sort
+         * first in binary comparison and last with case folding. */
+        final boolean privateFolderFirst =
+                compareNames(new HFSUniStr255(PRIVATE_FOLDER_NAME),
+                new HFSUniStr255("dir")) < 0;
+
+        addCatalogRecord(HFSCatalogNodeID.kHFSRootParentID.toInt(), volumeName,
+                folderRecord(0));
+
+        for(int folder = 0; folder <= folderCount; ++folder) {
+            final int folderID = getFolderID(folder);
+            addCatalogRecord(folderID, "", threadRecord(
+                    (short) HFSPlusCatalogLeafRecordData.
+                    RECORD_TYPE_FOLDER_THREAD,
+                    folder == 0 ? HFSCatalogNodeID.kHFSRootParentID.toInt() :
+                    getFolderID(getParentFolder(folder)),
+                    folder == 0 ? volumeName : getFolderName(folder)));
+
+            if(folder == 0 && hasPrivateFolder && privateFolderFirst) {
+                addCatalogRecord(folderID, PRIVATE_FOLDER_NAME,
+                        privateFolderRecord());
+            }
+
+            final int firstSubfolder = folder * getFanout() + 1;
+            final int subfolderCount = getSubfolderCount(folder);
+            for(int i = 0; i < subfolderCount; ++i) {
+                addCatalogRecord(folderID, getFolderName(firstSubfolder + i),
+                        folderRecord(firstSubfolder + i));
+            }
+
+            final int endFile = getFirstFile(folder + 1);
+            for(int file = getFirstFile(folder); file < endFile; ++file) {
+                addCatalogRecord(folderID, getFileName(file),
+                        fileRecord(file));
+            }
+
+            if(folder == 0 && hasPrivateFolder && !privateFolderFirst) {
+                addCatalogRecord(folderID, PRIVATE_FOLDER_NAME,
+                        privateFolderRecord());
+            }
+        }
+
+        if(hasPrivateFolder) {
+            final int privateFolderID = getPrivateFolderID();
+            addCatalogRecord(privateFolderID, "", threadRecord(
+                    (short) HFSPlusCatalogLeafRecordData.
+                    RECORD_TYPE_FOLDER_THREAD,
+                    HFSCatalogNodeID.kHFSRootFolderID.toInt(),
+                    PRIVATE_FOLDER_NAME));
+
+            for(int inode : getInodesInNameOrder()) {
+                addCatalogRecord(privateFolderID,
+                        INODE_PREFIX + getInodeID(inode), inodeRecord(inode));
+            }
+
+            for(int inode = 0; inode < getInodeCount(); ++inode) {
+                addCatalogRecord(getInodeID(inode), "", threadRecord(
+                        (short) HFSPlusCatalogLeafRecordData.
+                        RECORD_TYPE_FILE_THREAD,
+                        privateFolderID, INODE_PREFIX + getInodeID(inode)));
+            }
+        }
+
+        for(int file = 0; file < fileCount; ++file) {
+            addCatalogRecord(getFileID(file), "", threadRecord(
+                    (short) HFSPlusCatalogLeafRecordData.
+                    RECORD_TYPE_FILE_THREAD,
+                    getFolderID(getFileFolder(file)), getFileName(file)));
+        }
+    }
+
+    /**
+     * Returns the inode indexes sorted by the inode names ("iNode" followed
+     * by the decimal CNID), which is not numeric order.
+     */
+    private int[] getInodesInNameOrder() {
+        /* Sort keys: the CNID's digits left aligned to 10 digits, then the
+         * number of digits, then the inode index. */
+        final int inodeCount = getInodeCount();
+        final long[] keys = new long[inodeCount];
+        for(int i = 0; i < inodeCount; ++i) {
+            final long id = Util.unsign(getInodeID(i));
+            final int digits = Long.toString(id).length();
+            long aligned = id;
+            for(int j = digits; j < 10; ++j) {
+                aligned *= 10;
+            }
+
+            keys[i] = ((aligned * 16 + digits) << 24) | i;
+        }
+
+        Arrays.sort(keys);
+
+        final int[] result = new int[inodeCount];
+        for(int i = 0; i < inodeCount; ++i) {
+            result[i] = (int) (keys[i] & 0xFFFFFF);
+        }
+
+        return result;
+    }
+
+    private void addCatalogRecord(int parentID, String name, byte[] data)
+            throws IOException
+    {
+        final HFSPlusCatalogKey key = new HFSPlusCatalogKey(parentID, name);
+
+        /* Guard against naming schemes that don't sort the way the emission
+         * order assumes. */
+        final long parentIDLong = Util.unsign(parentID);
+        if(lastCatalogName != null && (parentIDLong < lastCatalogParentID ||
+                (parentIDLong == lastCatalogParentID &&
+                compareNames(key.getNodeName(), lastCatalogName) <= 0)))
+        {
+            throw new IllegalStateException("Catalog record (" + parentID +
+                    ", \"" + name + "\") emitted out of order.");
+        }
+
+        lastCatalogParentID = parentIDLong;
+        lastCatalogName = key.getNodeName();
+
+        catalogTree.addRecord(key.getBytes(), data);
+    }
+
+    private byte[] folderRecord(int folder) {
+        int valence = getSubfolderCount(folder) + getFirstFile(folder + 1) -
+                getFirstFile(folder);
+        if(folder == 0 && hardLinkCount > 0) {
+            ++valence; // The private metadata folder.
+        }
+
+        return newFolderRecord(getFolderID(folder), valence, FOLDER_MODE).
+                getBytes();
+    }
+
+    private byte[] privateFolderRecord() {
+        final HFSPlusCatalogFolder.Mutable record = newFolderRecord(
+                getPrivateFolderID(), getInodeCount(), PRIVATE_FOLDER_MODE);
+        record.getMutableUserInfo().setFinderFlags(
+                PRIVATE_FOLDER_FINDER_FLAGS);
+        return record.getBytes();
+    }
+
+    private HFSPlusCatalogFolder.Mutable newFolderRecord(int folderID,
+            int valence, short mode)
+    {
+        final HFSPlusCatalogFolder.Mutable record =
+                new HFSPlusCatalogFolder.Mutable(
+                new byte[HFSPlusCatalogFolder.length()], 0);
+        record.setRecordType(
+                (short) HFSPlusCatalogLeafRecordData.RECORD_TYPE_FOLDER);
+        record.setFlags((short) kHFSThreadExistsMask);
+        record.setValence(valence);
+        record.getMutableFolderID().setValue(folderID);
+        /* The backupDate is left at 0 (never backed up). */
+        record.setCreateDate((int) date);
+        record.setContentModDate((int) date);
+        record.setAttributeModDate((int) date);
+        record.setAccessDate((int) date);
+        setPermissions(record.getMutablePermissions(), mode);
+        return record;
+    }
+
+    private byte[] fileRecord(int file) throws IOException {
+        final FileKind kind = getFileKind(file);
+        final int fileID = getFileID(file);
+        final boolean xattrs = hasXattrs(file);
+
+        final HFSPlusCatalogFile.Mutable record = newFileRecord(fileID);
+        int flags = kHFSThreadExistsMask;
+        if(xattrs || kind == FileKind.COMPRESSED) {
+            flags |= kHFSHasAttributesMask;
+        }
+
+        switch(kind) {
+            case REGULAR:
+                putFileData(record, fileID, fileID, 1);
+                break;
+            case FRAGMENTED:
+                putFileData(record, fileID, fileID,
+                        (int) Math.min(extentsPerFragmentedFile,
+                        blocksFor(fileSize)));
+                break;
+            case COMPRESSED: {
+                final long startBlock = outPosition / blockSize;
+                final long resourceForkSize =
+                        writeCompressedResourceFork(fileID);
+                record.getMutableResourceFork().set(getForkData(
+                        resourceForkSize, new long[] { startBlock },
+                        new long[] { blocksFor(resourceForkSize) }, 1));
+                record.getMutablePermissions().setOwnerFlags(
+                        HFSPlusBSDInfo.MASK_OWNER_COMPRESSED);
+                addDecmpfsAttribute(fileID);
+                break;
+            }
+            case HARD_LINK: {
+                final int inode = getHardLinksBefore(file) / linksPerInode;
+                record.getMutableUserInfo().setFileType(HARD_LINK_FILE_TYPE);
+                record.getMutableUserInfo().setFileCreator(
+                        HARD_LINK_CREATOR);
+                /* The special field holds the inode number (iNodeNum). */
+                record.getMutablePermissions().setSpecial(getInodeID(inode));
+                flags |= HFSPlusCatalogAttributes.kHFSHasLinkChainMask;
+                break;
+            }
+            default:
+                throw new RuntimeException("Unhandled file kind: " + kind);
+        }
+
+        record.setFlags((short) flags);
+
+        if(xattrs) {
+            addXattrs(fileID);
+        }
+
+        return record.getBytes();
+    }
+
+    private byte[] inodeRecord(int inode) throws IOException {
+        final int inodeID = getInodeID(inode);
+        final int linkCount = Math.min(linksPerInode,
+                hardLinkCount - inode * linksPerInode);
+
+        final HFSPlusCatalogFile.Mutable record = newFileRecord(inodeID);
+        record.setFlags((short) (kHFSThreadExistsMask |
+                HFSPlusCatalogAttributes.kHFSHasLinkChainMask));
+        /* The special field holds the link count (linkCount). */
+        record.getMutablePermissions().setSpecial(linkCount);
+        putFileData(record, inodeID, inodeID, 1);
+        return record.getBytes();
+    }
+
+    private HFSPlusCatalogFile.Mutable newFileRecord(int fileID) {
+        final HFSPlusCatalogFile.Mutable record =
+                new HFSPlusCatalogFile.Mutable(
+                new byte[HFSPlusCatalogFile.length()], 0);
+        record.setRecordType(
+                (short) HFSPlusCatalogLeafRecordData.RECORD_TYPE_FILE);
+        record.getMutableFileID().setValue(fileID);
+        /* The backupDate is left at 0 (never backed up). */
+        record.setCreateDate((int) date);
+        record.setContentModDate((int) date);
+        record.setAttributeModDate((int) date);
+        record.setAccessDate((int) date);
+        setPermissions(record.getMutablePermissions(), FILE_MODE);
+        return record;
+    }
+
+    private static byte[] threadRecord(short recordType, int parentID,
+            String name)
+    {
+        return new HFSPlusCatalogThread(recordType,
+                new HFSCatalogNodeID(parentID), new HFSUniStr255(name)).
+                getBytes();
+    }
+
+    private static void setPermissions(HFSPlusBSDInfo.Mutable permissions,
+            short fileMode)
+    {
+        permissions.setOwnerID(DEFAULT_OWNER_ID);
+        permissions.setGroupID(DEFAULT_GROUP_ID);
+        permissions.setFileMode(fileMode);
+    }
+
+    /**
+     * Returns an HFSPlusForkData structure for a fork of
+     * <code>logicalSize</code> bytes, holding the first (up to) eight of the
+     * <code>extentCount</code> extents.
+     */
+    private HFSPlusForkData getForkData(long logicalSize, long[] startBlocks,
+            long[] blockCounts, int extentCount)
+    {
+        long totalBlocks = 0;
+        for(int i = 0; i < extentCount; ++i) {
+            totalBlocks += blockCounts[i];
+        }
+
+        final HFSPlusForkData.Mutable forkData = new HFSPlusForkData.Mutable(
+                new byte[HFSPlusForkData.length()], 0);
+        forkData.setLogicalSize(logicalSize);
+        forkData.setClumpSize((int) (totalBlocks * blockSize));
+        forkData.setTotalBlocks((int) totalBlocks);
+        final HFSPlusExtentRecord.Mutable extents =
+                forkData.getMutableExtents();
+        for(int i = 0; i < extentCount && i < EXTENTS_PER_RECORD; ++i) {
+            extents.setExtentDescriptor(i, new HFSPlusExtentDescriptor(
+                    (int) startBlocks[i], (int) blockCounts[i]));
+        }
+
+        return forkData;
+    }
+
+    /**
+     * Writes <code>fileSize</code> bytes of content for CNID
+     * <code>contentID</code> split into <code>extentCount</code> extents,
+     * with a free block between consecutive extents, and stores the data
+     * fork in the file record <code>fileRecord</code>. Extents beyond the
+     * first eight are added to the extents overflow file under
+     * <code>fileID</code>.
+     */
+    private void putFileData(HFSPlusCatalogFile.Mutable fileRecord, int fileID,
+            int contentID, int extentCount) throws IOException
+    {
+        final long totalBlocks = blocksFor(fileSize);
+        final long[] startBlocks = new long[Math.max(1, extentCount)];
+        final long[] blockCounts = new long[startBlocks.length];
+        final long contentSeed = getContentSeed(contentID);
+
+        long fileBlock = 0;
+        for(int i = 0; i < extentCount; ++i) {
+            if(i > 0) {
+                markGap(outPosition / blockSize);
+                writeZeros(blockSize);
+            }
+
+            final long endBlock = totalBlocks * (i + 1) / extentCount;
+            startBlocks[i] = outPosition / blockSize;
+            blockCounts[i] = endBlock - fileBlock;
+            writeFileContents(contentSeed, fileBlock * blockSize,
+                    Math.min(fileSize, endBlock * blockSize), false);
+            fileBlock = endBlock;
+        }
+
+        fileRecord.getMutableDataFork().set(getForkData(fileSize,
+                startBlocks, blockCounts, totalBlocks > 0 ? extentCount : 0));
+
+        /* Overflow extent records are keyed by the file block number of
+         * their first extent. */
+        fileBlock = 0;
+        for(int i = 0; i < extentCount; ++i) {
+            if(i >= EXTENTS_PER_RECORD && i % EXTENTS_PER_RECORD == 0) {
+                final HFSPlusExtentRecord.Mutable record =
+                        new HFSPlusExtentRecord.Mutable(
+                        new byte[EXTENT_RECORD_SIZE], 0);
+                for(int j = 0; j < EXTENTS_PER_RECORD &&
+                        i + j < extentCount; ++j)
+                {
+                    record.setExtentDescriptor(j, new HFSPlusExtentDescriptor(
+                            (int) startBlocks[i + j],
+                            (int) blockCounts[i + j]));
+                }
+
+                extentsTree.addRecord(new HFSPlusExtentKey(
+                        HFSPlusExtentKey.DATA_FORK,
+                        new HFSCatalogNodeID(fileID),
+                        (int) fileBlock).getBytes(), record.getBytes());
+            }
+
+            fileBlock += blockCounts[i];
+        }
+    }
+
+    private HFSPlusForkData getTreeForkData(BTreeWriter tree)
+            throws IOException
+    {
+        final long length = tree.getLength();
+        final long startBlock = writeTree(tree);
+        return getForkData(length, new long[] { startBlock },
+                new long[] { blocksFor(length) }, 1);
+    }
+
+    private void markGap(long block) {
+        final int word = (int) (block >>> 6);
+        if(word >= gapBitmap.length) {
+            gapBitmap = Util.arrayCopy(gapBitmap,
+                    new long[Math.max(word + 1, gapBitmap.length * 2)]);
+        }
+
+        gapBitmap[word] |= 1L << (block & 63);
+        ++gapBlockCount;
+    }
+
+    private boolean isGap(long block) {
+        final int word = (int) (block >>> 6);
+        return word < gapBitmap.length &&
+                (gapBitmap[word] & (1L << (block & 63))) != 0;
+    }
+
+    private long blocksFor(long size) {
+        return (size + blockSize - 1) / blockSize;
+    }
+
+    private void write(byte[] data, int offset, int length)
+            throws IOException
+    {
+        out.write(data, offset, length);
+        outPosition += length;
+    }
+
+    private void writeZeros(long length) throws IOException {
+        Arrays.fill(buffer, (byte) 0);
+        while(length > 0) {
+            final int curLength = (int) Math.min(buffer.length, length);
+            write(buffer, 0, curLength);
+            length -= curLength;
+        }
+    }
+
+    private void padToBlock() throws IOException {
+        final int remainder = (int) (outPosition % blockSize);
+        if(remainder != 0) {
+            writeZeros(blockSize - remainder);
+        }
+    }
+
+    /**
+     * Writes the content bytes from <code>start</code> to <code>end</code>
+     * of the stream with the given seed, padded to the next block boundary.
+     */
+    private void writeFileContents(long contentSeed, long start, long end,
+            boolean text) throws IOException
+    {
+        for(long pos = start; pos < end; pos += buffer.length) {
+            final int curLength = (int) Math.min(buffer.length, end - pos);
+            fillContents(contentSeed, pos, buffer, curLength, text);
+            write(buffer, 0, curLength);
+        }
+
+        padToBlock();
+    }
+
+    private long getContentSeed(int contentID) {
+        return mix(seed ^ (contentID * 0x9E3779B97F4A7C15L));
+    }
+
+    /**
+     * Fills <code>length</code> bytes of <code>data</code> with the content
+     * of the stream with the given seed starting at <code>pos</code>, which
+     * must be a multiple of 64.<br>
+     * Random content is generated 8 bytes at a time from a hash of the
+     * position. Text content consists of 64 byte lines of 8 words picked
+     * from a small dictionary, which compresses well.
+     */
+    private static void fillContents(long contentSeed, long pos, byte[] data,
+            int length, boolean text)
+    {
+        for(int i = 0; i < length; i += 64) {
+            final long line = (pos + i) / 64;
+            long hash = mix(contentSeed + line);
+            for(int j = 0; j < 64 && i + j < length; j += 8) {
+                final int end = Math.min(8, length - (i + j));
+                if(text) {
+                    final String word = TEXT_WORDS[(int) (hash & 0xF)];
+                    for(int k = 0; k < end; ++k) {
+                        data[i + j + k] =
+                                (byte) (j == 56 && k == 7 ? '\n' :
+                                word.charAt(k));
+                    }
+                    hash >>>= 4;
+                }
+                else {
+                    long value = mix(hash + j);
+                    for(int k = 0; k < end; ++k) {
+                        data[i + j + k] = (byte) value;
+                        value >>>= 8;
+                    }
+                }
+            }
+        }
+    }
+
+    /** The SplitMix64 finalizer. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Writes a decmpfs resource fork holding <code>fileSize</code> bytes of
+     * zlib compressed text content for file <code>fileID</code>, padded to
+     * the next block boundary.<br>
+     * The resource fork has a single 'cmpf' resource consisting of a chunk
+     * table followed by the compressed 64 KiB chunks. Chunks that don't
+     * compress are stored raw with a 0xFF prefix.
+     *
+     * @return the logical size of the resource fork.
+     */
+    private long writeCompressedResourceFork(int fileID) throws IOException {
+        final int chunkCount =
+                (int) ((fileSize + COMPRESSION_CHUNK_SIZE - 1) /
+                COMPRESSION_CHUNK_SIZE);
+        final ByteArrayOutputStream chunks = new ByteArrayOutputStream();
+        final int[] chunkSizes = new int[chunkCount];
+        final byte[] compressed = new byte[COMPRESSION_CHUNK_SIZE + 1];
+        final long contentSeed = getContentSeed(fileID);
+
+        for(int i = 0; i < chunkCount; ++i) {
+            final long pos = (long) i * COMPRESSION_CHUNK_SIZE;
+            final int curLength =
+                    (int) Math.min(COMPRESSION_CHUNK_SIZE, fileSize - pos);
+            fillContents(contentSeed, pos, buffer, curLength, true);
+
+            deflater.reset();
+            deflater.setInput(buffer, 0, curLength);
+            deflater.finish();
+            int compressedLength = 0;
+            while(!deflater.finished() &&
+                    compressedLength < compressed.length)
+            {
+                compressedLength += deflater.deflate(compressed,
+                        compressedLength, compressed.length - compressedLength);
+            }
+
+            if(!deflater.finished() || compressedLength > curLength) {
+                chunks.write(0xFF);
+                chunks.write(buffer, 0, curLength);
+                chunkSizes[i] = curLength + 1;
+            }
+            else {
+                chunks.write(compressed, 0, compressedLength);
+                chunkSizes[i] = compressedLength;
+            }
+        }
+
+        /* The resource data is the chunk count and table, with offsets
+         * relative to the chunk count, followed by the chunks. */
+        final int tableSize = 4 + 8 * chunkCount;
+        final int resourceSize = tableSize + chunks.size();
+        final byte[] table = new byte[4 + tableSize];
+        Util.arrayPutBE(table, 0, resourceSize);
+        Util.arrayPutLE(table, 4, chunkCount);
+        int chunkOffset = tableSize;
+        for(int i = 0; i < chunkCount; ++i) {
+            Util.arrayPutLE(table, 8 + 8 * i, chunkOffset);
+            Util.arrayPutLE(table, 12 + 8 * i, chunkSizes[i]);
+            chunkOffset += chunkSizes[i];
+        }
+
+        final int dataOffset = 256;
+        final int dataLength = 4 + resourceSize;
+        final int mapOffset = dataOffset + dataLength;
+        final int mapLength = 50;
+
+        final byte[] header = new byte[256];
+        Util.arrayPutBE(header, 0, dataOffset);
+        Util.arrayPutBE(header, 4, mapOffset);
+        Util.arrayPutBE(header, 8, dataLength);
+        Util.arrayPutBE(header, 12, mapLength);
+
+        /* Resource map: header copy, next map handle, file reference number
+         * and attributes, type list offset, name list offset, then a type
+         * list with the single type 'cmpf' and its reference list. */
+        final byte[] map = new byte[mapLength];
+        System.arraycopy(header, 0, map, 0, 16);
+        Util.arrayPutBE(map, 24, (short) 28);
+        Util.arrayPutBE(map, 26, (short) mapLength);
+        Util.arrayPutBE(map, 28, (short) 0); // type count - 1
+        map[30] = 'c';
+        map[31] = 'm';
+        map[32] = 'p';
+        map[33] = 'f';
+        Util.arrayPutBE(map, 34, (short) 0); // resource count - 1
+        Util.arrayPutBE(map, 36, (short) 10); // reference list offset
+        Util.arrayPutBE(map, 38, (short) 1); // resource ID
+        Util.arrayPutBE(map, 40, (short) -1); // no name
+        /* Attributes and data offset (0) are already zero. */
+
+        write(header, 0, header.length);
+        write(table, 0, table.length);
+        chunks.writeTo(out);
+        outPosition += chunks.size();
+        write(map, 0, map.length);
+        padToBlock();
+
+        return mapOffset + mapLength;
+    }
+
+    private void addDecmpfsAttribute(int fileID) throws IOException {
+        final byte[] value = new byte[DecmpfsHeader.STRUCTSIZE];
+        Util.arrayPutLE(value, 0, (int) DecmpfsHeader.MAGIC);
+        Util.arrayPutLE(value, 4, DecmpfsHeader.COMPRESSION_TYPE_RESOURCE);
+        Util.arrayPutLE(value, 8, fileSize);
+
+        addInlineAttribute(fileID, DECMPFS_ATTRIBUTE_NAME, value);
+    }
+
+    /**
+     * Adds the extended attributes of file <code>fileID</code>. Their names
+     * sort after com.apple.decmpfs, so they are added after it.
+     */
+    private void addXattrs(int fileID) throws IOException {
+        final byte[] value = new byte[xattrSize];
+        final long contentSeed = getContentSeed(fileID);
+        for(int i = 0; i < xattrsPerFile; ++i) {
+            fillContents(mix(contentSeed + ~i), 0, value, value.length,
+                    false);
+            addInlineAttribute(fileID, getXattrName(i).toCharArray(), value);
+        }
+    }
+
+    private void addInlineAttribute(int fileID, char[] name, byte[] value)
+            throws IOException
+    {
+        final HFSPlusAttributesKey key = new HFSPlusAttributesKey(
+                new HFSCatalogNodeID(fileID), 0, name);
+
+        final byte[] data = new byte[ATTRIBUTE_DATA_HEADER_SIZE +
+                value.length];
+        Util.arrayPutBE(data, 0,
+                HFSPlusAttributesLeafRecordData.kHFSPlusAttrInlineData);
+        Util.arrayPutBE(data, 12, value.length);
+        System.arraycopy(value, 0, data, ATTRIBUTE_DATA_HEADER_SIZE,
+                value.length);
+
+        attributesTree.addRecord(key.getBytes(), data);
+    }
+
+    /**
+     * Writes the nodes of <code>tree</code> at the current position, padded
+     * to the next block boundary.
+     *
+     * @return the first block of the tree.
+     */
+    private long writeTree(BTreeWriter tree) throws IOException {
+        final long startBlock = outPosition / blockSize;
+        tree.writeTo(out);
+        outPosition += tree.getLength();
+        padToBlock();
+        return startBlock;
+    }
+
+    /**
+     * Writes the allocation file after the B-trees, followed by the free
+     * blocks. All blocks up to the end of the allocation file are used,
+     * except for the gaps between the extents of fragmented files, as are
+     * the blocks holding the alternate volume header at the end.
+     *
+     * @return the total number of blocks of the volume.
+     */
+    private long writeAllocationFile(HFSPlusVolumeHeader.Mutable header)
+            throws IOException
+    {
+        final long usedBlocks = outPosition / blockSize;
+        final long tailBlocks = blocksFor(1024);
+        final long bitsPerBlock = 8L * blockSize;
+
+        /* The allocation file size depends on the total block count, which
+         * includes the allocation file. */
+        long allocationBlocks = 0;
+        long totalBlocks;
+        while(true) {
+            totalBlocks = usedBlocks + allocationBlocks + freeBlockCount +
+                    tailBlocks;
+            final long requiredBlocks =
+                    (totalBlocks + bitsPerBlock - 1) / bitsPerBlock;
+            if(requiredBlocks == allocationBlocks) {
+                break;
+            }
+
+            allocationBlocks = requiredBlocks;
+        }
+
+        if(totalBlocks > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("Volume too large: " +
+                    totalBlocks + " blocks.");
+        }
+
+        final long startBlock = usedBlocks;
+        final long headBlocks = usedBlocks + allocationBlocks;
+        for(long bit = 0; bit < allocationBlocks * bitsPerBlock;
+                bit += 8L * buffer.length)
+        {
+            for(int i = 0; i < buffer.length; ++i) {
+                int b = 0;
+                for(int j = 0; j < 8; ++j) {
+                    final long block = bit + 8L * i + j;
+                    if((block < headBlocks && !isGap(block)) ||
+                            (block < totalBlocks &&
+                            block >= totalBlocks - tailBlocks))
+                    {
+                        b |= 0x80 >>> j;
+                    }
+                }
+
+                buffer[i] = (byte) b;
+            }
+
+            write(buffer, 0, (int) Math.min(buffer.length,
+                    (allocationBlocks * bitsPerBlock - bit) / 8));
+        }
+
+        header.setAllocationFile(getForkData(allocationBlocks * blockSize,
+                new long[] { startBlock }, new long[] { allocationBlocks }, 1));
+        header.setTotalBlocks((int) totalBlocks);
+        header.setFreeBlocks((int) (freeBlockCount + gapBlockCount));
+        header.setNextAllocation((int) headBlocks);
+
+        return totalBlocks;
+    }
+
+    private void putVolumeHeaderFields(HFSPlusVolumeHeader.Mutable header) {
+        final boolean hasPrivateFolder = hardLinkCount > 0;
+
+        header.setSignature(hfsx ?
+            HFSPlusVolumeHeader.SIGNATURE_HFSX :
+            HFSPlusVolumeHeader.SIGNATURE_HFS_PLUS);
+        header.setVersion((short) (hfsx ? 5 : 4));
+        header.setAttributes(kHFSVolumeUnmountedMask);
+        header.setLastMountedVersion(0x31302E30); // "10.0"
+        header.setCreateDate((int) date);
+        header.setModifyDate((int) date);
+        header.setBackupDate((int) date);
+        header.setCheckedDate((int) date);
+        header.setFileCount(fileCount +
+                (hasPrivateFolder ? getInodeCount() : 0));
+        header.setFolderCount(folderCount + (hasPrivateFolder ? 1 : 0));
+        header.setBlockSize(blockSize);
+        header.setRsrcClumpSize(COMPRESSION_CHUNK_SIZE);
+        header.setDataClumpSize(COMPRESSION_CHUNK_SIZE);
+        header.getMutableNextCatalogID().setValue(getFileID(fileCount));
+        header.setWriteCount(1);
+        header.setEncodingsBitmap(1L); // MacRoman
+    }
+
+    private static void checkNotNegative(String what, long value) {
+        if(value < 0) {
+            throw new IllegalArgumentException("Invalid " + what + ": " +
+                    value);
+        }
+    }
+
+    private static void checkPowerOfTwo(String what, int value, int min,
+            int max)
+    {
+        if(value < min || value > max || (value & (value - 1)) != 0) {
+            throw new IllegalArgumentException("Invalid " + what + ": " +
+                    value);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs.io;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A source of data that can be written to a channel directly, without passing
+ * through a buffer on the Java heap (for instance through
+ * {@link java.nio.channels.FileChannel#transferTo(long, long,
+ * WritableByteChannel)}).
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public interface ChannelTransferSource {
+    /**
+     * Writes up to <code>count</code> bytes starting at position
+     * <code>pos</code> in this source to <code>target</code>. Position
+     * independent, i.e. does not affect any file pointer of the source.
+     *
+     * @param pos
+     *      <b>(in)</b> The position in the source to start transferring from.
+     * @param count
+     *      <b>(in)</b> The maximum number of bytes to transfer.
+     * @param target
+     *      <b>(in)</b> The channel to write the data to.
+     * @return the number of bytes transferred, which may be less than
+     * <code>count</code> (but is never 0 unless <code>count</code> is 0 or
+     * <code>pos</code> is at or beyond the end of the source).
+     * @throws IOException if an I/O error occurs.
+     */
+    public long transferTo(long pos, long count, WritableByteChannel target)
+            throws IOException;
+}
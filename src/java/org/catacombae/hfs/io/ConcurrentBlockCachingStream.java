@@ -0,0 +1,403 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs.io;
+
+import org.catacombae.io.BasicSynchronizedReadableRandomAccessStream;
+import org.catacombae.io.RuntimeIOException;
+import org.catacombae.io.SynchronizedReadableRandomAccess;
+import org.catacombae.util.Log;
+
+/**
+ * A thread safe block cache in front of a {@link SynchronizedReadableRandomAccess}
+ * source.<br>
+ * Reads are position independent (through the <code>readFrom</code> family of
+ * methods), so any number of {@link org.catacombae.io.ReadableRandomAccessSubstream}s
+ * can be created on top of this stream, each with its own file pointer.<br>
+ * The cache is divided into a number of segments, each one guarded by its own
+ * lock, and blocks are distributed among the segments by block number. Threads
+ * accessing blocks in different segments never wait for each other, and cache
+ * misses are filled without holding any segment lock, so several misses can be
+ * serviced concurrently (as far as the source allows).<br>
+ * Each segment uses the same replacement policy as
+ * {@link ReadableBlockCachingStream}.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class ConcurrentBlockCachingStream
+        extends BasicSynchronizedReadableRandomAccessStream
+{
+    private static final Log log =
+            Log.getInstance(ConcurrentBlockCachingStream.class);
+
+    /** The maximum number of segments that the cache is divided into. */
+    private static final int MAX_SEGMENT_COUNT = 16;
+
+    /** The minimum number of blocks in each segment. */
+    private static final int MIN_BLOCKS_PER_SEGMENT = 8;
+
+    private final SynchronizedReadableRandomAccess source;
+
+    /** Block size. */
+    private final int blockSize;
+
+    /**
+     * Length of the stream. If the length of the source should change, then
+     * this one doesn't.
+     */
+    private final long length;
+
+    private final Segment[] segments;
+
+    /** <code>segments.length - 1</code>, used to select a segment. */
+    private final int segmentMask;
+
+    /**
+     * File pointer for the <code>read</code>/<code>seek</code> methods.
+     * Guarded by <code>this</code>.
+     */
+    private long filePointer = 0;
+
+    /** Number of objects (mostly substreams) referencing this stream. */
+    private long refCount = 0;
+
+    /**
+     * Set when the close method is called. Prohibits new references, but
+     * existing substreams may continue reading until they are closed.
+     */
+    private boolean closed = false;
+
+    /**
+     * Set when the reference to the source has been released. Prohibits
+     * further access.
+     */
+    private volatile boolean sourceReleased = false;
+
+    private static class Segment {
+        private final TwoQueueBlockCache cache;
+        private long hitCount = 0;
+        private long missCount = 0;
+
+        public Segment(int capacity) {
+            this.cache = new TwoQueueBlockCache(capacity);
+        }
+    }
+
+    /**
+     * Creates a new concurrent block cache in front of <code>source</code>.
+     * A reference to <code>source</code> is held until this stream is closed
+     * and no longer referenced by anyone.
+     *
+     * @param source
+     *      <b>(in)</b> The source stream, which must support concurrent calls
+     *      to its <code>readFrom</code> methods.
+     * @param blockSize
+     *      <b>(in)</b> The size of each cached block.
+     * @param maxItemCount
+     *      <b>(in)</b> The maximum number of blocks to keep in the cache.
+     */
+    public ConcurrentBlockCachingStream(SynchronizedReadableRandomAccess source,
+            int blockSize, int maxItemCount)
+    {
+        log.trace("ConcurrentBlockCachingStream(" + source + ", " +
+                blockSize + ", " + maxItemCount + ");");
+
+        if(source == null) {
+            throw new IllegalArgumentException("'source' can not be null");
+        }
+        else if(blockSize <= 0) {
+            throw new IllegalArgumentException("'blockSize' must be positive " +
+                    "and non-zero");
+        }
+        else if(maxItemCount < 1) {
+            throw new IllegalArgumentException("'maxItemCount' must be at " +
+                    "least 1");
+        }
+
+        this.source = source;
+        this.blockSize = blockSize;
+        this.length = source.length();
+
+        int actualItemCount = maxItemCount;
+        if(length > 0 && (long) actualItemCount * blockSize > length) {
+            actualItemCount =
+                    (int) (length / blockSize +
+                    ((length % blockSize != 0) ? 1 : 0));
+            log.debug("Adjusted actualItemCount to " + actualItemCount);
+        }
+
+        int segmentCount = 1;
+        while(segmentCount < MAX_SEGMENT_COUNT &&
+                segmentCount * 2 * MIN_BLOCKS_PER_SEGMENT <= actualItemCount)
+        {
+            segmentCount *= 2;
+        }
+
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        for(int i = 0; i < segmentCount; ++i) {
+            /* Distribute the remainder over the first segments. */
+            segments[i] = new Segment(actualItemCount / segmentCount +
+                    (i < actualItemCount % segmentCount ? 1 : 0));
+        }
+
+        source.addReference(this);
+    }
+
+    /**
+     * Reads up to <code>len</code> bytes starting at position <code>pos</code>
+     * in the stream. May be called concurrently from any number of threads.
+     * {@inheritDoc}
+     */
+    /* @Override */
+    public int readFrom(final long pos, final byte[] data, final int off,
+            final int len) throws RuntimeIOException
+    {
+        if(sourceReleased) throw new RuntimeIOException("Stream is closed.");
+        if(pos < 0) {
+            throw new IllegalArgumentException("Negative position: " + pos);
+        }
+        if(length >= 0 && pos >= length) {
+            return -1;
+        }
+
+        int bytesProcessed = 0;
+        long curPos = pos;
+        while(bytesProcessed < len) {
+            final long blockNumber = curPos / blockSize;
+            final byte[] blockData = getBlock(blockNumber);
+            final int posInBlock = (int) (curPos - blockNumber * blockSize);
+            final int bytesLeftInBlock = blockData.length - posInBlock;
+            if(bytesLeftInBlock <= 0) {
+                /* End of stream. */
+                break;
+            }
+
+            final int bytesToCopy = Math.min(len - bytesProcessed,
+                    bytesLeftInBlock);
+            System.arraycopy(blockData, posInBlock, data, off + bytesProcessed,
+                    bytesToCopy);
+            bytesProcessed += bytesToCopy;
+            curPos += bytesToCopy;
+
+            if(blockData.length < blockSize) {
+                /* Short block, can only be the last block of the stream. */
+                break;
+            }
+        }
+
+        return (bytesProcessed == 0 && len > 0) ? -1 : bytesProcessed;
+    }
+
+    private byte[] getBlock(final long blockNumber) {
+        final Segment segment = segments[segmentIndex(blockNumber)];
+
+        synchronized(segment) {
+            final byte[] cachedData = segment.cache.get(blockNumber);
+            if(cachedData != null) {
+                ++segment.hitCount;
+                return cachedData;
+            }
+
+            ++segment.missCount;
+        }
+
+        /* Fill the block without holding the segment lock. If another thread
+         * is filling the same block at the same time we will just do some
+         * redundant work. */
+        final byte[] data = readBlock(blockNumber);
+
+        synchronized(segment) {
+            final byte[] cachedData = segment.cache.get(blockNumber);
+            if(cachedData != null) {
+                /* Someone else beat us to it. */
+                return cachedData;
+            }
+
+            while(segment.cache.isFull()) {
+                segment.cache.evict();
+            }
+
+            segment.cache.put(blockNumber, data);
+        }
+
+        return data;
+    }
+
+    private byte[] readBlock(final long blockNumber) {
+        final long blockPos = blockNumber * blockSize;
+        final int dataSize;
+        if(length >= 0 && length - blockPos < blockSize) {
+            dataSize = (int) (length - blockPos);
+        }
+        else {
+            dataSize = blockSize;
+        }
+
+        final byte[] data = new byte[dataSize];
+        int bytesRead = 0;
+        while(bytesRead < dataSize) {
+            final int curBytesRead = source.readFrom(blockPos + bytesRead,
+                    data, bytesRead, dataSize - bytesRead);
+            if(curBytesRead <= 0) {
+                break;
+            }
+
+            bytesRead += curBytesRead;
+        }
+
+        if(bytesRead < dataSize) {
+            final byte[] truncatedData = new byte[bytesRead];
+            System.arraycopy(data, 0, truncatedData, 0, bytesRead);
+            return truncatedData;
+        }
+
+        return data;
+    }
+
+    private int segmentIndex(final long blockNumber) {
+        /* Spread the bits of the block number so that blocks that are close to
+         * each other end up in different segments. */
+        int h = (int) (blockNumber ^ (blockNumber >>> 32));
+        h ^= (h >>> 16);
+        h ^= (h >>> 7) ^ (h >>> 4);
+        return h & segmentMask;
+    }
+
+    /* @Override */
+    public long skipFrom(final long pos, final long length)
+            throws RuntimeIOException
+    {
+        final long remaining = length() - pos;
+        return remaining < length ? remaining : length;
+    }
+
+    /* @Override */
+    public synchronized long remainingLength() throws RuntimeIOException {
+        return length() - filePointer;
+    }
+
+    /* @Override */
+    public long length() throws RuntimeIOException {
+        if(sourceReleased) throw new RuntimeIOException("Stream is closed.");
+        return length;
+    }
+
+    /**
+     * Returns the number of block lookups that were satisfied by the cache.
+     *
+     * @return the number of cache hits.
+     */
+    public long getHitCount() {
+        long hitCount = 0;
+        for(Segment s : segments) {
+            synchronized(s) {
+                hitCount += s.hitCount;
+            }
+        }
+
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of block lookups that had to be filled from the
+     * source.
+     *
+     * @return the number of cache misses.
+     */
+    public long getMissCount() {
+        long missCount = 0;
+        for(Segment s : segments) {
+            synchronized(s) {
+                missCount += s.missCount;
+            }
+        }
+
+        return missCount;
+    }
+
+    /**
+     * Reads from the file pointer and advances it. Threads sharing the file
+     * pointer are serialized; use the <code>readFrom</code> methods or a
+     * substream for concurrent reads.
+     */
+    /* @Override */
+    public synchronized int read(byte[] data, int pos, int len)
+            throws RuntimeIOException
+    {
+        final int bytesRead = readFrom(filePointer, data, pos, len);
+        if(bytesRead > 0) {
+            filePointer += bytesRead;
+        }
+
+        return bytesRead;
+    }
+
+    /* @Override */
+    public synchronized void seek(long pos) throws RuntimeIOException {
+        if(sourceReleased) throw new RuntimeIOException("Stream is closed.");
+        if(pos < 0 || pos > length) {
+            throw new IllegalArgumentException("pos out of range (pos=" + pos +
+                    ", length=" + length + ")");
+        }
+
+        filePointer = pos;
+    }
+
+    /* @Override */
+    public synchronized long getFilePointer() throws RuntimeIOException {
+        if(sourceReleased) throw new RuntimeIOException("Stream is closed.");
+        return filePointer;
+    }
+
+    /* @Override */
+    public synchronized void addReference(Object referrer) {
+        if(closed) throw new RuntimeIOException("Stream is closed.");
+        ++refCount;
+    }
+
+    /* @Override */
+    public synchronized void removeReference(Object referrer) {
+        if(refCount == 0) {
+            throw new RuntimeException("No references!");
+        }
+
+        --refCount;
+        tryReleaseSource();
+    }
+
+    /**
+     * Closes the stream. The reference to the source stream is released once
+     * all substreams of this stream have been closed.
+     */
+    /* @Override */
+    public synchronized void close() throws RuntimeIOException {
+        if(closed) {
+            throw new RuntimeException("Already closed.");
+        }
+
+        closed = true;
+        tryReleaseSource();
+    }
+
+    private void tryReleaseSource() {
+        if(closed && refCount == 0 && !sourceReleased) {
+            sourceReleased = true;
+            source.removeReference(this);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs.io;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import org.catacombae.hfs.ProgressMonitor;
+import org.catacombae.hfs.types.hfscommon.CommonHFSExtentDescriptor;
+import org.catacombae.io.SynchronizedReadableRandomAccess;
+
+/**
+ * Copies the data of a fork to an {@link OutputStream}, given the complete
+ * extent list of the fork.<br>
+ * Unlike reading through a {@link ForkFilter}, the extents are only walked
+ * once, physically contiguous extents are merged into a single run and data is
+ * read in large chunks which (as long as the volume itself is aligned) start
+ * and end on allocation block boundaries. When the source supports it and the
+ * destination is a {@link FileOutputStream}, data is transferred directly
+ * between the file channels through {@link ChannelTransferSource}, without
+ * being copied into a buffer on the Java heap.<br>
+ * The source is only accessed through position independent reads, so any
+ * number of transfers may run concurrently from the same source.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class ForkDataTransfer {
+    private static final int DEFAULT_BUFFER_SIZE = 1024 * 1024; // 1 MiB
+
+    private final SynchronizedReadableRandomAccess source;
+    private final long firstBlockByteOffset;
+    private final long allocationBlockSize;
+    private final int bufferSize;
+
+    /**
+     * Creates a new ForkDataTransfer with the default buffer size.
+     *
+     * @param source
+     *      <b>(in)</b> The stream from which the volume is read.
+     * @param firstBlockByteOffset
+     *      <b>(in)</b> The byte offset from the start of <code>source</code> to
+     *      the first allocation block of the file system.
+     * @param allocationBlockSize
+     *      <b>(in)</b> The allocation block size of the file system.
+     */
+    public ForkDataTransfer(SynchronizedReadableRandomAccess source,
+            long firstBlockByteOffset, long allocationBlockSize)
+    {
+        this(source, firstBlockByteOffset, allocationBlockSize,
+                DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new ForkDataTransfer.
+     *
+     * @param source
+     *      <b>(in)</b> The stream from which the volume is read.
+     * @param firstBlockByteOffset
+     *      <b>(in)</b> The byte offset from the start of <code>source</code> to
+     *      the first allocation block of the file system.
+     * @param allocationBlockSize
+     *      <b>(in)</b> The allocation block size of the file system.
+     * @param bufferSize
+     *      <b>(in)</b> The maximum number of bytes to read or transfer at a
+     *      time. Rounded down to a multiple of the allocation block size if
+     *      larger than one allocation block.
+     */
+    public ForkDataTransfer(SynchronizedReadableRandomAccess source,
+            long firstBlockByteOffset, long allocationBlockSize,
+            int bufferSize)
+    {
+        if(allocationBlockSize <= 0) {
+            throw new IllegalArgumentException("Invalid allocation block " +
+                    "size: " + allocationBlockSize);
+        }
+        else if(bufferSize <= 0) {
+            throw new IllegalArgumentException("Invalid buffer size: " +
+                    bufferSize);
+        }
+
+        this.source = source;
+        this.firstBlockByteOffset = firstBlockByteOffset;
+        this.allocationBlockSize = allocationBlockSize;
+        this.bufferSize = bufferSize > allocationBlockSize ?
+            (int) (bufferSize - (bufferSize % allocationBlockSize)) :
+            bufferSize;
+    }
+
+    /**
+     * Writes the first <code>forkLength</code> bytes of the data described by
+     * <code>extents</code> to <code>os</code>.
+     *
+     * @param extents
+     *      <b>(in)</b> All extents of the fork, in logical order (see
+     *      {@link ForkFilter#getAllExtents()}). Extents with a block count of 0
+     *      are ignored.
+     * @param forkLength
+     *      <b>(in)</b> The logical length of the fork.
+     * @param os
+     *      <b>(in)</b> The stream to write the fork data to.
+     * @param pm
+     *      <b>(in)</b> Progress monitor which is notified of the number of
+     *      bytes written and polled for cancellation, or <code>null</code>.
+     * @return the number of bytes written, which is less than
+     * <code>forkLength</code> if the transfer was cancelled or if the extents
+     * or the source ended prematurely.
+     * @throws IOException if writing to <code>os</code> fails.
+     */
+    public long transfer(CommonHFSExtentDescriptor[] extents, long forkLength,
+            OutputStream os, ProgressMonitor pm) throws IOException
+    {
+        final FileChannel targetChannel;
+        if(source instanceof ChannelTransferSource &&
+                os instanceof FileOutputStream)
+        {
+            targetChannel = ((FileOutputStream) os).getChannel();
+        }
+        else {
+            targetChannel = null;
+        }
+
+        byte[] buffer = null;
+        long bytesTransferred = 0;
+        int extIndex = 0;
+
+        while(bytesTransferred < forkLength && extIndex < extents.length) {
+            /* Merge physically contiguous extents into one run. */
+            final long runStartBlock = extents[extIndex].getStartBlock();
+            long runBlockCount = extents[extIndex++].getBlockCount();
+            while(extIndex < extents.length &&
+                    extents[extIndex].getStartBlock() ==
+                    runStartBlock + runBlockCount)
+            {
+                runBlockCount += extents[extIndex++].getBlockCount();
+            }
+
+            if(runBlockCount == 0) {
+                continue;
+            }
+
+            final long runLength = Math.min(runBlockCount * allocationBlockSize,
+                    forkLength - bytesTransferred);
+            final long runStart = firstBlockByteOffset +
+                    runStartBlock * allocationBlockSize;
+            long runBytesTransferred = 0;
+
+            if(targetChannel != null) {
+                runBytesTransferred = transferRun(runStart, runLength,
+                        targetChannel, pm);
+            }
+
+            if(runBytesTransferred < runLength &&
+                    (pm == null || !pm.cancelSignaled()))
+            {
+                /* Either no channel transfer was possible or it stopped short
+                 * of the end of the run. Copy the rest through a buffer. */
+                if(buffer == null) {
+                    buffer = new byte[(int) Math.min(bufferSize,
+                            roundUpToBlock(forkLength - bytesTransferred))];
+                }
+
+                runBytesTransferred += copyRun(runStart + runBytesTransferred,
+                        runLength - runBytesTransferred, buffer, os, pm);
+            }
+
+            bytesTransferred += runBytesTransferred;
+            if(runBytesTransferred < runLength) {
+                /* Cancelled or premature end of source. */
+                break;
+            }
+        }
+
+        return bytesTransferred;
+    }
+
+    private long transferRun(long runStart, long runLength,
+            FileChannel targetChannel, ProgressMonitor pm) throws IOException
+    {
+        final ChannelTransferSource channelSource =
+                (ChannelTransferSource) source;
+        long bytesTransferred = 0;
+
+        while(bytesTransferred < runLength) {
+            if(pm != null && pm.cancelSignaled()) {
+                break;
+            }
+
+            final long curBytesTransferred = channelSource.transferTo(
+                    runStart + bytesTransferred,
+                    Math.min(bufferSize, runLength - bytesTransferred),
+                    targetChannel);
+            if(curBytesTransferred <= 0) {
+                break;
+            }
+
+            bytesTransferred += curBytesTransferred;
+            if(pm != null) {
+                pm.addDataProgress(curBytesTransferred);
+            }
+        }
+
+        return bytesTransferred;
+    }
+
+    private long copyRun(long runStart, long runLength, byte[] buffer,
+            OutputStream os, ProgressMonitor pm) throws IOException
+    {
+        long bytesCopied = 0;
+
+        while(bytesCopied < runLength) {
+            if(pm != null && pm.cancelSignaled()) {
+                break;
+            }
+
+            final int bytesToRead =
+                    (int) Math.min(buffer.length, runLength - bytesCopied);
+            final int bytesRead = source.readFrom(runStart + bytesCopied,
+                    buffer, 0, bytesToRead);
+            if(bytesRead <= 0) {
+                break;
+            }
+
+            os.write(buffer, 0, bytesRead);
+            bytesCopied += bytesRead;
+            if(pm != null) {
+                pm.addDataProgress(bytesRead);
+            }
+        }
+
+        return bytesCopied;
+    }
+
+    private long roundUpToBlock(long length) {
+        final long remainder = length % allocationBlockSize;
+        return remainder == 0 ? length :
+            length + (allocationBlockSize - remainder);
+    }
+}
@@ -0,0 +1,133 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs.io;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.catacombae.hfs.types.hfscommon.CommonHFSExtentDescriptor;
+
+/**
+ * An immutable map from logical allocation blocks of a fork to the extents
+ * containing them. The logical start block of each extent is precomputed, so
+ * the extent containing any logical position is found by a binary search in
+ * O(log n) time instead of walking the extent list from the start.<br>
+ * Extents with a block count of 0 are not part of the map.<br>
+ * This class is thread safe.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public final class ForkExtentMap {
+    private final CommonHFSExtentDescriptor[] extents;
+
+    /**
+     * The logical start block of each extent, followed by the total number of
+     * blocks in the map (i.e. one element more than <code>extents</code>).
+     */
+    private final long[] logicalStartBlocks;
+
+    /**
+     * Creates a new ForkExtentMap.
+     *
+     * @param extents
+     *      <b>(in)</b> All the extents of the fork, in logical order. Extents
+     *      with a block count of 0 are skipped.
+     */
+    public ForkExtentMap(List<CommonHFSExtentDescriptor> extents) {
+        final ArrayList<CommonHFSExtentDescriptor> nonEmptyExtents =
+                new ArrayList<CommonHFSExtentDescriptor>(extents.size());
+        for(CommonHFSExtentDescriptor cur : extents) {
+            if(cur.getBlockCount() != 0) {
+                nonEmptyExtents.add(cur);
+            }
+        }
+
+        this.extents = nonEmptyExtents.toArray(
+                new CommonHFSExtentDescriptor[nonEmptyExtents.size()]);
+        this.logicalStartBlocks = new long[this.extents.length + 1];
+
+        long curLogicalBlock = 0;
+        for(int i = 0; i < this.extents.length; ++i) {
+            logicalStartBlocks[i] = curLogicalBlock;
+            curLogicalBlock += this.extents[i].getBlockCount();
+        }
+        logicalStartBlocks[this.extents.length] = curLogicalBlock;
+    }
+
+    /** Returns the number of extents in the map. */
+    public int getExtentCount() {
+        return extents.length;
+    }
+
+    /** Returns extent number <code>index</code>. */
+    public CommonHFSExtentDescriptor getExtent(int index) {
+        return extents[index];
+    }
+
+    /**
+     * Returns the logical block in the fork where extent number
+     * <code>index</code> starts.
+     */
+    public long getLogicalStartBlock(int index) {
+        return logicalStartBlocks[index];
+    }
+
+    /** Returns the total number of blocks in all extents of the map. */
+    public long getTotalBlockCount() {
+        return logicalStartBlocks[extents.length];
+    }
+
+    /** Returns a copy of the extents of the map, in logical order. */
+    public CommonHFSExtentDescriptor[] getExtents() {
+        return extents.clone();
+    }
+
+    /**
+     * Finds the extent containing logical block <code>logicalBlock</code> of
+     * the fork.
+     *
+     * @param logicalBlock
+     *      <b>(in)</b> The logical block number in the fork.
+     * @return the index of the extent containing the block, or -1 if the
+     * block is beyond the last extent of the map.
+     */
+    public int findExtent(long logicalBlock) {
+        if(logicalBlock < 0) {
+            throw new IllegalArgumentException("Negative block number: " +
+                    logicalBlock);
+        }
+        else if(logicalBlock >= getTotalBlockCount()) {
+            return -1;
+        }
+
+        /* Find the last extent whose logical start block is less than or
+         * equal to logicalBlock. */
+        int low = 0;
+        int high = extents.length - 1;
+        while(low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if(logicalStartBlocks[mid] <= logicalBlock) {
+                low = mid;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+
+        return low;
+    }
+}
@@ -0,0 +1,126 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs.io;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of fully resolved {@link ForkExtentMap}s, keyed by (CNID, fork type).
+ * Lets a {@link ForkFilter} for a fork that has been opened before start out
+ * with all its extents mapped, without querying the extents overflow file
+ * again.<br>
+ * The cache is bounded by the total number of extents in the cached maps and
+ * evicts the least recently used map when full.<br>
+ * This class is thread safe.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class ForkExtentMapCache {
+    /** LRU list of cached extent maps. Least recently used first. */
+    private final LinkedHashMap<Long, ForkExtentMap> maps =
+            new LinkedHashMap<Long, ForkExtentMap>(16, 0.75f, true);
+
+    /** The maximum total number of extents in the cached maps. */
+    private final long maxExtentCount;
+
+    /** The current total number of extents in the cached maps. */
+    private long currentExtentCount = 0;
+
+    /**
+     * Creates a new extent map cache.
+     *
+     * @param maxExtentCount
+     *      <b>(in)</b> The maximum total number of extents in the cached maps.
+     */
+    public ForkExtentMapCache(long maxExtentCount) {
+        if(maxExtentCount <= 0) {
+            throw new IllegalArgumentException("'maxExtentCount' must be " +
+                    "positive and non-zero");
+        }
+
+        this.maxExtentCount = maxExtentCount;
+    }
+
+    /**
+     * Looks up the extent map of a fork.
+     *
+     * @param forkType
+     *      <b>(in)</b> The type of the fork.
+     * @param cnid
+     *      <b>(in)</b> The catalog node ID of the fork's parent.
+     * @return the cached extent map, or <code>null</code> if it's not present
+     * in the cache.
+     */
+    public synchronized ForkExtentMap get(ForkFilter.ForkType forkType,
+            long cnid)
+    {
+        return maps.get(createKey(forkType, cnid));
+    }
+
+    /**
+     * Adds the extent map of a fork to the cache, evicting the least recently
+     * used maps if necessary.
+     *
+     * @param forkType
+     *      <b>(in)</b> The type of the fork.
+     * @param cnid
+     *      <b>(in)</b> The catalog node ID of the fork's parent.
+     * @param map
+     *      <b>(in)</b> The complete extent map of the fork.
+     */
+    public synchronized void put(ForkFilter.ForkType forkType, long cnid,
+            ForkExtentMap map)
+    {
+        final long entrySize = entrySize(map);
+        if(entrySize > maxExtentCount) {
+            return;
+        }
+
+        final ForkExtentMap oldMap = maps.put(createKey(forkType, cnid), map);
+        if(oldMap != null) {
+            currentExtentCount -= entrySize(oldMap);
+        }
+        currentExtentCount += entrySize;
+
+        final Iterator<Map.Entry<Long, ForkExtentMap>> it =
+                maps.entrySet().iterator();
+        while(currentExtentCount > maxExtentCount && it.hasNext()) {
+            final ForkExtentMap victim = it.next().getValue();
+            it.remove();
+            currentExtentCount -= entrySize(victim);
+        }
+    }
+
+    /** Removes all extent maps from the cache. */
+    public synchronized void clear() {
+        maps.clear();
+        currentExtentCount = 0;
+    }
+
+    private static Long createKey(ForkFilter.ForkType forkType, long cnid) {
+        return Long.valueOf((cnid << 1) |
+                (forkType == ForkFilter.ForkType.RESOURCE ? 1 : 0));
+    }
+
+    private static long entrySize(ForkExtentMap map) {
+        /* Count empty maps as one extent so that they take up space too. */
+        return Math.max(1, map.getExtentCount());
+    }
+}
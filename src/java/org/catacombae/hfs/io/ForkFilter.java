@@ -60,6 +60,20 @@ public class ForkFilter implements ReadableRandomAccessStream {
     private long lastPhysicalPos; // The position in the fork where we stopped reading last time
     private boolean all_extents_mapped = false;
 
+    /** Fork type and CNID of the fork, for extent map cache lookups. */
+    private final ForkType forkType;
+    private final long cnid;
+    private final ForkExtentMapCache extentMapCache;
+
+    /** The number of blocks covered by <code>extentDescriptors</code>. */
+    private long mappedBlockCount = 0;
+
+    /**
+     * The extent map of the fork, or <code>null</code> until all the extents
+     * needed to cover the length of the fork have been resolved.
+     */
+    private ForkExtentMap extentMap = null;
+
     public enum ForkType { DATA, RESOURCE };
 
     /**
@@ -99,6 +113,52 @@ public class ForkFilter implements ReadableRandomAccessStream {
                 fsOffset, allocationBlockSize, firstBlockByteOffset);
     }
 
+    /**
+     * Creates a new ForkFilter which looks up the extent map of the fork in
+     * <code>extentMapCache</code>, and adds it there once all extents have
+     * been resolved. This class assumes that it has exclusive access to
+     * <code>sourceFile</code>.
+     *
+     * @param forkType
+     *      <b>(in)</b> The type of the fork (for constructing extents overflow
+     *      file keys).
+     * @param cnid
+     *      <b>(in)</b> The catalog node ID of the fork's parent (for
+     *      constructing extents overflow file keys).
+     * @param forkData
+     *      <b>(in)</b> The fork data of this fork, containing the fork length
+     *      and the first basic extents.
+     * @param extentsOverflowFile
+     *      <b>(in)</b> The file systems's {@link ExtentsOverflowFile} (for
+     *      looking up extents beyond the first basic ones).
+     * @param extentMapCache
+     *      <b>(in)</b> The cache of extent maps of the file system, or
+     *      <code>null</code> to always resolve the extents from scratch.
+     * @param sourceFile
+     *      <b>(in)</b> A {@link ReadableRandomAccessStream} for accessing the
+     *      whole volume.
+     * @param fsOffset
+     *      <b>(in)</b> The offset within <code>sourceFile</code> where the file
+     *      system starts.
+     * @param allocationBlockSize
+     *      <b>(in)</b> The allocation block size of the file system.
+     * @param firstBlockByteOffset
+     *      <b>(in)</b> The byte offset from the start of the volume to the
+     *      first allocation block of the file system.
+     */
+    public ForkFilter(ForkType forkType, long cnid, CommonHFSForkData forkData,
+            ExtentsOverflowFile extentsOverflowFile,
+            ForkExtentMapCache extentMapCache,
+            ReadableRandomAccessStream sourceFile, long fsOffset,
+            long allocationBlockSize, long firstBlockByteOffset)
+    {
+        this(forkType, cnid, forkData.getLogicalSize(),
+                forkData.getBasicExtents(),
+                new ExtentsOverflowFileStore(extentsOverflowFile, forkType,
+                cnid), extentMapCache, sourceFile, fsOffset,
+                allocationBlockSize, firstBlockByteOffset);
+    }
+
     /**
      * Creates a new ForkFilter. This class assumes that it has exclusive access
      * to <code>sourceFile</code>.
@@ -134,9 +194,9 @@ public class ForkFilter implements ReadableRandomAccessStream {
             ExtentsOverflowFile extentsOverflowFile,
             ReadableRandomAccessStream sourceFile, long fsOffset, long allocationBlockSize,
             long firstBlockByteOffset) {
-        this(forkLength, basicExtents,
+        this(forkType, cnid, forkLength, basicExtents,
                 new ExtentsOverflowFileStore(extentsOverflowFile, forkType,
-                cnid), sourceFile, fsOffset, allocationBlockSize,
+                cnid), null, sourceFile, fsOffset, allocationBlockSize,
                 firstBlockByteOffset);
     }
 
@@ -166,13 +226,14 @@ public class ForkFilter implements ReadableRandomAccessStream {
             ReadableRandomAccessStream sourceFile, long fsOffset,
             long allocationBlockSize, long firstBlockByteOffset)
     {
-        this(forkLength, allExtents, null, sourceFile, fsOffset,
-                allocationBlockSize, firstBlockByteOffset);
+        this(null, 0, forkLength, allExtents, null, null, sourceFile,
+                fsOffset, allocationBlockSize, firstBlockByteOffset);
     }
 
-    private ForkFilter(long forkLength,
+    private ForkFilter(ForkType forkType, long cnid, long forkLength,
             CommonHFSExtentDescriptor[] initialExtents,
             OverflowExtentsStore overflowExtentsStore,
+            ForkExtentMapCache extentMapCache,
             ReadableRandomAccessStream sourceFile, long fsOffset, long allocationBlockSize,
             long firstBlockByteOffset)
     {
@@ -195,6 +256,37 @@ public class ForkFilter implements ReadableRandomAccessStream {
         this.logicalPosition = 0;
         this.lastLogicalPos = -1; // Set differently from logicalPosition to trigger a seek at first read
         this.lastPhysicalPos = 0; // Set differently from logicalPosition to trigger a seek at first read
+        this.forkType = forkType;
+        this.cnid = cnid;
+        this.extentMapCache = extentMapCache;
+
+        if(extentMapCache != null) {
+            this.extentMap = extentMapCache.get(forkType, cnid);
+        }
+
+        if(this.extentMap == null) {
+            for(CommonHFSExtentDescriptor cur : initialExtents) {
+                mappedBlockCount += cur.getBlockCount();
+            }
+
+            updateExtentMap();
+        }
+    }
+
+    /**
+     * Creates the extent map of the fork if all the extents needed to cover
+     * the length of the fork have been resolved.
+     */
+    private void updateExtentMap() {
+        if(extentMap == null && (all_extents_mapped ||
+                overflowExtentsStore == null ||
+                mappedBlockCount * allocationBlockSize >= forkLength))
+        {
+            extentMap = new ForkExtentMap(extentDescriptors);
+            if(extentMapCache != null) {
+                extentMapCache.put(forkType, cnid, extentMap);
+            }
+        }
     }
 
     /**
@@ -238,16 +330,14 @@ public class ForkFilter implements ReadableRandomAccessStream {
                         "query for overflow extents.");
             }
 
-            CommonHFSExtentLeafRecord extentRecord;
-
             if(all_extents_mapped) {
-                extentRecord = null;
-            }
-            else {
-                extentRecord =
-                        overflowExtentsStore.getExtentRecord(curStartBlock);
+                /* The fork has no more extents. */
+                return null;
             }
 
+            final CommonHFSExtentLeafRecord extentRecord =
+                    overflowExtentsStore.getExtentRecord(curStartBlock);
+
             final CommonHFSExtentDescriptor[] descriptors =
                     extentRecord.getRecordData();
 
@@ -263,18 +353,67 @@ public class ForkFilter implements ReadableRandomAccessStream {
 
                 extentDescriptors.add(curDescriptor);
                 curStartBlock += blockCount;
+                mappedBlockCount += blockCount;
             }
+
+            updateExtentMap();
         }
 
         return extentDescriptors.get(extIndex);
     }
 
+    /**
+     * Resolves all the extents of the fork, looking up any overflow extents
+     * that haven't been looked up yet, and returns them in logical order.
+     * Extents beyond those needed to cover the length of the fork are not
+     * looked up.
+     *
+     * @return the extents of the fork, in logical order.
+     */
+    public CommonHFSExtentDescriptor[] getAllExtents() {
+        if(extentMap != null) {
+            return extentMap.getExtents();
+        }
+
+        long curLogicalBlock = 0;
+        int extIndex = 0;
+
+        while(true) {
+            for(; extIndex < extentDescriptors.size(); ++extIndex) {
+                curLogicalBlock +=
+                        extentDescriptors.get(extIndex).getBlockCount();
+            }
+
+            if(curLogicalBlock * allocationBlockSize >= forkLength ||
+                    all_extents_mapped || overflowExtentsStore == null)
+            {
+                break;
+            }
+
+            /* Reads the next overflow extent record into extentDescriptors. */
+            if(getExtent(extIndex, curLogicalBlock) == null) {
+                break;
+            }
+        }
+
+        if(extentMap != null) {
+            return extentMap.getExtents();
+        }
+
+        return extentDescriptors.toArray(
+                new CommonHFSExtentDescriptor[extentDescriptors.size()]);
+    }
+
     /**
      * {@inheritDoc}
      */
     /* @Override */
     public int read(byte[] data, int pos, int len) {
         //System.err.println("ForkFilter.read(" + data + ", " + pos + ", " + len);
+        if(extentMap != null) {
+            return readMapped(extentMap, data, pos, len);
+        }
+
         long offset = Long.MAX_VALUE; // MAX_VALUE as a sentinel for seek
         long bytesToSkip = logicalPosition;
         long curLogicalBlock = 0;
@@ -343,6 +482,11 @@ public class ForkFilter implements ReadableRandomAccessStream {
                 }
             }
 
+            if(cur == null) {
+                /* No more extents available. */
+                break;
+            }
+
             sourceFile.seek(fsOffset + firstBlockByteOffset +
                     (cur.getStartBlock() * allocationBlockSize) + bytesToSkip);
 
@@ -388,6 +532,70 @@ public class ForkFilter implements ReadableRandomAccessStream {
             return -1;
     }
 
+    /**
+     * Reads from the fork when all its extents are known, looking up the
+     * extent containing the current position through <code>map</code>.
+     */
+    private int readMapped(ForkExtentMap map, byte[] data, int pos, int len) {
+        if(logicalPosition >= forkLength) {
+            return -1; // EOF
+        }
+
+        int extIndex = map.findExtent(logicalPosition / allocationBlockSize);
+        if(extIndex < 0) {
+            /* No such extent available. */
+            return -1;
+        }
+
+        long bytesToSkip = logicalPosition -
+                map.getLogicalStartBlock(extIndex) * allocationBlockSize;
+        final int totalBytesToRead =
+                (int) Math.min(len, forkLength - logicalPosition);
+        int totalBytesRead = 0;
+
+        // Start reading. Extent by extent if needed.
+        while(totalBytesRead < totalBytesToRead &&
+                extIndex < map.getExtentCount())
+        {
+            final CommonHFSExtentDescriptor cur = map.getExtent(extIndex++);
+
+            sourceFile.seek(fsOffset + firstBlockByteOffset +
+                    (cur.getStartBlock() * allocationBlockSize) + bytesToSkip);
+
+            final long bytesInExtent =
+                    cur.getBlockCount() * allocationBlockSize - bytesToSkip;
+            final int bytesToReadFromExtent =
+                    (int) Math.min(bytesInExtent,
+                    totalBytesToRead - totalBytesRead);
+
+            int bytesReadFromExtent = 0;
+            while(bytesReadFromExtent < bytesToReadFromExtent) {
+                final int bytesRead = sourceFile.read(data,
+                        pos + totalBytesRead + bytesReadFromExtent,
+                        bytesToReadFromExtent - bytesReadFromExtent);
+                if(bytesRead <= 0) {
+                    break;
+                }
+
+                bytesReadFromExtent += bytesRead;
+            }
+
+            totalBytesRead += bytesReadFromExtent;
+            bytesToSkip = 0;
+
+            if(bytesReadFromExtent < bytesToReadFromExtent) {
+                /* Premature end of the underlying stream. */
+                break;
+            }
+        }
+
+        // Update tracker variables before returning
+        lastPhysicalPos = sourceFile.getFilePointer();
+        logicalPosition += totalBytesRead;
+
+        return totalBytesRead > 0 ? totalBytesRead : -1;
+    }
+
     /* @Override */
     public byte readFully() throws RuntimeIOException {
         byte[] data = new byte[1];
@@ -17,7 +17,6 @@
 
 package org.catacombae.hfs.io;
 
-import java.util.HashMap;
 import org.catacombae.io.ReadableFilterStream;
 import org.catacombae.io.ReadableRandomAccessStream;
 import org.catacombae.io.RuntimeIOException;
@@ -28,25 +27,12 @@ import org.catacombae.util.Log;
  */
 public class ReadableBlockCachingStream extends ReadableFilterStream {
     /*
-     * Keep track of the access count for every block. The cache.length blocks
-     * with the highest access count are kept in the cache.
-     * This means that when we determine if a block should go in the cache or
-     * not, we need to find the cache block with the lowest access count.
-     *
-     * Blocks in the cache are kept on basis of their access count, except for
-     * one block which is the history block. In the future the implementation
-     * should allow for tuning how many of the cache blocks are history blocks.
+     * The cached blocks are managed by a TwoQueueBlockCache, which only needs a
+     * bounded amount of bookkeeping regardless of the size of the underlying
+     * stream, and which keeps large sequential reads from pushing frequently
+     * used blocks out of the cache.
      */
 
-    /**
-     * The maximum age of an entry in the cache. When an entry's last accessed
-     * time has passed this age, it is thrown out, regardless of its access
-     * count.
-     *
-     * Unit: milliseconds
-     */
-    private static final long TIME_TO_KEEP_IN_CACHE = 5000;
-
     private static final Log log =
             Log.getInstance(ReadableBlockCachingStream.class);
 
@@ -62,41 +48,15 @@ public class ReadableBlockCachingStream extends ReadableFilterStream {
      */
     private final long virtualLength;
 
-    /**
-     * Hashtable mapping block numbers to {@link BlockStore} objects. Every
-     * block that has ever been accessed will get an entry here, which leads to
-     * uncontrollable memory allocation up to a maximum of ({@link #length()} /
-     * {@link #blockSize}) entries.
-     * TODO: Think out a smarter solution with a space limited data structure.
-     */
-    private final HashMap<Long, BlockStore> blockMap =
-            new HashMap<Long, BlockStore>();
+    /** The maximum number of blocks that hold data at any given time. */
+    private final int capacity;
 
-    /**
-     * Holds the cache items. One entry in the array is reserved for the
-     * previously read block, regardless of its access count, so that subsequent
-     * sequential reads won't suffer if {@link BlockStore#accessCount} isn't
-     * high enough.
-     */
-    private final BlockStore[] cache;
+    /** The cached blocks. */
+    private final TwoQueueBlockCache cache;
 
     /** Set when the close method is called. Prohibits further access. */
     private boolean closed = false;
 
-    private static class BlockStore {
-        public long accessCount = 0;
-        public long lastAccessTime = Long.MAX_VALUE;
-        public final long blockNumber;
-        /**
-         * Might be null at any time when the data is thrown out of the cache.
-         */
-        public byte[] data = null;
-
-        public BlockStore(long blockNumber) {
-            this.blockNumber = blockNumber;
-        }
-    }
-
     public ReadableBlockCachingStream(ReadableRandomAccessStream backing,
             int blockSize, int maxItemCount)
     {
@@ -140,7 +100,8 @@ public class ReadableBlockCachingStream extends ReadableFilterStream {
             log.debug("Adjusted actualItemCount to " + actualItemCount);
         }
 
-        this.cache = new BlockStore[actualItemCount];
+        this.capacity = actualItemCount;
+        this.cache = new TwoQueueBlockCache(actualItemCount);
     }
 
     @Override
@@ -257,129 +218,66 @@ public class ReadableBlockCachingStream extends ReadableFilterStream {
         final long blockNumber = filePointer / blockSize;
 
         /*
-         * 1. Increment access count and access time.
+         * 1. Cache hit - Just return the data that's in the cache.
          */
-        BlockStore cur = blockMap.get(blockNumber);
-        if(cur == null) {
-            cur = new BlockStore(blockNumber);
-            blockMap.put(blockNumber, cur);
+        final byte[] cachedData = cache.get(blockNumber);
+        if(cachedData != null) {
+            log.debug("  HIT at block number " + blockNumber + "!");
+            return cachedData;
         }
-        ++cur.accessCount;
-        cur.lastAccessTime = System.currentTimeMillis();
 
         /*
-         * 2. Retrieve the data.
+         * 2. Cache miss - Make room for the new block (possibly recovering the
+         *    data array of the evicted block), then fetch the data from the
+         *    backing store and put it in the cache.
          */
-        if(cur.data != null) {
-            /*
-             * 2.1 Cache hit - Just return the data that's in the cache.
-             */
-            log.debug("  HIT at block number " + blockNumber + "!");
-            return cur.data;
+        log.debug("  MISS at block number " + blockNumber + "!");
+
+        byte[] recoveredData = null;
+        while(cache.isFull()) {
+            recoveredData = cache.evict();
+        }
+
+        long blockPos = blockNumber * blockSize;
+        long remainingSize = length() - blockPos;
+        long dataSize =
+                remainingSize < blockSize ? remainingSize : blockSize;
+        byte[] data;
+        if(recoveredData != null && dataSize == recoveredData.length) {
+            data = recoveredData;
         }
         else {
             /*
-             * 2.2 Cache miss - Fetch data from backing store and put in cache
-             * IF it has a high enough access count.
-             * (We should maintain a "last accessed" block as well.)
+             * Will only happen if:
+             * 1. The cache isn't full or...
+             * 2. We are dealing with the last block
              */
-
-            log.debug("  MISS at block number " + blockNumber + "!");
+            int size = (int)(dataSize <= 0 ? blockSize : dataSize);
 
             /*
-             * Throw out the last entry (if any) from the cache and fetch its
-             * data array.
-             * Also remove its data array. If it is a standard sized array, we
-             * can reuse it and save the garbage collector and heap allocator
-             * some work.
+             * TODO: Investigate the effect of this approach (setting the
+             * array size to blockSize for all blocks in -1 virtualLength
+             * streams).
              */
-            BlockStore lastCacheEntry = cache[cache.length - 1];
-            cache[cache.length - 1] = null;
-
-            byte[] recoveredData = null;
-            if(lastCacheEntry != null) {
-                recoveredData = lastCacheEntry.data;
-                lastCacheEntry.data = null; // Stole your array.
-                if(recoveredData == null) {
-                    throw new RuntimeException("Entry in cache had a null " +
-                            "array, which should never happen!");
-                }
-            }
-
-
-            // Read data from backing store
-            long blockPos = blockNumber * blockSize;
-            long remainingSize = length() - blockPos;
-            long dataSize =
-                    remainingSize < blockSize ? remainingSize : blockSize;
-            byte[] data;
-            if(recoveredData != null && dataSize == recoveredData.length) {
-                data = recoveredData;
-            }
-            else {
-                /*
-                 * Will only happen if:
-                 * 1. The cache isn't full or...
-                 * 2. We are dealing with the last block
-                 */
-                int size = (int)(dataSize <= 0 ? blockSize : dataSize);
-
-                /*
-                 * TODO: Investigate the effect of this approach (setting the
-                 * array size to blockSize for all blocks in -1 virtualLength
-                 * streams).
-                 */
-                data = new byte[size];
-            }
+            data = new byte[size];
+        }
 
-            log.debug("  Seeking to " + blockPos + " (block number: " +
-                    blockNumber + ", blockSize: " + blockSize + ", " +
-                    "data.length: " + data.length + ")");
-            backingStore.seek(blockPos);
-            backingStore.read(data, 0, data.length);
+        log.debug("  Seeking to " + blockPos + " (block number: " +
+                blockNumber + ", blockSize: " + blockSize + ", " +
+                "data.length: " + data.length + ")");
+        backingStore.seek(blockPos);
+        backingStore.read(data, 0, data.length);
 
-            /*
-             * Place cur in the cache and make sure it goes to the right
-             * position. Time complexity is O(cache.length).
-             */
-            cur.data = data;
-            cache[cache.length - 1] = cur;
-            bubbleIntoPosition(cache, cache.length - 1);
+        cache.put(blockNumber, data);
 
-            return cur.data;
-        }
-    }
-
-    private static void bubbleIntoPosition(BlockStore[] array, int startIndex) {
-        long timestamp = System.currentTimeMillis();
-        for(int i = startIndex; i >= 1; --i) {
-            BlockStore low = array[i];
-            BlockStore high = array[i - 1];
-
-            if(high == null || // Array has not been filled
-                    /* The access count of the new item is larger than the old
-                     * item. */
-                    low.accessCount > high.accessCount ||
-                    /* The old one is too old to be kept in cache. */
-                    (timestamp - high.lastAccessTime) >= TIME_TO_KEEP_IN_CACHE)
-            {
-                if(!(high == null || low.accessCount > high.accessCount)) {
-                    log.debug("Moving down a block in cache because of age! " +
-                            "Age=" + (timestamp - high.lastAccessTime));
-                }
-
-                // Switch places
-                array[i] = high;
-                array[i - 1] = low;
-            }
-        }
+        return data;
     }
 
     /**
      * Loads as much data as possible into memory starting at position 0.
      */
     public void preloadBlocks() {
-        preloadBlocks(0, cache.length);
+        preloadBlocks(0, capacity);
     }
 
     /**
@@ -0,0 +1,180 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfs.io;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Space-bounded mapping from block numbers to block data, using the "2Q"
+ * replacement policy (Johnson &amp; Shasha, 1994).<br>
+ * This class is not thread safe.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+final class TwoQueueBlockCache {
+    /*
+     * Blocks are kept in one of three queues:
+     * - 'probationQueue' (A1in) is a FIFO holding blocks that have been
+     *   accessed once, recently. Repeated accesses to a block while it is in
+     *   this queue (typically sequential reads within the same block) do not
+     *   promote it.
+     * - 'ghostQueue' (A1out) is a FIFO holding only the block numbers of blocks
+     *   that were recently evicted from 'probationQueue'. No data is kept.
+     * - 'hotQueue' (Am) is an LRU list holding blocks that have been accessed
+     *   again after being evicted from 'probationQueue', i.e. blocks that are
+     *   frequently used over a longer time span (B-tree nodes of the catalog
+     *   and extents overflow files, for instance).
+     *
+     * A large sequential read will thus only cycle through 'probationQueue'
+     * and 'ghostQueue', leaving the contents of 'hotQueue' intact.
+     */
+
+    /** The maximum number of blocks that hold data at any given time. */
+    private final int capacity;
+
+    /** The target size of {@link #probationQueue}. */
+    private final int probationCapacity;
+
+    /** The maximum number of block numbers kept in {@link #ghostQueue}. */
+    private final int ghostCapacity;
+
+    /**
+     * FIFO queue of blocks that have been accessed once recently (A1in). The
+     * eldest entry is first in iteration order.
+     */
+    private final LinkedHashMap<Long, byte[]> probationQueue =
+            new LinkedHashMap<Long, byte[]>();
+
+    /**
+     * FIFO queue of block numbers recently evicted from
+     * {@link #probationQueue} (A1out). The values are unused.
+     */
+    private final LinkedHashMap<Long, Boolean> ghostQueue =
+            new LinkedHashMap<Long, Boolean>();
+
+    /**
+     * LRU list of frequently accessed blocks (Am). The least recently used
+     * entry is first in iteration order.
+     */
+    private final LinkedHashMap<Long, byte[]> hotQueue =
+            new LinkedHashMap<Long, byte[]>(16, 0.75f, true);
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity
+     *      <b>(in)</b> The maximum number of blocks holding data in the cache.
+     *      Must be at least 1.
+     */
+    TwoQueueBlockCache(int capacity) {
+        if(capacity < 1) {
+            throw new IllegalArgumentException("'capacity' must be at least " +
+                    "1");
+        }
+
+        this.capacity = capacity;
+        this.probationCapacity = Math.max(1, capacity / 4);
+        this.ghostCapacity = Math.max(1, capacity / 2);
+    }
+
+    /**
+     * Returns the data of the block with number <code>blockNumber</code> if
+     * it's present in the cache, and <code>null</code> otherwise.
+     */
+    byte[] get(long blockNumber) {
+        /* Lookups in 'hotQueue' update its LRU order, lookups in
+         * 'probationQueue' do not affect its FIFO order. */
+        byte[] data = hotQueue.get(blockNumber);
+        if(data == null) {
+            data = probationQueue.get(blockNumber);
+        }
+
+        return data;
+    }
+
+    /**
+     * Returns whether the cache is full, i.e. whether {@link #evict()} must be
+     * called before a new block can be added.
+     */
+    boolean isFull() {
+        return probationQueue.size() + hotQueue.size() >= capacity;
+    }
+
+    /**
+     * Evicts one block from the cache, returning its data array so that it can
+     * be reused by the caller.<br>
+     * Blocks are evicted from the probation queue as long as it is larger than
+     * its target size (or if there is nothing else to evict), and their block
+     * numbers are then remembered in the ghost queue. Otherwise the least
+     * recently used hot block is evicted and forgotten.
+     *
+     * @return the data array of the evicted block, or <code>null</code> if
+     * the cache is empty.
+     */
+    byte[] evict() {
+        if(probationQueue.size() > probationCapacity || hotQueue.isEmpty()) {
+            final Map.Entry<Long, byte[]> victim =
+                    removeEldest(probationQueue);
+            if(victim == null) {
+                return null;
+            }
+
+            if(ghostQueue.size() >= ghostCapacity) {
+                removeEldest(ghostQueue);
+            }
+            ghostQueue.put(victim.getKey(), Boolean.TRUE);
+
+            return victim.getValue();
+        }
+        else {
+            return removeEldest(hotQueue).getValue();
+        }
+    }
+
+    /**
+     * Adds a block that is not present in the cache. The caller must make sure
+     * that there is room for it by calling {@link #evict()} while
+     * {@link #isFull()} returns <code>true</code>.<br>
+     * A block that was recently evicted from the probation queue is accessed
+     * for the second time and is placed in the hot queue. Other blocks go into
+     * the probation queue.
+     */
+    void put(long blockNumber, byte[] data) {
+        if(ghostQueue.remove(blockNumber) != null) {
+            hotQueue.put(blockNumber, data);
+        }
+        else {
+            probationQueue.put(blockNumber, data);
+        }
+    }
+
+    private static <V> Map.Entry<Long, V> removeEldest(
+            LinkedHashMap<Long, V> map)
+    {
+        final Iterator<Map.Entry<Long, V>> it = map.entrySet().iterator();
+        if(!it.hasNext()) {
+            return null;
+        }
+
+        final Map.Entry<Long, V> eldest = it.next();
+        it.remove();
+        return eldest;
+    }
+}
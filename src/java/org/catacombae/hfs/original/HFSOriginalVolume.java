@@ -20,6 +20,8 @@ package org.catacombae.hfs.original;
 import java.nio.charset.Charset;
 import org.catacombae.hfs.AllocationFile;
 import org.catacombae.hfs.AttributesFile;
+import org.catacombae.hfs.CatalogFile;
+import org.catacombae.hfs.CatalogLeafCursor;
 import org.catacombae.hfs.HFSVolume;
 import org.catacombae.hfs.HotFilesFile;
 import org.catacombae.hfs.Journal;
@@ -27,6 +29,7 @@ import org.catacombae.hfs.original.macjapanese.MacJapaneseStringCodec;
 import org.catacombae.hfs.original.macroman.MacRomanStringCodec;
 import org.catacombae.hfs.types.hfs.BTHdrRec;
 import org.catacombae.hfs.types.hfs.CatKeyRec;
+import org.catacombae.hfs.types.hfs.ExtDataRec;
 import org.catacombae.hfs.types.hfs.ExtKeyRec;
 import org.catacombae.hfs.types.hfs.MasterDirectoryBlock;
 import org.catacombae.hfs.types.hfs.NodeDescriptor;
@@ -43,6 +46,7 @@ import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogString;
 import org.catacombae.hfs.types.hfscommon.CommonHFSExtentIndexNode;
 import org.catacombae.hfs.types.hfscommon.CommonHFSExtentKey;
 import org.catacombae.hfs.types.hfscommon.CommonHFSExtentLeafNode;
+import org.catacombae.hfs.types.hfscommon.CommonHFSExtentLeafRecord;
 import org.catacombae.hfs.types.hfscommon.CommonHFSForkType;
 import org.catacombae.hfs.types.hfscommon.CommonHFSVolumeHeader;
 import org.catacombae.io.Readable;
@@ -270,6 +274,12 @@ public class HFSOriginalVolume extends HFSVolume {
         return CommonBTNodeDescriptor.create(nd);
     }
 
+    /* @Override */
+    public int getBTKeySize(byte[] data, int offset) {
+        /* HFS keys have an 8-bit key length field. */
+        return 1 + Util.unsign(data[offset]);
+    }
+
     /* @Override */
     public CommonHFSCatalogIndexNode newCatalogIndexNode(byte[] data,
             int offset, int nodeSize)
@@ -285,6 +295,11 @@ public class HFSOriginalVolume extends HFSVolume {
                 searchString.getStringBytes()));
     }
 
+    /* @Override */
+    public CommonHFSCatalogKey newCatalogKey(byte[] data, int offset) {
+        return CommonHFSCatalogKey.create(new CatKeyRec(data, offset));
+    }
+
     /* @Override */
     public CommonHFSCatalogLeafNode newCatalogLeafNode(byte[] data, int offset,
             int nodeSize)
@@ -300,6 +315,11 @@ public class HFSOriginalVolume extends HFSVolume {
                 data.length - offset);
     }
 
+    /* @Override */
+    public CatalogLeafCursor newCatalogLeafCursor(CatalogFile catalogFile) {
+        return CatalogLeafCursor.createHFS(catalogFile);
+    }
+
     /* @Override */
     public CommonHFSExtentIndexNode createCommonHFSExtentIndexNode(
             byte[] currentNodeData, int i, int nodeSize)
@@ -314,6 +334,24 @@ public class HFSOriginalVolume extends HFSVolume {
         return CommonHFSExtentLeafNode.createHFS(currentNodeData, i, nodeSize);
     }
 
+    /* @Override */
+    public CommonHFSExtentKey createCommonHFSExtentKey(byte[] data,
+            int offset)
+    {
+        return CommonHFSExtentKey.create(new ExtKeyRec(data, offset));
+    }
+
+    /* @Override */
+    public CommonHFSExtentLeafRecord createCommonHFSExtentLeafRecord(
+            byte[] data, int offset)
+    {
+        final ExtKeyRec key = new ExtKeyRec(data, offset);
+        final ExtDataRec recordData =
+                new ExtDataRec(data, offset + ExtKeyRec.length());
+
+        return CommonHFSExtentLeafRecord.create(key, recordData);
+    }
+
     /* @Override */
     public CommonHFSExtentKey createCommonHFSExtentKey(
             CommonHFSForkType forkType, CommonHFSCatalogNodeID fileID,
@@ -33,6 +33,7 @@ import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogString;
 import org.catacombae.hfs.types.hfscommon.CommonHFSExtentIndexNode;
 import org.catacombae.hfs.types.hfscommon.CommonHFSExtentKey;
 import org.catacombae.hfs.types.hfscommon.CommonHFSExtentLeafNode;
+import org.catacombae.hfs.types.hfscommon.CommonHFSExtentLeafRecord;
 import org.catacombae.hfs.types.hfscommon.CommonHFSForkData;
 import org.catacombae.hfs.types.hfscommon.CommonHFSForkType;
 import org.catacombae.hfs.types.hfscommon.CommonHFSVolumeHeader;
@@ -41,12 +42,18 @@ import org.catacombae.hfs.types.hfsplus.BTNodeDescriptor;
 import org.catacombae.hfs.types.hfsplus.HFSCatalogNodeID;
 import org.catacombae.hfs.types.hfsplus.HFSPlusCatalogKey;
 import org.catacombae.hfs.types.hfsplus.HFSPlusExtentKey;
+import org.catacombae.hfs.types.hfsplus.HFSPlusExtentRecord;
 import org.catacombae.hfs.types.hfsplus.HFSPlusVolumeHeader;
 import org.catacombae.hfs.types.hfsplus.HFSUniStr255;
 import org.catacombae.io.Readable;
 import org.catacombae.io.ReadableRandomAccessStream;
 import org.catacombae.hfs.AllocationFile;
 import org.catacombae.hfs.AttributesFile;
+import org.catacombae.hfs.CatalogFile;
+import org.catacombae.hfs.CatalogLeafCursor;
+import org.catacombae.hfs.FastUnicodeCompare;
+import org.catacombae.hfs.HFSInvalidDataException;
+import org.catacombae.hfs.HFSNotEnoughDataException;
 import org.catacombae.hfs.HFSVolume;
 import org.catacombae.hfs.HotFilesFile;
 import org.catacombae.hfs.Journal;
@@ -257,6 +264,11 @@ public class HFSPlusVolume extends HFSVolume {
         return CommonBTNodeDescriptor.create(btnd);
     }
 
+    public int getBTKeySize(byte[] data, int offset) {
+        /* HFS+ keys have a 16-bit key length field. */
+        return 2 + Util.unsign(Util.readShortBE(data, offset));
+    }
+
     public CommonHFSCatalogIndexNode newCatalogIndexNode(byte[] data,
             int offset, int nodeSize)
     {
@@ -271,6 +283,44 @@ public class HFSPlusVolume extends HFSVolume {
                 new HFSUniStr255(searchString.getStructBytes(), 0)));
     }
 
+    public CommonHFSCatalogKey newCatalogKey(byte[] data, int offset) {
+        return CommonHFSCatalogKey.create(new HFSPlusCatalogKey(data, offset));
+    }
+
+    @Override
+    public boolean isRawCatalogNodeNameCompareSupported() {
+        return true;
+    }
+
+    @Override
+    public int compareRawCatalogNodeName(byte[] data, int offset,
+            byte[] searchName)
+    {
+        final int nameLength = getRawCatalogNodeNameLength(data, offset);
+        return FastUnicodeCompare.compare(data, offset + 8, nameLength,
+                searchName, 0, searchName.length / 2);
+    }
+
+    /**
+     * Returns the length, in UTF-16 code units, of the node name of the
+     * HFS+ catalog key at <code>offset</code> in <code>data</code>. The node
+     * name itself starts at <code>offset + 8</code>, after the key length
+     * (2 bytes), parent ID (4 bytes) and node name length (2 bytes) fields.
+     */
+    protected static int getRawCatalogNodeNameLength(byte[] data, int offset) {
+        final int nameLength = Util.unsign(Util.readShortBE(data, offset + 6));
+        if(nameLength > 255) {
+            throw new HFSInvalidDataException("Invalid string length for " +
+                    "catalog key node name: " + nameLength);
+        }
+        else if(offset + 8 + 2 * nameLength > data.length) {
+            throw new HFSNotEnoughDataException(true, data.length, offset + 6,
+                    2 + 2 * nameLength, HFSUniStr255.class);
+        }
+
+        return nameLength;
+    }
+
     public CommonHFSCatalogLeafNode newCatalogLeafNode(byte[] data, int offset,
             int nodeSize)
     {
@@ -284,6 +334,10 @@ public class HFSPlusVolume extends HFSVolume {
                 data.length - offset);
     }
 
+    public CatalogLeafCursor newCatalogLeafCursor(CatalogFile catalogFile) {
+        return CatalogLeafCursor.createHFSPlus(catalogFile);
+    }
+
     public CommonHFSExtentIndexNode createCommonHFSExtentIndexNode(
             byte[] currentNodeData, int offset, int nodeSize)
     {
@@ -298,6 +352,22 @@ public class HFSPlusVolume extends HFSVolume {
                 nodeSize);
     }
 
+    public CommonHFSExtentKey createCommonHFSExtentKey(byte[] data,
+            int offset)
+    {
+        return CommonHFSExtentKey.create(new HFSPlusExtentKey(data, offset));
+    }
+
+    public CommonHFSExtentLeafRecord createCommonHFSExtentLeafRecord(
+            byte[] data, int offset)
+    {
+        final HFSPlusExtentKey key = new HFSPlusExtentKey(data, offset);
+        final HFSPlusExtentRecord recordData =
+                new HFSPlusExtentRecord(data, offset + key.length());
+
+        return CommonHFSExtentLeafRecord.create(key, recordData);
+    }
+
     public CommonHFSExtentKey createCommonHFSExtentKey(
             CommonHFSForkType forkType, CommonHFSCatalogNodeID fileID,
             int startBlock) {
@@ -72,4 +72,26 @@ public class FourCharCode implements PrintableStruct, StructElements {
 
         return db.getResult();
     }
+
+    private void _setFourCharCode(int fourCharCode) {
+        Util.arrayPutBE(this.fourCharCode, 0, fourCharCode);
+    }
+
+    private void _set(FourCharCode fourCharCode) {
+        Util.arrayCopy(fourCharCode.fourCharCode, this.fourCharCode);
+    }
+
+    public static class Mutable extends FourCharCode {
+        public Mutable(byte[] data, int offset) {
+            super(data, offset);
+        }
+
+        public void set(FourCharCode fourCharCode) {
+            super._set(fourCharCode);
+        }
+
+        public void setFourCharCode(int fourCharCode) {
+            super._setFourCharCode(fourCharCode);
+        }
+    }
 }
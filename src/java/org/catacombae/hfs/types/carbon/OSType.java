@@ -38,10 +38,16 @@ public class OSType implements PrintableStruct, StructElements {
      * 0   4     FourCharCode  osType
      */
 
-    private FourCharCode osType;
+    private final FourCharCode osType;
 
     public OSType(byte[] data, int offset) {
-        osType = new FourCharCode(data, offset);
+        this(false, data, offset);
+    }
+
+    private OSType(boolean mutable, byte[] data, int offset) {
+        osType = (mutable ?
+            new FourCharCode.Mutable(data, offset) :
+            new FourCharCode(data, offset));
     }
 
     public FourCharCode getOSType() {
@@ -75,4 +81,26 @@ public class OSType implements PrintableStruct, StructElements {
 
         return db.getResult();
     }
+
+    private FourCharCode.Mutable _getMutableOSType() {
+        return (FourCharCode.Mutable) this.osType;
+    }
+
+    private void _set(OSType osType) {
+        this._getMutableOSType().set(osType.osType);
+    }
+
+    public static class Mutable extends OSType {
+        public Mutable(byte[] data, int offset) {
+            super(true, data, offset);
+        }
+
+        public void set(OSType osType) {
+            super._set(osType);
+        }
+
+        public FourCharCode.Mutable getMutableOSType() {
+            return super._getMutableOSType();
+        }
+    }
 }
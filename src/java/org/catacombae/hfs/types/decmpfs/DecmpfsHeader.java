@@ -43,8 +43,18 @@ public class DecmpfsHeader implements PrintableStruct {
     /** Proper value for 'magic' (this is "cmpf" in ASCII). */
     public static final long MAGIC = 0x636D7066L;
 
+    /** zlib compressed data stored inline after the header. */
     public static final int COMPRESSION_TYPE_INLINE = 3;
+    /** zlib compressed data stored in the 'cmpf' resource. */
     public static final int COMPRESSION_TYPE_RESOURCE = 4;
+    /** LZVN compressed data stored inline after the header. */
+    public static final int COMPRESSION_TYPE_LZVN_INLINE = 7;
+    /** LZVN compressed data stored in chunks in the resource fork. */
+    public static final int COMPRESSION_TYPE_LZVN_RESOURCE = 8;
+    /** LZFSE compressed data stored inline after the header. */
+    public static final int COMPRESSION_TYPE_LZFSE_INLINE = 11;
+    /** LZFSE compressed data stored in chunks in the resource fork. */
+    public static final int COMPRESSION_TYPE_LZFSE_RESOURCE = 12;
 
     public static final int STRUCTSIZE = 16;
 
@@ -177,4 +177,7 @@ public abstract class CommonFinderInfo implements StructElements, PrintableStruc
         return db.getResult();
     }
 
+    protected void _setFinderFlags(short finderFlags) {
+        Util.arrayPutBE(this.finderFlags, 0, (short) finderFlags);
+    }
 }
@@ -49,9 +49,17 @@ public class FileInfo extends CommonFinderInfo
     private final OSType fileCreator;
 
     public FileInfo(byte[] data, int offset) {
+        this(false, data, offset);
+    }
+
+    private FileInfo(boolean mutable, byte[] data, int offset) {
         super(data, offset);
-	fileType = new OSType(data, offset+0);
-	fileCreator = new OSType(data, offset+4);
+        fileType = (mutable ?
+            new OSType.Mutable(data, offset+0) :
+            new OSType(data, offset+0));
+        fileCreator = (mutable ?
+            new OSType.Mutable(data, offset+4) :
+            new OSType(data, offset+4));
     }
 
     public static int length() { return 16; }
@@ -101,4 +109,30 @@ public class FileInfo extends CommonFinderInfo
 
         return db.getResult();
     }
+
+    private void _setFileType(OSType fileType) {
+        ((OSType.Mutable) this.fileType).set(fileType);
+    }
+
+    private void _setFileCreator(OSType fileCreator) {
+        ((OSType.Mutable) this.fileCreator).set(fileCreator);
+    }
+
+    public static class Mutable extends FileInfo {
+        public Mutable(byte[] data, int offset) {
+            super(true, data, offset);
+        }
+
+        public void setFileType(OSType fileType) {
+            super._setFileType(fileType);
+        }
+
+        public void setFileCreator(OSType fileCreator) {
+            super._setFileCreator(fileCreator);
+        }
+
+        public void setFinderFlags(short finderFlags) {
+            super._setFinderFlags(finderFlags);
+        }
+    }
 }
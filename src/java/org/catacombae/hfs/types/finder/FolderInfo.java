@@ -93,4 +93,14 @@ public class FolderInfo extends CommonFinderInfo
 
         return db.getResult();
     }
+
+    public static class Mutable extends FolderInfo {
+        public Mutable(byte[] data, int offset) {
+            super(data, offset);
+        }
+
+        public void setFinderFlags(short finderFlags) {
+            super._setFinderFlags(finderFlags);
+        }
+    }
 }
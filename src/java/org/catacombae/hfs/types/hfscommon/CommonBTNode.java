@@ -18,9 +18,10 @@
 package org.catacombae.hfs.types.hfscommon;
 
 import java.io.PrintStream;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.catacombae.csjc.PrintableStruct;
 import org.catacombae.util.Util;
 import org.catacombae.hfs.types.hfsplus.BTNodeDescriptor;
@@ -28,7 +29,11 @@ import org.catacombae.hfs.types.hfs.NodeDescriptor;
 
 /**
  * Generalization of a B-tree node which suits both HFS and HFS+/HFSX
- * implementations.
+ * implementations.<br>
+ * Records are decoded lazily, the first time they are accessed, so a search
+ * that only compares a few keys of a node doesn't pay for decoding all of
+ * them. The node keeps a reference to the node data passed to the
+ * constructor, which therefore must not be modified afterwards.
  *
  * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
  */
@@ -92,19 +97,28 @@ public abstract class CommonBTNode <R extends CommonBTRecord>
         protected final List<R> records;
         protected final short[] offsets;
 
+        private final byte[] data;
+        private final int offset;
+
+        /**
+         * The records decoded so far. Nodes may be shared between threads
+         * through the B-tree node cache, so the decoded records are published
+         * through an atomic array. If two threads decode the same record at
+         * the same time one of the results is simply dropped.
+         */
+        private final AtomicReferenceArray<R> decodedRecords;
+
         protected InternalContainer(CommonBTNodeDescriptor nodeDescriptor,
                 byte[] data, int offset, int nodeSize) {
             this.nodeDescriptor = nodeDescriptor;
+            this.data = data;
+            this.offset = offset;
             offsets = new short[nodeDescriptor.getNumberOfRecords()+1]; //Last one is free space index
             for(int i = 0; i < offsets.length; ++i) {
                 offsets[i] = Util.readShortBE(data, offset+nodeSize-((i+1)*2));
             }
-            ArrayList<R> tmpRecords = new ArrayList<R>(offsets.length-1);
-            for(int i = 0; i < offsets.length-1; ++i) {
-                int len = offsets[i+1] - offsets[i];
-                tmpRecords.add(createBTRecord(i, data, offset+offsets[i], len));
-            }
-            this.records = Collections.unmodifiableList(tmpRecords);
+            this.decodedRecords = new AtomicReferenceArray<R>(offsets.length-1);
+            this.records = new RecordList();
         }
 
         public CommonBTNodeDescriptor getNodeDescriptor() {
@@ -112,13 +126,44 @@ public abstract class CommonBTNode <R extends CommonBTRecord>
         }
 
         public R getBTRecord(int index) {
-            return records.get(index);
+            R record = decodedRecords.get(index);
+            if(record == null) {
+                final int recordOffset = Util.unsign(offsets[index]);
+                final int len = Util.unsign(offsets[index+1]) - recordOffset;
+                record = createBTRecord(index, data, offset+recordOffset, len);
+                decodedRecords.set(index, record);
+            }
+
+            return record;
         }
 
+        /**
+         * Returns an unmodifiable list of the records in this node. Records
+         * are decoded as they are accessed through the list.
+         */
         public List<R> getBTRecords() {
             return records;
         }
 
+        private class RecordList extends AbstractList<R>
+                implements RandomAccess
+        {
+            @Override
+            public R get(int index) {
+                if(index < 0 || index >= size()) {
+                    throw new IndexOutOfBoundsException("Index: " + index +
+                            ", Size: " + size());
+                }
+
+                return getBTRecord(index);
+            }
+
+            @Override
+            public int size() {
+                return offsets.length - 1;
+            }
+        }
+
         public void printFields(PrintStream ps, String prefix) {
             ps.println(prefix + " nodeDescriptor: ");
             nodeDescriptor.print(ps, prefix + "  ");
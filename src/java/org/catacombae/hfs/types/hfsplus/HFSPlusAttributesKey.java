@@ -81,7 +81,8 @@ public class HFSPlusAttributesKey extends BTKey
     public HFSPlusAttributesKey(HFSCatalogNodeID fileID, int startBlock,
             char[] attrName)
     {
-        int keyLengthInt = STATIC_SIZE + 2 * attrName.length;
+        /* The key length doesn't include the key length field itself. */
+        int keyLengthInt = STATIC_SIZE - 2 + 2 * attrName.length;
         if(keyLengthInt > Short.MAX_VALUE) {
             throw new RuntimeException("Attribute name is too long: " +
                     attrName);
@@ -238,7 +238,7 @@ public class HFSPlusBSDInfo implements PrintableStruct, StructElements {
         printFields(ps, prefix);
     }
 
-    byte[] getBytes() {
+    public byte[] getBytes() {
         byte[] result = new byte[length()];
         int offset = 0;
 
@@ -309,6 +309,60 @@ public class HFSPlusBSDInfo implements PrintableStruct, StructElements {
         return db.getResult();
     }
 
+    private void _setOwnerID(int ownerID) {
+        Util.arrayPutBE(this.ownerID, 0, (int) ownerID);
+    }
+
+    private void _setGroupID(int groupID) {
+        Util.arrayPutBE(this.groupID, 0, (int) groupID);
+    }
+
+    private void _setAdminFlags(byte adminFlags) {
+        this.adminFlags[0] = adminFlags;
+    }
+
+    private void _setOwnerFlags(byte ownerFlags) {
+        this.ownerFlags[0] = ownerFlags;
+    }
+
+    private void _setFileMode(short fileMode) {
+        Util.arrayPutBE(this.fileMode, 0, (short) fileMode);
+    }
+
+    private void _setSpecial(int special) {
+        Util.arrayPutBE(this.special, 0, (int) special);
+    }
+
+    public static class Mutable extends HFSPlusBSDInfo {
+        public Mutable(byte[] data, int offset) {
+            super(data, offset);
+        }
+
+        public void setOwnerID(int ownerID) {
+            super._setOwnerID(ownerID);
+        }
+
+        public void setGroupID(int groupID) {
+            super._setGroupID(groupID);
+        }
+
+        public void setAdminFlags(byte adminFlags) {
+            super._setAdminFlags(adminFlags);
+        }
+
+        public void setOwnerFlags(byte ownerFlags) {
+            super._setOwnerFlags(ownerFlags);
+        }
+
+        public void setFileMode(short fileMode) {
+            super._setFileMode(fileMode);
+        }
+
+        public void setSpecial(int special) {
+            super._setSpecial(special);
+        }
+    }
+
     private class FileTypeField extends StringRepresentableField {
         public FileTypeField() {
             super("FileType", ASCIISTRING);
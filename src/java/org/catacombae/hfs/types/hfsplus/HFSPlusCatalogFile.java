@@ -76,22 +76,36 @@ public class HFSPlusCatalogFile extends HFSPlusCatalogLeafRecordData implements
     private final HFSPlusForkData resourceFork;
 
     public HFSPlusCatalogFile(byte[] data, int offset) {
+        this(false, data, offset);
+    }
+
+    private HFSPlusCatalogFile(boolean mutable, byte[] data, int offset) {
 	System.arraycopy(data, offset+0, recordType, 0, 2);
 	System.arraycopy(data, offset+2, flags, 0, 2);
 	System.arraycopy(data, offset+4, reserved1, 0, 4);
-	fileID = new HFSCatalogNodeID(data, offset+8);
+        fileID = (mutable ?
+            new HFSCatalogNodeID.Mutable(data, offset+8) :
+            new HFSCatalogNodeID(data, offset+8));
 	System.arraycopy(data, offset+12, createDate, 0, 4);
 	System.arraycopy(data, offset+16, contentModDate, 0, 4);
 	System.arraycopy(data, offset+20, attributeModDate, 0, 4);
 	System.arraycopy(data, offset+24, accessDate, 0, 4);
 	System.arraycopy(data, offset+28, backupDate, 0, 4);
-	permissions = new HFSPlusBSDInfo(data, offset+32);
-	userInfo = new FileInfo(data, offset+48);
+        permissions = (mutable ?
+            new HFSPlusBSDInfo.Mutable(data, offset+32) :
+            new HFSPlusBSDInfo(data, offset+32));
+        userInfo = (mutable ?
+            new FileInfo.Mutable(data, offset+48) :
+            new FileInfo(data, offset+48));
 	finderInfo = new ExtendedFileInfo(data, offset+64);
 	System.arraycopy(data, offset+80, textEncoding, 0, 4);
 	System.arraycopy(data, offset+84, reserved2, 0, 4);
-	dataFork = new HFSPlusForkData(data, offset+88);
-	resourceFork = new HFSPlusForkData(data, offset+168);
+        dataFork = (mutable ?
+            new HFSPlusForkData.Mutable(data, offset+88) :
+            new HFSPlusForkData(data, offset+88));
+        resourceFork = (mutable ?
+            new HFSPlusForkData.Mutable(data, offset+168) :
+            new HFSPlusForkData(data, offset+168));
     }
 
     public static int length() { return 248; }
@@ -258,4 +272,122 @@ public class HFSPlusCatalogFile extends HFSPlusCatalogLeafRecordData implements
     public int size() {
         return length();
     }
+
+    private void _setRecordType(short recordType) {
+        Util.arrayPutBE(this.recordType, 0, (short) recordType);
+    }
+
+    private void _setFlags(short flags) {
+        Util.arrayPutBE(this.flags, 0, (short) flags);
+    }
+
+    private HFSCatalogNodeID.Mutable _getMutableFileID() {
+        return (HFSCatalogNodeID.Mutable) this.fileID;
+    }
+
+    private void _setFileID(HFSCatalogNodeID fileID) {
+        this._getMutableFileID().setValue(fileID.toInt());
+    }
+
+    private void _setCreateDate(int createDate) {
+        Util.arrayPutBE(this.createDate, 0, (int) createDate);
+    }
+
+    private void _setContentModDate(int contentModDate) {
+        Util.arrayPutBE(this.contentModDate, 0, (int) contentModDate);
+    }
+
+    private void _setAttributeModDate(int attributeModDate) {
+        Util.arrayPutBE(this.attributeModDate, 0, (int) attributeModDate);
+    }
+
+    private void _setAccessDate(int accessDate) {
+        Util.arrayPutBE(this.accessDate, 0, (int) accessDate);
+    }
+
+    private void _setBackupDate(int backupDate) {
+        Util.arrayPutBE(this.backupDate, 0, (int) backupDate);
+    }
+
+    private HFSPlusBSDInfo.Mutable _getMutablePermissions() {
+        return (HFSPlusBSDInfo.Mutable) this.permissions;
+    }
+
+    private FileInfo.Mutable _getMutableUserInfo() {
+        return (FileInfo.Mutable) this.userInfo;
+    }
+
+    private void _setTextEncoding(int textEncoding) {
+        Util.arrayPutBE(this.textEncoding, 0, (int) textEncoding);
+    }
+
+    private HFSPlusForkData.Mutable _getMutableDataFork() {
+        return (HFSPlusForkData.Mutable) this.dataFork;
+    }
+
+    private HFSPlusForkData.Mutable _getMutableResourceFork() {
+        return (HFSPlusForkData.Mutable) this.resourceFork;
+    }
+
+    public static class Mutable extends HFSPlusCatalogFile {
+        public Mutable(byte[] data, int offset) {
+            super(true, data, offset);
+        }
+
+        public void setRecordType(short recordType) {
+            super._setRecordType(recordType);
+        }
+
+        public void setFlags(short flags) {
+            super._setFlags(flags);
+        }
+
+        public HFSCatalogNodeID.Mutable getMutableFileID() {
+            return super._getMutableFileID();
+        }
+
+        public void setFileID(HFSCatalogNodeID fileID) {
+            super._setFileID(fileID);
+        }
+
+        public void setCreateDate(int createDate) {
+            super._setCreateDate(createDate);
+        }
+
+        public void setContentModDate(int contentModDate) {
+            super._setContentModDate(contentModDate);
+        }
+
+        public void setAttributeModDate(int attributeModDate) {
+            super._setAttributeModDate(attributeModDate);
+        }
+
+        public void setAccessDate(int accessDate) {
+            super._setAccessDate(accessDate);
+        }
+
+        public void setBackupDate(int backupDate) {
+            super._setBackupDate(backupDate);
+        }
+
+        public HFSPlusBSDInfo.Mutable getMutablePermissions() {
+            return super._getMutablePermissions();
+        }
+
+        public FileInfo.Mutable getMutableUserInfo() {
+            return super._getMutableUserInfo();
+        }
+
+        public void setTextEncoding(int textEncoding) {
+            super._setTextEncoding(textEncoding);
+        }
+
+        public HFSPlusForkData.Mutable getMutableDataFork() {
+            return super._getMutableDataFork();
+        }
+
+        public HFSPlusForkData.Mutable getMutableResourceFork() {
+            return super._getMutableResourceFork();
+        }
+    }
 }
@@ -71,17 +71,27 @@ public class HFSPlusCatalogFolder extends HFSPlusCatalogLeafRecordData implement
     private final byte[] reserved = new byte[4];
 
     public HFSPlusCatalogFolder(byte[] data, int offset) {
+        this(false, data, offset);
+    }
+
+    private HFSPlusCatalogFolder(boolean mutable, byte[] data, int offset) {
 	System.arraycopy(data, offset+0, recordType, 0, 2);
 	System.arraycopy(data, offset+2, flags, 0, 2);
 	System.arraycopy(data, offset+4, valence, 0, 4);
-	folderID = new HFSCatalogNodeID(data, offset+8);
+        folderID = (mutable ?
+            new HFSCatalogNodeID.Mutable(data, offset+8) :
+            new HFSCatalogNodeID(data, offset+8));
 	System.arraycopy(data, offset+12, createDate, 0, 4);
 	System.arraycopy(data, offset+16, contentModDate, 0, 4);
 	System.arraycopy(data, offset+20, attributeModDate, 0, 4);
 	System.arraycopy(data, offset+24, accessDate, 0, 4);
 	System.arraycopy(data, offset+28, backupDate, 0, 4);
-	permissions = new HFSPlusBSDInfo(data, offset+32);
-	userInfo = new FolderInfo(data, offset+48);
+        permissions = (mutable ?
+            new HFSPlusBSDInfo.Mutable(data, offset+32) :
+            new HFSPlusBSDInfo(data, offset+32));
+        userInfo = (mutable ?
+            new FolderInfo.Mutable(data, offset+48) :
+            new FolderInfo(data, offset+48));
 	finderInfo = new ExtendedFolderInfo(data, offset+64);
 	System.arraycopy(data, offset+80, textEncoding, 0, 4);
 	System.arraycopy(data, offset+84, reserved, 0, 4);
@@ -272,4 +282,114 @@ public class HFSPlusCatalogFolder extends HFSPlusCatalogLeafRecordData implement
 
         return db.getResult();
     }
+
+    private void _setRecordType(short recordType) {
+        Util.arrayPutBE(this.recordType, 0, (short) recordType);
+    }
+
+    private void _setFlags(short flags) {
+        Util.arrayPutBE(this.flags, 0, (short) flags);
+    }
+
+    private void _setValence(int valence) {
+        Util.arrayPutBE(this.valence, 0, (int) valence);
+    }
+
+    private HFSCatalogNodeID.Mutable _getMutableFolderID() {
+        return (HFSCatalogNodeID.Mutable) this.folderID;
+    }
+
+    private void _setFolderID(HFSCatalogNodeID folderID) {
+        this._getMutableFolderID().setValue(folderID.toInt());
+    }
+
+    private void _setCreateDate(int createDate) {
+        Util.arrayPutBE(this.createDate, 0, (int) createDate);
+    }
+
+    private void _setContentModDate(int contentModDate) {
+        Util.arrayPutBE(this.contentModDate, 0, (int) contentModDate);
+    }
+
+    private void _setAttributeModDate(int attributeModDate) {
+        Util.arrayPutBE(this.attributeModDate, 0, (int) attributeModDate);
+    }
+
+    private void _setAccessDate(int accessDate) {
+        Util.arrayPutBE(this.accessDate, 0, (int) accessDate);
+    }
+
+    private void _setBackupDate(int backupDate) {
+        Util.arrayPutBE(this.backupDate, 0, (int) backupDate);
+    }
+
+    private HFSPlusBSDInfo.Mutable _getMutablePermissions() {
+        return (HFSPlusBSDInfo.Mutable) this.permissions;
+    }
+
+    private FolderInfo.Mutable _getMutableUserInfo() {
+        return (FolderInfo.Mutable) this.userInfo;
+    }
+
+    private void _setTextEncoding(int textEncoding) {
+        Util.arrayPutBE(this.textEncoding, 0, (int) textEncoding);
+    }
+
+    public static class Mutable extends HFSPlusCatalogFolder {
+        public Mutable(byte[] data, int offset) {
+            super(true, data, offset);
+        }
+
+        public void setRecordType(short recordType) {
+            super._setRecordType(recordType);
+        }
+
+        public void setFlags(short flags) {
+            super._setFlags(flags);
+        }
+
+        public void setValence(int valence) {
+            super._setValence(valence);
+        }
+
+        public HFSCatalogNodeID.Mutable getMutableFolderID() {
+            return super._getMutableFolderID();
+        }
+
+        public void setFolderID(HFSCatalogNodeID folderID) {
+            super._setFolderID(folderID);
+        }
+
+        public void setCreateDate(int createDate) {
+            super._setCreateDate(createDate);
+        }
+
+        public void setContentModDate(int contentModDate) {
+            super._setContentModDate(contentModDate);
+        }
+
+        public void setAttributeModDate(int attributeModDate) {
+            super._setAttributeModDate(attributeModDate);
+        }
+
+        public void setAccessDate(int accessDate) {
+            super._setAccessDate(accessDate);
+        }
+
+        public void setBackupDate(int backupDate) {
+            super._setBackupDate(backupDate);
+        }
+
+        public HFSPlusBSDInfo.Mutable getMutablePermissions() {
+            return super._getMutablePermissions();
+        }
+
+        public FolderInfo.Mutable getMutableUserInfo() {
+            return super._getMutableUserInfo();
+        }
+
+        public void setTextEncoding(int textEncoding) {
+            super._setTextEncoding(textEncoding);
+        }
+    }
 }
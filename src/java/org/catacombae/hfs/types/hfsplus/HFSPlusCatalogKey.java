@@ -19,7 +19,6 @@ package org.catacombae.hfs.types.hfsplus;
 
 import org.catacombae.csjc.structelements.Dictionary;
 import org.catacombae.util.Util;
-import org.catacombae.hfs.FastUnicodeCompare;
 import java.io.PrintStream;
 import org.catacombae.csjc.DynamicStruct;
 import org.catacombae.csjc.StructElements;
@@ -98,7 +97,7 @@ public class HFSPlusCatalogKey extends BTKey implements DynamicStruct, StructEle
 	if(btk instanceof HFSPlusCatalogKey) {
 	    HFSPlusCatalogKey catKey = (HFSPlusCatalogKey) btk;
 	    if(Util.unsign(getParentID().toInt()) == Util.unsign(catKey.getParentID().toInt()))
-		return FastUnicodeCompare.compare(nodeName.getUnicode(), catKey.getNodeName().getUnicode());
+		return nodeName.compareFastUnicode(catKey.getNodeName());
 	    else if(Util.unsign(getParentID().toInt()) < Util.unsign(catKey.getParentID().toInt()))
 		return -1;
 	    else
@@ -54,6 +54,14 @@ public class HFSPlusCatalogThread extends HFSPlusCatalogLeafRecordData implement
 	nodeName = new HFSUniStr255(data, offset+8);
     }
 
+    public HFSPlusCatalogThread(short recordType, HFSCatalogNodeID parentID,
+            HFSUniStr255 nodeName)
+    {
+        Util.arrayPutBE(this.recordType, 0, (short) recordType);
+        this.parentID = parentID;
+        this.nodeName = nodeName;
+    }
+
     public byte[] getBytes() {
         byte[] result = new byte[length()];
         byte[] tempData;
@@ -75,7 +75,7 @@ public class HFSPlusExtentDescriptor implements StructElements,
         ps.println(prefix + " blockCount: " + getBlockCount());
     }
 
-    byte[] getBytes() {
+    public byte[] getBytes() {
         byte[] result = new byte[getSize()];
         int offset = 0;
 
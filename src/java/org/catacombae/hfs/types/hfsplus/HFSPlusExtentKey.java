@@ -61,7 +61,8 @@ public class HFSPlusExtentKey extends BTKey implements StructElements {
 	System.arraycopy(data, offset+8, startBlock, 0, 4);
     }
     public HFSPlusExtentKey(byte forkType, HFSCatalogNodeID fileID, int startBlock) {
-	System.arraycopy(Util.toByteArrayBE((short)12), 0, this.keyLength, 0, 2);
+        /* The key length doesn't include the key length field itself. */
+	System.arraycopy(Util.toByteArrayBE((short)10), 0, this.keyLength, 0, 2);
 	this.forkType[0] = forkType;
 	this.pad[0] = 0;
 	this.fileID = fileID;
@@ -95,7 +95,7 @@ public class HFSPlusForkData implements StructElements, PrintableStruct {
         _printFields(ps, prefix + " ");
     }
 
-    byte[] getBytes() {
+    public byte[] getBytes() {
         byte[] result = new byte[length()];
 	byte[] tempData;
 	int offset = 0;
@@ -149,7 +149,7 @@ public class HFSPlusForkData implements StructElements, PrintableStruct {
 
     public static class Mutable extends HFSPlusForkData {
         public Mutable(byte[] data, int offset) {
-            super(data, offset);
+            super(true, data, offset);
         }
 
         public void set(HFSPlusForkData forkData) {
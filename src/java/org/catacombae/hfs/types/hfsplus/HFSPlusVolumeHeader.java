@@ -131,7 +131,7 @@ public class HFSPlusVolumeHeader extends MutableStruct implements
             new HFSCatalogNodeID.Mutable(data, offset+64) :
             new HFSCatalogNodeID(data, offset+64));
 	System.arraycopy(data, offset+68, writeCount, 0, 4);
-	System.arraycopy(data, offset+72, encodingsBitmap, 0, 4);
+	System.arraycopy(data, offset+72, encodingsBitmap, 0, 8);
         finderInfo = (mutable ?
             new HFSVolumeFinderInfo.Mutable(data, offset+80) :
             new HFSVolumeFinderInfo(data, offset+80));
@@ -391,6 +391,48 @@ public class HFSPlusVolumeHeader extends MutableStruct implements
         return true;
     }
 
+    public byte[] getBytes() {
+        byte[] result = new byte[_getSize()];
+        byte[] tempData;
+        int offset = 0;
+
+        System.arraycopy(signature, 0, result, offset, signature.length); offset += signature.length;
+        System.arraycopy(version, 0, result, offset, version.length); offset += version.length;
+        System.arraycopy(attributes, 0, result, offset, attributes.length); offset += attributes.length;
+        System.arraycopy(lastMountedVersion, 0, result, offset, lastMountedVersion.length); offset += lastMountedVersion.length;
+        System.arraycopy(journalInfoBlock, 0, result, offset, journalInfoBlock.length); offset += journalInfoBlock.length;
+        System.arraycopy(createDate, 0, result, offset, createDate.length); offset += createDate.length;
+        System.arraycopy(modifyDate, 0, result, offset, modifyDate.length); offset += modifyDate.length;
+        System.arraycopy(backupDate, 0, result, offset, backupDate.length); offset += backupDate.length;
+        System.arraycopy(checkedDate, 0, result, offset, checkedDate.length); offset += checkedDate.length;
+        System.arraycopy(fileCount, 0, result, offset, fileCount.length); offset += fileCount.length;
+        System.arraycopy(folderCount, 0, result, offset, folderCount.length); offset += folderCount.length;
+        System.arraycopy(blockSize, 0, result, offset, blockSize.length); offset += blockSize.length;
+        System.arraycopy(totalBlocks, 0, result, offset, totalBlocks.length); offset += totalBlocks.length;
+        System.arraycopy(freeBlocks, 0, result, offset, freeBlocks.length); offset += freeBlocks.length;
+        System.arraycopy(nextAllocation, 0, result, offset, nextAllocation.length); offset += nextAllocation.length;
+        System.arraycopy(rsrcClumpSize, 0, result, offset, rsrcClumpSize.length); offset += rsrcClumpSize.length;
+        System.arraycopy(dataClumpSize, 0, result, offset, dataClumpSize.length); offset += dataClumpSize.length;
+        tempData = nextCatalogID.getBytes();
+        System.arraycopy(tempData, 0, result, offset, tempData.length); offset += tempData.length;
+        System.arraycopy(writeCount, 0, result, offset, writeCount.length); offset += writeCount.length;
+        System.arraycopy(encodingsBitmap, 0, result, offset, encodingsBitmap.length); offset += encodingsBitmap.length;
+        tempData = finderInfo.getBytes();
+        System.arraycopy(tempData, 0, result, offset, tempData.length); offset += tempData.length;
+        tempData = allocationFile.getBytes();
+        System.arraycopy(tempData, 0, result, offset, tempData.length); offset += tempData.length;
+        tempData = extentsFile.getBytes();
+        System.arraycopy(tempData, 0, result, offset, tempData.length); offset += tempData.length;
+        tempData = catalogFile.getBytes();
+        System.arraycopy(tempData, 0, result, offset, tempData.length); offset += tempData.length;
+        tempData = attributesFile.getBytes();
+        System.arraycopy(tempData, 0, result, offset, tempData.length); offset += tempData.length;
+        tempData = startupFile.getBytes();
+        System.arraycopy(tempData, 0, result, offset, tempData.length); offset += tempData.length;
+
+        return result;
+    }
+
     private void _setSignature(short signature) {
         Util.arrayPutBE(this.signature, 0, (short) signature);
     }
@@ -555,15 +597,15 @@ public class HFSPlusVolumeHeader extends MutableStruct implements
     public static class Mutable extends HFSPlusVolumeHeader {
 
         public Mutable(byte[] data) {
-            super(data);
+            this(data, 0);
         }
 
         public Mutable(byte[] data, int offset) {
-            super(data, offset);
+            super(true, data, offset);
         }
 
         public Mutable(InputStream is) throws IOException {
-            super(is);
+            this(Util.fillBuffer(is, new byte[_getSize()]), 0);
         }
 
         public void set(HFSPlusVolumeHeader header) {
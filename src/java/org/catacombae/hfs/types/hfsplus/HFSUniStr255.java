@@ -23,6 +23,7 @@ import org.catacombae.hfs.UnicodeNormalizationToolkit;
 import java.io.PrintStream;
 import org.catacombae.csjc.PrintableStruct;
 import org.catacombae.csjc.StructElements;
+import org.catacombae.hfs.FastUnicodeCompare;
 import org.catacombae.hfs.HFSInvalidDataException;
 import org.catacombae.hfs.HFSNotEnoughDataException;
 
@@ -94,6 +95,29 @@ public class HFSUniStr255 implements StructElements, PrintableStruct {
 	(if the filesystem is valid) be in decomposed form, as the HFS+ volume format requires. */
     public char[] getUnicode() { return Util.readCharArrayBE(unicode); }
 
+    /**
+     * Compares this string to <code>other</code> using the FastUnicodeCompare
+     * algorithm (case insensitive, as in HFS+ catalog keys). Equivalent to
+     * comparing the results of {@link #getUnicode()}, but doesn't allocate.
+     *
+     * @see FastUnicodeCompare#compare(char[], char[])
+     */
+    public int compareFastUnicode(HFSUniStr255 other) {
+        return FastUnicodeCompare.compare(unicode, 0, unicode.length / 2,
+                other.unicode, 0, other.unicode.length / 2);
+    }
+
+    /**
+     * Compares this string to <code>other</code> as arrays of unsigned 16-bit
+     * values (case sensitive, as in HFSX catalog keys using binary compare).
+     *
+     * @see FastUnicodeCompare#compareBinary(byte[], int, int, byte[], int, int)
+     */
+    public int compareBinary(HFSUniStr255 other) {
+        return FastUnicodeCompare.compareBinary(unicode, 0, unicode.length / 2,
+                other.unicode, 0, other.unicode.length / 2);
+    }
+
     /** A simple conversion of the decomposed string from getUnicode() into a String object. */
     public String getUnicodeAsDecomposedString() { return new String(getUnicode()); }
 
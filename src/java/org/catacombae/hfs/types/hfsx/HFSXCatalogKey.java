@@ -18,7 +18,6 @@
 package org.catacombae.hfs.types.hfsx;
 
 import org.catacombae.util.Util;
-import org.catacombae.hfs.FastUnicodeCompare;
 import org.catacombae.hfs.types.hfsplus.BTHeaderRec;
 import org.catacombae.hfs.types.hfsplus.BTKey;
 import org.catacombae.hfs.types.hfsplus.HFSCatalogNodeID;
@@ -66,9 +65,9 @@ public class HFSXCatalogKey extends HFSPlusCatalogKey {
 	    if(Util.unsign(getParentID().toInt()) == Util.unsign(catKey.getParentID().toInt())) {
 		switch(keyCompareType) {
 		case BTHeaderRec.kHFSCaseFolding:
-		    return FastUnicodeCompare.compare(getNodeName().getUnicode(), catKey.getNodeName().getUnicode());
+		    return getNodeName().compareFastUnicode(catKey.getNodeName());
 		case BTHeaderRec.kHFSBinaryCompare:
-		    return Util.unsignedArrayCompareLex(getNodeName().getUnicode(), catKey.getNodeName().getUnicode());
+		    return getNodeName().compareBinary(catKey.getNodeName());
 		default:
 		    throw new RuntimeException("Invalid value in file system structure! keyCompareType = " +
 					       keyCompareType);
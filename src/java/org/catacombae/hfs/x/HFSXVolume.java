@@ -28,6 +28,7 @@ import org.catacombae.hfs.types.hfsplus.BTHeaderRec;
 import org.catacombae.hfs.types.hfsplus.HFSCatalogNodeID;
 import org.catacombae.hfs.types.hfsplus.HFSUniStr255;
 import org.catacombae.hfs.types.hfsx.HFSXCatalogKey;
+import org.catacombae.hfs.FastUnicodeCompare;
 import org.catacombae.io.ReadableRandomAccessStream;
 import org.catacombae.hfs.plus.HFSPlusVolume;
 import org.catacombae.hfs.types.hfsplus.HFSPlusVolumeHeader;
@@ -79,6 +80,25 @@ public class HFSXVolume extends HFSPlusVolume {
                 keyCompareType));
     }
 
+    @Override
+    public CommonHFSCatalogKey newCatalogKey(byte[] data, int offset) {
+        return CommonHFSCatalogKey.create(new HFSXCatalogKey(data, offset,
+                keyCompareType));
+    }
+
+    @Override
+    public int compareRawCatalogNodeName(byte[] data, int offset,
+            byte[] searchName)
+    {
+        if(keyCompareType != BTHeaderRec.kHFSBinaryCompare) {
+            return super.compareRawCatalogNodeName(data, offset, searchName);
+        }
+
+        final int nameLength = getRawCatalogNodeNameLength(data, offset);
+        return FastUnicodeCompare.compareBinary(data, offset + 8, nameLength,
+                searchName, 0, searchName.length / 2);
+    }
+
     @Override
     public CommonHFSCatalogLeafNode newCatalogLeafNode(byte[] data, int offset,
             int nodeSize)
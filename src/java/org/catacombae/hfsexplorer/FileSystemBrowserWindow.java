@@ -45,6 +45,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.swing.ButtonGroup;
 import javax.swing.JCheckBoxMenuItem;
 import javax.swing.JDialog;
 import javax.swing.JFileChooser;
@@ -53,6 +54,7 @@ import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
 import javax.swing.JOptionPane;
 import javax.swing.JPopupMenu;
+import javax.swing.JRadioButtonMenuItem;
 import javax.swing.KeyStroke;
 import javax.swing.SwingUtilities;
 import javax.swing.filechooser.FileFilter;
@@ -89,6 +91,7 @@ import org.catacombae.io.ReadableConcatenatedStream;
 import org.catacombae.io.ReadableFileStream;
 import org.catacombae.io.ReadableRandomAccessStream;
 import org.catacombae.io.ReadableRandomAccessSubstream;
+import org.catacombae.io.BasicSynchronizedReadableRandomAccessStream;
 import org.catacombae.io.SynchronizedReadableRandomAccessStream;
 import org.catacombae.storage.fs.FSAttributes.POSIXFileAttributes;
 import org.catacombae.storage.fs.FSEntry;
@@ -102,10 +105,14 @@ import org.catacombae.storage.fs.FileSystemHandlerFactory.CustomAttribute;
 import org.catacombae.storage.fs.FileSystemHandlerFactory.StandardAttribute;
 import org.catacombae.storage.fs.FileSystemMajorType;
 import org.catacombae.storage.fs.hfs.HFSFileSystemHandler;
+import org.catacombae.storage.fs.hfscommon.HFSCommonFSFork;
 import org.catacombae.storage.fs.hfscommon.HFSCommonFileSystemHandler;
 import org.catacombae.storage.fs.hfscommon.HFSCommonFileSystemRecognizer;
 import org.catacombae.storage.fs.hfscommon.HFSCommonFileSystemRecognizer.FileSystemType;
+import org.catacombae.storage.fs.hfsplus.HFSPlusCompressedDataFork;
 import org.catacombae.storage.io.DataLocator;
+import org.catacombae.storage.io.FileChannelDataLocator;
+import org.catacombae.storage.io.ReadableFileChannelStream;
 import org.catacombae.storage.io.ReadableStreamDataLocator;
 import org.catacombae.storage.io.win32.ReadableWin32FileStream;
 import org.catacombae.storage.ps.Partition;
@@ -142,6 +149,10 @@ public class FileSystemBrowserWindow extends HFSExplorerJFrame {
     private FileSystemBrowser<FSEntry> fsb;
     // Fast accessors for the corresponding variables in org.catacombae.hfsexplorer.gui.FilesystemBrowserPanel
     private JCheckBoxMenuItem toggleCachingItem;
+    // Determines how local image files are accessed when loading them
+    private JRadioButtonMenuItem standardFileAccessItem;
+    private JRadioButtonMenuItem channelFileAccessItem;
+    private JRadioButtonMenuItem mappedFileAccessItem;
     // For managing all files opened with the "open file" command
     private final LinkedList<File> tempFiles = new LinkedList<File>();
     private final JFileChooser fileChooser = new JFileChooser();
@@ -509,6 +520,20 @@ public class FileSystemBrowserWindow extends HFSExplorerJFrame {
             }
         });
 
+        standardFileAccessItem = new JRadioButtonMenuItem("Standard");
+        standardFileAccessItem.setSelected(true);
+        channelFileAccessItem =
+                new JRadioButtonMenuItem("Positional reads (FileChannel)");
+        mappedFileAccessItem = new JRadioButtonMenuItem("Memory mapped");
+        ButtonGroup fileAccessGroup = new ButtonGroup();
+        fileAccessGroup.add(standardFileAccessItem);
+        fileAccessGroup.add(channelFileAccessItem);
+        fileAccessGroup.add(mappedFileAccessItem);
+        JMenu fileAccessMenu = new JMenu("Image file access");
+        fileAccessMenu.add(standardFileAccessItem);
+        fileAccessMenu.add(channelFileAccessItem);
+        fileAccessMenu.add(mappedFileAccessItem);
+
         /*
         JMenuItem setFileReadOffsetItem = new JMenuItem("Set file read offset...");
         setFileReadOffsetItem.addActionListener(new ActionListener() {
@@ -693,6 +718,7 @@ public class FileSystemBrowserWindow extends HFSExplorerJFrame {
         }
         infoMenu.add(volumeInfoItem);
         infoMenu.add(toggleCachingItem);
+        infoMenu.add(fileAccessMenu);
         infoMenu.add(createDiskImageItem);
         //infoMenu.add(setFileReadOffsetItem);
         infoMenu.add(memoryStatisticsItem);
@@ -796,6 +822,10 @@ public class FileSystemBrowserWindow extends HFSExplorerJFrame {
             if(f.isDirectory()) {
                 fsFile = new ReadableSparseBundleStream(f);
             }
+            else if(f.isFile() && !standardFileAccessItem.isSelected()) {
+                fsFile = new ReadableFileChannelStream(f,
+                        mappedFileAccessItem.isSelected());
+            }
             else if(ReadableWin32FileStream.isSystemSupported()) {
                 fsFile = new ReadableWin32FileStream(filename);
             }
@@ -945,8 +975,17 @@ public class FileSystemBrowserWindow extends HFSExplorerJFrame {
                 fsFile = new ReadableConcatenatedStream(fsFile, pos, fsFile.length() - pos);
             }
 
-            SynchronizedReadableRandomAccessStream syncStream =
-                    new SynchronizedReadableRandomAccessStream(fsFile);
+            /* A ReadableFileChannelStream that hasn't been wrapped by any
+             * filter stream above can be used directly, as it supports
+             * concurrent positional reads by itself. */
+            BasicSynchronizedReadableRandomAccessStream syncStream;
+            if(fsFile instanceof ReadableFileChannelStream) {
+                syncStream = (ReadableFileChannelStream) fsFile;
+            }
+            else {
+                syncStream = new SynchronizedReadableRandomAccessStream(fsFile);
+            }
+
             try {
                 loadFS(syncStream, displayName);
             } finally {
@@ -956,16 +995,24 @@ public class FileSystemBrowserWindow extends HFSExplorerJFrame {
     }
 
     public void loadFS(String filename) {
-        ReadableRandomAccessStream fsFile;
-        if(ReadableWin32FileStream.isSystemSupported()) {
-            fsFile = new ReadableWin32FileStream(filename);
+        File f = new File(filename);
+        BasicSynchronizedReadableRandomAccessStream syncStream;
+        if(f.isFile() && !standardFileAccessItem.isSelected()) {
+            syncStream = new ReadableFileChannelStream(f,
+                    mappedFileAccessItem.isSelected());
         }
         else {
-            fsFile = new ReadableFileStream(filename);
+            ReadableRandomAccessStream fsFile;
+            if(ReadableWin32FileStream.isSystemSupported()) {
+                fsFile = new ReadableWin32FileStream(filename);
+            }
+            else {
+                fsFile = new ReadableFileStream(filename);
+            }
+
+            syncStream = new SynchronizedReadableRandomAccessStream(fsFile);
         }
 
-        SynchronizedReadableRandomAccessStream syncStream =
-                new SynchronizedReadableRandomAccessStream(fsFile);
         try {
             loadFS(syncStream, new File(filename).getName());
         } finally {
@@ -973,7 +1020,7 @@ public class FileSystemBrowserWindow extends HFSExplorerJFrame {
         }
     }
 
-    public void loadFS(SynchronizedReadableRandomAccessStream fsFile,
+    public void loadFS(BasicSynchronizedReadableRandomAccessStream fsFile,
             String displayName)
     {
         long fsOffset;
@@ -1151,20 +1198,33 @@ public class FileSystemBrowserWindow extends HFSExplorerJFrame {
                 //System.err.println("loadFS(): fsFile=" + fsFile);
                 //System.err.println("loadFS(): Creating ReadableConcatenatedStream...");
 
-                ReadableRandomAccessStream stage1;
-                if(fsLength > 0)
-                    stage1 = new ReadableConcatenatedStream(
-                            new ReadableRandomAccessSubstream(fsFile), fsOffset,
-                            fsLength);
-                else if(fsOffset == 0)
-                    stage1 = new ReadableRandomAccessSubstream(fsFile);
-                else
-                    throw new RuntimeException("length undefined and offset " +
-                            "!= 0 (fsLength=" + fsLength + " fsOffset=" +
-                            fsOffset + ")");
+                if(fsFile instanceof ReadableFileChannelStream) {
+                    /* Let the file system read directly from the file, without
+                     * going through any intermediate streams. */
+                    ReadableFileChannelStream channelStream =
+                            (ReadableFileChannelStream) fsFile;
+                    this.fsDataLocator = new FileChannelDataLocator(
+                            channelStream.getFile(),
+                            channelStream.getOffset() + fsOffset,
+                            fsLength > 0 ? fsLength : -1,
+                            channelStream.isMemoryMapped());
+                }
+                else {
+                    ReadableRandomAccessStream stage1;
+                    if(fsLength > 0)
+                        stage1 = new ReadableConcatenatedStream(
+                                new ReadableRandomAccessSubstream(fsFile),
+                                fsOffset, fsLength);
+                    else if(fsOffset == 0)
+                        stage1 = new ReadableRandomAccessSubstream(fsFile);
+                    else
+                        throw new RuntimeException("length undefined and " +
+                                "offset != 0 (fsLength=" + fsLength +
+                                " fsOffset=" + fsOffset + ")");
 
-                //System.err.println("loadFS(): Creating ReadableStreamDataLocator...");
-                this.fsDataLocator = new ReadableStreamDataLocator(stage1);
+                    //System.err.println("loadFS(): Creating ReadableStreamDataLocator...");
+                    this.fsDataLocator = new ReadableStreamDataLocator(stage1);
+                }
                 //System.err.println("loadFS(): Creating fsHandler...");
 
                 fsHandler = (HFSCommonFileSystemHandler)
@@ -1204,7 +1264,23 @@ public class FileSystemBrowserWindow extends HFSExplorerJFrame {
     }
 
     private long extractForkToStream(FSFork theFork, OutputStream os, ProgressMonitor pm) throws IOException {
-        ReadableRandomAccessStream forkFilter = theFork.getReadableRandomAccessStream();
+        if(theFork instanceof HFSCommonFSFork) {
+            /* Uncompressed HFS+/HFSX forks can be transferred directly from the
+             * extents of the fork. */
+            return ((HFSCommonFSFork) theFork).extractToStream(os, pm);
+        }
+
+        final ReadableRandomAccessStream forkFilter;
+        if(theFork instanceof HFSPlusCompressedDataFork) {
+            /* Decompress blocks ahead on all available cores. */
+            forkFilter = ((HFSPlusCompressedDataFork) theFork).
+                    getReadableRandomAccessStream(
+                    Runtime.getRuntime().availableProcessors());
+        }
+        else {
+            forkFilter = theFork.getReadableRandomAccessStream();
+        }
+
         //System.out.println("extractForkToStream working with a " + forkFilter.getClass());
         final long originalLength = theFork.getLength();
         long bytesToRead = originalLength;
@@ -29,6 +29,7 @@ import org.catacombae.hfs.types.hfscommon.CommonHFSVolumeHeader;
 import org.catacombae.hfsexplorer.gui.AttributesInfoPanel;
 import org.catacombae.hfsexplorer.gui.CatalogInfoPanel;
 import org.catacombae.hfsexplorer.gui.ExtentsInfoPanel;
+import org.catacombae.hfsexplorer.gui.FreeSpaceInfoPanel;
 import org.catacombae.hfsexplorer.gui.HFSExplorerJFrame;
 import org.catacombae.hfsexplorer.gui.JournalInfoPanel;
 import org.catacombae.hfsexplorer.gui.StructViewPanel;
@@ -188,6 +189,18 @@ public class VolumeInfoWindow extends HFSExplorerJFrame {
         }
 
 
+        // The "Free space" tab
+
+        try {
+            FreeSpaceInfoPanel freeSpaceInfoPanel = new FreeSpaceInfoPanel(this,
+                    fsView.getAllocationFile(),
+                    fsView.getVolumeHeader().getAllocationBlockSize());
+            tabs.addTab("Free space", freeSpaceInfoPanel);
+        } catch(Exception e) {
+            e.printStackTrace();
+        }
+
+
         // The "Allocation file info" tab
         /*
         try {
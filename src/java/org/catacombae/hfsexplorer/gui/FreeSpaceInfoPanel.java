@@ -0,0 +1,101 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfsexplorer.gui;
+
+import java.awt.BorderLayout;
+import java.awt.Font;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
+import javax.swing.SwingUtilities;
+import org.catacombae.hfs.AllocationFile;
+import org.catacombae.hfs.FreeExtentIndex;
+import org.catacombae.util.ObjectContainer;
+
+/**
+ * A panel displaying the free space of a volume: the number and sizes of the
+ * free extents, and how fragmented the free space is. The allocation file is
+ * scanned in a background thread, which is stopped if the window is closed.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class FreeSpaceInfoPanel extends JPanel {
+    private final ObjectContainer<Boolean> stopScan =
+            new ObjectContainer<Boolean>(false);
+    private final JTextArea reportTextArea;
+
+    public FreeSpaceInfoPanel(JFrame window, final AllocationFile allocationFile,
+            final long blockSize)
+    {
+        reportTextArea = new JTextArea("Scanning allocation file...");
+        reportTextArea.setEditable(false);
+        reportTextArea.setFont(new Font("Monospaced", Font.PLAIN,
+                reportTextArea.getFont().getSize()));
+
+        setLayout(new BorderLayout());
+        add(new JScrollPane(reportTextArea), BorderLayout.CENTER);
+
+        window.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                stopScan.o = true;
+            }
+        });
+
+        Thread t = new Thread(new Runnable() {
+            /* @Override */
+            public void run() {
+                String report;
+                try {
+                    final FreeExtentIndex index =
+                            allocationFile.buildFreeExtentIndex(stopScan);
+                    if(index == null) {
+                        System.err.println("FreeSpaceInfoPanel thread " +
+                                "aborted.");
+                        return;
+                    }
+
+                    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                    PrintStream ps = new PrintStream(baos, false, "UTF-8");
+                    index.printReport(ps, "", blockSize);
+                    ps.flush();
+                    ps.close();
+                    report = new String(baos.toByteArray(), "UTF-8");
+                } catch(Exception e) {
+                    e.printStackTrace();
+                    report = "Error while scanning allocation file: " + e;
+                }
+
+                final String finalReport = report;
+                SwingUtilities.invokeLater(new Runnable() {
+                    /* @Override */
+                    public void run() {
+                        reportTextArea.setText(finalReport);
+                        reportTextArea.setCaretPosition(0);
+                    }
+                });
+            }
+        });
+        t.start();
+    }
+}
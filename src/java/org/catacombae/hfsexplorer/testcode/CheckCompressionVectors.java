@@ -0,0 +1,215 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfsexplorer.testcode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import org.catacombae.hfs.types.decmpfs.DecmpfsHeader;
+import org.catacombae.io.RuntimeIOException;
+import org.catacombae.storage.fs.hfsplus.HFSPlusCompressedDataFork;
+
+/**
+ * Checks the LZVN and LZFSE decompressors against known-answer vectors, and
+ * exits with status 1 if any of them fails.<br>
+ * The built-in vectors are assembled by hand from the block and opcode
+ * formats and cover the end of stream, uncompressed and LZVN blocks of
+ * LZFSE, multi-block LZFSE streams, the LZVN opcodes and the stored
+ * (uncompressed) compression units of both types.<br>
+ * Encoder output is checked by passing directories as arguments. Every file
+ * named <code>&lt;name&gt;.lzfse</code> or <code>&lt;name&gt;.lzvn</code> in
+ * them is decompressed as an LZFSE or LZVN compression unit and compared to
+ * the file <code>&lt;name&gt;</code> next to it. Vectors for LZFSE (v2,
+ * LZVN and multi-block streams) are made with Apple's reference encoder:
+ * <pre>
+ * lzfse -encode -i &lt;name&gt; -o &lt;name&gt;.lzfse
+ * </pre>
+ * which emits LZVN blocks for inputs below 4096 bytes, v2 blocks for larger
+ * inputs and a new block for every 40000 literals or 10000 matches.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class CheckCompressionVectors {
+    private static final int LZVN = DecmpfsHeader.COMPRESSION_TYPE_LZVN_INLINE;
+    private static final int LZFSE =
+            DecmpfsHeader.COMPRESSION_TYPE_LZFSE_INLINE;
+
+    /** Slack after the expected data, to catch output that runs over. */
+    private static final int OUTPUT_SLACK = 64;
+
+    /**
+     * The built-in vectors, as { name, compression type, compressed data in
+     * hex, expected data }.
+     */
+    private static final Object[][] VECTORS = {
+        { "lzfse-empty", LZFSE,
+            "62 76 78 24",
+            "" },
+        { "lzfse-uncompressed", LZFSE,
+            "62 76 78 2d 05 00 00 00 68 65 6c 6c 6f " +
+            "62 76 78 24",
+            "hello" },
+        { "lzfse-lzvn", LZFSE,
+            "62 76 78 6e 0c 00 00 00 0e 00 00 00 " +
+            "e3 61 62 63 30 03 06 00 00 00 00 00 00 00 " +
+            "62 76 78 24",
+            "abcabcabcabc" },
+        { "lzfse-multiblock", LZFSE,
+            "62 76 78 2d 03 00 00 00 61 62 63 " +
+            "62 76 78 6e 09 00 00 00 0a 00 00 00 " +
+            "30 03 06 00 00 00 00 00 00 00 " +
+            "62 76 78 2d 02 00 00 00 64 65 " +
+            "62 76 78 24",
+            "abcabcabcabcde" },
+        { "lzfse-stored", LZFSE,
+            "ff 72 61 77",
+            "raw" },
+        { "lzvn-sml_l-sml_d", LZVN,
+            "e3 61 62 63 30 03 06 00 00 00 00 00 00 00",
+            "abcabcabcabc" },
+        { "lzvn-pre_d-sml_m", LZVN,
+            "e2 78 79 30 02 46 7a f4 06 00 00 00 00 00 00 00",
+            "xyxyxyxyxyxzxzxzxzx" },
+        { "lzvn-stored", LZVN,
+            "06 72 61 77",
+            "raw" },
+    };
+
+    public static void main(String[] args) throws IOException {
+        int failures = 0;
+        int count = 0;
+
+        for(Object[] v : VECTORS) {
+            ++count;
+            if(!check((String) v[0], (Integer) v[1], parseHex((String) v[2]),
+                    ((String) v[3]).getBytes("US-ASCII")))
+            {
+                ++failures;
+            }
+        }
+
+        for(String dirName : args) {
+            final File dir = new File(dirName);
+            final File[] files = dir.listFiles();
+            if(files == null) {
+                System.out.println("Not a directory: " + dir);
+                System.exit(1);
+            }
+
+            Arrays.sort(files);
+            for(File f : files) {
+                final String name = f.getName();
+                final int type;
+                final String rawName;
+                if(name.endsWith(".lzfse")) {
+                    type = LZFSE;
+                    rawName = name.substring(0, name.length() - 6);
+                }
+                else if(name.endsWith(".lzvn")) {
+                    type = LZVN;
+                    rawName = name.substring(0, name.length() - 5);
+                }
+                else {
+                    continue;
+                }
+
+                ++count;
+                if(!check(f.getPath(), type, readFile(f),
+                        readFile(new File(dir, rawName))))
+                {
+                    ++failures;
+                }
+            }
+        }
+
+        System.out.println((count - failures) + "/" + count +
+                " vectors passed.");
+        if(failures != 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Decompresses <code>compressed</code> and compares the result to
+     * <code>expected</code>, printing a line about the outcome.
+     *
+     * @return whether the vector passed.
+     */
+    private static boolean check(String name, int type, byte[] compressed,
+            byte[] expected)
+    {
+        final byte[] out = new byte[expected.length + OUTPUT_SLACK];
+        final int len;
+        try {
+            len = HFSPlusCompressedDataFork.decompressUnit(type, compressed,
+                    0, compressed.length, out, 0, out.length);
+        } catch(RuntimeIOException e) {
+            System.out.println("FAIL " + name + ": " + e.getMessage());
+            return false;
+        }
+
+        if(len != expected.length) {
+            System.out.println("FAIL " + name + ": Decompressed to " + len +
+                    " bytes (expected: " + expected.length + ").");
+            return false;
+        }
+
+        for(int i = 0; i < len; ++i) {
+            if(out[i] != expected[i]) {
+                System.out.println("FAIL " + name + ": Differs at offset " +
+                        i + ".");
+                return false;
+            }
+        }
+
+        System.out.println("ok   " + name);
+        return true;
+    }
+
+    private static byte[] parseHex(String s) {
+        final String[] tokens = s.trim().split(" +");
+        if(tokens.length == 1 && tokens[0].length() == 0) {
+            return new byte[0];
+        }
+
+        final byte[] res = new byte[tokens.length];
+        for(int i = 0; i < tokens.length; ++i) {
+            res[i] = (byte) Integer.parseInt(tokens[i], 16);
+        }
+
+        return res;
+    }
+
+    private static byte[] readFile(File f) throws IOException {
+        final FileInputStream is = new FileInputStream(f);
+        try {
+            final ByteArrayOutputStream os = new ByteArrayOutputStream();
+            final byte[] buf = new byte[65536];
+            int bytesRead;
+            while((bytesRead = is.read(buf)) > 0) {
+                os.write(buf, 0, bytesRead);
+            }
+
+            return os.toByteArray();
+        } finally {
+            is.close();
+        }
+    }
+}
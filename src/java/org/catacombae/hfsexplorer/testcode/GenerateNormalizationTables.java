@@ -0,0 +1,437 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfsexplorer.testcode;
+
+import java.io.PrintStream;
+import java.util.Map;
+import org.catacombae.hfs.UnicodeNormalizationToolkit;
+import org.catacombae.util.Util;
+
+/**
+ * Generates the precomputed lookup tables of
+ * {@link UnicodeNormalizationToolkit} from its decomposition table, and
+ * prints them to stdout as Java string constants, to be pasted into the
+ * generated section of UnicodeNormalizationToolkit.java. Run this whenever
+ * the decomposition table changes.<br>
+ * The tables are:
+ * <ul>
+ * <li>DECOMPOSITION_BLOCKS and DECOMPOSITION_OFFSETS, the two-level lookup
+ * from composed character to its entry in the decomposition table.</li>
+ * <li>TRIE_CODE_BLOCKS and TRIE_CODES, the two-level mapping from the
+ * characters of decomposed sequences to dense codes starting at 1.</li>
+ * <li>TRIE_BASE, TRIE_CHECK and TRIE_VALUE, the double-array trie of the
+ * decomposed sequences, over the dense codes.</li>
+ * </ul>
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class GenerateNormalizationTables {
+    /** Initial size of the trie arrays. They grow as needed. */
+    private static final int INITIAL_TRIE_SIZE = 2048;
+
+    /**
+     * The decomposition table in the form of
+     * UnicodeNormalizationToolkit.DECOMPOSITION_TABLE: for each entry the
+     * composed character, the number of decomposed characters and the
+     * decomposed characters, sorted by composed character.
+     */
+    private final char[] decompositionData;
+
+    private final char[] decompositionBlocks = new char[256];
+    private final char[] decompositionOffsets;
+
+    private final char[] trieCodeBlocks = new char[256];
+    private final char[] trieCodes;
+
+    private int[] trieBase = new int[INITIAL_TRIE_SIZE];
+    private int[] trieCheck = new int[INITIAL_TRIE_SIZE];
+    private char[] trieValue = new char[INITIAL_TRIE_SIZE];
+
+    private GenerateNormalizationTables(Map<Character, char[]> table) {
+        int dataLength = 0;
+        for(char[] decomposed : table.values()) {
+            dataLength += 2 + decomposed.length;
+        }
+
+        decompositionData = new char[dataLength];
+        int i = 0;
+        for(Map.Entry<Character, char[]> e : table.entrySet()) {
+            decompositionData[i++] = e.getKey();
+            decompositionData[i++] = (char) e.getValue().length;
+            for(char c : e.getValue()) {
+                decompositionData[i++] = c;
+            }
+        }
+
+        decompositionOffsets = buildDecompositionTables();
+        trieCodes = buildTrieCodes();
+        buildCompositionTrie();
+    }
+
+    public static void main(String[] args) {
+        final GenerateNormalizationTables tables =
+                new GenerateNormalizationTables(UnicodeNormalizationToolkit.
+                getDefaultInstance().getDecompositionTable());
+        tables.print(System.out);
+    }
+
+    private void print(PrintStream out) {
+        /* Only the positions up to the last used state are needed, since
+         * transitions beyond the end of TRIE_CHECK are treated as missing. */
+        int trieSize = trieCheck.length;
+        while(trieSize > 1 && trieCheck[trieSize - 1] == 0) {
+            --trieSize;
+        }
+
+        out.println("    /*");
+        out.println("     * Generated by");
+        out.println("     * " + GenerateNormalizationTables.class.getName() +
+                ".");
+        out.println("     */");
+        printConstant(out, "DECOMPOSITION_BLOCKS", decompositionBlocks,
+                decompositionBlocks.length);
+        printConstant(out, "DECOMPOSITION_OFFSETS", decompositionOffsets,
+                decompositionOffsets.length);
+        printConstant(out, "TRIE_CODE_BLOCKS", trieCodeBlocks,
+                trieCodeBlocks.length);
+        printConstant(out, "TRIE_CODES", trieCodes, trieCodes.length);
+        printConstant(out, "TRIE_BASE", toChars(trieBase, trieSize),
+                trieSize);
+        printConstant(out, "TRIE_CHECK", toChars(trieCheck, trieSize),
+                trieSize);
+        printConstant(out, "TRIE_VALUE", trieValue, trieSize);
+        out.println("    /* End of generated tables. */");
+    }
+
+    private static char[] toChars(int[] values, int length) {
+        final char[] result = new char[length];
+        for(int i = 0; i < length; ++i) {
+            if(values[i] < 0 || values[i] > 0xFFFF) {
+                throw new RuntimeException("Trie value " + values[i] +
+                        " at position " + i + " doesn't fit in a char.");
+            }
+
+            result[i] = (char) values[i];
+        }
+
+        return result;
+    }
+
+    private static void printConstant(PrintStream out, String name,
+            char[] data, int length)
+    {
+        out.println();
+        out.print("    private static final String " + name + " =");
+        for(int i = 0; i < length; ++i) {
+            if(i % 8 == 0) {
+                out.println(i == 0 ? "" : "\" +");
+                out.print("            \"");
+            }
+
+            out.print(escape(data[i]));
+        }
+
+        out.println(length == 0 ? " \"\";" : "\";");
+    }
+
+    /**
+     * Returns the Java string literal escape sequence for <code>c</code>.
+     * Unicode escapes are translated before the source is parsed, so line
+     * terminators, quotes and backslashes need their own escape sequences.
+     */
+    private static String escape(char c) {
+        switch(c) {
+            case '\n':
+                return "\\n";
+            case '\r':
+                return "\\r";
+            case '"':
+                return "\\\"";
+            case '\\':
+                return "\\\\";
+            default:
+                return "\\u" + Util.toHexStringBE((short) c).toUpperCase();
+        }
+    }
+
+    /**
+     * Builds the two-level decomposition lookup from decompositionData,
+     * filling in decompositionBlocks.
+     *
+     * @return the second level of the lookup.
+     */
+    private char[] buildDecompositionTables() {
+        int blockCount = 1;
+        for(int i = 0; i < decompositionData.length;
+                i += 2 + decompositionData[i + 1])
+        {
+            final int highByte = decompositionData[i] >>> 8;
+            if(decompositionBlocks[highByte] == 0) {
+                decompositionBlocks[highByte] = (char) blockCount++;
+            }
+        }
+
+        final char[] offsets = new char[blockCount * 256];
+        for(int i = 0; i < decompositionData.length;
+                i += 2 + decompositionData[i + 1])
+        {
+            final char c = decompositionData[i];
+            offsets[(decompositionBlocks[c >>> 8] << 8) | (c & 0xFF)] =
+                    (char) (i + 1);
+        }
+
+        return offsets;
+    }
+
+    /**
+     * Assigns dense codes, starting at 1, to the characters occurring in
+     * decomposed sequences, filling in trieCodeBlocks. The characters that
+     * occur after the first position of a sequence (the combining marks) get
+     * the lowest codes, which keeps the children of the states below the root
+     * close together and the double array compact.
+     *
+     * @return the second level of the character to code mapping.
+     */
+    private char[] buildTrieCodes() {
+        final long[] following = new long[65536 / 64];
+        final long[] leading = new long[65536 / 64];
+        for(int i = 0; i < decompositionData.length;
+                i += 2 + decompositionData[i + 1])
+        {
+            final char first = decompositionData[i + 2];
+            leading[first >>> 6] |= 1L << (first & 63);
+            for(int j = 1; j < decompositionData[i + 1]; ++j) {
+                final char c = decompositionData[i + 2 + j];
+                following[c >>> 6] |= 1L << (c & 63);
+            }
+        }
+
+        int blockCount = 1;
+        for(int highByte = 0; highByte < 256; ++highByte) {
+            for(int i = highByte * 4; i < highByte * 4 + 4; ++i) {
+                if((following[i] | leading[i]) != 0) {
+                    trieCodeBlocks[highByte] = (char) blockCount++;
+                    break;
+                }
+            }
+        }
+
+        final char[] codes = new char[blockCount * 256];
+        int nextCode = assignTrieCodes(following, null, codes, 1);
+        assignTrieCodes(leading, following, codes, nextCode);
+
+        return codes;
+    }
+
+    /**
+     * Assigns consecutive codes to the characters in <code>set</code> that
+     * aren't in <code>excluded</code>, in character order.
+     *
+     * @return the next unassigned code.
+     */
+    private int assignTrieCodes(long[] set, long[] excluded, char[] codes,
+            int nextCode)
+    {
+        for(int i = 0; i < set.length; ++i) {
+            long word = set[i] & (excluded != null ? ~excluded[i] : -1L);
+            while(word != 0) {
+                final int c = (i << 6) | Long.numberOfTrailingZeros(word);
+                codes[(trieCodeBlocks[c >>> 8] << 8) | (c & 0xFF)] =
+                        (char) nextCode++;
+                word &= word - 1;
+            }
+        }
+
+        return nextCode;
+    }
+
+    private int getTrieCode(char c) {
+        return trieCodes[(trieCodeBlocks[c >>> 8] << 8) | (c & 0xFF)];
+    }
+
+    /** Builds the double-array composition trie from decompositionData. */
+    private void buildCompositionTrie() {
+        /* Sort the entries by their decomposed sequences, so that the
+         * sequences sharing a prefix form consecutive ranges with the prefix
+         * itself (if it's an entry) first. */
+        int entryCount = 0;
+        for(int i = 0; i < decompositionData.length;
+                i += 2 + decompositionData[i + 1])
+        {
+            ++entryCount;
+        }
+
+        final int[] entries = new int[entryCount];
+        for(int i = 0, j = 0; i < decompositionData.length;
+                i += 2 + decompositionData[i + 1])
+        {
+            entries[j++] = i;
+        }
+        sortBySequence(entries, new int[entryCount], 0, entryCount);
+
+        trieCheck[0] = -1; /* The root is never free. */
+        buildTrieState(0, 0, entries, 0, entryCount, new int[1]);
+        trieCheck[0] = 0;
+    }
+
+    /**
+     * Builds the subtrie for the entries in <code>entries[lo..hi)</code>,
+     * which all share the <code>depth</code> first characters of their
+     * decomposed sequences, with <code>state</code> as its root.
+     *
+     * @param nextFree <code>nextFree[0]</code> holds the position of the
+     * double array where the search for free positions starts.
+     */
+    private void buildTrieState(int state, int depth, int[] entries, int lo,
+            int hi, int[] nextFree)
+    {
+        if(lo < hi && decompositionData[entries[lo] + 1] == depth) {
+            trieValue[state] = decompositionData[entries[lo]];
+            ++lo;
+        }
+
+        if(lo == hi) {
+            return;
+        }
+
+        /* Collect the distinct codes of the next character. */
+        final int[] codes = new int[hi - lo];
+        int codeCount = 0;
+        for(int i = lo; i < hi; ++i) {
+            final int code =
+                    getTrieCode(decompositionData[entries[i] + 2 + depth]);
+            if(codeCount == 0 || codes[codeCount - 1] != code) {
+                codes[codeCount++] = code;
+            }
+        }
+
+        /* Find a base where all the child positions are free, trying only
+         * the bases that put the first child in a free position. */
+        while(trieCheck.length > nextFree[0] && trieCheck[nextFree[0]] != 0) {
+            ++nextFree[0];
+        }
+
+        final int firstPosition = Math.max(nextFree[0], codes[0]);
+        int occupiedPositions = 0;
+        int base;
+        for(int position = firstPosition; ; ++position) {
+            ensureTrieCapacity(position - codes[0] + codes[codeCount - 1] + 1);
+            if(trieCheck[position] != 0) {
+                ++occupiedPositions;
+                continue;
+            }
+
+            base = position - codes[0];
+            boolean free = true;
+            for(int i = 1; i < codeCount; ++i) {
+                if(trieCheck[base + codes[i]] != 0) {
+                    free = false;
+                    break;
+                }
+            }
+
+            if(free) {
+                /* If almost everything we passed was occupied, leave the
+                 * few holes behind rather than scanning past them for every
+                 * following state. */
+                if(occupiedPositions * 20 >=
+                        (position - firstPosition + 1) * 19)
+                {
+                    nextFree[0] = position;
+                }
+
+                break;
+            }
+        }
+
+        trieBase[state] = base;
+        for(int i = 0; i < codeCount; ++i) {
+            trieCheck[base + codes[i]] = state + 1;
+        }
+
+        /* Build the children, each from its range of entries. */
+        int rangeStart = lo;
+        for(int i = 0; i < codeCount; ++i) {
+            int rangeEnd = rangeStart;
+            while(rangeEnd < hi && getTrieCode(decompositionData[
+                    entries[rangeEnd] + 2 + depth]) == codes[i])
+            {
+                ++rangeEnd;
+            }
+
+            buildTrieState(base + codes[i], depth + 1, entries, rangeStart,
+                    rangeEnd, nextFree);
+            rangeStart = rangeEnd;
+        }
+    }
+
+    private void ensureTrieCapacity(int size) {
+        if(size <= trieCheck.length) {
+            return;
+        }
+
+        final int newSize = Math.max(size, trieCheck.length * 2);
+        trieBase = Util.arrayCopy(trieBase, new int[newSize]);
+        trieCheck = Util.arrayCopy(trieCheck, new int[newSize]);
+        trieValue = Util.arrayCopy(trieValue, new char[newSize]);
+    }
+
+    /**
+     * Merge sorts the entry offsets in <code>entries[lo..hi)</code> by their
+     * decomposed sequences, comparing trie codes one by one with shorter
+     * sequences sorting before longer ones that they're a prefix of.
+     */
+    private void sortBySequence(int[] entries, int[] tmp, int lo, int hi) {
+        if(hi - lo < 2) {
+            return;
+        }
+
+        final int mid = (lo + hi) >>> 1;
+        sortBySequence(entries, tmp, lo, mid);
+        sortBySequence(entries, tmp, mid, hi);
+
+        int a = lo;
+        int b = mid;
+        for(int k = lo; k < hi; ++k) {
+            if(b >= hi || (a < mid &&
+                    compareSequences(entries[a], entries[b]) <= 0))
+            {
+                tmp[k] = entries[a++];
+            }
+            else {
+                tmp[k] = entries[b++];
+            }
+        }
+
+        System.arraycopy(tmp, lo, entries, lo, hi - lo);
+    }
+
+    private int compareSequences(int entry1, int entry2) {
+        final int length1 = decompositionData[entry1 + 1];
+        final int length2 = decompositionData[entry2 + 1];
+        for(int i = 0; i < length1 && i < length2; ++i) {
+            final int c1 = getTrieCode(decompositionData[entry1 + 2 + i]);
+            final int c2 = getTrieCode(decompositionData[entry2 + 2 + i]);
+            if(c1 != c2) {
+                return c1 < c2 ? -1 : 1;
+            }
+        }
+
+        return length1 - length2;
+    }
+}
@@ -0,0 +1,146 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfsexplorer.tools;
+
+import org.catacombae.hfs.AllocationFile;
+import org.catacombae.hfs.FreeExtentIndex;
+import org.catacombae.hfs.HFSVolume;
+import org.catacombae.hfs.types.hfscommon.CommonHFSExtentDescriptor;
+import org.catacombae.io.ReadableFileStream;
+import org.catacombae.io.ReadableRandomAccessStream;
+import org.catacombae.storage.fs.FileSystemHandler;
+import org.catacombae.storage.fs.FileSystemHandlerFactory;
+import org.catacombae.storage.fs.FileSystemMajorType;
+import org.catacombae.storage.fs.hfscommon.HFSCommonFileSystemHandler;
+import org.catacombae.storage.fs.hfscommon.HFSCommonFileSystemRecognizer;
+import org.catacombae.storage.io.ReadableStreamDataLocator;
+import org.catacombae.storage.io.win32.ReadableWin32FileStream;
+
+/**
+ * Prints the free space statistics of an HFS/HFS+/HFSX volume, and optionally
+ * where files of given sizes would be placed on it.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class FreeSpaceReport {
+    public static void main(String[] args) {
+        if(args.length < 1) {
+            System.err.println("usage: FreeSpaceReport <device|file> " +
+                    "[<size in bytes>...]");
+            System.err.println();
+            System.err.println("    Prints the number of free blocks and " +
+                    "free extents of an HFS/HFS+/HFSX");
+            System.err.println("    volume, and a histogram of the lengths " +
+                    "of the free extents.");
+            System.err.println("    For each size supplied, the extents " +
+                    "that an allocation of that size");
+            System.err.println("    would be placed in are also printed.");
+            System.exit(1);
+            return;
+        }
+
+        final String fsPath = args[0];
+        final long[] sizes = new long[args.length - 1];
+        for(int i = 0; i < sizes.length; ++i) {
+            try {
+                sizes[i] = Long.parseLong(args[i + 1]);
+            } catch(NumberFormatException e) {
+                sizes[i] = -1;
+            }
+
+            if(sizes[i] < 0) {
+                System.err.println("Invalid size: \"" + args[i + 1] + "\"");
+                System.exit(1);
+                return;
+            }
+        }
+
+        final ReadableRandomAccessStream fsStream =
+                ReadableWin32FileStream.isSystemSupported() ?
+                    new ReadableWin32FileStream(fsPath) :
+                    new ReadableFileStream(fsPath);
+
+        final FileSystemHandlerFactory fsHandlerFactory;
+        switch(HFSCommonFileSystemRecognizer.detectFileSystem(fsStream, 0)) {
+            case HFS:
+                fsHandlerFactory =
+                        FileSystemMajorType.APPLE_HFS.
+                        createDefaultHandlerFactory();
+                break;
+            case HFS_WRAPPED_HFS_PLUS:
+            case HFS_PLUS:
+                fsHandlerFactory =
+                        FileSystemMajorType.APPLE_HFS_PLUS.
+                        createDefaultHandlerFactory();
+                break;
+            case HFSX:
+                fsHandlerFactory =
+                        FileSystemMajorType.APPLE_HFSX.
+                        createDefaultHandlerFactory();
+                break;
+            default:
+                System.err.println("No HFS/HFS+/HFSX filesystem detected.");
+                System.exit(1);
+                return;
+        }
+
+        final FileSystemHandler fsHandlerGeneric =
+                fsHandlerFactory.createHandler(
+                new ReadableStreamDataLocator(fsStream));
+        if(!(fsHandlerGeneric instanceof HFSCommonFileSystemHandler)) {
+            System.err.println("Unexpected: File system handler object is " +
+                    "not of HFSCommonFileSystemHandler class (class: " +
+                    fsHandlerGeneric.getClass() + ").");
+            System.exit(1);
+            return;
+        }
+
+        final HFSVolume volume =
+                ((HFSCommonFileSystemHandler) fsHandlerGeneric).getFSView();
+        final AllocationFile allocationFile = volume.getAllocationFile();
+        final long blockSize =
+                volume.getVolumeHeader().getAllocationBlockSize();
+
+        final FreeExtentIndex index =
+                allocationFile.buildFreeExtentIndex(null);
+        index.printReport(System.out, "", blockSize);
+
+        for(long size : sizes) {
+            System.out.println();
+
+            final CommonHFSExtentDescriptor[] extents =
+                    allocationFile.findFreeSpace(index, size);
+            if(extents == null) {
+                System.out.println("Allocation of " + size + " bytes: Not " +
+                        "enough free space.");
+                continue;
+            }
+
+            System.out.println("Allocation of " + size + " bytes: " +
+                    extents.length + " extent" +
+                    (extents.length != 1 ? "s" : ""));
+            for(CommonHFSExtentDescriptor extent : extents) {
+                System.out.println("  " + extent.getStartBlock() + "-" +
+                        (extent.getStartBlock() + extent.getBlockCount() - 1) +
+                        " (" + extent.getBlockCount() + " blocks)");
+            }
+        }
+
+        fsHandlerGeneric.close();
+    }
+}
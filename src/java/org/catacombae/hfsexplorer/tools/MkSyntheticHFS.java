@@ -0,0 +1,192 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfsexplorer.tools;
+
+import java.io.File;
+import java.io.IOException;
+import org.catacombae.hfs.generator.SyntheticVolumeGenerator;
+
+/**
+ * Command line tool for creating synthetic HFS+/HFSX volume images with
+ * {@link SyntheticVolumeGenerator}, for testing and load testing.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class MkSyntheticHFS {
+    private static void printUsage() {
+        System.err.println("usage: mksynthetichfs [options] <image file>");
+        System.err.println("  options:");
+        System.err.println("    --files <count>            Number of files.");
+        System.err.println("    --folders <count>          Number of " +
+                "folders.");
+        System.err.println("    --fanout <count>           Maximum " +
+                "subfolders per folder.");
+        System.err.println("    --depth <levels>           Depth of the " +
+                "folder hierarchy (overrides");
+        System.err.println("                               --fanout).");
+        System.err.println("    --file-size <bytes>        Size of each " +
+                "file.");
+        System.err.println("    --compressed <count>       Number of decmpfs " +
+                "compressed files.");
+        System.err.println("    --fragmented <count>       Number of " +
+                "fragmented files.");
+        System.err.println("    --extents-per-file <count> Extents per " +
+                "fragmented file.");
+        System.err.println("    --hard-links <count>       Number of hard " +
+                "links.");
+        System.err.println("    --links-per-inode <count>  Hard links per " +
+                "inode.");
+        System.err.println("    --xattr-files <count>      Number of files " +
+                "with extended attributes.");
+        System.err.println("    --xattrs-per-file <count>  Extended " +
+                "attributes per file.");
+        System.err.println("    --xattr-size <bytes>       Size of each " +
+                "extended attribute.");
+        System.err.println("    --free-blocks <count>      Number of free " +
+                "blocks at the end.");
+        System.err.println("    --block-size <bytes>       Allocation block " +
+                "size.");
+        System.err.println("    --hfsx                     Create an HFSX " +
+                "volume.");
+        System.err.println("    --case-sensitive           Case sensitive " +
+                "names (HFSX only).");
+        System.err.println("    --volume-name <name>       Volume name.");
+        System.err.println("    --seed <number>            Seed for the file " +
+                "contents.");
+    }
+
+    private static boolean parseOptions(String[] args,
+            SyntheticVolumeGenerator generator)
+    {
+        for(int i = 0; i < args.length - 1; ++i) {
+            final String curArg = args[i];
+            if(curArg.equals("--hfsx")) {
+                generator.setHFSX(true);
+                continue;
+            }
+            else if(curArg.equals("--case-sensitive")) {
+                generator.setCaseSensitive(true);
+                continue;
+            }
+
+            if(i + 1 == args.length - 1) {
+                System.err.println("Error: Missing value for \"" + curArg +
+                        "\".");
+                return false;
+            }
+
+            final String value = args[++i];
+            try {
+                if(curArg.equals("--files")) {
+                    generator.setFileCount(Integer.parseInt(value));
+                }
+                else if(curArg.equals("--folders")) {
+                    generator.setFolderCount(Integer.parseInt(value));
+                }
+                else if(curArg.equals("--fanout")) {
+                    generator.setFolderFanout(Integer.parseInt(value));
+                }
+                else if(curArg.equals("--depth")) {
+                    generator.setFolderDepth(Integer.parseInt(value));
+                }
+                else if(curArg.equals("--file-size")) {
+                    generator.setFileSize(Long.parseLong(value));
+                }
+                else if(curArg.equals("--compressed")) {
+                    generator.setCompressedFileCount(Integer.parseInt(value));
+                }
+                else if(curArg.equals("--fragmented")) {
+                    generator.setFragmentedFileCount(Integer.parseInt(value));
+                }
+                else if(curArg.equals("--extents-per-file")) {
+                    generator.setExtentsPerFragmentedFile(
+                            Integer.parseInt(value));
+                }
+                else if(curArg.equals("--hard-links")) {
+                    generator.setHardLinkCount(Integer.parseInt(value));
+                }
+                else if(curArg.equals("--links-per-inode")) {
+                    generator.setLinksPerInode(Integer.parseInt(value));
+                }
+                else if(curArg.equals("--xattr-files")) {
+                    generator.setXattrFileCount(Integer.parseInt(value));
+                }
+                else if(curArg.equals("--xattrs-per-file")) {
+                    generator.setXattrsPerFile(Integer.parseInt(value));
+                }
+                else if(curArg.equals("--xattr-size")) {
+                    generator.setXattrSize(Integer.parseInt(value));
+                }
+                else if(curArg.equals("--free-blocks")) {
+                    generator.setFreeBlockCount(Long.parseLong(value));
+                }
+                else if(curArg.equals("--block-size")) {
+                    generator.setBlockSize(Integer.parseInt(value));
+                }
+                else if(curArg.equals("--volume-name")) {
+                    generator.setVolumeName(value);
+                }
+                else if(curArg.equals("--seed")) {
+                    generator.setSeed(Long.parseLong(value));
+                }
+                else {
+                    System.err.println("Unrecognized argument: \"" + curArg +
+                            "\"");
+                    return false;
+                }
+            } catch(IllegalArgumentException e) {
+                /* Includes NumberFormatException. */
+                System.err.println("Error: Invalid value for \"" + curArg +
+                        "\": \"" + value + "\"");
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public static void main(String[] args) {
+        final SyntheticVolumeGenerator generator =
+                new SyntheticVolumeGenerator();
+        if(args.length == 0 || args[args.length - 1].startsWith("--") ||
+                !parseOptions(args, generator))
+        {
+            printUsage();
+            System.exit(1);
+            return;
+        }
+
+        final File imageFile = new File(args[args.length - 1]);
+        final long startTime = System.currentTimeMillis();
+        try {
+            generator.generate(imageFile);
+        } catch(IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+            return;
+        } catch(IOException e) {
+            e.printStackTrace();
+            System.exit(1);
+            return;
+        }
+
+        System.err.println("Created \"" + imageFile + "\" (" +
+                imageFile.length() + " bytes) in " +
+                (System.currentTimeMillis() - startTime) + " ms.");
+    }
+}
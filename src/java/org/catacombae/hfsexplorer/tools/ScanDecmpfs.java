@@ -17,20 +17,10 @@
 
 package org.catacombae.hfsexplorer.tools;
 
-import java.util.LinkedList;
-import java.util.List;
-import java.util.ListIterator;
 import org.catacombae.hfs.AttributesFile;
+import org.catacombae.hfs.AttributesLeafCursor;
 import org.catacombae.hfs.types.decmpfs.DecmpfsHeader;
-import org.catacombae.hfs.types.hfscommon.CommonBTIndexRecord;
-import org.catacombae.hfs.types.hfscommon.CommonBTNode;
-import org.catacombae.hfs.types.hfscommon.CommonHFSAttributesIndexNode;
-import org.catacombae.hfs.types.hfscommon.CommonHFSAttributesKey;
-import org.catacombae.hfs.types.hfscommon.CommonHFSAttributesLeafNode;
-import org.catacombae.hfs.types.hfscommon.CommonHFSAttributesLeafRecord;
 import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogLeafRecord;
-import org.catacombae.hfs.types.hfsplus.HFSPlusAttributesData;
-import org.catacombae.hfs.types.hfsplus.HFSPlusAttributesLeafRecordData;
 import org.catacombae.io.ReadableFileStream;
 import org.catacombae.io.ReadableRandomAccessStream;
 import org.catacombae.storage.fs.FileSystemHandler;
@@ -112,131 +102,92 @@ public class ScanDecmpfs {
         final AttributesFile attributesFile =
                 fsHandler.getFSView().getAttributesFile();
 
-        LinkedList<Long> nodeQueue = new LinkedList<Long>();
-        nodeQueue.addLast(attributesFile.getRootNodeNumber());
+        final AttributesLeafCursor cursor = attributesFile.leafCursor();
 
-        /* Depth-first search for "com.apple.decmpfs" attribute records. */
-        while(!nodeQueue.isEmpty()) {
-            long curNodeNumber = nodeQueue.removeFirst();
-            CommonBTNode curNode = attributesFile.getNode(curNodeNumber);
-
-            if(curNode instanceof CommonHFSAttributesIndexNode) {
-                CommonHFSAttributesIndexNode indexNode =
-                        (CommonHFSAttributesIndexNode) curNode;
-
-                List<CommonBTIndexRecord<CommonHFSAttributesKey>> records =
-                        indexNode.getBTKeyedRecords();
-                ListIterator<CommonBTIndexRecord<CommonHFSAttributesKey>> it =
-                        records.listIterator(records.size());
+        /* Scan the leaf records in key order for "com.apple.decmpfs"
+         * attribute records. */
+        while(cursor.next()) {
+            if(!cursor.nameEquals("com.apple.decmpfs")) {
+                continue;
+            }
 
-                /* For the search to be depth first, add elements in reverse
-                 * order. */
-                while(it.hasPrevious()) {
-                    nodeQueue.addFirst(it.previous().getIndex());
-                }
+            final long fileID = cursor.getFileID();
+            if(cursor.getStartBlock() != 0) {
+                System.err.println("[WARNING] " + fileID + " has " +
+                        "com.apple.decmpfs attribute with non-0 start block " +
+                        "(" + cursor.getStartBlock() + "). Skipping...");
+                continue;
+            }
+            else if(!cursor.isInlineData()) {
+                System.err.println("[WARNING] " + fileID + " has " +
+                        "com.apple.decmpfs attribute without inline data (" +
+                        cursor.getRecord().getRecordData().
+                        getRecordTypeAsString() + "). Skipping...");
+                continue;
             }
-            else if(curNode instanceof CommonHFSAttributesLeafNode) {
-                final CommonHFSAttributesLeafNode leafNode =
-                        (CommonHFSAttributesLeafNode) curNode;
-                for(CommonHFSAttributesLeafRecord rec :
-                        leafNode.getLeafRecords())
-                {
-                    final CommonHFSAttributesKey k = rec.getKey();
-                    if(!new String(k.getAttrName(), 0, k.getAttrNameLen()).
-                            equals("com.apple.decmpfs"))
-                    {
-                        continue;
-                    }
-                    else if(k.getStartBlock() != 0) {
-                        System.err.println("[WARNING] " +
-                                k.getFileID().toLong() + " has " +
-                                "com.apple.decmpfs attribute with non-0 " +
-                                "start block (" + k.getStartBlock() + "). " +
-                                "Skipping...");
-                        continue;
-                    }
 
-                    final HFSPlusAttributesLeafRecordData data =
-                            rec.getRecordData();
-                    if(!(data instanceof HFSPlusAttributesData)) {
-                        System.err.println("[WARNING] " +
-                                k.getFileID().toLong() + " has " +
-                                "com.apple.decmpfs attribute without inline " +
-                                "data (" + data.getRecordTypeAsString() +
-                                "). Skipping...");
-                        continue;
-                    }
+            final DecmpfsHeader header = new DecmpfsHeader(
+                    cursor.getNodeData(), cursor.getInlineDataOffset());
+            if(header.getMagic() != DecmpfsHeader.MAGIC) {
+                System.err.println("[WARNING] " + fileID + " has " +
+                        "com.apple.decmpfs attribute with mismatching magic " +
+                        "(expected: 0x" +
+                        Util.toHexStringBE((int) DecmpfsHeader.MAGIC) +
+                        ", actual: 0x" +
+                        Util.toHexStringBE(header.getRawMagic()) +
+                        "). Skipping...");
+                continue;
+            }
 
-                    final DecmpfsHeader header =
-                            new DecmpfsHeader(
-                            ((HFSPlusAttributesData) data).getAttrData(), 0);
-                    if(header.getMagic() != DecmpfsHeader.MAGIC) {
-                        System.err.println("[WARNING] " +
-                                k.getFileID().toLong() + " has " +
-                                "com.apple.decmpfs attribute with " +
-                                "mismatching magic (expected: 0x" +
-                                Util.toHexStringBE((int) DecmpfsHeader.MAGIC) +
-                                ", actual: 0x" +
-                                Util.toHexStringBE(header.getRawMagic()) +
-                                "). Skipping...");
-                        continue;
-                    }
+            final StringBuilder pathBuilder;
+            if(verbose) {
+                pathBuilder = new StringBuilder();
 
-                    final StringBuilder pathBuilder;
-                    if(verbose) {
-                        pathBuilder = new StringBuilder();
-
-                        boolean firstComponent = true;
-                        for(CommonHFSCatalogLeafRecord pathComponent :
-                                fsHandler.getFSView().getCatalogFile().
-                                getPathTo(k.getFileID()))
-                        {
-                            /* Skip name of root directory. */
-                            if(!firstComponent) {
-                                final char[] nodeName =
-                                        fsHandler.getFSView().decodeString(
-                                        pathComponent.getKey().getNodeName()).
-                                        toCharArray();
-
-                                for(int i = 0; i < nodeName.length; ++i) {
-                                    /* '/' transformed into ':' and vice versa.
-                                     * This is part of the POSIX-translation of
-                                     * filenames in HFS+ (original Mac OS had
-                                     * ':' as a reserved character, while '/' is
-                                     * reserved in Mac OS X/POSIX). */
-                                    if(nodeName[i] == '/') {
-                                        nodeName[i] = ':';
-                                    }
-                                    else if(nodeName[i] == ':') {
-                                        /* Note: This should really be
-                                         *       considered an illegal HFS+
-                                         *       character. */
-                                        nodeName[i] = '/';
-                                    }
-                                }
-
-                                pathBuilder.append('/').append(nodeName);
+                boolean firstComponent = true;
+                for(CommonHFSCatalogLeafRecord pathComponent :
+                        fsHandler.getFSView().getCatalogFile().
+                        getPathTo(cursor.getKey().getFileID()))
+                {
+                    /* Skip name of root directory. */
+                    if(!firstComponent) {
+                        final char[] nodeName =
+                                fsHandler.getFSView().decodeString(
+                                pathComponent.getKey().getNodeName()).
+                                toCharArray();
+
+                        for(int i = 0; i < nodeName.length; ++i) {
+                            /* '/' transformed into ':' and vice versa.
+                             * This is part of the POSIX-translation of
+                             * filenames in HFS+ (original Mac OS had
+                             * ':' as a reserved character, while '/' is
+                             * reserved in Mac OS X/POSIX). */
+                            if(nodeName[i] == '/') {
+                                nodeName[i] = ':';
                             }
-                            else {
-                                firstComponent = false;
+                            else if(nodeName[i] == ':') {
+                                /* Note: This should really be
+                                 *       considered an illegal HFS+
+                                 *       character. */
+                                nodeName[i] = '/';
                             }
                         }
+
+                        pathBuilder.append('/').append(nodeName);
                     }
                     else {
-                        pathBuilder = null;
+                        firstComponent = false;
                     }
-
-                    System.out.println("CNID: " + k.getFileID().toLong() + " " +
-                            "Type: " + header.getCompressionType() + " " +
-                            "Size: " + header.getFileSize() +
-                            (pathBuilder != null ? " Path: " +
-                            pathBuilder.toString() : ""));
                 }
             }
             else {
-                System.err.println("[WARNING] Unexpected attributes B-tree " +
-                        "node type: " + curNode.getClass());
+                pathBuilder = null;
             }
+
+            System.out.println("CNID: " + fileID + " " +
+                    "Type: " + header.getCompressionType() + " " +
+                    "Size: " + header.getFileSize() +
+                    (pathBuilder != null ? " Path: " +
+                    pathBuilder.toString() : ""));
         }
 
         fsHandler.close();
@@ -0,0 +1,212 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.hfsexplorer.tools;
+
+import org.catacombae.hfs.CatalogFile;
+import org.catacombae.hfs.HFSVolume;
+import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogFolderRecord;
+import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogLeafRecord;
+import org.catacombae.io.ReadableFileStream;
+import org.catacombae.io.ReadableRandomAccessStream;
+import org.catacombae.storage.fs.FileSystemHandler;
+import org.catacombae.storage.fs.FileSystemHandlerFactory;
+import org.catacombae.storage.fs.FileSystemMajorType;
+import org.catacombae.storage.fs.hfscommon.HFSCommonFileSystemHandler;
+import org.catacombae.storage.fs.hfscommon.HFSCommonFileSystemRecognizer;
+import org.catacombae.storage.io.ReadableStreamDataLocator;
+import org.catacombae.storage.io.win32.ReadableWin32FileStream;
+
+/**
+ * Prints the combined data and resource fork sizes of a tree of an
+ * HFS/HFS+/HFSX volume, calculated with a parallel scan of the catalog file.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class TreeSize {
+    private static void printUsage() {
+        System.err.println("usage: TreeSize [-threads <count>] [-verify] " +
+                "<device|file> [<path>]");
+        System.err.println();
+        System.err.println("    Prints the combined size of the data forks " +
+                "and of the resource forks of");
+        System.err.println("    all files in the tree rooted at <path> " +
+                "(default: the root folder), using a");
+        System.err.println("    parallel scan of the catalog file with " +
+                "<count> threads (default: the number");
+        System.err.println("    of processors).");
+        System.err.println("    <path> is a '/'-separated path of on-disk " +
+                "names.");
+        System.err.println("    If '-verify' is supplied, the sizes are " +
+                "also calculated by listing one folder");
+        System.err.println("    at a time, and the program exits with " +
+                "status 2 if the results differ.");
+    }
+
+    public static void main(String[] args) {
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        boolean verify = false;
+
+        int i = 0;
+        for(; i < args.length; ++i) {
+            if(args[i].equals("-threads") && i + 1 < args.length) {
+                try {
+                    threadCount = Integer.parseInt(args[++i]);
+                } catch(NumberFormatException e) {
+                    threadCount = 0;
+                }
+
+                if(threadCount < 1) {
+                    System.err.println("Invalid thread count: \"" + args[i] +
+                            "\"");
+                    System.exit(1);
+                    return;
+                }
+            }
+            else if(args[i].equals("-verify")) {
+                verify = true;
+            }
+            else {
+                break;
+            }
+        }
+
+        if(args.length - i < 1 || args.length - i > 2) {
+            printUsage();
+            System.exit(1);
+            return;
+        }
+
+        final String fsPath = args[i];
+        final String treePath = args.length - i == 2 ? args[i + 1] : "";
+
+        final ReadableRandomAccessStream fsStream =
+                ReadableWin32FileStream.isSystemSupported() ?
+                    new ReadableWin32FileStream(fsPath) :
+                    new ReadableFileStream(fsPath);
+
+        final FileSystemHandlerFactory fsHandlerFactory;
+        switch(HFSCommonFileSystemRecognizer.detectFileSystem(fsStream, 0)) {
+            case HFS:
+                fsHandlerFactory =
+                        FileSystemMajorType.APPLE_HFS.
+                        createDefaultHandlerFactory();
+                break;
+            case HFS_WRAPPED_HFS_PLUS:
+            case HFS_PLUS:
+                fsHandlerFactory =
+                        FileSystemMajorType.APPLE_HFS_PLUS.
+                        createDefaultHandlerFactory();
+                break;
+            case HFSX:
+                fsHandlerFactory =
+                        FileSystemMajorType.APPLE_HFSX.
+                        createDefaultHandlerFactory();
+                break;
+            default:
+                System.err.println("No HFS/HFS+/HFSX filesystem detected.");
+                System.exit(1);
+                return;
+        }
+
+        final FileSystemHandler fsHandlerGeneric =
+                fsHandlerFactory.createHandler(
+                new ReadableStreamDataLocator(fsStream));
+        if(!(fsHandlerGeneric instanceof HFSCommonFileSystemHandler)) {
+            System.err.println("Unexpected: File system handler object is " +
+                    "not of HFSCommonFileSystemHandler class (class: " +
+                    fsHandlerGeneric.getClass() + ").");
+            System.exit(1);
+            return;
+        }
+
+        final HFSVolume volume =
+                ((HFSCommonFileSystemHandler) fsHandlerGeneric).getFSView();
+
+        final CommonHFSCatalogLeafRecord root = lookupPath(volume, treePath);
+        if(root == null) {
+            System.err.println("Path not found: \"" + treePath + "\"");
+            fsHandlerGeneric.close();
+            System.exit(1);
+            return;
+        }
+
+        final long startTime = System.currentTimeMillis();
+        final long[] forkSizes =
+                volume.calculateForkSizesParallel(root, threadCount);
+        final long dataSize = forkSizes[0];
+        final long resourceSize = forkSizes[1];
+        final long scanTime = System.currentTimeMillis() - startTime;
+
+        System.out.println("Data forks:     " + dataSize + " bytes");
+        System.out.println("Resource forks: " + resourceSize + " bytes");
+        System.out.println("Calculated with " + threadCount + " thread" +
+                (threadCount != 1 ? "s" : "") + " in " + scanTime + " ms.");
+
+        boolean mismatch = false;
+        if(verify) {
+            final long verifyStartTime = System.currentTimeMillis();
+            final long verifyDataSize =
+                    volume.calculateForkSizeRecursive(root, false);
+            final long verifyResourceSize =
+                    volume.calculateForkSizeRecursive(root, true);
+            final long verifyTime =
+                    System.currentTimeMillis() - verifyStartTime;
+
+            mismatch = verifyDataSize != dataSize ||
+                    verifyResourceSize != resourceSize;
+            System.out.println("Folder by folder: " + verifyDataSize + " / " +
+                    verifyResourceSize + " bytes in " + verifyTime + " ms (" +
+                    (mismatch ? "MISMATCH" : "match") + ").");
+        }
+
+        fsHandlerGeneric.close();
+
+        if(mismatch) {
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Looks up the record of the '/'-separated path <code>path</code> of
+     * on-disk names, starting at the root folder of <code>volume</code>.
+     *
+     * @return the record, or <code>null</code> if the path doesn't exist.
+     */
+    private static CommonHFSCatalogLeafRecord lookupPath(HFSVolume volume,
+            String path)
+    {
+        final CatalogFile catalogFile = volume.getCatalogFile();
+        CommonHFSCatalogLeafRecord rec = catalogFile.getRootFolder();
+        for(String name : path.split("/")) {
+            if(name.length() == 0) {
+                continue;
+            }
+            else if(!(rec instanceof CommonHFSCatalogFolderRecord)) {
+                return null;
+            }
+
+            rec = catalogFile.getRecord(((CommonHFSCatalogFolderRecord) rec).
+                    getData().getFolderID(), volume.encodeString(name));
+            if(rec == null) {
+                return null;
+            }
+        }
+
+        return rec;
+    }
+}
@@ -27,6 +27,9 @@ import java.io.PrintStream;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.LinkedList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.catacombae.dmg.encrypted.ReadableCEncryptedEncodingStream;
 import org.catacombae.dmg.sparsebundle.ReadableSparseBundleStream;
 import org.catacombae.dmg.sparseimage.ReadableSparseImageStream;
@@ -45,6 +48,8 @@ import org.catacombae.io.ReadableFileStream;
 import org.catacombae.io.ReadableRandomAccessStream;
 import org.catacombae.io.RuntimeIOException;
 import org.catacombae.storage.io.DataLocator;
+import org.catacombae.storage.io.FileChannelDataLocator;
+import org.catacombae.storage.io.ReadableFileChannelStream;
 import org.catacombae.storage.io.ReadableStreamDataLocator;
 import org.catacombae.storage.io.SubDataLocator;
 import org.catacombae.storage.fs.FSEntry;
@@ -58,6 +63,8 @@ import org.catacombae.storage.fs.FileSystemHandler;
 import org.catacombae.storage.fs.FileSystemHandlerFactory;
 import org.catacombae.storage.fs.FileSystemHandlerFactory.CustomAttribute;
 import org.catacombae.storage.fs.FileSystemMajorType;
+import org.catacombae.storage.fs.hfscommon.HFSCommonFSFork;
+import org.catacombae.storage.fs.hfsplus.HFSPlusCompressedDataFork;
 import org.catacombae.storage.ps.Partition;
 import org.catacombae.storage.ps.PartitionSystemDetector;
 import org.catacombae.storage.ps.PartitionSystemHandler;
@@ -124,6 +131,16 @@ public class UnHFS {
         ps.println("    -password <password>");
         ps.println("      Specifies the password for an encrypted image. The special marker \"-\" ");
         ps.println("      causes the password to be read from stdin.");
+        ps.println("    -fileaccess STANDARD|CHANNEL|MMAP");
+        ps.println("      Determines how the input file is accessed, if it's a regular file.");
+        ps.println("      CHANNEL uses positional reads, which can be served concurrently, and");
+        ps.println("      MMAP maps the file into memory in windows of 64 MiB.");
+        ps.println("      When this option is omitted, the input file is accessed in the");
+        ps.println("      STANDARD way.");
+        ps.println("    -threads <thread count>");
+        ps.println("      Extracts files using the specified number of threads. The file system");
+        ps.println("      tree is walked by one thread while the others copy the file data.");
+        ps.println("      When this option is omitted, all work is done in a single thread.");
         ps.println("    -sfm-substitutions");
         ps.println("      Translates the filenames to a format that is more compatible with Windows");
         ps.println("      filesystems, using the translation scheme that was used by the now defunct");
@@ -149,7 +166,10 @@ public class UnHFS {
         boolean extractResourceForks = false;
         boolean verbose = false;
         boolean sfmSubstitutions = false;
+        boolean useFileChannel = false;
+        boolean memoryMapped = false;
         int partitionNumber = -1; // -1 means search for first supported partition
+        int threadCount = 1;
         char[] password = null;
 
         int i;
@@ -273,6 +293,53 @@ public class UnHFS {
                     System.exit(1);
                 }
             }
+            else if(curArg.equals("-fileaccess")) {
+                if(i+1 < args.length) {
+                    String value = args[++i];
+                    if(value.equalsIgnoreCase("STANDARD")) {
+                        useFileChannel = false;
+                        memoryMapped = false;
+                    }
+                    else if(value.equalsIgnoreCase("CHANNEL")) {
+                        useFileChannel = true;
+                        memoryMapped = false;
+                    }
+                    else if(value.equalsIgnoreCase("MMAP")) {
+                        useFileChannel = true;
+                        memoryMapped = true;
+                    }
+                    else {
+                        System.err.println("Error: Invalid value \"" + value +
+                                "\" for -fileaccess!");
+                        printUsage(System.err);
+                        System.exit(1);
+                    }
+                }
+                else {
+                    printUsage(System.err);
+                    System.exit(1);
+                }
+            }
+            else if(curArg.equals("-threads")) {
+                if(i+1 < args.length) {
+                    try {
+                        threadCount = Integer.parseInt(args[++i]);
+                    } catch(NumberFormatException nfe) {
+                        threadCount = 0;
+                    }
+
+                    if(threadCount < 1) {
+                        System.err.println("Error: Invalid thread count \"" +
+                                args[i] + "\"!");
+                        printUsage(System.err);
+                        System.exit(1);
+                    }
+                }
+                else {
+                    printUsage(System.err);
+                    System.exit(1);
+                }
+            }
             else if(curArg.equals("-sfm-substitutions")) {
                 sfmSubstitutions = true;
             }
@@ -313,6 +380,9 @@ public class UnHFS {
         if(inputFile.isDirectory()) {
             inputStream = new ReadableSparseBundleStream(inputFile);
         }
+        else if(useFileChannel && inputFile.isFile()) {
+            inputStream = new ReadableFileChannelStream(inputFile, memoryMapped);
+        }
         else if(ReadableWin32FileStream.isSystemSupported())
             inputStream = new ReadableWin32FileStream(inputFilename);
         else
@@ -321,7 +391,7 @@ public class UnHFS {
         try {
             unhfs(System.out, inputStream, outputDir, fsRoot, password,
                     extractFolderDirectly, extractResourceForks,
-                    partitionNumber, verbose, sfmSubstitutions);
+                    partitionNumber, verbose, sfmSubstitutions, threadCount);
             System.exit(0);
         } catch(RuntimeIOException e) {
             System.err.println("Exception while executing main routine:");
@@ -353,6 +423,37 @@ public class UnHFS {
             boolean extractResourceForks, int partitionNumber, boolean verbose,
             boolean sfmSubstitutions)
             throws RuntimeIOException {
+        unhfs(outputStream, inFileStream, outputDir, fsRoot, password,
+                extractFolderDirectly, extractResourceForks, partitionNumber,
+                verbose, sfmSubstitutions, 1);
+    }
+
+    /**
+     * The main routine in the program, which gets invoked after arguments
+     * parsing is complete. The routine expects all arguments to be fully parsed
+     * and valid.
+     *
+     * @param outputStream the PrintStream where all the messages will go
+     * (should normally be System.out).
+     * @param inFileStream the stream containing the file system data.
+     * @param outputDir
+     * @param fsRoot
+     * @param password the password used to unlock an encrypted image.
+     * @param extractFolderDirectly if fsRoot is a folder, extract directly into outputDir?
+     * @param extractResourceForks
+     * @param partitionNumber
+     * @param verbose
+     * @param threadCount the number of threads to extract files with. If more
+     * than 1, the file system tree is walked by the calling thread while the
+     * file data is copied by <code>threadCount</code> worker threads.
+     * @throws org.catacombae.io.RuntimeIOException
+     */
+    public static void unhfs(PrintStream outputStream,
+            ReadableRandomAccessStream inFileStream, File outputDir,
+            String fsRoot, char[] password, boolean extractFolderDirectly,
+            boolean extractResourceForks, int partitionNumber, boolean verbose,
+            boolean sfmSubstitutions, int threadCount)
+            throws RuntimeIOException {
 
         // First detect any outer layers of UDIF and/or encryption.
         logDebug("Trying to detect encrypted structure...");
@@ -401,7 +502,19 @@ public class UnHFS {
             }
         }
 
-        DataLocator inputDataLocator = new ReadableStreamDataLocator(inFileStream);
+        DataLocator inputDataLocator;
+        if(inFileStream instanceof ReadableFileChannelStream) {
+            /* No filter streams were needed, so we can let the file system
+             * read directly from the file. */
+            ReadableFileChannelStream channelStream =
+                    (ReadableFileChannelStream) inFileStream;
+            inputDataLocator = new FileChannelDataLocator(
+                    channelStream.getFile(), channelStream.getOffset(),
+                    channelStream.length(), channelStream.isMemoryMapped());
+        }
+        else {
+            inputDataLocator = new ReadableStreamDataLocator(inFileStream);
+        }
 
         PartitionSystemType[] psTypes =
                 PartitionSystemDetector.detectPartitionSystem(inputDataLocator,
@@ -453,12 +566,12 @@ public class UnHFS {
                             //     }
                             // }
                             inputDataLocator =
-                                    new SubDataLocator(inputDataLocator, p.getStartOffset(), p.getLength());
+                                    createSubDataLocator(inputDataLocator, p.getStartOffset(), p.getLength());
                             break outer;
                         }
                         else if(p.getType() == PartitionType.APPLE_HFSX) {
                             inputDataLocator =
-                                    new SubDataLocator(inputDataLocator, p.getStartOffset(), p.getLength());
+                                    createSubDataLocator(inputDataLocator, p.getStartOffset(), p.getLength());
                             break outer;
                         }
                     }
@@ -526,7 +639,27 @@ public class UnHFS {
                 dirForFolder = getFileForFolder(outputDir, folder, verbose);
             }
             if(dirForFolder != null) {
-                extractFolder(folder, dirForFolder, extractResourceForks, verbose);
+                if(threadCount > 1) {
+                    final ParallelExtractor extractor =
+                            new ParallelExtractor(threadCount);
+                    boolean extracted = false;
+                    try {
+                        extractFolder(folder, dirForFolder,
+                                extractResourceForks, verbose, extractor);
+                        extracted = true;
+                    } finally {
+                        if(extracted) {
+                            extractor.finish();
+                        }
+                        else {
+                            extractor.abort();
+                        }
+                    }
+                }
+                else {
+                    extractFolder(folder, dirForFolder, extractResourceForks,
+                            verbose, null);
+                }
             }
         }
         else if(entry instanceof FSFile) {
@@ -539,6 +672,18 @@ public class UnHFS {
         }
     }
 
+    private static DataLocator createSubDataLocator(DataLocator source,
+            long offset, long length)
+    {
+        if(source instanceof FileChannelDataLocator) {
+            /* Keep reading directly from the file. */
+            return ((FileChannelDataLocator) source).createSubDataLocator(
+                    offset, length);
+        }
+
+        return new SubDataLocator(source, offset, length);
+    }
+
     private static void setFileTimes(File file, FSEntry entry, String fileType)
     {
         Long createdTime = null;
@@ -595,25 +740,70 @@ public class UnHFS {
         }
     }
 
-    private static void extractFolder(FSFolder folder, File targetDir,
-            boolean extractResourceForks, boolean verbose) {
-        boolean wasEmpty = targetDir.list().length == 0;
+    /**
+     * Extracts the contents of <code>folder</code> to <code>targetDir</code>.
+     * If <code>extractor</code> is non-<code>null</code>, files are extracted
+     * by its worker threads and the finishing touches to the folder (which
+     * must be made after all its files have been written) are deferred until
+     * {@link ParallelExtractor#finish()} is called.
+     */
+    private static void extractFolder(final FSFolder folder,
+            final File targetDir, final boolean extractResourceForks,
+            final boolean verbose, final ParallelExtractor extractor)
+    {
+        final boolean wasEmpty = targetDir.list().length == 0;
         for(FSEntry e : folder.listEntries()) {
             if(e instanceof FSFile) {
-                FSFile file = (FSFile)e;
-                extractFile(file, targetDir, extractResourceForks, verbose);
+                final FSFile file = (FSFile)e;
+                if(extractor != null) {
+                    extractor.submitFile(new Runnable() {
+                        public void run() {
+                            extractFile(file, targetDir, extractResourceForks,
+                                    verbose);
+                        }
+                    });
+                }
+                else {
+                    extractFile(file, targetDir, extractResourceForks, verbose);
+                }
             }
             else if(e instanceof FSFolder) {
                 FSFolder subFolder = (FSFolder)e;
                 File subFolderFile = getFileForFolder(targetDir, subFolder, verbose);
                 if(subFolderFile != null) {
-                    extractFolder(subFolder, subFolderFile, extractResourceForks, verbose);
+                    extractFolder(subFolder, subFolderFile,
+                            extractResourceForks, verbose, extractor);
                 }
             }
             else if(e instanceof FSLink) {
                 // We don't currently handle links.
             }
         }
+
+        if(extractor != null) {
+            /* Subfolders have already added their finishing touches, so this
+             * one ends up after them, as in the single threaded case. */
+            extractor.deferFolder(new Runnable() {
+                public void run() {
+                    finishFolder(folder, targetDir, wasEmpty,
+                            extractResourceForks, verbose);
+                }
+            });
+        }
+        else {
+            finishFolder(folder, targetDir, wasEmpty, extractResourceForks,
+                    verbose);
+        }
+    }
+
+    /**
+     * Sets the timestamps of an extracted folder and writes its AppleDouble
+     * file. Must be called after all the contents of the folder have been
+     * extracted.
+     */
+    private static void finishFolder(FSFolder folder, File targetDir,
+            boolean wasEmpty, boolean extractResourceForks, boolean verbose)
+    {
         if(wasEmpty) {
             setFileTimes(targetDir, folder, "folder");
         }
@@ -698,9 +888,25 @@ public class UnHFS {
         try {
             os = new FileOutputStream(targetFile);
 
-            in = fork.getReadableRandomAccessStream();
+            final long extractedBytes;
+            if(fork instanceof HFSCommonFSFork) {
+                extractedBytes =
+                        ((HFSCommonFSFork) fork).extractToStream(os, null);
+            }
+            else {
+                if(fork instanceof HFSPlusCompressedDataFork) {
+                    /* Decompress blocks ahead on all available cores. */
+                    in = ((HFSPlusCompressedDataFork) fork).
+                            getReadableRandomAccessStream(
+                            Runtime.getRuntime().availableProcessors());
+                }
+                else {
+                    in = fork.getReadableRandomAccessStream();
+                }
+
+                extractedBytes = IOUtil.streamCopy(in, os, 128*1024);
+            }
 
-            long extractedBytes = IOUtil.streamCopy(in, os, 128*1024);
             if(extractedBytes != fork.getLength()) {
                 System.err.println("WARNING: Did not extract intended number of bytes to \"" +
                         targetFile.getPath() + "\"! Intended: " + fork.getLength() +
@@ -802,6 +1008,106 @@ public class UnHFS {
         }
     }
 
+    /**
+     * Extracts files on a pool of worker threads, fed through a bounded queue
+     * by the thread walking the file system tree. When the queue is full, the
+     * submitting thread extracts the file itself, which keeps the number of
+     * pending files (and the memory they use) bounded.
+     */
+    private static class ParallelExtractor {
+        private final ThreadPoolExecutor executor;
+
+        /**
+         * Actions to be performed on folders after all files have been
+         * extracted, in the order they were deferred.
+         */
+        private final LinkedList<Runnable> deferredFolders =
+                new LinkedList<Runnable>();
+
+        /**
+         * The first exception or error thrown by a worker thread, if any.
+         * Anything other than a {@link RuntimeException} is wrapped in one.
+         */
+        private volatile RuntimeException failure = null;
+
+        public ParallelExtractor(int threadCount) {
+            this.executor = new ThreadPoolExecutor(threadCount, threadCount,
+                    0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<Runnable>(threadCount * 16),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+
+        public void submitFile(final Runnable task) {
+            if(failure != null) {
+                throw failure;
+            }
+
+            executor.execute(new Runnable() {
+                public void run() {
+                    try {
+                        task.run();
+                    } catch(Throwable t) {
+                        synchronized(ParallelExtractor.this) {
+                            if(failure == null) {
+                                failure = t instanceof RuntimeException ?
+                                    (RuntimeException) t :
+                                    new RuntimeException("Error while " +
+                                    "extracting file: " + t, t);
+                            }
+                        }
+                    }
+                }
+            });
+        }
+
+        public void deferFolder(Runnable task) {
+            deferredFolders.addLast(task);
+        }
+
+        /**
+         * Waits for all files to be extracted and then performs the deferred
+         * folder actions. Rethrows the first exception or error thrown by a
+         * worker thread, if any, in which case the deferred folder actions are
+         * skipped.
+         */
+        public void finish() {
+            awaitWorkers();
+
+            if(failure != null) {
+                throw failure;
+            }
+
+            for(Runnable task : deferredFolders) {
+                task.run();
+            }
+        }
+
+        /**
+         * Waits for the files already submitted to be extracted, without
+         * performing the deferred folder actions. Used when walking the tree
+         * was aborted by an exception, which takes precedence over any
+         * failure in the worker threads.
+         */
+        public void abort() {
+            deferredFolders.clear();
+            awaitWorkers();
+        }
+
+        private void awaitWorkers() {
+            executor.shutdown();
+            try {
+                while(!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                    /* Keep waiting. */
+                }
+            } catch(InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for " +
+                        "files to be extracted.", e);
+            }
+        }
+    }
+
     /**
      * Scrubs away all control characters from a string and replaces them with '_'.
      * @param s the string to be processed.
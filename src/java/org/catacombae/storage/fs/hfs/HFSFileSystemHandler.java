@@ -58,5 +58,6 @@ public class HFSFileSystemHandler extends HFSCommonFileSystemHandler {
 
     public void setEncoding(String encodingName) {
         ((HFSOriginalVolume) view).setStringEncoding(encodingName);
+        encodingChanged();
     }
 }
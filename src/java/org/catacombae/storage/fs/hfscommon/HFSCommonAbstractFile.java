@@ -17,7 +17,10 @@
 
 package org.catacombae.storage.fs.hfscommon;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import org.catacombae.hfs.ProgressMonitor;
 import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogFile;
 import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogFileRecord;
 import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogLeafRecord;
@@ -161,6 +164,20 @@ public abstract class HFSCommonAbstractFile extends HFSCommonFSEntry {
         return fsHandler.getReadableResourceForkStream(fileRecord);
     }
 
+    long extractDataForkToStream(OutputStream os, ProgressMonitor pm)
+            throws IOException
+    {
+        return fsHandler.getFSView().extractDataForkToStream(fileRecord, os,
+                pm);
+    }
+
+    long extractResourceForkToStream(OutputStream os, ProgressMonitor pm)
+            throws IOException
+    {
+        return fsHandler.getFSView().extractResourceForkToStream(fileRecord,
+                os, pm);
+    }
+
     public CommonHFSCatalogFile getInternalCatalogFile() {
         return fileRecord.getData();
     }
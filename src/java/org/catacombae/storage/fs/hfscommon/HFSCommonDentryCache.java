@@ -0,0 +1,149 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.storage.fs.hfscommon;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogLeafRecord;
+
+/**
+ * Cache of path component lookups, mapping (parent CNID, on-disk name) to the
+ * catalog record of the child with that name. Failed lookups are cached too
+ * (as negative entries), so repeatedly looking up a nonexistent name doesn't
+ * go to the catalog file every time.<br>
+ * The cache holds a fixed maximum number of entries and evicts the least
+ * recently used entry when full.<br>
+ * This class is thread safe.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+final class HFSCommonDentryCache {
+    /** A cached lookup result. */
+    static final class CachedLookup {
+        /**
+         * The record that the lookup resulted in, or <code>null</code> for a
+         * negative entry, i.e. if there was no child with that name.
+         */
+        final CommonHFSCatalogLeafRecord record;
+
+        private CachedLookup(CommonHFSCatalogLeafRecord record) {
+            this.record = record;
+        }
+    }
+
+    private static final class Key {
+        private final long parentID;
+        private final String name;
+
+        public Key(long parentID, String name) {
+            this.parentID = parentID;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof Key) {
+                final Key k = (Key) o;
+                return k.parentID == parentID && k.name.equals(name);
+            }
+
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (parentID ^ (parentID >>> 32)) * 31 + name.hashCode();
+        }
+    }
+
+    private final LinkedHashMap<Key, CachedLookup> entries;
+
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    /**
+     * Creates a new dentry cache.
+     *
+     * @param maxEntries
+     *      <b>(in)</b> The maximum number of entries in the cache.
+     */
+    HFSCommonDentryCache(final int maxEntries) {
+        if(maxEntries <= 0) {
+            throw new IllegalArgumentException("'maxEntries' must be " +
+                    "positive and non-zero");
+        }
+
+        this.entries = new LinkedHashMap<Key, CachedLookup>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<Key, CachedLookup> eldest)
+            {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Looks up the child named <code>name</code> of the folder with CNID
+     * <code>parentID</code> in the cache.
+     *
+     * @return the cached entry, or <code>null</code> if the lookup isn't
+     * present in the cache.
+     */
+    synchronized CachedLookup get(long parentID, String name) {
+        final CachedLookup entry = entries.get(new Key(parentID, name));
+        if(entry != null) {
+            ++hitCount;
+        }
+        else {
+            ++missCount;
+        }
+
+        return entry;
+    }
+
+    /**
+     * Adds the result of looking up the child named <code>name</code> of the
+     * folder with CNID <code>parentID</code> to the cache.
+     *
+     * @param record
+     *      <b>(in)</b> The record that was found, or <code>null</code> if there
+     *      was no child with that name.
+     */
+    synchronized void put(long parentID, String name,
+            CommonHFSCatalogLeafRecord record)
+    {
+        entries.put(new Key(parentID, name), new CachedLookup(record));
+    }
+
+    /** Removes all entries from the cache. */
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    /** Returns the number of lookups that were found in the cache. */
+    synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /** Returns the number of lookups that were not found in the cache. */
+    synchronized long getMissCount() {
+        return missCount;
+    }
+}
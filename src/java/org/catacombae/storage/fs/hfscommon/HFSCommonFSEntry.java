@@ -48,6 +48,12 @@ public abstract class HFSCommonFSEntry extends BasicFSEntry {
     private boolean finderInfoForkLoaded = false;
     LinkedList<FSFork> attributeForkList = null;
 
+    /**
+     * The listing that this entry was listed in, if any, used to look up the
+     * attribute records of all entries in the listing together.
+     */
+    private HFSCommonFolderListing folderListing = null;
+
     protected HFSCommonFSEntry(HFSCommonFileSystemHandler parentFileSystem,
             CommonHFSCatalogAttributes catalogAttributes) {
         super(parentFileSystem);
@@ -69,8 +75,14 @@ public abstract class HFSCommonFSEntry extends BasicFSEntry {
                         new LinkedList<Pair<char[],
                         LinkedList<CommonHFSAttributesLeafRecord>>>();
 
+                final CommonHFSAttributesLeafRecord[] attributeRecords =
+                        folderListing != null ?
+                        folderListing.getAttributeRecords(
+                        getCatalogNodeID().toLong()) :
+                        attributesFile.listAttributeRecords(getCatalogNodeID());
+
                 for(CommonHFSAttributesLeafRecord attributeRecord :
-                        attributesFile.listAttributeRecords(getCatalogNodeID()))
+                        attributeRecords)
                 {
                     Pair<char[], LinkedList<CommonHFSAttributesLeafRecord>> p;
 
@@ -121,6 +133,10 @@ public abstract class HFSCommonFSEntry extends BasicFSEntry {
         forkList.addAll(attributeForkList);
     }
 
+    synchronized void setFolderListing(HFSCommonFolderListing folderListing) {
+        this.folderListing = folderListing;
+    }
+
     HFSCommonFileSystemHandler getFileSystemHandler() {
         return fsHandler;
     }
@@ -20,6 +20,8 @@ package org.catacombae.storage.fs.hfscommon;
 import java.io.UnsupportedEncodingException;
 import java.nio.CharBuffer;
 import java.util.LinkedList;
+import java.util.Map;
+import org.catacombae.hfs.AttributesFile;
 import org.catacombae.hfs.UnicodeNormalizationToolkit;
 import org.catacombae.util.Util;
 import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogFolderRecord;
@@ -56,7 +58,16 @@ public abstract class HFSCommonFileSystemHandler extends FileSystemHandler {
             "org.catacombae.storage.fs.hfscommon." +
             HFSCommonFileSystemHandler.class.getSimpleName() + ".debug");
 
+    /** The maximum number of path component lookups to cache. */
+    private static final int DENTRY_CACHE_SIZE = 16384;
+
     protected final HFSVolume view;
+    private final HFSCommonDentryCache dentryCache =
+            new HFSCommonDentryCache(DENTRY_CACHE_SIZE);
+
+    /** The root folder record, looked up on first use. */
+    private volatile CommonHFSCatalogFolderRecord rootFolder = null;
+
     private boolean posixNames;
     private boolean sfmSubstitutions;
     private boolean doUnicodeFileNameComposition;
@@ -92,7 +103,7 @@ public abstract class HFSCommonFileSystemHandler extends FileSystemHandler {
 
     @Override
     public FSEntry[] list(String... path) {
-        CommonHFSCatalogFolderRecord curFolder = view.getCatalogFile().getRootFolder();
+        CommonHFSCatalogFolderRecord curFolder = getRootFolderRecord();
         for(String nextFolderName : path) {
             CommonHFSCatalogLeafRecord subRecord = getRecord(curFolder, nextFolderName);
 
@@ -107,7 +118,7 @@ public abstract class HFSCommonFileSystemHandler extends FileSystemHandler {
 
     @Override
     public FSEntry getEntry(String... path) {
-        return getEntry(view.getCatalogFile().getRootFolder(), path);
+        return getEntry(getRootFolderRecord(), path);
     }
 
     FSEntry getEntry(CommonHFSCatalogFolderRecord rootRecord, String... path) {
@@ -220,7 +231,7 @@ public abstract class HFSCommonFileSystemHandler extends FileSystemHandler {
                     curVisitedList.addLast(absPath);
                     //log(prefix + "  getRecord: Trying to get record for absolute link target...");
                     CommonHFSCatalogLeafRecord linkTarget =
-                            getRecord(view.getCatalogFile().getRootFolder(), absPath);
+                            getRecord(getRootFolderRecord(), absPath);
                     //log(prefix + "  getRecord: target record = " + linkTarget);
                     if(linkTarget != null) {
                         currentRoot = linkTarget;
@@ -238,7 +249,7 @@ public abstract class HFSCommonFileSystemHandler extends FileSystemHandler {
 
             //log(prefix + "  getting record (" + currentRootFolder.getData().getFolderID().toLong() + ":\"" + curPathComponent + "\")");
             CommonHFSCatalogLeafRecord newRoot =
-                    view.getCatalogFile().getRecord(currentRootFolder.getData().getFolderID(), view.encodeString(curPathComponent));
+                    lookupChild(currentRootFolder, curPathComponent);
 
             if(newRoot != null)
                 currentRoot = newRoot;
@@ -260,6 +271,79 @@ public abstract class HFSCommonFileSystemHandler extends FileSystemHandler {
     }
 
 
+    /**
+     * Returns the root folder record of the file system. The record is only
+     * looked up in the catalog file once.
+     */
+    protected CommonHFSCatalogFolderRecord getRootFolderRecord() {
+        CommonHFSCatalogFolderRecord res = rootFolder;
+        if(res == null) {
+            res = view.getCatalogFile().getRootFolder();
+            rootFolder = res;
+        }
+
+        return res;
+    }
+
+    /**
+     * Looks up the child named <code>onDiskName</code> in
+     * <code>folder</code>, going to the catalog file only if the lookup isn't
+     * in the dentry cache.
+     *
+     * @return the child's record, or <code>null</code> if <code>folder</code>
+     * has no child with that name.
+     */
+    private CommonHFSCatalogLeafRecord lookupChild(
+            CommonHFSCatalogFolderRecord folder, String onDiskName)
+    {
+        final CommonHFSCatalogNodeID folderID = folder.getData().getFolderID();
+        final long parentID = folderID.toLong();
+
+        final HFSCommonDentryCache.CachedLookup cachedEntry =
+                dentryCache.get(parentID, onDiskName);
+        if(cachedEntry != null) {
+            return cachedEntry.record;
+        }
+
+        final CommonHFSCatalogLeafRecord record =
+                view.getCatalogFile().getRecord(folderID,
+                view.encodeString(onDiskName));
+        dentryCache.put(parentID, onDiskName, record);
+
+        return record;
+    }
+
+    /**
+     * Invalidates state that depends on how names are encoded on disk. Must be
+     * called by subclasses when they change the string encoding of the
+     * volume, since the same name then maps to different on-disk bytes and
+     * cached path component lookups (including negative ones) are no longer
+     * valid.
+     */
+    protected void encodingChanged() {
+        dentryCache.clear();
+    }
+
+    /**
+     * Returns the number of path component lookups that were satisfied by the
+     * dentry cache.
+     *
+     * @return the number of dentry cache hits.
+     */
+    public long getDentryCacheHitCount() {
+        return dentryCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of path component lookups that had to go to the
+     * catalog file because they weren't present in the dentry cache.
+     *
+     * @return the number of dentry cache misses.
+     */
+    public long getDentryCacheMissCount() {
+        return dentryCache.getMissCount();
+    }
+
     protected FSFile newFSFile(CommonHFSCatalogFileRecord fileRecord) {
         return new HFSCommonFSFile(this, fileRecord);
     }
@@ -274,6 +358,39 @@ public abstract class HFSCommonFileSystemHandler extends FileSystemHandler {
         return newFSFile(fileRecord);
     }
 
+    /**
+     * Creates the entry for <code>fileRecord</code> like
+     * {@link #entryFromRecord(CommonHFSCatalogFileRecord)}, taking the target
+     * of a hard link from <code>linkTargets</code> if it's there.
+     *
+     * @param fileRecord the file record to create an entry for.
+     * @param linkTargets the link targets returned by
+     * {@link #resolveLinkTargets(CommonHFSCatalogLeafRecord[])}, or
+     * <code>null</code>.
+     * @return the entry for <code>fileRecord</code>.
+     */
+    protected FSEntry entryFromRecord(CommonHFSCatalogFileRecord fileRecord,
+            Map<Long, CommonHFSCatalogLeafRecord> linkTargets)
+    {
+        return entryFromRecord(fileRecord);
+    }
+
+    /**
+     * Looks up the targets of all hard links among <code>records</code>
+     * together, so that listing a folder doesn't need one lookup per hard
+     * link. HFS has no hard links, so the default implementation returns
+     * <code>null</code>.
+     *
+     * @param records the records of the entries of a folder.
+     * @return a map from the file ID of each hard link record to the record
+     * of its target, or <code>null</code> if there are no hard links.
+     */
+    protected Map<Long, CommonHFSCatalogLeafRecord> resolveLinkTargets(
+            CommonHFSCatalogLeafRecord[] records)
+    {
+        return null;
+    }
+
     protected FSFile createFSFile(CommonHFSCatalogFileRecord fileRecord) {
         return newFSFile(fileRecord);
     }
@@ -443,7 +560,13 @@ public abstract class HFSCommonFileSystemHandler extends FileSystemHandler {
 
     FSEntry[] listFSEntries(CommonHFSCatalogFolderRecord folderRecord) {
         CommonHFSCatalogLeafRecord[] subRecords = view.getCatalogFile().listRecords(folderRecord);
-        LinkedList<FSEntry> result = new LinkedList<FSEntry>();
+        Map<Long, CommonHFSCatalogLeafRecord> linkTargets =
+                resolveLinkTargets(subRecords);
+
+        FSEntry[] result = new FSEntry[subRecords.length];
+        HFSCommonFSEntry[] hfsEntries = new HFSCommonFSEntry[subRecords.length];
+        int entryCount = 0;
+        int hfsEntryCount = 0;
         for(int i = 0; i < subRecords.length; ++i) {
             CommonHFSCatalogLeafRecord curRecord = subRecords[i];
 
@@ -451,14 +574,32 @@ public abstract class HFSCommonFileSystemHandler extends FileSystemHandler {
 
             if(shouldHide(curRecord));
             else if(curRecord instanceof CommonHFSCatalogFileRecord)
-                curEntry = entryFromRecord((CommonHFSCatalogFileRecord)curRecord);
+                curEntry = entryFromRecord(
+                        (CommonHFSCatalogFileRecord) curRecord, linkTargets);
             else if(curRecord instanceof CommonHFSCatalogFolderRecord)
                 curEntry = entryFromRecord((CommonHFSCatalogFolderRecord)curRecord);
 
-            if(curEntry != null)
-                result.addLast(curEntry);
+            if(curEntry != null) {
+                result[entryCount++] = curEntry;
+                if(curEntry instanceof HFSCommonFSEntry) {
+                    hfsEntries[hfsEntryCount++] = (HFSCommonFSEntry) curEntry;
+                }
+            }
+        }
+
+        final AttributesFile attributesFile = view.getAttributesFile();
+        if(attributesFile != null && hfsEntryCount > 0) {
+            /* Let the entries look up their attributes together. */
+            HFSCommonFolderListing.attach(attributesFile, hfsEntries,
+                    hfsEntryCount);
         }
-        return result.toArray(new FSEntry[result.size()]);
+
+        if(entryCount == result.length) {
+            return result;
+        }
+
+        return Util.arrayCopy(result, 0, new FSEntry[entryCount], 0,
+                entryCount);
     }
 
     HFSCommonFSFolder lookupParentFolder(CommonHFSCatalogLeafRecord childRecord) {
@@ -523,12 +664,13 @@ public abstract class HFSCommonFileSystemHandler extends FileSystemHandler {
 
     @Override
     public void close() {
+        dentryCache.clear();
         view.close();
     }
 
     @Override
     public FSFolder getRoot() {
-        return new HFSCommonFSFolder(this, view.getCatalogFile().getRootFolder());
+        return new HFSCommonFSFolder(this, getRootFolderRecord());
     }
 
     @Override
@@ -0,0 +1,87 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.storage.fs.hfscommon;
+
+import java.util.Map;
+import org.catacombae.hfs.AttributesFile;
+import org.catacombae.hfs.types.hfscommon.CommonHFSAttributesLeafRecord;
+
+/**
+ * The entries of one folder listing, shared by the entries so that the
+ * attribute records of all of them are looked up together in one pass over
+ * the attributes file the first time any of them needs its attribute forks.
+ * Only the catalog node IDs of the entries are kept, in an array, so the
+ * listing doesn't keep the entries themselves alive.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+class HFSCommonFolderListing {
+    private static final CommonHFSAttributesLeafRecord[] NO_RECORDS =
+            new CommonHFSAttributesLeafRecord[0];
+
+    private final AttributesFile attributesFile;
+    private final long[] catalogNodeIDs;
+    private Map<Long, CommonHFSAttributesLeafRecord[]> attributeRecords = null;
+
+    /**
+     * Creates a listing of the first <code>entryCount</code> entries of
+     * <code>entries</code>, and makes the entries use it.
+     */
+    static void attach(AttributesFile attributesFile,
+            HFSCommonFSEntry[] entries, int entryCount)
+    {
+        final long[] catalogNodeIDs = new long[entryCount];
+        for(int i = 0; i < entryCount; ++i) {
+            catalogNodeIDs[i] = entries[i].getCatalogNodeID().toLong();
+        }
+
+        final HFSCommonFolderListing listing =
+                new HFSCommonFolderListing(attributesFile, catalogNodeIDs);
+        for(int i = 0; i < entryCount; ++i) {
+            entries[i].setFolderListing(listing);
+        }
+    }
+
+    private HFSCommonFolderListing(AttributesFile attributesFile,
+            long[] catalogNodeIDs)
+    {
+        this.attributesFile = attributesFile;
+        this.catalogNodeIDs = catalogNodeIDs;
+    }
+
+    private synchronized Map<Long, CommonHFSAttributesLeafRecord[]>
+            getAttributeRecords()
+    {
+        if(attributeRecords == null) {
+            attributeRecords =
+                    attributesFile.listAttributeRecords(catalogNodeIDs);
+        }
+
+        return attributeRecords;
+    }
+
+    /**
+     * Returns the attribute records of the entry <code>catalogNodeID</code>,
+     * in key order.
+     */
+    CommonHFSAttributesLeafRecord[] getAttributeRecords(long catalogNodeID) {
+        final CommonHFSAttributesLeafRecord[] records =
+                getAttributeRecords().get(catalogNodeID);
+        return records != null ? records : NO_RECORDS;
+    }
+}
@@ -0,0 +1,65 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.storage.fs.hfsplus;
+
+import org.catacombae.io.RuntimeIOException;
+
+/**
+ * Decompresses the compression units of one of the decmpfs compression
+ * algorithms. A compression unit is either the data stored inline in the
+ * decmpfs attribute or one of the chunks stored in the resource fork. It
+ * decompresses to at most 64 KiB for all algorithms but zlib (where larger
+ * chunks are allowed in theory).<br>
+ * Each algorithm has its own way of marking a compression unit as stored
+ * uncompressed, and the decompressor handles this as well.<br>
+ * Instances may keep state between calls to avoid allocations, so they are
+ * not thread safe.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+interface DecmpfsDecompressor {
+    /**
+     * Decompresses a compression unit straight into <code>out</code>.
+     *
+     * @param in
+     *      <b>(in)</b> Array holding the compression unit.
+     * @param inOff
+     *      <b>(in)</b> Offset of the compression unit in <code>in</code>.
+     * @param inLen
+     *      <b>(in)</b> Length of the compression unit.
+     * @param out
+     *      <b>(out)</b> Array receiving the decompressed data.
+     * @param outOff
+     *      <b>(in)</b> Offset in <code>out</code> where the decompressed data
+     *      starts.
+     * @param outLen
+     *      <b>(in)</b> The number of bytes available in <code>out</code>.
+     * @return the number of decompressed bytes written to <code>out</code>, or
+     * -1 if the decompressed data doesn't fit in <code>outLen</code> bytes (in
+     * which case the contents of <code>out</code> are undefined).
+     * @throws RuntimeIOException if the compressed data is invalid.
+     */
+    public int decompress(byte[] in, int inOff, int inLen, byte[] out,
+            int outOff, int outLen) throws RuntimeIOException;
+
+    /**
+     * Releases any native resources held by this decompressor. It must not be
+     * used after this.
+     */
+    public void end();
+}
@@ -19,8 +19,16 @@ package org.catacombae.storage.fs.hfsplus;
 
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.zip.DataFormatException;
-import java.util.zip.Inflater;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import org.catacombae.hfs.types.decmpfs.DecmpfsHeader;
 import org.catacombae.hfsexplorer.IOUtil;
 import org.catacombae.hfsexplorer.fs.ResourceForkReader;
@@ -117,9 +125,16 @@ public class HFSPlusCompressedDataFork implements FSFork {
 
             switch(header.getRawCompressionType()) {
                 case DecmpfsHeader.COMPRESSION_TYPE_INLINE:
+                case DecmpfsHeader.COMPRESSION_TYPE_LZVN_INLINE:
+                case DecmpfsHeader.COMPRESSION_TYPE_LZFSE_INLINE:
                     tmpOccupiedSize =
                             decmpfsFork.getLength() - DecmpfsHeader.STRUCTSIZE;
                     break;
+                case DecmpfsHeader.COMPRESSION_TYPE_LZVN_RESOURCE:
+                case DecmpfsHeader.COMPRESSION_TYPE_LZFSE_RESOURCE:
+                    /* The whole resource fork holds the compressed data. */
+                    tmpOccupiedSize = resourceFork.getLength();
+                    break;
                 case DecmpfsHeader.COMPRESSION_TYPE_RESOURCE:
                     ReadableRandomAccessStream resourceForkStream = null;
                     ResourceForkReader r = null;
@@ -205,9 +220,37 @@ public class HFSPlusCompressedDataFork implements FSFork {
                         getReadableRandomAccessStream()));
     }
 
+    public ReadableRandomAccessStream getReadableRandomAccessStream() {
+        return getReadableRandomAccessStream(0);
+    }
+
+    /**
+     * Returns a stream for reading the decompressed data of this fork, which
+     * optionally reads ahead when data is compressed in the resource fork.
+     * <br>
+     * In read-ahead mode, every time the stream moves on to a new compressed
+     * block it also starts decompressing the following
+     * <code>readAheadBlocks</code> blocks on a pool of worker threads shared
+     * by all streams. The blocks are handed back in order as the stream
+     * reaches them, so this speeds up sequential reading of large compressed
+     * files (for instance when extracting them) on multi-core hosts, at the
+     * cost of keeping up to <code>readAheadBlocks</code> extra blocks in
+     * memory.
+     *
+     * @param readAheadBlocks
+     *      <b>(in)</b> The number of blocks to decompress ahead of the current
+     *      position, or 0 to decompress blocks only when they are read.
+     * @return a stream for reading the decompressed data of this fork, or
+     * <code>null</code> if the data can't be decompressed.
+     */
     public synchronized ReadableRandomAccessStream
-            getReadableRandomAccessStream()
+            getReadableRandomAccessStream(int readAheadBlocks)
     {
+        if(readAheadBlocks < 0) {
+            throw new IllegalArgumentException("Negative number of read-ahead " +
+                    "blocks: " + readAheadBlocks);
+        }
+
         ReadableRandomAccessStream decmpfsForkStream = null;
         ReadableRandomAccessStream resourceForkStream = null;
         try {
@@ -216,11 +259,22 @@ public class HFSPlusCompressedDataFork implements FSFork {
             decmpfsForkStream = decmpfsFork.getReadableRandomAccessStream();
 
             final ReadableRandomAccessStream dataForkStream;
-            final long compressionType = header.getCompressionType();
+            final int compressionType = header.getRawCompressionType();
 
-            if(compressionType == DecmpfsHeader.COMPRESSION_TYPE_INLINE) {
+            if(!isInlineCompressionType(compressionType) &&
+                    !isResourceCompressionType(compressionType))
+            {
+                System.err.println("Unknown decmpfs compression type: " +
+                        header.getCompressionType());
+
+                return null;
+            }
+            else if(!isResourceCompressionType(compressionType)) {
                 /* Compressed file data is stored within the decmpfs fork
-                 * itself. */
+                 * itself, either as a compressed blob or as an uncompressed
+                 * blob (the decompressor knows how to tell them apart).
+                 * Decompress data in memory and return a stream for reading
+                 * from the resulting memory buffer. */
                 final long fileSize = header.getRawFileSize();
                 if(fileSize < 0 || fileSize > Integer.MAX_VALUE) {
                     System.err.println("Decompressed data is too large " +
@@ -228,89 +282,70 @@ public class HFSPlusCompressedDataFork implements FSFork {
                     return null;
                 }
 
-                decmpfsForkStream.seek(DecmpfsHeader.STRUCTSIZE);
-                byte compressionFlags = decmpfsForkStream.readFully();
-
-                if((compressionFlags & 0x0F) == 0x0F) {
-                    /* Data is stored as an uncompressed blob in the attributes
-                     * file. */
-                    final int uncompressedDataOffset =
-                            DecmpfsHeader.STRUCTSIZE + 1;
-                    final long uncompressedDataLength =
-                            decmpfsForkStream.length() - uncompressedDataOffset;
-                    if(uncompressedDataLength < 0 ||
-                            uncompressedDataLength > Integer.MAX_VALUE)
-                    {
-                        System.err.println("Uncompressed data is too large " +
-                                "to be stored in memory.");
-                        return null;
-                    }
-
-                    if(uncompressedDataLength != fileSize) {
-                        System.err.println("[WARNING] decmpfs compression " +
-                                "type 3 uncompressed data length " +
-                                "(" + uncompressedDataLength + " doesn't " +
-                                "match file size (" + fileSize + ").");
-                    }
-
-                    final byte[] uncompressedData =
-                            IOUtil.readFully(decmpfsForkStream,
-                                    uncompressedDataOffset,
-                                    (int) fileSize);
-
-                    dataForkStream =
-                            new ReadableByteArrayStream(uncompressedData);
+                final int compressedDataOffset = DecmpfsHeader.STRUCTSIZE;
+                final long compressedDataLength =
+                        decmpfsForkStream.length() - compressedDataOffset;
+                if(compressedDataLength < 0 ||
+                        compressedDataLength > Integer.MAX_VALUE)
+                {
+                    System.err.println("Compressed data is too large to " +
+                            "be stored in memory.");
+                    return null;
                 }
-                else {
-                    /* Data is stored as a compressed blob in the attributes
-                     * file. */
-
-                    /* Decompress data in memory and return a stream for reading
-                     * from the resulting memory buffer. */
-                    final int compressedDataOffset = DecmpfsHeader.STRUCTSIZE;
-                    final long compressedDataLength =
-                            decmpfsForkStream.length() - compressedDataOffset;
-                    if(compressedDataLength < 0 ||
-                            compressedDataLength > Integer.MAX_VALUE)
-                    {
-                        System.err.println("Compressed data is too large to " +
-                                "be stored in memory.");
-                        return null;
-                    }
-
-                    final byte[] compressedData =
-                            IOUtil.readFully(decmpfsForkStream,
-                                    compressedDataOffset,
-                                    (int) compressedDataLength);
-
-                    final Inflater inflater = new Inflater(false);
-                    inflater.setInput(compressedData);
-
-                    byte[] outBuffer = new byte[(int) fileSize];
-                    try {
-                        inflater.inflate(outBuffer);
-                    } catch(DataFormatException ex) {
-                        System.err.println("Invalid compressed data in " +
-                                "decmpfs attribute. Exception stack trace:");
-                        ex.printStackTrace();
-                        return null;
-                    }
-
-                    final boolean inflaterFinished = inflater.finished();
-                    inflater.end();
 
-                    if(!inflaterFinished) {
-                        System.err.println("Decompression failed. All input " +
-                                "was not processed.");
-                        return null;
-                    }
+                final byte[] compressedData =
+                        IOUtil.readFully(decmpfsForkStream,
+                                compressedDataOffset,
+                                (int) compressedDataLength);
+
+                final DecmpfsDecompressor decompressor =
+                        createDecompressor(compressionType);
+                final byte[] outBuffer = new byte[(int) fileSize];
+                final int decompressedLength;
+                try {
+                    decompressedLength = decompressor.decompress(
+                            compressedData, 0, compressedData.length,
+                            outBuffer, 0, outBuffer.length);
+                } catch(RuntimeIOException ex) {
+                    System.err.println("Invalid compressed data in " +
+                            "decmpfs attribute. Exception stack trace:");
+                    ex.printStackTrace();
+                    return null;
+                } finally {
+                    decompressor.end();
+                }
 
-                    dataForkStream = new ReadableByteArrayStream(outBuffer);
+                if(decompressedLength < 0) {
+                    System.err.println("Decompression failed. Decompressed " +
+                            "data is larger than the file size (" + fileSize +
+                            ").");
+                    return null;
                 }
+                else if(decompressedLength != fileSize) {
+                    System.err.println("[WARNING] decmpfs compression type " +
+                            compressionType + " decompressed data length " +
+                            "(" + decompressedLength + ") doesn't match file " +
+                            "size (" + fileSize + ").");
+                }
+
+                dataForkStream = new ReadableByteArrayStream(outBuffer);
             }
-            else if(compressionType == DecmpfsHeader.COMPRESSION_TYPE_RESOURCE)
+            else if(compressionType != DecmpfsHeader.COMPRESSION_TYPE_RESOURCE)
             {
-                /* Compressed file data is stored in the resource fork. */
+                /* Compressed file data is stored in chunks making up the
+                 * whole resource fork. The stream takes over the resource
+                 * fork stream. */
+                resourceForkStream =
+                        resourceFork.getReadableRandomAccessStream();
+
+                dataForkStream = CompressedResourceStream.openResourceFork(
+                        resourceForkStream, header.getRawFileSize(),
+                        compressionType, readAheadBlocks);
+                resourceForkStream = null;
+            }
+            else {
+                /* Compressed file data is stored in the 'cmpf' resource of the
+                 * resource fork. */
                 resourceForkStream =
                         resourceFork.getReadableRandomAccessStream();
 
@@ -351,15 +386,9 @@ public class HFSPlusCompressedDataFork implements FSFork {
                     return null;
                 }
 
-                dataForkStream = new CompressedResourceStream(
+                dataForkStream = CompressedResourceStream.openCmpfResource(
                         resReader.getResourceStream(referenceListEntries[0]),
-                        header.getRawFileSize());
-            }
-            else {
-                System.err.println("Unknown decmpfs compression type: " +
-                        compressionType);
-
-                return null;
+                        header.getRawFileSize(), readAheadBlocks);
             }
 
             return dataForkStream;
@@ -397,16 +426,109 @@ public class HFSPlusCompressedDataFork implements FSFork {
     }
 
     boolean isUsingResourceFork() {
-        return getDecmpfsHeader().getCompressionType() ==
-                DecmpfsHeader.COMPRESSION_TYPE_RESOURCE;
+        return isResourceCompressionType(
+                getDecmpfsHeader().getRawCompressionType());
+    }
+
+    /**
+     * Returns whether compression type <code>compressionType</code> stores
+     * the compressed data inline in the decmpfs attribute.
+     */
+    private static boolean isInlineCompressionType(int compressionType) {
+        return compressionType == DecmpfsHeader.COMPRESSION_TYPE_INLINE ||
+                compressionType == DecmpfsHeader.COMPRESSION_TYPE_LZVN_INLINE ||
+                compressionType == DecmpfsHeader.COMPRESSION_TYPE_LZFSE_INLINE;
+    }
+
+    /**
+     * Returns whether compression type <code>compressionType</code> stores
+     * the compressed data in the resource fork (as opposed to inline in the
+     * decmpfs attribute).
+     */
+    private static boolean isResourceCompressionType(int compressionType) {
+        return compressionType == DecmpfsHeader.COMPRESSION_TYPE_RESOURCE ||
+                compressionType ==
+                DecmpfsHeader.COMPRESSION_TYPE_LZVN_RESOURCE ||
+                compressionType ==
+                DecmpfsHeader.COMPRESSION_TYPE_LZFSE_RESOURCE;
+    }
+
+    /**
+     * Decompresses a single compression unit of compression type
+     * <code>compressionType</code>, as stored inline in the decmpfs attribute
+     * or as one block of the resource fork.
+     *
+     * @param compressionType
+     *      <b>(in)</b> The decmpfs compression type of the unit.
+     * @param in
+     *      <b>(in)</b> Array holding the compression unit.
+     * @param inOff
+     *      <b>(in)</b> Offset of the compression unit in <code>in</code>.
+     * @param inLen
+     *      <b>(in)</b> Length of the compression unit.
+     * @param out
+     *      <b>(out)</b> Array receiving the decompressed data.
+     * @param outOff
+     *      <b>(in)</b> Offset in <code>out</code> where the decompressed data
+     *      starts.
+     * @param outLen
+     *      <b>(in)</b> The number of bytes available in <code>out</code>.
+     * @return the number of decompressed bytes written to <code>out</code>, or
+     * -1 if the decompressed data doesn't fit in <code>outLen</code> bytes.
+     * @throws IllegalArgumentException if the compression type isn't
+     * supported.
+     * @throws RuntimeIOException if the compressed data is invalid.
+     */
+    public static int decompressUnit(int compressionType, byte[] in,
+            int inOff, int inLen, byte[] out, int outOff, int outLen)
+            throws RuntimeIOException
+    {
+        final DecmpfsDecompressor decompressor =
+                createDecompressor(compressionType);
+        if(decompressor == null) {
+            throw new IllegalArgumentException("Unsupported compression " +
+                    "type: " + compressionType);
+        }
+
+        try {
+            return decompressor.decompress(in, inOff, inLen, out, outOff,
+                    outLen);
+        } finally {
+            decompressor.end();
+        }
+    }
+
+    /**
+     * Creates a decompressor for compression type
+     * <code>compressionType</code>.
+     *
+     * @return a new decompressor, or <code>null</code> if the compression type
+     * isn't supported.
+     */
+    private static DecmpfsDecompressor createDecompressor(int compressionType)
+    {
+        switch(compressionType) {
+            case DecmpfsHeader.COMPRESSION_TYPE_INLINE:
+            case DecmpfsHeader.COMPRESSION_TYPE_RESOURCE:
+                return new ZlibDecompressor();
+            case DecmpfsHeader.COMPRESSION_TYPE_LZVN_INLINE:
+            case DecmpfsHeader.COMPRESSION_TYPE_LZVN_RESOURCE:
+                return new LZVNDecompressor();
+            case DecmpfsHeader.COMPRESSION_TYPE_LZFSE_INLINE:
+            case DecmpfsHeader.COMPRESSION_TYPE_LZFSE_RESOURCE:
+                return new LZFSEDecompressor();
+            default:
+                return null;
+        }
     }
 
     private static class CompressedResourceStream
             extends BasicReadableRandomAccessStream
     {
-        /* The compressed stream is divided into blocks, where each block is a
+        /* The compressed data is divided into blocks, where each block is a
          * separate compression unit and can be individually decompressed.
-         * The structure of the stream is as follows:
+         * For zlib (compression type 4) the blocks are stored in the 'cmpf'
+         * resource, which is structured as follows:
          *     le32 blockCount;
          *     struct {
          *         le32 blockOffset;
@@ -414,60 +536,257 @@ public class HFSPlusCompressedDataFork implements FSFork {
          *     } blockTable[blockCount];
          *     u8[...] compressedData;
          *
+         * For LZVN and LZFSE (compression types 8 and 12) the blocks make up
+         * the whole resource fork, which is structured as follows:
+         *     le32 blockOffsets[blockCount + 1];
+         *     u8[...] compressedData;
+         * where blockCount is given by the uncompressed size and block i
+         * spans from blockOffsets[i] to blockOffsets[i + 1].
+         *
          * It is unclear if the whole resource stream must be rewritten when
          * data is updated (if not, then there's something about the compressed
          * format that we do not yet understand).
-         * It is also unclear if the blocks always have the same uncompressed
-         * size, i.e. if we can rely on this for seeking and in this case if the
-         * block size is always equal to the file system block size. For now we
-         * decompress every block when seeking, which is slow. */
+         * Every block except the last one normally decompresses to exactly
+         * BLOCK_SIZE bytes. When the block count matches the uncompressed size
+         * we rely on this and compute the uncompressed offset of every block
+         * up front. Otherwise the uncompressed offsets are discovered by
+         * decompressing the blocks in order as the stream is accessed, so
+         * that each block is still only decompressed once to find its
+         * size. */
+
+        /** The uncompressed size of each block (but the last). */
+        private static final int BLOCK_SIZE = 64 * 1024;
+
+        /** Number of decompressed blocks to keep in memory. */
+        private static final int CACHED_BLOCKS = 4;
+
+        /**
+         * Worker pool for read-ahead, shared by all streams. Created on first
+         * use.
+         */
+        private static ExecutorService readAheadExecutor = null;
+
+        /**
+         * The decompressors of each read-ahead worker thread, by compression
+         * type.
+         */
+        private static final ThreadLocal<Map<Integer, DecmpfsDecompressor>>
+                workerDecompressors =
+                new ThreadLocal<Map<Integer, DecmpfsDecompressor>>() {
+                    @Override
+                    protected Map<Integer, DecmpfsDecompressor>
+                            initialValue()
+                    {
+                        return new HashMap<Integer, DecmpfsDecompressor>();
+                    }
+                };
 
         private final ReadableRandomAccessStream resourceStream;
         private final long uncompressedSize;
+        private final int compressionType;
         private final int blockCount;
-        private final byte[] blockTableData;
-        private final Inflater inflater = new Inflater(true);
+        private final DecmpfsDecompressor decompressor;
+
+        /** Offset of each block in the resource stream. */
+        private final long[] compressedOffsets;
+
+        /** Length of each block in the resource stream. */
+        private final int[] compressedLengths;
+
+        /**
+         * Buffer for the compressed data of the block being decompressed by
+         * this thread. Grown as needed.
+         */
+        private byte[] compressedBuffer = new byte[0];
+
+        /**
+         * The uncompressed start offset of each block, followed by the
+         * uncompressed end offset of the last block. Only the first
+         * <code>knownBlockOffsets</code> elements are valid.
+         */
+        private final long[] blockOffsets;
+        private int knownBlockOffsets;
+
+        /** LRU list of decompressed blocks. Least recently used first. */
+        private final LinkedHashMap<Integer, byte[]> blockCache =
+                new LinkedHashMap<Integer, byte[]>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(
+                            Map.Entry<Integer, byte[]> eldest)
+                    {
+                        return size() > CACHED_BLOCKS;
+                    }
+                };
 
-        private long fp = 0;
+        /** Number of blocks to decompress ahead, or 0 if not reading ahead. */
+        private final int readAheadBlocks;
+
+        /** Blocks being decompressed by the read-ahead workers. */
+        private final HashMap<Integer, Future<byte[]>> pendingBlocks =
+                new HashMap<Integer, Future<byte[]>>();
 
-        private int processedBlocks = 0;
-        private int fixedBlockSize = 0;
-        private long[] nextBlockOffsets = null;
+        private long fp = 0;
 
-        public CompressedResourceStream(
+        private CompressedResourceStream(
                 final ReadableRandomAccessStream resourceStream,
-                final long uncompressedSize)
+                final long uncompressedSize, final int compressionType,
+                final long[] compressedOffsets, final int[] compressedLengths,
+                final int readAheadBlocks)
         {
             this.resourceStream = resourceStream;
             this.uncompressedSize = uncompressedSize;
+            this.compressionType = compressionType;
+            this.blockCount = compressedOffsets.length;
+            this.compressedOffsets = compressedOffsets;
+            this.compressedLengths = compressedLengths;
+            this.readAheadBlocks = readAheadBlocks;
+            this.decompressor = createDecompressor(compressionType);
+
+            this.blockOffsets = new long[blockCount + 1];
+            if(blockCount == (uncompressedSize + BLOCK_SIZE - 1) / BLOCK_SIZE) {
+                /* The block count matches fixed size blocks, so we know the
+                 * uncompressed offset of every block. */
+                for(int i = 0; i < blockCount; ++i) {
+                    blockOffsets[i] = (long) i * BLOCK_SIZE;
+                }
+                blockOffsets[blockCount] = uncompressedSize;
+                this.knownBlockOffsets = blockCount + 1;
+            }
+            else {
+                blockOffsets[0] = 0;
+                this.knownBlockOffsets = 1;
+            }
+        }
 
+        /**
+         * Creates a stream for the zlib compressed blocks of a 'cmpf' resource
+         * (compression type 4).
+         *
+         * @param cmpfStream
+         *      <b>(in)</b> Stream for the data of the 'cmpf' resource. The new
+         *      stream takes over this stream and closes it when closed.
+         * @param uncompressedSize
+         *      <b>(in)</b> The uncompressed size of the data.
+         * @param readAheadBlocks
+         *      <b>(in)</b> The number of blocks to decompress ahead.
+         * @return a stream for the uncompressed data.
+         */
+        static CompressedResourceStream openCmpfResource(
+                final ReadableRandomAccessStream cmpfStream,
+                final long uncompressedSize, final int readAheadBlocks)
+        {
             byte[] blockCountData = new byte[4];
-            this.resourceStream.seek(0);
-            this.resourceStream.readFully(blockCountData);
-            this.blockCount = Util.readIntLE(blockCountData);
+            cmpfStream.seek(0);
+            cmpfStream.readFully(blockCountData);
+            final int blockCount = Util.readIntLE(blockCountData);
 
             if(DEBUG) {
-                System.err.println("[CompressedResourceStream.<init>] " +
-                        "blockCount=" + blockCount);
+                System.err.println("[CompressedResourceStream." +
+                        "openCmpfResource] blockCount=" + blockCount);
             }
 
-            this.blockTableData = new byte[this.blockCount * (2 * 4)];
-            this.resourceStream.readFully(this.blockTableData);
-            if(DEBUG) {
-                System.err.println("[CompressedResourceStream.<init>] Block " +
-                        "table data:");
-                for(int i = 0; i < blockCount; ++i) {
-                    System.err.println("[CompressedResourceStream.<init>] " +
-                            "    " + i + ": offset=" +
-                            Util.readIntLE(blockTableData, 2*4*i) + ", " +
-                            "length=" +
-                            Util.readIntLE(blockTableData, 2*4*i + 4));
+            if(blockCount < 0 ||
+                    blockCount > (cmpfStream.length() - 4) / (2 * 4))
+            {
+                throw new RuntimeIOException("Invalid block count in " +
+                        "compressed resource: " + blockCount);
+            }
+
+            final byte[] blockTableData = new byte[blockCount * (2 * 4)];
+            cmpfStream.readFully(blockTableData);
+
+            final long[] compressedOffsets = new long[blockCount];
+            final int[] compressedLengths = new int[blockCount];
+            for(int i = 0; i < blockCount; ++i) {
+                compressedOffsets[i] =
+                        Util.unsign(Util.readIntLE(blockTableData, 2*4*i));
+                compressedLengths[i] =
+                        Util.readIntLE(blockTableData, 2*4*i + 4);
+
+                if(DEBUG) {
+                    System.err.println("[CompressedResourceStream." +
+                            "openCmpfResource]     " + i + ": " +
+                            "offset=" + compressedOffsets[i] + ", " +
+                            "length=" + compressedLengths[i]);
                 }
             }
+
+            return new CompressedResourceStream(cmpfStream, uncompressedSize,
+                    DecmpfsHeader.COMPRESSION_TYPE_RESOURCE, compressedOffsets,
+                    compressedLengths, readAheadBlocks);
+        }
+
+        /**
+         * Creates a stream for the LZVN or LZFSE compressed blocks of a
+         * resource fork (compression type 8 or 12).
+         *
+         * @param forkStream
+         *      <b>(in)</b> Stream for the resource fork. The new stream takes
+         *      over this stream and closes it when closed.
+         * @param uncompressedSize
+         *      <b>(in)</b> The uncompressed size of the data.
+         * @param compressionType
+         *      <b>(in)</b> The decmpfs compression type of the data.
+         * @param readAheadBlocks
+         *      <b>(in)</b> The number of blocks to decompress ahead.
+         * @return a stream for the uncompressed data.
+         */
+        static CompressedResourceStream openResourceFork(
+                final ReadableRandomAccessStream forkStream,
+                final long uncompressedSize, final int compressionType,
+                final int readAheadBlocks)
+        {
+            final long forkLength = forkStream.length();
+            final long blockCount =
+                    (uncompressedSize + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+            if(uncompressedSize < 0 || (blockCount + 1) * 4 > forkLength) {
+                throw new RuntimeIOException("Invalid uncompressed size " +
+                        uncompressedSize + " for " + forkLength + " byte " +
+                        "compressed resource fork.");
+            }
+
+            final byte[] blockTableData = new byte[(int) (blockCount + 1) * 4];
+            forkStream.seek(0);
+            forkStream.readFully(blockTableData);
+
+            final long[] compressedOffsets = new long[(int) blockCount];
+            final int[] compressedLengths = new int[(int) blockCount];
+            long curOffset = Util.unsign(Util.readIntLE(blockTableData, 0));
+            for(int i = 0; i < blockCount; ++i) {
+                final long nextOffset =
+                        Util.unsign(Util.readIntLE(blockTableData, 4*(i + 1)));
+                if(nextOffset < curOffset || nextOffset > forkLength) {
+                    throw new RuntimeIOException("Invalid end offset of " +
+                            "block " + i + " in compressed resource fork: " +
+                            nextOffset);
+                }
+
+                compressedOffsets[i] = curOffset;
+                compressedLengths[i] = (int) (nextOffset - curOffset);
+                curOffset = nextOffset;
+
+                if(DEBUG) {
+                    System.err.println("[CompressedResourceStream." +
+                            "openResourceFork]     " + i + ": " +
+                            "offset=" + compressedOffsets[i] + ", " +
+                            "length=" + compressedLengths[i]);
+                }
+            }
+
+            return new CompressedResourceStream(forkStream, uncompressedSize,
+                    compressionType, compressedOffsets, compressedLengths,
+                    readAheadBlocks);
         }
 
         @Override
         public synchronized void close() throws RuntimeIOException {
+            for(Future<byte[]> pending : pendingBlocks.values()) {
+                pending.cancel(false);
+            }
+            pendingBlocks.clear();
+            blockCache.clear();
+            decompressor.end();
             resourceStream.close();
         }
 
@@ -521,332 +840,386 @@ public class HFSPlusCompressedDataFork implements FSFork {
                 len = (int) (uncompressedSize - fp);
             }
 
-            int curBlock;
-            long curFp;
-            long curBlockOffset;
+            int bytesRead = 0;
+            while(bytesRead < len) {
+                final int curBlock = findBlock(fp);
+                if(curBlock < 0) {
+                    /* The blocks end before the uncompressed size. */
+                    break;
+                }
+
+                final int offsetInBlock = (int) (fp - blockOffsets[curBlock]);
+
+                if(offsetInBlock == 0 && curBlock < knownBlockOffsets - 1 &&
+                        len - bytesRead >= blockOffsets[curBlock + 1] -
+                        blockOffsets[curBlock] &&
+                        !blockCache.containsKey(curBlock) &&
+                        !pendingBlocks.containsKey(curBlock))
+                {
+                    /* The caller wants all of a block that we don't have, so
+                     * decompress it straight into the caller's buffer. */
+                    bytesRead += decompressBlockInto(curBlock, data,
+                            pos + bytesRead);
+                    continue;
+                }
+
+                final byte[] blockData = getBlock(curBlock);
+                final int copyLength =
+                        Math.min(len - bytesRead,
+                        blockData.length - offsetInBlock);
+
+                System.arraycopy(blockData, offsetInBlock, data,
+                        pos + bytesRead, copyLength);
+
+                fp += copyLength;
+                bytesRead += copyLength;
+            }
+
+            if(DEBUG) {
+                System.err.println("[CompressedResourceStream.read(byte[], " +
+                        "int, int)] Leaving with " +
+                        (bytesRead == 0 ? -1 : bytesRead) + ".");
+            }
+
+            return bytesRead == 0 ? -1 : bytesRead;
+        }
 
-            if(processedBlocks == 0 || fixedBlockSize == 0) {
-                /* Either no blocks have been processed previously, or the
-                 * uncompressed block size is not fixed. In both cases we must
-                 * start from the beginning (though if we have processed some
-                 * blocks before fp previously we will still be able to use
-                 * cached data to speed up the seek). */
-                curBlock = 0;
-                curFp = 0;
-                curBlockOffset = 0;
+        /**
+         * Finds the block containing uncompressed offset <code>offset</code>,
+         * decompressing blocks with not yet known offsets as needed.
+         *
+         * @return the index of the block, or -1 if <code>offset</code> is
+         * beyond the end of the last block.
+         */
+        private int findBlock(long offset) {
+            /* Discover the offsets of blocks up to the requested offset. */
+            while(knownBlockOffsets <= blockCount &&
+                    blockOffsets[knownBlockOffsets - 1] <= offset)
+            {
+                getBlock(knownBlockOffsets - 1);
             }
-            else {
-                /* We have previously processed some blocks, and the
-                 * uncompressed block size has been identical so far, so we can
-                 * calculate the uncompressed offset with one simple
-                 * operation. */
-                final long requestedBlock = fp / fixedBlockSize;
-
-                if(requestedBlock > processedBlocks) {
-                    curBlock = processedBlocks + 1;
-                    curFp = curBlock * fixedBlockSize;
-                    curBlockOffset = curFp;
+
+            if(offset >= blockOffsets[knownBlockOffsets - 1]) {
+                return -1;
+            }
+
+            /* Find the last block whose start offset is less than or equal to
+             * offset. */
+            int low = 0;
+            int high = knownBlockOffsets - 2;
+            while(low < high) {
+                final int mid = (low + high + 1) >>> 1;
+                if(blockOffsets[mid] <= offset) {
+                    low = mid;
                 }
                 else {
-                    curBlock = (int) requestedBlock;
-                    curFp = fp;
-                    curBlockOffset = curBlock * fixedBlockSize;
+                    high = mid - 1;
                 }
             }
 
-            long endFp = fp + len;
-            if(endFp > uncompressedSize) {
-                endFp = uncompressedSize;
+            return low;
+        }
+
+        /**
+         * Decompresses block <code>blockNumber</code>, whose uncompressed size
+         * must be known, to <code>data</code> at <code>pos</code> without
+         * caching it, and moves the file pointer past it.
+         *
+         * @return the size of the block.
+         */
+        private int decompressBlockInto(int blockNumber, byte[] data, int pos) {
+            final int blockSize = (int) (blockOffsets[blockNumber + 1] -
+                    blockOffsets[blockNumber]);
+            final int decompressedSize = decompressBlock(blockNumber,
+                    readCompressedBlock(blockNumber, compressedBuffer),
+                    compressedLengths[blockNumber], decompressor, data, pos,
+                    blockSize);
+
+            if(decompressedSize != blockSize) {
+                throw unexpectedBlockSize(blockNumber, decompressedSize,
+                        blockSize);
             }
 
-            byte[] compressedBuffer = null;
-            final byte[] decompressedBuffer = new byte[16 * 1024];
-            int bytesRead = 0;
+            fp += blockSize;
 
-            while(curFp < endFp) {
-                final boolean skip;
+            if(readAheadBlocks > 0) {
+                scheduleReadAhead(blockNumber + 1);
+            }
 
-                if(DEBUG) {
-                    System.err.println("[CompressedResourceStream." +
-                            "read(byte[], int, int)]     Iterating... curFp " +
-                            "(" + curFp + ") < endFp (" + endFp + ")");
-                }
+            return blockSize;
+        }
 
-                if(curBlock < processedBlocks) {
-                    final long nextBlockOffset;
+        /**
+         * Returns the decompressed data of block <code>blockNumber</code>,
+         * from the block cache if possible.
+         */
+        private byte[] getBlock(int blockNumber) {
+            byte[] blockData = blockCache.get(blockNumber);
+            if(blockData == null) {
+                final Future<byte[]> pending =
+                        pendingBlocks.remove(blockNumber);
+                if(pending != null) {
+                    blockData = waitForBlock(blockNumber, pending);
+                }
+                else {
+                    blockData = decompressBlock(blockNumber,
+                            readCompressedBlock(blockNumber, compressedBuffer),
+                            compressedLengths[blockNumber],
+                            getExpectedBlockSize(blockNumber), decompressor);
+                }
 
-                    /* We have cached data from a previous access. */
-                    if(fixedBlockSize != 0) {
-                        /* Fixed block size => we can easily calculate the
-                         * offset of the next block. */
-                        nextBlockOffset = curBlockOffset + fixedBlockSize;
-                    }
-                    else if(nextBlockOffsets == null) {
-                        throw new RuntimeException("Unexpected: " +
-                                "fixedBlockSize == 0 but no blockOffsets " +
-                                "array!");
-                    }
-                    else {
-                        /* Variable block size => we must look up the offset of
-                         * the next block in nextBlockOffsets. */
-                        nextBlockOffset = nextBlockOffsets[curBlock];
-                    }
+                blockCache.put(blockNumber, blockData);
 
-                    /* Now that we have the offset of the next block, we can
-                     * determine whether this block can be skipped i.e. whether
-                     * it is fully located before 'fp'. */
-                    skip = nextBlockOffset <= fp;
+                if(blockNumber == knownBlockOffsets - 1) {
+                    /* First time we see this block. Now we know where the
+                     * next one starts. */
+                    blockOffsets[blockNumber + 1] =
+                            blockOffsets[blockNumber] + blockData.length;
+                    ++knownBlockOffsets;
                 }
-                else {
-                    /* We do not know anything about this block, so we cannot
-                     * skip past it. */
-                    skip = false;
+                else if(blockData.length != blockOffsets[blockNumber + 1] -
+                        blockOffsets[blockNumber])
+                {
+                    throw unexpectedBlockSize(blockNumber, blockData.length,
+                            blockOffsets[blockNumber + 1] -
+                            blockOffsets[blockNumber]);
                 }
 
-                if(!skip) {
-                    /* We cannot skip over this block since it might be within
-                     * the range of data that we are requesting. So read the
-                     * compressed data from disk and decompress it. */
-                    final int curOffset =
-                            Util.readIntLE(blockTableData, curBlock * (2 * 4));
-                    final int curLength =
-                            Util.readIntLE(blockTableData, curBlock * (2 * 4) +
-                                    4);
-
-                    int curDecompressedOffsetInBlock = 0;
-
-                    resourceStream.seek(curOffset);
-                    final byte compressionFlags = resourceStream.readFully();
-
-                    if((compressionFlags & 0x0F) == 0x0F) {
-                        /* Block is not compressed... just copy from input to
-                         * output. */
-                        final int rawDataOffset = curOffset + 1;
-                        final int rawDataLength = curLength - 1;
-
-                        if(DEBUG) {
-                            System.err.println("[CompressedResourceStream." +
-                                    "read(byte[], int, int)]     Copying " +
-                                    "raw data at logical offset " +
-                                    curFp + ": [offset=" + rawDataOffset +
-                                    ", length=" + rawDataLength + "]");
-                        }
+                if(readAheadBlocks > 0) {
+                    scheduleReadAhead(blockNumber + 1);
+                }
+            }
 
-                        final int remainingLen = len - bytesRead;
-                        final int remainingInBlock = rawDataLength;
-                        final int curBytesToRead =
-                                remainingInBlock < remainingLen ?
-                                remainingInBlock : remainingLen;
-
-                        /* If the raw data is requested by the caller, i.e. if
-                         * the file pointer is within the current block as we
-                         * know it so far (file pointer is greater than the
-                         * start of the block and less than the current
-                         * decompressed end offset, then copy this data to the
-                         * destination array. */
-                        if(fp >= curBlockOffset &&
-                                fp < (curBlockOffset + curLength))
-                        {
-                            resourceStream.readFully(data, pos + bytesRead,
-                                    curBytesToRead);
-                        }
+            return blockData;
+        }
 
-                        curDecompressedOffsetInBlock = curLength;
+        /**
+         * Starts decompressing the <code>readAheadBlocks</code> blocks
+         * starting at <code>firstBlock</code> on the read-ahead workers,
+         * unless they are already cached or being decompressed. Blocks outside
+         * of this range which are still being decompressed (because of a seek)
+         * are abandoned.
+         */
+        private void scheduleReadAhead(int firstBlock) {
+            final int endBlock =
+                    (int) Math.min(blockCount, (long) firstBlock +
+                    readAheadBlocks);
+
+            final Iterator<Map.Entry<Integer, Future<byte[]>>> it =
+                    pendingBlocks.entrySet().iterator();
+            while(it.hasNext()) {
+                final Map.Entry<Integer, Future<byte[]>> cur = it.next();
+                if(cur.getKey() < firstBlock || cur.getKey() >= endBlock) {
+                    cur.getValue().cancel(false);
+                    it.remove();
+                }
+            }
+
+            for(int i = firstBlock; i < endBlock; ++i) {
+                if(blockCache.containsKey(i) || pendingBlocks.containsKey(i)) {
+                    continue;
+                }
+
+                /* The resource stream isn't thread safe, so the compressed
+                 * data is read here and only the decompression is handed off
+                 * to the workers. */
+                final int blockNumber = i;
+                final byte[] compressedData =
+                        readCompressedBlock(blockNumber, null);
+                final int expectedSize = getExpectedBlockSize(blockNumber);
+                final int type = compressionType;
+
+                pendingBlocks.put(blockNumber, getReadAheadExecutor().submit(
+                        new Callable<byte[]>() {
+                    /* @Override */
+                    public byte[] call() {
+                        return decompressBlock(blockNumber, compressedData,
+                                compressedData.length, expectedSize,
+                                getWorkerDecompressor(type));
                     }
-                    else {
-                        /* Block is compressed. Decompression is necessary. */
-
-                        /* Read compressed block into memory. We assume that it
-                         * will not be too large to fit in memory. If this
-                         * assumption breaks we can restructure the code to read
-                         * the compressed data in chunks, but let's not do that
-                         * now since it will only complicate things. */
-
-                        final int compressedDataOffset = curOffset + 2;
-                        final int compressedDataLength = curLength - 2;
-
-                        if(DEBUG) {
-                            System.err.println("[CompressedResourceStream." +
-                                    "read(byte[], int, int)]     " +
-                                    "Decompressing compressed data at " +
-                                    "logical offset " + curFp + ": [offset=" +
-                                    compressedDataOffset + ", length=" +
-                                    compressedDataLength + "]");
-                        }
+                }));
+            }
+        }
 
-                        if(compressedBuffer == null ||
-                                compressedBuffer.length < compressedDataLength)
-                        {
-                            if(compressedBuffer != null) {
-                                /* Explicitly let GC reclaim old buffer when we
-                                 * are allocating the new one to avoid running
-                                 * out of memory due to unnecessary references
-                                 * to old allocations (the VM is probably smart
-                                 * enough so that this isn't necessary, but just
-                                 * in case). */
-                                compressedBuffer = null;
-                            }
+        private static byte[] waitForBlock(int blockNumber,
+                Future<byte[]> pending)
+        {
+            try {
+                return pending.get();
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for " +
+                        "block " + blockNumber + " to be decompressed.", e);
+            } catch(ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if(cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                else if(cause instanceof Error) {
+                    throw (Error) cause;
+                }
 
-                            compressedBuffer = new byte[compressedDataLength];
-                        }
+                throw new RuntimeException(cause);
+            }
+        }
 
-                        resourceStream.seek(compressedDataOffset);
-                        resourceStream.readFully(compressedBuffer, 0,
-                                compressedDataLength);
-
-                        /* Decompress data in current block. */
-
-                        inflater.reset();
-                        inflater.setInput(compressedBuffer, 0,
-                                compressedDataLength);
-
-                        while(!inflater.finished()) {
-                            final int inflatedBytes;
-                            try {
-                                inflatedBytes =
-                                        inflater.inflate(decompressedBuffer);
-                            } catch(DataFormatException ex) {
-                                throw new RuntimeException("Invalid " +
-                                        "compressed data in resource fork " +
-                                        "(" + ex + ").", ex);
+        private static synchronized ExecutorService getReadAheadExecutor() {
+            if(readAheadExecutor == null) {
+                readAheadExecutor = Executors.newFixedThreadPool(
+                        Runtime.getRuntime().availableProcessors(),
+                        new ThreadFactory() {
+                            private int threadCount = 0;
+
+                            /* @Override */
+                            public synchronized Thread newThread(Runnable r) {
+                                final Thread t = new Thread(r,
+                                        "decmpfs read-ahead " +
+                                        (++threadCount));
+                                t.setDaemon(true);
+                                return t;
                             }
+                        });
+            }
 
-                            if(DEBUG) {
-                                System.err.println("Inflated " + inflatedBytes +
-                                        " to decompressedBuffer (length: " +
-                                        decompressedBuffer.length + ").");
-                            }
+            return readAheadExecutor;
+        }
 
-                            if(inflatedBytes <= 0) {
-                                throw new RuntimeIOException("No " +
-                                        "(" + inflatedBytes + ") inflated " +
-                                        "bytes. inflater.needsInput()=" +
-                                        inflater.needsInput() + " " +
-                                        "inflater.needsDictionary()=" +
-                                        inflater.needsDictionary());
-                            }
+        /**
+         * Returns the decompressor for compression type
+         * <code>compressionType</code> of the current read-ahead worker
+         * thread.
+         */
+        private static DecmpfsDecompressor getWorkerDecompressor(
+                int compressionType)
+        {
+            final Map<Integer, DecmpfsDecompressor> decompressors =
+                    workerDecompressors.get();
+            DecmpfsDecompressor d = decompressors.get(compressionType);
+            if(d == null) {
+                d = createDecompressor(compressionType);
+                decompressors.put(compressionType, d);
+            }
 
-                            /* If the decompressed data is requested by the
-                             * caller, i.e. if the file pointer is within the
-                             * current block as we know it so far (file pointer
-                             * is greater than the start of the block and less
-                             * than the current decompressed end offset, then
-                             * copy this data to the destination array. */
-                            final long curOffsetInBlock =
-                                    fp - curBlockOffset;
-                            if(curOffsetInBlock >=
-                                    curDecompressedOffsetInBlock &&
-                                    curOffsetInBlock <
-                                    (curDecompressedOffsetInBlock +
-                                    inflatedBytes))
-                            {
-                                final int inOffset =
-                                        (int) (curOffsetInBlock -
-                                        curDecompressedOffsetInBlock);
-                                final int remainingBytes = len - bytesRead;
-                                final int copyLength =
-                                        remainingBytes < inflatedBytes ?
-                                        remainingBytes : inflatedBytes;
-
-                                if(DEBUG) {
-                                    System.err.println("Copying " + copyLength +
-                                            " bytes from decompressedBuffer " +
-                                            "@ " + inOffset + " to data @ " +
-                                            (pos + bytesRead) + " " +
-                                            "(curDecompressedOffsetInBlock=" +
-                                            curDecompressedOffsetInBlock +
-                                            ", fp=" + fp + ", curBlockOffset=" +
-                                            curBlockOffset + ")...");
-                                }
-
-                                System.arraycopy(decompressedBuffer, inOffset,
-                                        data, pos + bytesRead, copyLength);
-
-                                fp += copyLength;
-                                bytesRead += copyLength;
-                            }
-                            else {
-                                if(DEBUG) {
-                                    System.err.println("Skipping copy of " +
-                                            "data outside bounds of read. " +
-                                            "fp=" + fp + " curBlockOffset=" +
-                                            curBlockOffset + " " +
-                                            "curOffsetInBlock=" +
-                                            curOffsetInBlock + " " +
-                                            "curDecompressedOffsetInBlock=" +
-                                            curDecompressedOffsetInBlock + " " +
-                                            "inflatedBytes=" + inflatedBytes);
-                                }
-                            }
+            return d;
+        }
 
-                            curDecompressedOffsetInBlock += inflatedBytes;
-                            curFp += inflatedBytes;
-                        }
+        /**
+         * Returns the expected decompressed size of block
+         * <code>blockNumber</code>, which is exact if the offset of the next
+         * block is known.
+         */
+        private int getExpectedBlockSize(int blockNumber) {
+            return (int) (blockNumber < knownBlockOffsets - 1 ?
+                    blockOffsets[blockNumber + 1] - blockOffsets[blockNumber] :
+                    BLOCK_SIZE);
+        }
 
-                        if(DEBUG) {
-                            System.err.println("Inflater is finished.");
-                        }
-                    }
+        /**
+         * Reads the data of block <code>blockNumber</code>, as it is stored
+         * in the resource stream.
+         *
+         * @param blockNumber
+         *      <b>(in)</b> The number of the block.
+         * @param buffer
+         *      <b>(in)</b> The buffer to read the data into, if it's large
+         *      enough, or <code>null</code> to read it into a new array of the
+         *      exact size.
+         * @return the array holding the data of the block from index 0.
+         */
+        private byte[] readCompressedBlock(int blockNumber, byte[] buffer) {
+            final long curOffset = compressedOffsets[blockNumber];
+            final int curLength = compressedLengths[blockNumber];
 
-                    if(curBlock == processedBlocks) {
-                        /* Current block has been decompressed. Update info
-                         * about this block since we haven't visited it
-                         * before. */
-                        if(processedBlocks == 0) {
-                            fixedBlockSize = curDecompressedOffsetInBlock;
-                        }
-                        else if(fixedBlockSize == 0 ||
-                                curDecompressedOffsetInBlock != fixedBlockSize)
-                        {
-                            if(nextBlockOffsets == null ||
-                                    nextBlockOffsets.length <
-                                    (processedBlocks + 1))
-                            {
-                                long[] oldNextBlockOffsets =
-                                        nextBlockOffsets;
-
-                                nextBlockOffsets =
-                                        new long[processedBlocks + 1];
-                                if(oldNextBlockOffsets != null) {
-                                    System.arraycopy(oldNextBlockOffsets, 0,
-                                            nextBlockOffsets, 0,
-                                            oldNextBlockOffsets.length);
-                                }
-                                else {
-                                    for(int i = 0; i < processedBlocks; ++i) {
-                                        nextBlockOffsets[i] =
-                                                (i + 1) * fixedBlockSize;
-                                    }
-                                }
-                            }
+            if(DEBUG) {
+                System.err.println("[CompressedResourceStream." +
+                        "readCompressedBlock(int, byte[])] Reading block " +
+                        blockNumber + ": [offset=" + curOffset + ", length=" +
+                        curLength + "]");
+            }
 
-                            nextBlockOffsets[processedBlocks] =
-                                    nextBlockOffsets[processedBlocks - 1] +
-                                    curDecompressedOffsetInBlock;
-                            fixedBlockSize = 0;
-                        }
+            if(curLength < 1) {
+                throw new RuntimeIOException("Invalid length of block " +
+                        blockNumber + ": " + curLength);
+            }
 
-                        ++processedBlocks;
-                    }
-                    else if(curBlock > processedBlocks) {
-                        throw new RuntimeException("Internal error: Went " +
-                                "beyond processed blocks.");
-                    }
+            /* Read compressed block into memory. We assume that it will not be
+             * too large to fit in memory. */
+            if(buffer == null) {
+                buffer = new byte[curLength];
+            }
+            else if(buffer.length < curLength) {
+                buffer = new byte[curLength];
+                compressedBuffer = buffer;
+            }
+
+            resourceStream.seek(curOffset);
+            resourceStream.readFully(buffer, 0, curLength);
+
+            return buffer;
+        }
+
+        /**
+         * Decompresses the data of a block into a new array. Thread safe as
+         * long as every thread uses its own <code>decompressor</code>.
+         *
+         * @param blockNumber
+         *      <b>(in)</b> The number of the block (for error messages).
+         * @param compressedData
+         *      <b>(in)</b> The data of the block as stored in the resource
+         *      stream, from index 0.
+         * @param compressedLength
+         *      <b>(in)</b> The length of the data of the block.
+         * @param expectedSize
+         *      <b>(in)</b> The expected decompressed size of the block.
+         * @param decompressor
+         *      <b>(in)</b> The decompressor to use.
+         * @return the decompressed data of the block.
+         */
+        private static byte[] decompressBlock(int blockNumber,
+                byte[] compressedData, int compressedLength, int expectedSize,
+                DecmpfsDecompressor decompressor)
+        {
+            byte[] blockData = new byte[expectedSize];
+            while(true) {
+                final int blockLength = decompressBlock(blockNumber,
+                        compressedData, compressedLength, decompressor,
+                        blockData, 0, blockData.length);
+                if(blockLength >= 0) {
+                    return blockLength == blockData.length ? blockData :
+                            Util.createCopy(blockData, 0, blockLength);
                 }
 
-                curBlockOffset += fixedBlockSize != 0 ? fixedBlockSize :
-                        nextBlockOffsets[curBlock] -
-                        (curBlock == 0 ? 0 : nextBlockOffsets[curBlock - 1]);
-                ++curBlock;
+                /* Variable size block larger than we expected. */
+                blockData = new byte[Math.max(blockData.length * 2, 1)];
             }
+        }
 
-            if(DEBUG) {
-                System.err.println("[CompressedResourceStream.read(byte[], " +
-                        "int, int)] Leaving with " +
-                        (bytesRead == 0 ? -1 : bytesRead) + ".");
+        /**
+         * Decompresses the data of a block into <code>out</code>.
+         *
+         * @return the decompressed size of the block, or -1 if it's larger
+         * than <code>outLen</code>.
+         */
+        private static int decompressBlock(int blockNumber,
+                byte[] compressedData, int compressedLength,
+                DecmpfsDecompressor decompressor, byte[] out, int outOff,
+                int outLen)
+        {
+            try {
+                return decompressor.decompress(compressedData, 0,
+                        compressedLength, out, outOff, outLen);
+            } catch(RuntimeIOException e) {
+                throw new RuntimeIOException("Invalid compressed data in " +
+                        "block " + blockNumber + " of resource fork.", e);
             }
+        }
 
-            return bytesRead == 0 ? -1 : bytesRead;
+        private static RuntimeIOException unexpectedBlockSize(int blockNumber,
+                long actualSize, long expectedSize)
+        {
+            return new RuntimeIOException("Unexpected decompressed size of " +
+                    "block " + blockNumber + ": " + actualSize + " " +
+                    "(expected: " + expectedSize + ")");
         }
     }
 }
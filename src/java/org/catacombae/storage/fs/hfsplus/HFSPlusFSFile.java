@@ -133,11 +133,15 @@ public class HFSPlusFSFile extends HFSCommonFSFile {
                         switch(header.getRawCompressionType()) {
                             case DecmpfsHeader.COMPRESSION_TYPE_INLINE:
                             case DecmpfsHeader.COMPRESSION_TYPE_RESOURCE:
+                            case DecmpfsHeader.COMPRESSION_TYPE_LZVN_INLINE:
+                            case DecmpfsHeader.COMPRESSION_TYPE_LZVN_RESOURCE:
+                            case DecmpfsHeader.COMPRESSION_TYPE_LZFSE_INLINE:
+                            case DecmpfsHeader.COMPRESSION_TYPE_LZFSE_RESOURCE:
                                 break;
                             default:
                                 /* No support for other compression types than
-                                 * type "inline" (3) and "resource" (4) at this
-                                 * point.
+                                 * zlib (3, 4), LZVN (7, 8) and LZFSE (11, 12)
+                                 * at this point.
                                  * All other compression types will lead to the
                                  * attribute being exposed as-is for recovery
                                  * purposes. */
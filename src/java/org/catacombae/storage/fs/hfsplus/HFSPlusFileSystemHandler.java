@@ -17,14 +17,20 @@
 
 package org.catacombae.storage.fs.hfsplus;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.catacombae.hfs.HFSVolume;
 import org.catacombae.storage.fs.hfscommon.HFSCommonFileSystemHandler;
 import org.catacombae.storage.io.DataLocator;
 import org.catacombae.hfs.plus.HFSPlusVolume;
+import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogFile;
 import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogFileRecord;
 import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogFolderRecord;
 import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogLeafRecord;
 import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogNodeID;
+import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogString;
 import org.catacombae.storage.fs.FSEntry;
 import org.catacombae.storage.fs.FSFile;
 import org.catacombae.storage.fs.hfscommon.HFSCommonFSLink;
@@ -44,6 +50,14 @@ public class HFSPlusFileSystemHandler extends HFSCommonFileSystemHandler {
     private static final String JOURNAL_INFO_BLOCK_FILE = ".journal_info_block";
     private static final String JOURNAL_FILE = ".journal";
 
+    /** The maximum number of file and of directory inodes to cache. */
+    private static final int INODE_CACHE_SIZE = 16384;
+
+    private final HFSPlusInodeCache fileInodeCache =
+            new HFSPlusInodeCache(INODE_CACHE_SIZE);
+    private final HFSPlusInodeCache directoryInodeCache =
+            new HFSPlusInodeCache(INODE_CACHE_SIZE);
+
     public HFSPlusFileSystemHandler(DataLocator fsLocator, boolean useCaching,
             boolean posixNames, boolean sfmSubstitutions,
             boolean doUnicodeFileNameComposition, boolean hideProtected)
@@ -104,10 +118,23 @@ public class HFSPlusFileSystemHandler extends HFSCommonFileSystemHandler {
 
     @Override
     protected FSEntry entryFromRecord(CommonHFSCatalogFileRecord fileRecord) {
+        return entryFromRecord(fileRecord, null);
+    }
+
+    @Override
+    protected FSEntry entryFromRecord(CommonHFSCatalogFileRecord fileRecord,
+            Map<Long, CommonHFSCatalogLeafRecord> linkTargets)
+    {
+        final CommonHFSCatalogLeafRecord linkTarget = linkTargets != null ?
+                linkTargets.get(fileRecord.getData().getFileID().toLong()) :
+                null;
+
         if(fileRecord.getData().isSymbolicLink())
             return new HFSCommonFSLink(this, fileRecord);
         else if(fileRecord.getData().isHardFileLink()) {
             CommonHFSCatalogFileRecord iNode =
+                    linkTarget instanceof CommonHFSCatalogFileRecord ?
+                    (CommonHFSCatalogFileRecord) linkTarget :
                     lookupFileInode(fileRecord.getData().getHardLinkInode());
             if(iNode != null) {
                 return createFSFile(fileRecord, iNode);
@@ -123,6 +150,8 @@ public class HFSPlusFileSystemHandler extends HFSCommonFileSystemHandler {
         }
         else if(fileRecord.getData().isHardDirectoryLink()) {
             CommonHFSCatalogFolderRecord iNode =
+                    linkTarget instanceof CommonHFSCatalogFolderRecord ?
+                    (CommonHFSCatalogFolderRecord) linkTarget :
                     lookupDirectoryInode(fileRecord.getData().
                     getHardLinkInode());
             if(iNode != null) {
@@ -142,11 +171,193 @@ public class HFSPlusFileSystemHandler extends HFSCommonFileSystemHandler {
         }
     }
 
+    @Override
+    protected Map<Long, CommonHFSCatalogLeafRecord> resolveLinkTargets(
+            CommonHFSCatalogLeafRecord[] records)
+    {
+        final ArrayList<CommonHFSCatalogFile> fileLinks =
+                new ArrayList<CommonHFSCatalogFile>();
+        final ArrayList<CommonHFSCatalogFile> directoryLinks =
+                new ArrayList<CommonHFSCatalogFile>();
+        for(CommonHFSCatalogLeafRecord rec : records) {
+            if(!(rec instanceof CommonHFSCatalogFileRecord)) {
+                continue;
+            }
+
+            final CommonHFSCatalogFile file =
+                    ((CommonHFSCatalogFileRecord) rec).getData();
+            if(file.isSymbolicLink()) {
+                continue;
+            }
+            else if(file.isHardFileLink()) {
+                fileLinks.add(file);
+            }
+            else if(file.isHardDirectoryLink()) {
+                directoryLinks.add(file);
+            }
+        }
+
+        if(fileLinks.isEmpty() && directoryLinks.isEmpty()) {
+            return null;
+        }
+
+        final HashMap<Long, CommonHFSCatalogLeafRecord> linkTargets =
+                new HashMap<Long, CommonHFSCatalogLeafRecord>();
+        resolveLinkTargets(fileLinks, fileInodeCache, FILE_HARD_LINK_DIR,
+                FILE_HARD_LINK_PREFIX, linkTargets);
+        resolveLinkTargets(directoryLinks, directoryInodeCache,
+                DIRECTORY_HARD_LINK_DIR, DIRECTORY_HARD_LINK_PREFIX,
+                linkTargets);
+
+        return linkTargets;
+    }
+
+    /**
+     * Looks up the inodes of <code>links</code> in the hard link directory
+     * <code>linkDir</code> together, and puts the ones that are found in
+     * <code>linkTargets</code>. Inodes present in <code>inodeCache</code> are
+     * taken from there, and the rest are looked up in one batch and added to
+     * it. Links whose inodes aren't found are left out, to be looked up (and
+     * reported) one by one.
+     */
+    private void resolveLinkTargets(List<CommonHFSCatalogFile> links,
+            HFSPlusInodeCache inodeCache, String linkDir, String linkPrefix,
+            Map<Long, CommonHFSCatalogLeafRecord> linkTargets)
+    {
+        if(links.isEmpty()) {
+            return;
+        }
+
+        final CommonHFSCatalogFolderRecord linkDirRecord =
+                getLinkDirRecord(linkDir);
+        if(linkDirRecord == null) {
+            return;
+        }
+
+        preloadInodeCache(inodeCache, linkDirRecord, linkPrefix);
+
+        final ArrayList<CommonHFSCatalogFile> uncachedLinks =
+                new ArrayList<CommonHFSCatalogFile>();
+        for(CommonHFSCatalogFile link : links) {
+            final CommonHFSCatalogLeafRecord inode =
+                    inodeCache.get(Util.unsign(link.getHardLinkInode()));
+            if(inode != null) {
+                linkTargets.put(link.getFileID().toLong(), inode);
+            }
+            else {
+                uncachedLinks.add(link);
+            }
+        }
+
+        if(uncachedLinks.isEmpty()) {
+            return;
+        }
+
+        final CommonHFSCatalogString[] inodeNames =
+                new CommonHFSCatalogString[uncachedLinks.size()];
+        for(int i = 0; i < inodeNames.length; ++i) {
+            inodeNames[i] = view.encodeString(getOnDiskName(linkPrefix +
+                    Util.unsign(uncachedLinks.get(i).getHardLinkInode())));
+        }
+
+        final CommonHFSCatalogLeafRecord[] inodes =
+                view.getCatalogFile().getRecords(
+                linkDirRecord.getData().getFolderID(), inodeNames);
+        for(int i = 0; i < inodes.length; ++i) {
+            if(inodes[i] != null) {
+                final CommonHFSCatalogFile link = uncachedLinks.get(i);
+                inodeCache.put(Util.unsign(link.getHardLinkInode()),
+                        inodes[i]);
+                linkTargets.put(link.getFileID().toLong(), inodes[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the record of the hard link directory <code>linkDir</code> in
+     * the root folder, or <code>null</code> if the volume doesn't have it.
+     */
+    private CommonHFSCatalogFolderRecord getLinkDirRecord(String linkDir) {
+        final CommonHFSCatalogLeafRecord linkDirRecord =
+                getRecord(getRootFolderRecord(), linkDir);
+        if(linkDirRecord instanceof CommonHFSCatalogFolderRecord) {
+            return (CommonHFSCatalogFolderRecord) linkDirRecord;
+        }
+
+        return null;
+    }
+
+    /**
+     * The first time this is called for <code>inodeCache</code>, fills it with
+     * all the inodes in the hard link directory <code>linkDirRecord</code>,
+     * listed in one pass over the catalog file, provided that they all fit in
+     * the cache. Larger directories (as on Time Machine volumes, which can
+     * have millions of directory inodes) are left to fill the cache on demand.
+     */
+    private void preloadInodeCache(HFSPlusInodeCache inodeCache,
+            CommonHFSCatalogFolderRecord linkDirRecord, String linkPrefix)
+    {
+        if(inodeCache.markPreloaded() ||
+                linkDirRecord.getData().getValence() >
+                inodeCache.getMaxEntries())
+        {
+            return;
+        }
+
+        final CommonHFSCatalogLeafRecord[] records =
+                view.getCatalogFile().listRecords(linkDirRecord);
+        for(CommonHFSCatalogLeafRecord rec : records) {
+            final String name = view.decodeString(rec.getKey().getNodeName());
+            if(!name.startsWith(linkPrefix)) {
+                continue;
+            }
+
+            final long inodeNumber;
+            try {
+                inodeNumber = Long.parseLong(name.substring(
+                        linkPrefix.length()));
+            } catch(NumberFormatException e) {
+                continue;
+            }
+
+            inodeCache.put(inodeNumber, rec);
+        }
+    }
+
+    /**
+     * Looks up the inode <code>inodeNumber</code> in the hard link directory
+     * <code>linkDir</code>, going to the catalog file only if it isn't in
+     * <code>inodeCache</code>.
+     *
+     * @return the inode's record, or <code>null</code> if there is no such
+     * inode.
+     */
+    private CommonHFSCatalogLeafRecord lookupInode(HFSPlusInodeCache inodeCache,
+            String linkDir, String linkPrefix, long inodeNumber)
+    {
+        final CommonHFSCatalogFolderRecord linkDirRecord =
+                getLinkDirRecord(linkDir);
+        if(linkDirRecord == null) {
+            return null;
+        }
+
+        preloadInodeCache(inodeCache, linkDirRecord, linkPrefix);
+
+        CommonHFSCatalogLeafRecord res = inodeCache.get(inodeNumber);
+        if(res == null) {
+            res = getRecord(linkDirRecord, linkPrefix + inodeNumber);
+            if(res != null) {
+                inodeCache.put(inodeNumber, res);
+            }
+        }
+
+        return res;
+    }
+
     private CommonHFSCatalogFileRecord lookupFileInode(int inodeNumber) {
         long trueInodeNumber = Util.unsign(inodeNumber);
-        CommonHFSCatalogLeafRecord res =
-                getRecord(view.getCatalogFile().getRootFolder(),
-                FILE_HARD_LINK_DIR, FILE_HARD_LINK_PREFIX + trueInodeNumber);
+        CommonHFSCatalogLeafRecord res = lookupInode(fileInodeCache,
+                FILE_HARD_LINK_DIR, FILE_HARD_LINK_PREFIX, trueInodeNumber);
         if(res == null) {
             // Could not find any inode
             return null;
@@ -164,10 +375,9 @@ public class HFSPlusFileSystemHandler extends HFSCommonFileSystemHandler {
     private CommonHFSCatalogFolderRecord lookupDirectoryInode(int inodeNumber)
     {
         long trueInodeNumber = Util.unsign(inodeNumber);
-        CommonHFSCatalogLeafRecord res =
-                getRecord(view.getCatalogFile().getRootFolder(),
-                DIRECTORY_HARD_LINK_DIR,
-                DIRECTORY_HARD_LINK_PREFIX + trueInodeNumber);
+        CommonHFSCatalogLeafRecord res = lookupInode(directoryInodeCache,
+                DIRECTORY_HARD_LINK_DIR, DIRECTORY_HARD_LINK_PREFIX,
+                trueInodeNumber);
         if(res == null) {
             // Could not find any inode
             return null;
@@ -182,6 +392,28 @@ public class HFSPlusFileSystemHandler extends HFSCommonFileSystemHandler {
         }
     }
 
+    /**
+     * Returns the number of hard link inode lookups that were satisfied by the
+     * inode caches.
+     *
+     * @return the number of inode cache hits.
+     */
+    public long getInodeCacheHitCount() {
+        return fileInodeCache.getHitCount() +
+                directoryInodeCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of hard link inode lookups that had to go to the
+     * catalog file because they weren't present in the inode caches.
+     *
+     * @return the number of inode cache misses.
+     */
+    public long getInodeCacheMissCount() {
+        return fileInodeCache.getMissCount() +
+                directoryInodeCache.getMissCount();
+    }
+
     protected Long getLinkCount(CommonHFSCatalogFileRecord fr) {
         if(fr.getData().isHardFileLink()) {
             int inodeNumber = fr.getData().getHardLinkInode();
@@ -239,6 +471,13 @@ public class HFSPlusFileSystemHandler extends HFSCommonFileSystemHandler {
         return absPath;
    }
 
+    @Override
+    public void close() {
+        fileInodeCache.clear();
+        directoryInodeCache.clear();
+        super.close();
+    }
+
     @Override
     protected FSFile newFSFile(CommonHFSCatalogFileRecord fileRecord) {
         return new HFSPlusFSFile(this, fileRecord);
@@ -21,6 +21,7 @@ import org.catacombae.hfs.types.hfs.ExtDescriptor;
 import org.catacombae.hfs.types.hfs.HFSPlusWrapperMDB;
 import org.catacombae.io.ReadableRandomAccessStream;
 import org.catacombae.storage.io.DataLocator;
+import org.catacombae.storage.io.FileChannelDataLocator;
 import org.catacombae.storage.io.SubDataLocator;
 import org.catacombae.storage.fs.DefaultFileSystemHandlerInfo;
 import org.catacombae.storage.fs.FileSystemCapability;
@@ -174,6 +175,12 @@ public class HFSPlusFileSystemHandlerFactory extends HFSCommonFileSystemHandlerF
         log.debug("  fsLength: " + fsLength);
         // redetect with adjusted fsOffset
 
+        if(data instanceof FileChannelDataLocator) {
+            /* Keep reading directly from the file. */
+            return ((FileChannelDataLocator) data).createSubDataLocator(
+                    fsOffset, fsLength);
+        }
+
         return new SubDataLocator(data, fsOffset, fsLength);
     }
 }
@@ -0,0 +1,124 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.storage.fs.hfsplus;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.catacombae.hfs.types.hfscommon.CommonHFSCatalogLeafRecord;
+
+/**
+ * Cache of hard link inode lookups, mapping the inode number of a hard link to
+ * the catalog record of its inode in one of the HFS+ private metadata
+ * folders.<br>
+ * The cache holds a fixed maximum number of entries and evicts the least
+ * recently used entry when full. It can be preloaded with the contents of the
+ * whole metadata folder when they fit, after which lookups no longer go to
+ * the catalog file until entries are evicted.<br>
+ * This class is thread safe.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+final class HFSPlusInodeCache {
+    private final int maxEntries;
+    private final LinkedHashMap<Long, CommonHFSCatalogLeafRecord> entries;
+
+    private boolean preloaded = false;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    /**
+     * Creates a new inode cache.
+     *
+     * @param maxEntries
+     *      <b>(in)</b> The maximum number of entries in the cache.
+     */
+    HFSPlusInodeCache(final int maxEntries) {
+        if(maxEntries <= 0) {
+            throw new IllegalArgumentException("'maxEntries' must be " +
+                    "positive and non-zero");
+        }
+
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<Long, CommonHFSCatalogLeafRecord>(16,
+                0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<Long, CommonHFSCatalogLeafRecord> eldest)
+            {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /** Returns the maximum number of entries in the cache. */
+    int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Looks up the inode with number <code>inodeNumber</code> in the cache.
+     *
+     * @return the cached inode record, or <code>null</code> if the inode isn't
+     * present in the cache.
+     */
+    synchronized CommonHFSCatalogLeafRecord get(long inodeNumber) {
+        final CommonHFSCatalogLeafRecord record = entries.get(inodeNumber);
+        if(record != null) {
+            ++hitCount;
+        }
+        else {
+            ++missCount;
+        }
+
+        return record;
+    }
+
+    /** Adds the inode record of inode number <code>inodeNumber</code>. */
+    synchronized void put(long inodeNumber, CommonHFSCatalogLeafRecord record)
+    {
+        entries.put(inodeNumber, record);
+    }
+
+    /**
+     * Marks the cache as preloaded, returning whether it already was. Used to
+     * make sure the metadata folder is only scanned once, even when the scan
+     * finds that it doesn't fit in the cache.
+     */
+    synchronized boolean markPreloaded() {
+        final boolean wasPreloaded = preloaded;
+        preloaded = true;
+        return wasPreloaded;
+    }
+
+    /** Removes all entries from the cache. */
+    synchronized void clear() {
+        entries.clear();
+        preloaded = false;
+    }
+
+    /** Returns the number of lookups that were found in the cache. */
+    synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /** Returns the number of lookups that were not found in the cache. */
+    synchronized long getMissCount() {
+        return missCount;
+    }
+}
@@ -0,0 +1,730 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.storage.fs.hfsplus;
+
+import java.util.Arrays;
+import org.catacombae.io.RuntimeIOException;
+import org.catacombae.util.Util;
+
+/**
+ * Decompressor for decmpfs compression types 11 and 12 (LZFSE). A compression
+ * unit starting with the byte 0xFF holds uncompressed data after that byte.
+ * Otherwise it's an LZFSE stream.<br>
+ * An LZFSE stream is a sequence of blocks, each starting with a 4 byte magic:
+ * <ul>
+ * <li><code>bvx$</code>: End of stream.</li>
+ * <li><code>bvx-</code>: Uncompressed block.</li>
+ * <li><code>bvxn</code>: Block compressed with LZVN.</li>
+ * <li><code>bvx1</code>, <code>bvx2</code>: Block compressed with LZFSE, where
+ * the header of <code>bvx1</code> holds the FSE frequency tables as is and the
+ * header of <code>bvx2</code> holds them in packed form.</li>
+ * </ul>
+ * An LZFSE block encodes a sequence of (L, M, D) triplets, like the opcodes
+ * of LZVN: copy L literals, then a match of M bytes at distance D (where D = 0
+ * means the previous distance). The literals are FSE (finite state entropy)
+ * coded in a separate stream, as four interleaved FSE states, and the
+ * triplets are FSE coded in another stream with one state each for L, M and
+ * D. Both streams are read backwards, from their last byte.<br>
+ * The decoding tables and the literal buffer are kept between calls, so
+ * decompressing doesn't allocate anything.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+class LZFSEDecompressor implements DecmpfsDecompressor {
+    private static final int ENDOFSTREAM_BLOCK_MAGIC = 0x24787662; /* bvx$ */
+    private static final int UNCOMPRESSED_BLOCK_MAGIC = 0x2d787662; /* bvx- */
+    private static final int COMPRESSEDV1_BLOCK_MAGIC = 0x31787662; /* bvx1 */
+    private static final int COMPRESSEDV2_BLOCK_MAGIC = 0x32787662; /* bvx2 */
+    private static final int COMPRESSEDLZVN_BLOCK_MAGIC = 0x6e787662; /* bvxn */
+
+    private static final int MATCHES_PER_BLOCK = 10000;
+    private static final int LITERALS_PER_BLOCK = 4 * MATCHES_PER_BLOCK;
+
+    private static final int L_SYMBOLS = 20;
+    private static final int M_SYMBOLS = 20;
+    private static final int D_SYMBOLS = 64;
+    private static final int LITERAL_SYMBOLS = 256;
+
+    private static final int L_STATES = 64;
+    private static final int M_STATES = 64;
+    private static final int D_STATES = 256;
+    private static final int LITERAL_STATES = 1024;
+
+    /** Size of the v1 header (as laid out by the reference implementation). */
+    private static final int V1_HEADER_SIZE = 772;
+
+    /** Offset of the frequency tables in the v1 header. */
+    private static final int V1_FREQ_OFFSET = 50;
+
+    /** Size of the fixed part of the v2 header. */
+    private static final int V2_HEADER_SIZE = 32;
+
+    private static final int[] L_EXTRA_BITS = {
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 2, 3, 5, 8
+    };
+
+    private static final int[] M_EXTRA_BITS = {
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 3, 5, 8, 11
+    };
+
+    private static final int[] D_EXTRA_BITS = {
+        0, 0, 0, 0, 1, 1, 1, 1, 2, 2, 2, 2, 3, 3, 3, 3,
+        4, 4, 4, 4, 5, 5, 5, 5, 6, 6, 6, 6, 7, 7, 7, 7,
+        8, 8, 8, 8, 9, 9, 9, 9, 10, 10, 10, 10, 11, 11, 11, 11,
+        12, 12, 12, 12, 13, 13, 13, 13, 14, 14, 14, 14, 15, 15, 15, 15
+    };
+
+    /* Each base value is the previous one plus the range of its extra bits. */
+    private static final int[] L_BASE_VALUE = baseValues(L_EXTRA_BITS);
+    private static final int[] M_BASE_VALUE = baseValues(M_EXTRA_BITS);
+    private static final int[] D_BASE_VALUE = baseValues(D_EXTRA_BITS);
+
+    /* Tables for decoding the packed frequencies of the v2 header, indexed by
+     * the 5 lowest bits of the input. */
+    private static final int[] FREQ_NBITS_TABLE = {
+        2, 3, 2, 5, 2, 3, 2, 8, 2, 3, 2, 5, 2, 3, 2, 14,
+        2, 3, 2, 5, 2, 3, 2, 8, 2, 3, 2, 5, 2, 3, 2, 14
+    };
+
+    private static final int[] FREQ_VALUE_TABLE = {
+        0, 2, 1, 4, 0, 3, 1, -1, 0, 2, 1, 5, 0, 3, 1, -1,
+        0, 2, 1, 6, 0, 3, 1, -1, 0, 2, 1, 7, 0, 3, 1, -1
+    };
+
+    /* Block header fields. */
+    private int nRawBytes;
+    private int nLiterals;
+    private int nMatches;
+    private int nLiteralPayloadBytes;
+    private int nLmdPayloadBytes;
+    private int literalBits;
+    private final int[] literalState = new int[4];
+    private int lmdBits;
+    private int lState;
+    private int mState;
+    private int dState;
+
+    /* Frequency tables of the current block, in the order L, M, D,
+     * literal. */
+    private final int[] freq =
+            new int[L_SYMBOLS + M_SYMBOLS + D_SYMBOLS + LITERAL_SYMBOLS];
+
+    /* Decoding tables. Each literal decoder entry is packed as
+     * (delta << 16) | (symbol << 8) | nbits. Each value decoder entry is
+     * packed as (delta << 16) | (valueBits << 8) | totalBits, with the base
+     * value in a separate array. */
+    private final int[] literalDecoder = new int[LITERAL_STATES];
+    private final int[] lDecoder = new int[L_STATES];
+    private final int[] lDecoderBase = new int[L_STATES];
+    private final int[] mDecoder = new int[M_STATES];
+    private final int[] mDecoderBase = new int[M_STATES];
+    private final int[] dDecoder = new int[D_STATES];
+    private final int[] dDecoderBase = new int[D_STATES];
+
+    /* Decoded literals of the current block, with room for over-reads. */
+    private final byte[] literals = new byte[LITERALS_PER_BLOCK + 64];
+
+    /* State of the backwards bit stream currently being read. */
+    private long accum;
+    private int accumBits;
+    private int streamPos;
+    private int streamStart;
+
+    /* @Override */
+    public int decompress(byte[] in, int inOff, int inLen, byte[] out,
+            int outOff, int outLen)
+    {
+        if(inLen < 1) {
+            throw new RuntimeIOException("Empty LZFSE compression unit.");
+        }
+
+        if((in[inOff] & 0xFF) == 0xFF) {
+            /* Stored uncompressed... the data follows the marker byte. */
+            if(inLen - 1 > outLen) {
+                return -1;
+            }
+
+            System.arraycopy(in, inOff + 1, out, outOff, inLen - 1);
+            return inLen - 1;
+        }
+
+        return decode(in, inOff, inLen, out, outOff, outLen);
+    }
+
+    /* @Override */
+    public void end() {
+        /* Nothing to release. */
+    }
+
+    /**
+     * Decodes an LZFSE stream.
+     *
+     * @return the number of bytes written to <code>out</code>, or -1 if the
+     * decoded data doesn't fit in <code>outLen</code> bytes.
+     * @throws RuntimeIOException if the stream is invalid.
+     */
+    private int decode(byte[] in, int inOff, int inLen, byte[] out,
+            int outOff, int outLen)
+    {
+        final int inEnd = inOff + inLen;
+        final int outEnd = outOff + outLen;
+        int ip = inOff;
+        int op = outOff;
+
+        while(true) {
+            if(inEnd - ip < 4) {
+                throw truncated(ip - inOff);
+            }
+
+            final int magic = Util.readIntLE(in, ip);
+            switch(magic) {
+                case ENDOFSTREAM_BLOCK_MAGIC:
+                    return op - outOff;
+                case UNCOMPRESSED_BLOCK_MAGIC: {
+                    if(inEnd - ip < 8) {
+                        throw truncated(ip - inOff);
+                    }
+
+                    final int n = Util.readIntLE(in, ip + 4);
+                    ip += 8;
+                    if(n < 0 || n > inEnd - ip) {
+                        throw truncated(ip - inOff);
+                    }
+                    else if(n > outEnd - op) {
+                        return -1;
+                    }
+
+                    System.arraycopy(in, ip, out, op, n);
+                    ip += n;
+                    op += n;
+                    break;
+                }
+                case COMPRESSEDLZVN_BLOCK_MAGIC: {
+                    if(inEnd - ip < 12) {
+                        throw truncated(ip - inOff);
+                    }
+
+                    final int nRaw = Util.readIntLE(in, ip + 4);
+                    final int nPayload = Util.readIntLE(in, ip + 8);
+                    ip += 12;
+                    if(nPayload < 0 || nPayload > inEnd - ip) {
+                        throw truncated(ip - inOff);
+                    }
+                    else if(nRaw < 0 || nRaw > outEnd - op) {
+                        return -1;
+                    }
+
+                    /* Matches may reach back into previous blocks, so the
+                     * output "starts" at the start of the stream. */
+                    final int decoded = LZVNDecompressor.decode(in, ip,
+                            nPayload, out, outOff, op, nRaw);
+                    if(decoded != nRaw) {
+                        throw new RuntimeIOException("LZVN block decoded to " +
+                                decoded + " bytes (expected: " + nRaw + ").");
+                    }
+
+                    ip += nPayload;
+                    op += nRaw;
+                    break;
+                }
+                case COMPRESSEDV1_BLOCK_MAGIC:
+                case COMPRESSEDV2_BLOCK_MAGIC: {
+                    final int headerSize =
+                            (magic == COMPRESSEDV1_BLOCK_MAGIC) ?
+                            readV1Header(in, ip, inEnd) :
+                            readV2Header(in, ip, inEnd);
+                    checkHeader();
+                    ip += headerSize;
+
+                    if(nLiteralPayloadBytes > inEnd - ip ||
+                            nLmdPayloadBytes > inEnd - ip -
+                            nLiteralPayloadBytes)
+                    {
+                        throw truncated(ip - inOff);
+                    }
+                    else if(nRawBytes > outEnd - op) {
+                        return -1;
+                    }
+
+                    decodeLiterals(in, ip);
+                    ip += nLiteralPayloadBytes;
+
+                    final int decoded = decodeLmd(in, ip, out, outOff, op,
+                            outEnd);
+                    if(decoded < 0) {
+                        return -1;
+                    }
+                    else if(decoded != nRawBytes) {
+                        throw new RuntimeIOException("LZFSE block decoded " +
+                                "to " + decoded + " bytes (expected: " +
+                                nRawBytes + ").");
+                    }
+
+                    ip += nLmdPayloadBytes;
+                    op += decoded;
+                    break;
+                }
+                default:
+                    throw new RuntimeIOException("Invalid LZFSE block " +
+                            "magic 0x" + Util.toHexStringBE(magic) + " at " +
+                            "offset " + (ip - inOff) + ".");
+            }
+        }
+    }
+
+    /**
+     * Reads a v1 block header.
+     *
+     * @return the size of the header.
+     */
+    private int readV1Header(byte[] in, int ip, int inEnd) {
+        if(inEnd - ip < V1_HEADER_SIZE) {
+            throw new RuntimeIOException("Truncated LZFSE v1 block header.");
+        }
+
+        nRawBytes = Util.readIntLE(in, ip + 4);
+        /* n_payload_bytes at ip + 8 is the sum of the two payload sizes
+         * below. */
+        nLiterals = Util.readIntLE(in, ip + 12);
+        nMatches = Util.readIntLE(in, ip + 16);
+        nLiteralPayloadBytes = Util.readIntLE(in, ip + 20);
+        nLmdPayloadBytes = Util.readIntLE(in, ip + 24);
+        literalBits = Util.readIntLE(in, ip + 28);
+        for(int i = 0; i < 4; ++i) {
+            literalState[i] = Util.readShortLE(in, ip + 32 + 2 * i) & 0xFFFF;
+        }
+        lmdBits = Util.readIntLE(in, ip + 40);
+        lState = Util.readShortLE(in, ip + 44) & 0xFFFF;
+        mState = Util.readShortLE(in, ip + 46) & 0xFFFF;
+        dState = Util.readShortLE(in, ip + 48) & 0xFFFF;
+
+        for(int i = 0; i < freq.length; ++i) {
+            freq[i] = Util.readShortLE(in, ip + V1_FREQ_OFFSET + 2 * i) &
+                    0xFFFF;
+        }
+
+        return V1_HEADER_SIZE;
+    }
+
+    /**
+     * Reads a v2 block header, unpacking its fields and frequency tables.
+     *
+     * @return the size of the header.
+     */
+    private int readV2Header(byte[] in, int ip, int inEnd) {
+        if(inEnd - ip < V2_HEADER_SIZE) {
+            throw new RuntimeIOException("Truncated LZFSE v2 block header.");
+        }
+
+        nRawBytes = Util.readIntLE(in, ip + 4);
+
+        final long v0 = Util.readLongLE(in, ip + 8);
+        final long v1 = Util.readLongLE(in, ip + 16);
+        final long v2 = Util.readLongLE(in, ip + 24);
+
+        nLiterals = (int) field(v0, 0, 20);
+        nLiteralPayloadBytes = (int) field(v0, 20, 20);
+        nMatches = (int) field(v0, 40, 20);
+        literalBits = (int) field(v0, 60, 3) - 7;
+        literalState[0] = (int) field(v1, 0, 10);
+        literalState[1] = (int) field(v1, 10, 10);
+        literalState[2] = (int) field(v1, 20, 10);
+        literalState[3] = (int) field(v1, 30, 10);
+        nLmdPayloadBytes = (int) field(v1, 40, 20);
+        lmdBits = (int) field(v1, 60, 3) - 7;
+        final long headerSize = field(v2, 0, 32);
+        lState = (int) field(v2, 32, 10);
+        mState = (int) field(v2, 42, 10);
+        dState = (int) field(v2, 52, 10);
+
+        if(headerSize < V2_HEADER_SIZE || headerSize > inEnd - ip) {
+            throw new RuntimeIOException("Invalid LZFSE v2 block header " +
+                    "size: " + headerSize);
+        }
+
+        /* The frequencies are stored as variable length bit fields, least
+         * significant bit first. A header without any frequencies means that
+         * they are all zero. */
+        Arrays.fill(freq, 0);
+        if(headerSize > V2_HEADER_SIZE) {
+            final int srcEnd = ip + (int) headerSize;
+            int src = ip + V2_HEADER_SIZE;
+            int bits = 0;
+            int nbits = 0;
+
+            for(int i = 0; i < freq.length; ++i) {
+                while(src < srcEnd && nbits + 8 <= 32) {
+                    bits |= (in[src++] & 0xFF) << nbits;
+                    nbits += 8;
+                }
+
+                final int b = bits & 31;
+                final int n = FREQ_NBITS_TABLE[b];
+                if(n > nbits) {
+                    throw new RuntimeIOException("Truncated LZFSE frequency " +
+                            "table.");
+                }
+
+                if(n == 8) {
+                    freq[i] = 8 + ((bits >>> 4) & 0xF);
+                }
+                else if(n == 14) {
+                    freq[i] = 24 + ((bits >>> 4) & 0x3FF);
+                }
+                else {
+                    freq[i] = FREQ_VALUE_TABLE[b];
+                }
+
+                bits >>>= n;
+                nbits -= n;
+            }
+
+            if(nbits >= 8 || src != srcEnd) {
+                throw new RuntimeIOException("Invalid LZFSE frequency " +
+                        "table.");
+            }
+        }
+
+        return (int) headerSize;
+    }
+
+    /**
+     * Validates the header fields of the current block and sets up the
+     * decoding tables from its frequencies.
+     */
+    private void checkHeader() {
+        if(nLiterals < 0 || nLiterals > LITERALS_PER_BLOCK ||
+                (nLiterals & 3) != 0 || nMatches < 0 ||
+                nMatches > MATCHES_PER_BLOCK || nRawBytes < 0 ||
+                nLiteralPayloadBytes < 0 || nLmdPayloadBytes < 0)
+        {
+            throw new RuntimeIOException("Invalid LZFSE block header " +
+                    "(nLiterals=" + nLiterals + ", nMatches=" + nMatches +
+                    ", nRawBytes=" + nRawBytes + ").");
+        }
+
+        for(int i = 0; i < 4; ++i) {
+            if(literalState[i] >= LITERAL_STATES) {
+                throw new RuntimeIOException("Invalid LZFSE literal state.");
+            }
+        }
+
+        if(lState >= L_STATES || mState >= M_STATES || dState >= D_STATES) {
+            throw new RuntimeIOException("Invalid LZFSE L/M/D state.");
+        }
+
+        int freqOffset = 0;
+        initValueDecoderTable(L_STATES, L_SYMBOLS, freqOffset, L_EXTRA_BITS,
+                L_BASE_VALUE, lDecoder, lDecoderBase);
+        freqOffset += L_SYMBOLS;
+        initValueDecoderTable(M_STATES, M_SYMBOLS, freqOffset, M_EXTRA_BITS,
+                M_BASE_VALUE, mDecoder, mDecoderBase);
+        freqOffset += M_SYMBOLS;
+        initValueDecoderTable(D_STATES, D_SYMBOLS, freqOffset, D_EXTRA_BITS,
+                D_BASE_VALUE, dDecoder, dDecoderBase);
+        freqOffset += D_SYMBOLS;
+        initLiteralDecoderTable(freqOffset);
+    }
+
+    /**
+     * Sets up the FSE decoding table of the literals. Each symbol with
+     * frequency f gets f consecutive states. A state decodes to its symbol,
+     * and the next state is found by adding k bits from the stream to a
+     * delta, where k is chosen so that the next states of the symbol cover
+     * the full range of states.
+     */
+    private void initLiteralDecoderTable(int freqOffset) {
+        final int nStates = LITERAL_STATES;
+        final int nClz = Integer.numberOfLeadingZeros(nStates);
+        int sumOfFreq = 0;
+        int t = 0;
+
+        Arrays.fill(literalDecoder, 0);
+        for(int i = 0; i < LITERAL_SYMBOLS; ++i) {
+            final int f = freq[freqOffset + i];
+            if(f == 0) {
+                continue;
+            }
+
+            sumOfFreq += f;
+            if(sumOfFreq > nStates) {
+                throw new RuntimeIOException("Invalid LZFSE literal " +
+                        "frequencies.");
+            }
+
+            final int k = Integer.numberOfLeadingZeros(f) - nClz;
+            final int j0 = ((2 * nStates) >>> k) - f;
+            for(int j = 0; j < f; ++j) {
+                final int nbits;
+                final int delta;
+                if(j < j0) {
+                    nbits = k;
+                    delta = ((f + j) << k) - nStates;
+                }
+                else {
+                    nbits = k - 1;
+                    delta = (j - j0) << (k - 1);
+                }
+
+                literalDecoder[t++] = (delta << 16) | (i << 8) | nbits;
+            }
+        }
+    }
+
+    /**
+     * Sets up an FSE decoding table for L, M or D values. Like
+     * {@link #initLiteralDecoderTable(int)}, but each state decodes to a
+     * base value which is completed with extra bits from the stream.
+     */
+    private void initValueDecoderTable(int nStates, int nSymbols,
+            int freqOffset, int[] extraBits, int[] baseValue, int[] table,
+            int[] tableBase)
+    {
+        final int nClz = Integer.numberOfLeadingZeros(nStates);
+        int sumOfFreq = 0;
+        int t = 0;
+
+        Arrays.fill(table, 0);
+        Arrays.fill(tableBase, 0);
+        for(int i = 0; i < nSymbols; ++i) {
+            final int f = freq[freqOffset + i];
+            if(f == 0) {
+                continue;
+            }
+
+            sumOfFreq += f;
+            if(sumOfFreq > nStates) {
+                throw new RuntimeIOException("Invalid LZFSE L/M/D " +
+                        "frequencies.");
+            }
+
+            final int k = Integer.numberOfLeadingZeros(f) - nClz;
+            final int j0 = ((2 * nStates) >>> k) - f;
+            for(int j = 0; j < f; ++j) {
+                final int totalBits;
+                final int delta;
+                if(j < j0) {
+                    totalBits = k + extraBits[i];
+                    delta = ((f + j) << k) - nStates;
+                }
+                else {
+                    totalBits = k - 1 + extraBits[i];
+                    delta = (j - j0) << (k - 1);
+                }
+
+                table[t] = (delta << 16) | (extraBits[i] << 8) | totalBits;
+                tableBase[t] = baseValue[i];
+                ++t;
+            }
+        }
+    }
+
+    /**
+     * Decodes the literals of the current block into {@link #literals}. The
+     * literal payload starts at <code>ip</code>.
+     */
+    private void decodeLiterals(byte[] in, int ip) {
+        initBitStream(in, ip, ip + nLiteralPayloadBytes, literalBits);
+
+        int state0 = literalState[0];
+        int state1 = literalState[1];
+        int state2 = literalState[2];
+        int state3 = literalState[3];
+        for(int i = 0; i < nLiterals; i += 4) {
+            /* Each literal takes at most 10 bits, so one refill is enough
+             * for 4 literals. */
+            flushBitStream(in);
+
+            int e = literalDecoder[state0];
+            literals[i] = (byte) (e >>> 8);
+            state0 = (e >> 16) + (int) pullBits(e & 0xFF);
+
+            e = literalDecoder[state1];
+            literals[i + 1] = (byte) (e >>> 8);
+            state1 = (e >> 16) + (int) pullBits(e & 0xFF);
+
+            e = literalDecoder[state2];
+            literals[i + 2] = (byte) (e >>> 8);
+            state2 = (e >> 16) + (int) pullBits(e & 0xFF);
+
+            e = literalDecoder[state3];
+            literals[i + 3] = (byte) (e >>> 8);
+            state3 = (e >> 16) + (int) pullBits(e & 0xFF);
+        }
+    }
+
+    /**
+     * Decodes the (L, M, D) triplets of the current block, whose payload
+     * starts at <code>ip</code>, and executes them to <code>out</code> at
+     * <code>op</code>. Matches may reach back to <code>outStart</code>.
+     *
+     * @return the number of bytes written to <code>out</code>, or -1 if they
+     * don't fit before <code>outEnd</code>.
+     */
+    private int decodeLmd(byte[] in, int ip, byte[] out, int outStart, int op,
+            int outEnd)
+    {
+        initBitStream(in, ip, ip + nLmdPayloadBytes, lmdBits);
+
+        final int opStart = op;
+        int ls = lState;
+        int ms = mState;
+        int ds = dState;
+        int lit = 0;
+        int d = -1;
+
+        for(int symbols = nMatches; symbols > 0; --symbols) {
+            /* The three values take at most 56 bits, so one refill is enough
+             * per triplet. */
+            flushBitStream(in);
+
+            /* Each value is its base value plus the low valueBits bits
+             * pulled from the stream, and the rest of the pulled bits are
+             * added to the delta to form the next state. */
+            int e = lDecoder[ls];
+            int vbits = (e >>> 8) & 0xFF;
+            int v = (int) pullBits(e & 0xFF);
+            final int l = lDecoderBase[ls] + (v & ((1 << vbits) - 1));
+            ls = (e >> 16) + (v >>> vbits);
+
+            e = mDecoder[ms];
+            vbits = (e >>> 8) & 0xFF;
+            v = (int) pullBits(e & 0xFF);
+            final int m = mDecoderBase[ms] + (v & ((1 << vbits) - 1));
+            ms = (e >> 16) + (v >>> vbits);
+
+            e = dDecoder[ds];
+            vbits = (e >>> 8) & 0xFF;
+            v = (int) pullBits(e & 0xFF);
+            final int newD = dDecoderBase[ds] + (v & ((1 << vbits) - 1));
+            ds = (e >> 16) + (v >>> vbits);
+            if(newD != 0) {
+                d = newD;
+            }
+
+            if(l > nLiterals - lit) {
+                throw new RuntimeIOException("LZFSE literal count out of " +
+                        "range.");
+            }
+            else if(l + m > outEnd - op) {
+                return -1;
+            }
+
+            if(l > 0) {
+                System.arraycopy(literals, lit, out, op, l);
+                lit += l;
+                op += l;
+            }
+
+            if(m > 0) {
+                if(d <= 0 || d > op - outStart) {
+                    throw new RuntimeIOException("Invalid LZFSE match " +
+                            "distance " + d + ".");
+                }
+
+                LZVNDecompressor.copyMatch(out, op, d, m);
+                op += m;
+            }
+        }
+
+        return op - opStart;
+    }
+
+    /**
+     * Starts reading the bit stream in <code>in</code> between
+     * <code>start</code> and <code>end</code> backwards from
+     * <code>end</code>. The last byte(s) hold between 0 and 7 unused bits,
+     * given by <code>n</code> as a value between -7 and 0.
+     */
+    private void initBitStream(byte[] in, int start, int end, int n) {
+        if(n < -7 || n > 0) {
+            throw new RuntimeIOException("Invalid LZFSE bit count: " + n);
+        }
+
+        final int nbytes = (n != 0) ? 8 : 7;
+        if(end - start < nbytes) {
+            throw new RuntimeIOException("Truncated LZFSE bit stream.");
+        }
+
+        streamStart = start;
+        streamPos = end - nbytes;
+        accum = readBytesLE(in, streamPos, nbytes);
+        accumBits = n + (nbytes * 8);
+
+        if(accumBits < 56 || accumBits >= 64 || (accum >>> accumBits) != 0) {
+            throw new RuntimeIOException("Invalid LZFSE bit stream.");
+        }
+    }
+
+    /**
+     * Refills the bit accumulator with whole bytes so that it holds at least
+     * 56 bits.
+     */
+    private void flushBitStream(byte[] in) {
+        final int nbits = (63 - accumBits) & ~7;
+        if(nbits == 0) {
+            return;
+        }
+
+        final int nbytes = nbits >>> 3;
+        if(streamPos - nbytes < streamStart) {
+            throw new RuntimeIOException("LZFSE bit stream underflow.");
+        }
+
+        streamPos -= nbytes;
+        accum = (accum << nbits) | readBytesLE(in, streamPos, nbytes);
+        accumBits += nbits;
+    }
+
+    /** Takes the <code>n</code> most significant bits of the accumulator. */
+    private long pullBits(int n) {
+        accumBits -= n;
+        if(accumBits < 0) {
+            throw new RuntimeIOException("LZFSE bit stream exhausted.");
+        }
+
+        final long result = accum >>> accumBits;
+        accum &= (1L << accumBits) - 1;
+        return result;
+    }
+
+    private static long readBytesLE(byte[] in, int pos, int nbytes) {
+        long result = 0;
+        for(int i = nbytes - 1; i >= 0; --i) {
+            result = (result << 8) | (in[pos + i] & 0xFF);
+        }
+        return result;
+    }
+
+    private static long field(long v, int offset, int nbits) {
+        return (v >>> offset) & ((1L << nbits) - 1);
+    }
+
+    private static int[] baseValues(int[] extraBits) {
+        final int[] result = new int[extraBits.length];
+        for(int i = 1; i < result.length; ++i) {
+            result[i] = result[i - 1] + (1 << extraBits[i - 1]);
+        }
+        return result;
+    }
+
+    private static RuntimeIOException truncated(int offset) {
+        return new RuntimeIOException("Truncated LZFSE stream at offset " +
+                offset + ".");
+    }
+}
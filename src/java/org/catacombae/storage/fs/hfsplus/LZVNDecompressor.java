@@ -0,0 +1,298 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.storage.fs.hfsplus;
+
+import org.catacombae.io.RuntimeIOException;
+
+/**
+ * Decompressor for decmpfs compression types 7 and 8 (LZVN). A compression
+ * unit starting with the byte 0x06 (which would be an end of stream opcode)
+ * holds uncompressed data after that byte. Otherwise it's an LZVN stream.
+ * <br>
+ * An LZVN stream is a sequence of opcodes, each of which copies a number of
+ * literal bytes (stored right after the opcode) and/or a match (previously
+ * decoded data at a given distance) to the output. The opcode kinds are,
+ * with L = literal length, M = match length and D = match distance:
+ * <pre>
+ * sml_d  LLMMMDDD DDDDDDDD                    L, M+3, D (11 bits)
+ * med_d  101LLMMM DDDDDDMM DDDDDDDD           L, M+3, D (14 bits)
+ * lrg_d  LLMMM111 DDDDDDDD DDDDDDDD           L, M+3, D (16 bits)
+ * pre_d  LLMMM110                             L, M+3, previous D
+ * sml_l  1110LLLL                             L (1-15)
+ * lrg_l  11100000 LLLLLLLL                    L+16
+ * sml_m  1111MMMM                             M (1-15), previous D
+ * lrg_m  11110000 MMMMMMMM                    M+16, previous D
+ * eos    00000110 (+ 7 bytes of padding)      End of stream.
+ * nop    00001110, 00010110                   No operation.
+ * </pre>
+ * The remaining opcodes (0x1E-0x3E with the low 3 bits set to 110 and
+ * 0xD0-0xDF) are undefined.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+class LZVNDecompressor implements DecmpfsDecompressor {
+    /* Opcode kinds. */
+    private static final byte SML_D = 0;
+    private static final byte MED_D = 1;
+    private static final byte LRG_D = 2;
+    private static final byte PRE_D = 3;
+    private static final byte SML_L = 4;
+    private static final byte LRG_L = 5;
+    private static final byte SML_M = 6;
+    private static final byte LRG_M = 7;
+    private static final byte EOS = 8;
+    private static final byte NOP = 9;
+    private static final byte UDEF = 10;
+
+    /** The opcode kind of every possible opcode byte. */
+    private static final byte[] OPCODE_KINDS = new byte[256];
+
+    static {
+        for(int i = 0; i < 256; ++i) {
+            final byte kind;
+
+            if(i >= 0xF0) {
+                kind = (i == 0xF0) ? LRG_M : SML_M;
+            }
+            else if(i >= 0xE0) {
+                kind = (i == 0xE0) ? LRG_L : SML_L;
+            }
+            else if(i >= 0xD0) {
+                kind = UDEF;
+            }
+            else if(i >= 0xA0 && i < 0xC0) {
+                kind = MED_D;
+            }
+            else if((i & 7) == 7) {
+                kind = LRG_D;
+            }
+            else if((i & 7) != 6) {
+                kind = SML_D;
+            }
+            else if(i >= 0x40) {
+                kind = PRE_D;
+            }
+            else if(i == 0x06) {
+                kind = EOS;
+            }
+            else if(i == 0x0E || i == 0x16) {
+                kind = NOP;
+            }
+            else {
+                kind = UDEF;
+            }
+
+            OPCODE_KINDS[i] = kind;
+        }
+    }
+
+    /* @Override */
+    public int decompress(byte[] in, int inOff, int inLen, byte[] out,
+            int outOff, int outLen)
+    {
+        if(inLen < 1) {
+            throw new RuntimeIOException("Empty LZVN compression unit.");
+        }
+
+        if(in[inOff] == 0x06) {
+            /* Stored uncompressed... the data follows the marker byte. */
+            if(inLen - 1 > outLen) {
+                return -1;
+            }
+
+            System.arraycopy(in, inOff + 1, out, outOff, inLen - 1);
+            return inLen - 1;
+        }
+
+        return decode(in, inOff, inLen, out, outOff, outOff, outLen);
+    }
+
+    /* @Override */
+    public void end() {
+        /* Nothing to release. */
+    }
+
+    /**
+     * Decodes an LZVN stream. Decoding stops at the end of stream opcode or
+     * at the end of the input, whichever comes first.
+     *
+     * @param in
+     *      <b>(in)</b> Array holding the LZVN stream.
+     * @param inOff
+     *      <b>(in)</b> Offset of the stream in <code>in</code>.
+     * @param inLen
+     *      <b>(in)</b> Length of the stream.
+     * @param out
+     *      <b>(out)</b> Array receiving the decoded data.
+     * @param outStart
+     *      <b>(in)</b> The earliest offset in <code>out</code> that matches
+     *      may reach back to. This is normally <code>outOff</code>, unless
+     *      the stream continues data decoded before it.
+     * @param outOff
+     *      <b>(in)</b> Offset in <code>out</code> where the decoded data
+     *      starts.
+     * @param outLen
+     *      <b>(in)</b> The number of bytes available in <code>out</code>.
+     * @return the number of bytes written to <code>out</code>, or -1 if the
+     * decoded data doesn't fit in <code>outLen</code> bytes.
+     * @throws RuntimeIOException if the stream is invalid.
+     */
+    static int decode(byte[] in, int inOff, int inLen, byte[] out,
+            int outStart, int outOff, int outLen) throws RuntimeIOException
+    {
+        final int inEnd = inOff + inLen;
+        final int outEnd = outOff + outLen;
+        int ip = inOff;
+        int op = outOff;
+        int d = 0;
+
+        while(ip < inEnd) {
+            final int opc = in[ip] & 0xFF;
+            final int opcLen;
+            final int l;
+            final int m;
+
+            switch(OPCODE_KINDS[opc]) {
+                case SML_D:
+                    opcLen = 2;
+                    l = opc >>> 6;
+                    m = ((opc >>> 3) & 7) + 3;
+                    if(ip + opcLen > inEnd) {
+                        throw truncated(ip - inOff);
+                    }
+                    d = ((opc & 7) << 8) | (in[ip + 1] & 0xFF);
+                    break;
+                case MED_D: {
+                    opcLen = 3;
+                    if(ip + opcLen > inEnd) {
+                        throw truncated(ip - inOff);
+                    }
+                    final int opc23 =
+                            (in[ip + 1] & 0xFF) | ((in[ip + 2] & 0xFF) << 8);
+                    l = (opc >>> 3) & 3;
+                    m = (((opc & 7) << 2) | (opc23 & 3)) + 3;
+                    d = opc23 >>> 2;
+                    break;
+                }
+                case LRG_D:
+                    opcLen = 3;
+                    l = opc >>> 6;
+                    m = ((opc >>> 3) & 7) + 3;
+                    if(ip + opcLen > inEnd) {
+                        throw truncated(ip - inOff);
+                    }
+                    d = (in[ip + 1] & 0xFF) | ((in[ip + 2] & 0xFF) << 8);
+                    break;
+                case PRE_D:
+                    opcLen = 1;
+                    l = opc >>> 6;
+                    m = ((opc >>> 3) & 7) + 3;
+                    break;
+                case SML_L:
+                    opcLen = 1;
+                    l = opc & 0xF;
+                    m = 0;
+                    break;
+                case LRG_L:
+                    opcLen = 2;
+                    if(ip + opcLen > inEnd) {
+                        throw truncated(ip - inOff);
+                    }
+                    l = (in[ip + 1] & 0xFF) + 16;
+                    m = 0;
+                    break;
+                case SML_M:
+                    opcLen = 1;
+                    l = 0;
+                    m = opc & 0xF;
+                    break;
+                case LRG_M:
+                    opcLen = 2;
+                    if(ip + opcLen > inEnd) {
+                        throw truncated(ip - inOff);
+                    }
+                    l = 0;
+                    m = (in[ip + 1] & 0xFF) + 16;
+                    break;
+                case EOS:
+                    return op - outOff;
+                case NOP:
+                    ++ip;
+                    continue;
+                default:
+                    throw new RuntimeIOException("Undefined LZVN opcode " +
+                            "0x" + Integer.toHexString(opc) + " at offset " +
+                            (ip - inOff) + ".");
+            }
+
+            ip += opcLen;
+
+            if(l > 0) {
+                if(l > inEnd - ip) {
+                    throw truncated(ip - inOff);
+                }
+                else if(l > outEnd - op) {
+                    return -1;
+                }
+
+                System.arraycopy(in, ip, out, op, l);
+                ip += l;
+                op += l;
+            }
+
+            if(m > 0) {
+                if(d <= 0 || d > op - outStart) {
+                    throw new RuntimeIOException("Invalid LZVN match " +
+                            "distance " + d + " at output offset " +
+                            (op - outOff) + ".");
+                }
+                else if(m > outEnd - op) {
+                    return -1;
+                }
+
+                copyMatch(out, op, d, m);
+                op += m;
+            }
+        }
+
+        return op - outOff;
+    }
+
+    /**
+     * Copies a match of <code>length</code> bytes starting
+     * <code>distance</code> bytes back from <code>pos</code> in
+     * <code>buf</code> to <code>pos</code>. The source and destination may
+     * overlap, in which case the overlapping part repeats.
+     */
+    static void copyMatch(byte[] buf, int pos, int distance, int length) {
+        if(distance >= length) {
+            System.arraycopy(buf, pos - distance, buf, pos, length);
+        }
+        else {
+            final int end = pos + length;
+            for(int i = pos; i < end; ++i) {
+                buf[i] = buf[i - distance];
+            }
+        }
+    }
+
+    private static RuntimeIOException truncated(int offset) {
+        return new RuntimeIOException("Truncated LZVN stream at offset " +
+                offset + ".");
+    }
+}
@@ -0,0 +1,93 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.storage.fs.hfsplus;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import org.catacombae.io.RuntimeIOException;
+
+/**
+ * Decompressor for decmpfs compression types 3 and 4 (zlib). A compression
+ * unit whose first byte has the low nibble 0xF holds uncompressed data after
+ * that byte. Otherwise it's a zlib stream.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+class ZlibDecompressor implements DecmpfsDecompressor {
+    /* Raw deflate data, since we skip the zlib header ourselves. */
+    private final Inflater inflater = new Inflater(true);
+
+    /* @Override */
+    public int decompress(byte[] in, int inOff, int inLen, byte[] out,
+            int outOff, int outLen)
+    {
+        if(inLen < 1) {
+            throw new RuntimeIOException("Empty zlib compression unit.");
+        }
+
+        if((in[inOff] & 0x0F) == 0x0F) {
+            /* Stored uncompressed... the data follows the flags byte. */
+            if(inLen - 1 > outLen) {
+                return -1;
+            }
+
+            System.arraycopy(in, inOff + 1, out, outOff, inLen - 1);
+            return inLen - 1;
+        }
+        else if(inLen < 2) {
+            throw new RuntimeIOException("Truncated zlib header.");
+        }
+
+        /* Skip the 2 byte zlib header and inflate the raw deflate data. */
+        inflater.reset();
+        inflater.setInput(in, inOff + 2, inLen - 2);
+
+        int outPos = 0;
+        while(!inflater.finished()) {
+            if(outPos == outLen) {
+                return -1;
+            }
+
+            final int inflatedBytes;
+            try {
+                inflatedBytes = inflater.inflate(out, outOff + outPos,
+                        outLen - outPos);
+            } catch(DataFormatException ex) {
+                throw new RuntimeIOException("Invalid zlib compressed data " +
+                        "(" + ex + ").");
+            }
+
+            if(inflatedBytes <= 0 && !inflater.finished()) {
+                throw new RuntimeIOException("No (" + inflatedBytes + ") " +
+                        "inflated bytes. inflater.needsInput()=" +
+                        inflater.needsInput() + " " +
+                        "inflater.needsDictionary()=" +
+                        inflater.needsDictionary());
+            }
+
+            outPos += inflatedBytes;
+        }
+
+        return outPos;
+    }
+
+    /* @Override */
+    public void end() {
+        inflater.end();
+    }
+}
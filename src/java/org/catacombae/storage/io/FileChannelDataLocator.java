@@ -0,0 +1,104 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.storage.io;
+
+import java.io.File;
+import org.catacombae.io.RandomAccessStream;
+import org.catacombae.io.ReadableRandomAccessStream;
+
+/**
+ * A read-only DataLocator for local files, creating
+ * {@link ReadableFileChannelStream}s. The streams support lock free concurrent
+ * positional reads, which is picked up by the file system handlers.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class FileChannelDataLocator extends DataLocator {
+    private final File file;
+    private final long pos, len;
+    private final boolean memoryMapped;
+
+    /**
+     * Creates a new DataLocator with File object pointing at the backing file.
+     *
+     * @param pFile         the backing file.
+     * @param pMemoryMapped whether streams should access the file through
+     *                      memory mapped windows instead of read calls.
+     */
+    public FileChannelDataLocator(File pFile, boolean pMemoryMapped) {
+        this(pFile, 0, -1, pMemoryMapped);
+    }
+
+    /**
+     * Creates a new DataLocator with File object pointing at the backing file.
+     *
+     * @param pFile         the backing file.
+     * @param pPos          the start offset in the file for the data.
+     * @param pLen          the length of the data being addressed, or -1 to
+     *                      address all data until the end of the file.
+     * @param pMemoryMapped whether streams should access the file through
+     *                      memory mapped windows instead of read calls.
+     */
+    public FileChannelDataLocator(File pFile, long pPos, long pLen,
+            boolean pMemoryMapped)
+    {
+        if(!pFile.canRead())
+            throw new RuntimeException("Can not read from file!");
+
+        this.file = pFile;
+        this.pos = pPos;
+        this.len = pLen;
+        this.memoryMapped = pMemoryMapped;
+    }
+
+    /**
+     * Creates a new DataLocator addressing a range of the data addressed by
+     * this DataLocator. Unlike a {@link SubDataLocator}, the streams of the new
+     * DataLocator read directly from the file.
+     *
+     * @param pPos the start offset of the range, relative to the data of this
+     *             DataLocator.
+     * @param pLen the length of the range.
+     * @return a DataLocator for the specified range.
+     */
+    public FileChannelDataLocator createSubDataLocator(long pPos, long pLen) {
+        return new FileChannelDataLocator(file, pos + pPos, pLen,
+                memoryMapped);
+    }
+
+    @Override
+    public ReadableRandomAccessStream createReadOnlyFile() {
+        return new ReadableFileChannelStream(file, pos, len, memoryMapped);
+    }
+
+    @Override
+    public RandomAccessStream createReadWriteFile() {
+        throw new UnsupportedOperationException("Not supported.");
+    }
+
+    @Override
+    public boolean isWritable() {
+        return false;
+    }
+
+    @Override
+    public void releaseResources() {
+        /* Our only persistent reference is the File object, which does not need
+         * closing. */
+    }
+}
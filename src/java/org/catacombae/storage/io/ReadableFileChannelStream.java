@@ -0,0 +1,483 @@
+/*-
+ * Copyright (C) 2026 Erik Larsson
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.catacombae.storage.io;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.catacombae.hfs.io.ChannelTransferSource;
+import org.catacombae.io.AbstractFileStream;
+import org.catacombae.io.BasicSynchronizedReadableRandomAccessStream;
+import org.catacombae.io.RuntimeIOException;
+import org.catacombae.util.Log;
+
+/**
+ * A read-only stream backed by a local file, using positional reads on a
+ * {@link FileChannel} instead of seek/read pairs on a shared file pointer.<br>
+ * Reads through the <code>readFrom</code> family of methods are position
+ * independent and do not take any locks, so any number of threads (or
+ * {@link org.catacombae.io.ReadableRandomAccessSubstream}s) can read from the
+ * same stream concurrently. The <code>read</code>/<code>seek</code> methods
+ * operate on a file pointer private to this stream and are, like in most other
+ * streams, not thread safe.<br>
+ * <br>
+ * In memory mapped mode, the file is mapped into memory in fixed size windows
+ * as they are first accessed, so that images too large for a single mapping
+ * (or for the address space of the JVM) can still be accessed. Only a limited
+ * number of windows are kept mapped at any given time.<br>
+ * <br>
+ * Note that a thread being interrupted in the middle of a read will cause the
+ * underlying FileChannel to be closed, after which all reads will fail. This
+ * does not apply to reads from already mapped windows.
+ *
+ * @author <a href="https://catacombae.org" target="_top">Erik Larsson</a>
+ */
+public class ReadableFileChannelStream
+        extends BasicSynchronizedReadableRandomAccessStream
+        implements AbstractFileStream, ChannelTransferSource
+{
+    private static final Log log =
+            Log.getInstance(ReadableFileChannelStream.class);
+
+    /** Size of each window in memory mapped mode. */
+    private static final long WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /** Maximum number of windows that are mapped at any given time. */
+    private static final int MAX_MAPPED_WINDOWS = 32;
+
+    private final File file;
+    private final RandomAccessFile raf;
+    private final FileChannel channel;
+
+    /** Start of the data addressed by this stream in the file. */
+    private final long offset;
+
+    /** Length of the data addressed by this stream. */
+    private final long length;
+
+    /**
+     * Lazily mapped windows, or <code>null</code> if not operating in memory
+     * mapped mode.
+     */
+    private final AtomicReferenceArray<MappedByteBuffer> windows;
+
+    /** Number of windows currently mapped. Guarded by <code>windows</code>. */
+    private int mappedWindowCount = 0;
+
+    /** Next window to consider when unmapping. Guarded by
+     * <code>windows</code>. */
+    private int unmapCursor = 0;
+
+    /** File pointer for the <code>read</code>/<code>seek</code> methods. */
+    private long filePointer = 0;
+
+    /** Number of objects (mostly substreams) referencing this stream. */
+    private long refCount = 0;
+
+    /**
+     * Set when the close method is called. Prohibits new references, but
+     * existing substreams may continue reading until they are closed.
+     */
+    private boolean closed = false;
+
+    /** Set when the file has been closed. Prohibits further access. */
+    private volatile boolean fileClosed = false;
+
+    /**
+     * Opens <code>file</code> for positional reading.
+     *
+     * @param file
+     *      <b>(in)</b> The file to read.
+     * @param memoryMapped
+     *      <b>(in)</b> Whether to access the file through memory mapped
+     *      windows instead of read calls.
+     */
+    public ReadableFileChannelStream(File file, boolean memoryMapped) {
+        this(file, 0, -1, memoryMapped);
+    }
+
+    /**
+     * Opens a range of <code>file</code> for positional reading.
+     *
+     * @param file
+     *      <b>(in)</b> The file to read.
+     * @param offset
+     *      <b>(in)</b> The start offset of the data in the file.
+     * @param length
+     *      <b>(in)</b> The length of the data, or -1 to address all data from
+     *      <code>offset</code> to the end of the file.
+     * @param memoryMapped
+     *      <b>(in)</b> Whether to access the file through memory mapped
+     *      windows instead of read calls.
+     */
+    public ReadableFileChannelStream(File file, long offset, long length,
+            boolean memoryMapped)
+    {
+        if(offset < 0) {
+            throw new IllegalArgumentException("Negative offset: " + offset);
+        }
+        else if(length < -1) {
+            throw new IllegalArgumentException("Invalid length: " + length);
+        }
+
+        try {
+            this.raf = new RandomAccessFile(file, "r");
+        } catch(FileNotFoundException e) {
+            throw new RuntimeIOException(e);
+        }
+
+        this.file = file;
+        this.channel = raf.getChannel();
+        this.offset = offset;
+
+        try {
+            final long fileLength = channel.size();
+            if(offset > fileLength) {
+                throw new IllegalArgumentException("Offset (" + offset + ") " +
+                        "is beyond the end of the file (" + fileLength + ").");
+            }
+            else if(length == -1) {
+                this.length = fileLength - offset;
+            }
+            else {
+                this.length = length;
+            }
+        } catch(IOException e) {
+            closeFile();
+            throw new RuntimeIOException(e);
+        } catch(RuntimeException e) {
+            closeFile();
+            throw e;
+        }
+
+        if(memoryMapped) {
+            final long windowCount = (this.length + WINDOW_SIZE - 1) /
+                    WINDOW_SIZE;
+            if(windowCount > Integer.MAX_VALUE) {
+                closeFile();
+                throw new IllegalArgumentException("File too large for " +
+                        "memory mapped mode.");
+            }
+
+            this.windows =
+                    new AtomicReferenceArray<MappedByteBuffer>(
+                    (int) windowCount);
+        }
+        else {
+            this.windows = null;
+        }
+    }
+
+    /**
+     * Returns the file that this stream is reading from.
+     *
+     * @return the file that this stream is reading from.
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the start offset of the data addressed by this stream in the
+     * file.
+     *
+     * @return the start offset of the data addressed by this stream.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns whether this stream accesses the file through memory mapped
+     * windows.
+     *
+     * @return whether this stream operates in memory mapped mode.
+     */
+    public boolean isMemoryMapped() {
+        return windows != null;
+    }
+
+    /* @Override */
+    public String getOpenPath() {
+        return file.getPath();
+    }
+
+    /**
+     * Reads up to <code>len</code> bytes starting at position <code>pos</code>
+     * in the stream. May be called concurrently from any number of threads.
+     * {@inheritDoc}
+     */
+    /* @Override */
+    public int readFrom(final long pos, final byte[] data, final int off,
+            final int len) throws RuntimeIOException
+    {
+        if(fileClosed) throw new RuntimeIOException("Stream is closed.");
+        if(pos < 0) {
+            throw new IllegalArgumentException("Negative position: " + pos);
+        }
+        else if(off < 0 || len < 0 || off + len > data.length) {
+            throw new IllegalArgumentException("Invalid range (off=" + off +
+                    " len=" + len + " data.length=" + data.length + ")");
+        }
+
+        if(pos >= length) {
+            return len == 0 ? 0 : -1;
+        }
+
+        final int bytesToRead = (int) Math.min(len, length - pos);
+        if(windows != null) {
+            return readMapped(pos, data, off, bytesToRead);
+        }
+        else {
+            return readChannel(pos, data, off, bytesToRead);
+        }
+    }
+
+    /**
+     * Transfers up to <code>count</code> bytes starting at position
+     * <code>pos</code> in the stream to <code>target</code> using
+     * {@link FileChannel#transferTo(long, long, WritableByteChannel)}, which
+     * lets the operating system copy the data without going through the Java
+     * heap. May be called concurrently from any number of threads.
+     * {@inheritDoc}
+     */
+    /* @Override */
+    public long transferTo(final long pos, final long count,
+            final WritableByteChannel target) throws IOException
+    {
+        if(fileClosed) throw new RuntimeIOException("Stream is closed.");
+        if(pos < 0) {
+            throw new IllegalArgumentException("Negative position: " + pos);
+        }
+        else if(count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+
+        if(pos >= length) {
+            return 0;
+        }
+
+        return channel.transferTo(offset + pos, Math.min(count, length - pos),
+                target);
+    }
+
+    private int readChannel(final long pos, final byte[] data, final int off,
+            final int len)
+    {
+        /* The ByteBuffer wraps the caller's array, so the data goes directly
+         * into it. */
+        final ByteBuffer buffer = ByteBuffer.wrap(data, off, len);
+        try {
+            while(buffer.hasRemaining()) {
+                final int curBytesRead =
+                        channel.read(buffer, offset + pos + buffer.position() -
+                        off);
+                if(curBytesRead < 0) {
+                    break;
+                }
+            }
+        } catch(IOException e) {
+            throw new RuntimeIOException(e);
+        }
+
+        final int bytesRead = buffer.position() - off;
+        return (bytesRead == 0 && len > 0) ? -1 : bytesRead;
+    }
+
+    private int readMapped(final long pos, final byte[] data, final int off,
+            final int len)
+    {
+        int bytesRead = 0;
+        while(bytesRead < len) {
+            final long curPos = pos + bytesRead;
+            final int windowIndex = (int) (curPos / WINDOW_SIZE);
+            final int posInWindow =
+                    (int) (curPos - (long) windowIndex * WINDOW_SIZE);
+
+            /* The duplicate has its own position, so concurrent readers of the
+             * same window do not interfere with each other. */
+            final ByteBuffer window = getWindow(windowIndex).duplicate();
+            final int bytesToCopy = Math.min(len - bytesRead,
+                    window.capacity() - posInWindow);
+
+            window.position(posInWindow);
+            window.get(data, off + bytesRead, bytesToCopy);
+            bytesRead += bytesToCopy;
+        }
+
+        return bytesRead;
+    }
+
+    private MappedByteBuffer getWindow(final int windowIndex) {
+        MappedByteBuffer window = windows.get(windowIndex);
+        if(window != null) {
+            return window;
+        }
+
+        synchronized(windows) {
+            window = windows.get(windowIndex);
+            if(window != null) {
+                return window;
+            }
+
+            final long windowStart = (long) windowIndex * WINDOW_SIZE;
+            final long windowSize = Math.min(WINDOW_SIZE, length - windowStart);
+            try {
+                window = channel.map(FileChannel.MapMode.READ_ONLY,
+                        offset + windowStart, windowSize);
+            } catch(IOException e) {
+                throw new RuntimeIOException(e);
+            }
+
+            if(mappedWindowCount >= MAX_MAPPED_WINDOWS) {
+                unmapWindow();
+            }
+
+            windows.set(windowIndex, window);
+            ++mappedWindowCount;
+        }
+
+        return window;
+    }
+
+    /**
+     * Drops our reference to one of the mapped windows (round robin). There is
+     * no way to explicitly unmap a buffer, so it will be unmapped when garbage
+     * collected, i.e. when no reader is using it anymore.
+     * Must be called with the <code>windows</code> lock held.
+     */
+    private void unmapWindow() {
+        while(true) {
+            final int windowIndex = unmapCursor;
+            unmapCursor = (unmapCursor + 1) % windows.length();
+
+            if(windows.getAndSet(windowIndex, null) != null) {
+                --mappedWindowCount;
+                log.debug("Unmapped window " + windowIndex + " of \"" + file +
+                        "\".");
+                break;
+            }
+        }
+    }
+
+    /* @Override */
+    public long skipFrom(final long pos, final long length)
+            throws RuntimeIOException
+    {
+        final long remaining = length() - pos;
+        return remaining < length ? remaining : length;
+    }
+
+    /* @Override */
+    public long remainingLength() throws RuntimeIOException {
+        return length() - filePointer;
+    }
+
+    /* @Override */
+    public int read(byte[] data, int pos, int len) throws RuntimeIOException {
+        final int bytesRead = readFrom(filePointer, data, pos, len);
+        if(bytesRead > 0) {
+            filePointer += bytesRead;
+        }
+
+        return bytesRead;
+    }
+
+    /* @Override */
+    public void seek(long pos) throws RuntimeIOException {
+        if(fileClosed) throw new RuntimeIOException("Stream is closed.");
+        if(pos < 0) {
+            throw new IllegalArgumentException("Negative position: " + pos);
+        }
+
+        filePointer = pos;
+    }
+
+    /* @Override */
+    public long length() throws RuntimeIOException {
+        if(fileClosed) throw new RuntimeIOException("Stream is closed.");
+        return length;
+    }
+
+    /* @Override */
+    public long getFilePointer() throws RuntimeIOException {
+        if(fileClosed) throw new RuntimeIOException("Stream is closed.");
+        return filePointer;
+    }
+
+    /* @Override */
+    public synchronized void addReference(Object referrer) {
+        if(closed) throw new RuntimeIOException("Stream is closed.");
+        ++refCount;
+    }
+
+    /* @Override */
+    public synchronized void removeReference(Object referrer) {
+        if(refCount == 0) {
+            throw new RuntimeException("No references!");
+        }
+
+        --refCount;
+        tryCloseFile();
+    }
+
+    /**
+     * Closes the stream. The file is closed once all substreams of this stream
+     * have been closed.
+     */
+    /* @Override */
+    public synchronized void close() throws RuntimeIOException {
+        if(closed) {
+            throw new RuntimeException("Already closed.");
+        }
+
+        closed = true;
+        tryCloseFile();
+    }
+
+    private void tryCloseFile() {
+        if(closed && refCount == 0 && !fileClosed) {
+            fileClosed = true;
+            closeFile();
+        }
+    }
+
+    private void closeFile() {
+        if(windows != null) {
+            synchronized(windows) {
+                for(int i = 0; i < windows.length(); ++i) {
+                    windows.set(i, null);
+                }
+
+                mappedWindowCount = 0;
+            }
+        }
+
+        try {
+            raf.close();
+        } catch(IOException e) {
+            throw new RuntimeIOException(e);
+        }
+    }
+}